@@ -11,6 +11,8 @@ import java.util.UUID;
 
 public abstract class Loader {
     private Map<String, LoaderPacketHandler> packetHandlerMap = new HashMap<>();
+    // The same handlers keyed by the loader packet class they handle, for dispatching incoming packets
+    private Map<Class<?>, LoaderPacketHandler> loaderPacketHandlerMap = new HashMap<>();
 
     public abstract SwoftySchedulerManager getSchedulerManager();
     public abstract List<UUID> getOnlinePlayers();
@@ -21,15 +23,11 @@ public abstract class Loader {
     public void registerPacketHandler(Class<? extends SwoftyPacket> clazz,
                                       LoaderPacketHandler packetHandler) {
         packetHandlerMap.put(clazz.getSimpleName(), packetHandler);
+        loaderPacketHandlerMap.put(packetHandler.getHandledPacketClass(), packetHandler);
     }
 
     public @Nullable LoaderPacketHandler getPacketHandler(Class clazz) {
-        for (Map.Entry<String, LoaderPacketHandler> entry : packetHandlerMap.entrySet()) {
-            if (entry.getValue().getHandledPacketClass().equals(clazz)) {
-                return entry.getValue();
-            }
-        }
-        return null;
+        return loaderPacketHandlerMap.get(clazz);
     }
 
     public @Nullable LoaderPacketHandler getPacketHandler(SwoftyPacket packet) {
@@ -10,6 +10,8 @@ import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -275,4 +277,56 @@ public class StringUtility {
             };
         };
     }
+
+    /**
+     * Returns up to limit candidates closest to the input, ignoring case. Candidates
+     * starting with or containing the input come first, then the rest by edit distance,
+     * skipping any too far off to be a plausible typo.
+     */
+    public static List<String> closestMatches(String input, Collection<String> candidates, int limit) {
+        String query = input.toUpperCase().replace(' ', '_');
+        int maxDistance = Math.max(2, query.length() / 3);
+
+        record Match(String candidate, int score) {}
+        List<Match> matches = new ArrayList<>();
+        for (String candidate : candidates) {
+            String normalized = candidate.toUpperCase();
+            int score;
+            if (normalized.startsWith(query)) score = 0;
+            else if (normalized.contains(query)) score = 1;
+            else {
+                int distance = levenshtein(query, normalized);
+                if (distance > maxDistance) continue;
+                score = 2 + distance;
+            }
+            matches.add(new Match(candidate, score));
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::score)
+                        .thenComparingInt(match -> match.candidate().length())
+                        .thenComparing(Match::candidate))
+                .limit(limit)
+                .map(Match::candidate)
+                .toList();
+    }
+
+    public static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
 }
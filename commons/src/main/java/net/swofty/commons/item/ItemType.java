@@ -1,10 +1,11 @@
 package net.swofty.commons.item;
 
-import lombok.SneakyThrows;
 import net.minestom.server.item.Material;
 import net.swofty.commons.StringUtility;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.*;
+
 public enum ItemType {
     SANDBOX_ITEM(Material.BLAZE_POWDER,  Rarity.COMMON),
 
@@ -1233,26 +1234,56 @@ public enum ItemType {
     ENCHANTED_BONE_MEAL(Material.BONE_MEAL,  Rarity.COMMON),
     ;
 
+    // Keyed by lowercase name and lowercase display name, built once the constants exist
+    private static final Map<String, ItemType> byName = new HashMap<>();
+    private static final Map<String, ItemType> byDisplayName = new HashMap<>();
+
+    static {
+        for (ItemType type : values()) {
+            byName.put(type.name().toLowerCase(), type);
+            byDisplayName.putIfAbsent(type.displayName.toLowerCase(), type);
+        }
+    }
+
     public final Material material;
     public final Rarity rarity;
+    private final String displayName;
 
     ItemType(Material material, Rarity rarity) {
         this.material = material;
         this.rarity = rarity;
+        this.displayName = StringUtility.toNormalCase(this.name());
     }
 
-    @SneakyThrows
     public String getDisplayName() {
-        return StringUtility.toNormalCase(this.name());
+        return displayName;
     }
 
-
     public static @Nullable ItemType get(String name) {
-        try {
-            return ItemType.valueOf(name.replace("minecraft:", "").toUpperCase());
-        } catch (Exception e) {
-            return null;
-        }
+        if (name == null) return null;
+        return byName.get(name.replace("minecraft:", "").toLowerCase());
+    }
+
+    /**
+     * Exact counterpart to {@link #valueOf(String)} that returns null rather than throwing
+     */
+    public static @Nullable ItemType fromName(String name) {
+        ItemType type = get(name);
+        return type != null && type.name().equals(name) ? type : null;
+    }
+
+    public static @Nullable ItemType fromDisplayName(String displayName) {
+        return byDisplayName.get(displayName.toLowerCase());
+    }
+
+    /**
+     * Returns up to limit item types whose names are closest to the input, for
+     * suggesting corrections to a mistyped item
+     */
+    public static List<ItemType> suggest(String input, int limit) {
+        return StringUtility.closestMatches(input, byName.keySet(), limit).stream()
+                .map(byName::get)
+                .toList();
     }
 
     public static boolean isVanillaReplaced(String item) {
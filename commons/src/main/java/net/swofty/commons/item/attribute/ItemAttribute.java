@@ -4,14 +4,24 @@ import net.swofty.commons.statistics.ItemStatistics;
 import org.jetbrains.annotations.Nullable;
 import org.reflections.Reflections;
 
+import java.lang.invoke.*;
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Set;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public abstract class ItemAttribute<T> {
-    private static final ArrayList<ItemAttribute> attributes = new ArrayList<>();
+    /**
+     * Attributes are stored per item in a slot array indexed by id, tracked with a
+     * 64 bit ownership mask
+     */
+    public static final int MAX_ATTRIBUTES = 64;
+
+    private static final List<Supplier<ItemAttribute>> factories = new ArrayList<>();
+    private static final List<String> keys = new ArrayList<>();
+    private static final Map<String, Integer> idsByKey = new HashMap<>();
+    private static final Map<Class<?>, Integer> idsByClass = new HashMap<>();
 
     public T value;
 
@@ -35,20 +45,91 @@ public abstract class ItemAttribute<T> {
         this.value = value;
     }
 
+    /**
+     * Returns a new attribute of the same type holding the same value
+     */
+    public ItemAttribute<T> copy() {
+        ItemAttribute<T> copy = create(getId(getClass()));
+        copy.value = value;
+        return copy;
+    }
+
+    /**
+     * Discovers every attribute once and gives each a dense id, ordered by key so ids
+     * are the same on every node. Instances are afterwards created through factories
+     * rather than reflection.
+     */
     public static void registerItemAttributes() {
-        loopThroughPackage(
-                "net.swofty.commons.item.attribute.attributes", ItemAttribute.class
-        ).forEach(attributes::add);
+        if (!factories.isEmpty()) return;
+
+        List<? extends Class<? extends ItemAttribute>> classes = new Reflections("net.swofty.commons.item.attribute.attributes")
+                .getSubTypesOf(ItemAttribute.class).stream()
+                .filter(clazz -> !Modifier.isAbstract(clazz.getModifiers()))
+                .toList();
+        if (classes.size() > MAX_ATTRIBUTES)
+            throw new IllegalStateException("Too many item attributes, at most " + MAX_ATTRIBUTES + " are supported");
+
+        Map<String, Supplier<ItemAttribute>> discovered = new TreeMap<>();
+        Map<String, Class<?>> classesByKey = new HashMap<>();
+        for (Class<? extends ItemAttribute> clazz : classes) {
+            Supplier<ItemAttribute> factory = factoryFor(clazz);
+            String key = factory.get().getKey();
+            discovered.put(key, factory);
+            classesByKey.put(key, clazz);
+        }
+
+        discovered.forEach((key, factory) -> {
+            idsByKey.put(key, factories.size());
+            idsByClass.put(classesByKey.get(key), factories.size());
+            keys.add(key);
+            factories.add(factory);
+        });
+    }
+
+    public static int getAttributeCount() {
+        return factories.size();
+    }
+
+    /**
+     * @return the attribute's id, or -1 if no attribute has this key
+     */
+    public static int getId(String key) {
+        return idsByKey.getOrDefault(key, -1);
+    }
+
+    public static int getId(Class<?> attributeClass) {
+        Integer id = idsByClass.get(attributeClass);
+        if (id == null)
+            throw new IllegalArgumentException("Item attribute " + attributeClass.getName() + " is not registered");
+        return id;
+    }
+
+    public static String getKey(int id) {
+        return keys.get(id);
+    }
+
+    public static ItemAttribute create(int id) {
+        return factories.get(id).get();
     }
 
     public static Collection<ItemAttribute> getPossibleAttributes() {
-        return (Collection<ItemAttribute>) attributes.stream().map(attributeClass -> {
-            try {
-                return attributeClass.getClass().newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new RuntimeException(e);
-            }
-        }).toList();
+        List<ItemAttribute> attributes = new ArrayList<>(factories.size());
+        factories.forEach(factory -> attributes.add(factory.get()));
+        return attributes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<ItemAttribute> factoryFor(Class<? extends ItemAttribute> clazz) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle constructor = lookup.findConstructor(clazz, MethodType.methodType(void.class));
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                    constructor, MethodType.methodType(clazz));
+            return (Supplier<ItemAttribute>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create a factory for item attribute " + clazz.getName(), e);
+        }
     }
 
     public static <T> Stream<T> loopThroughPackage(String packageName, Class<T> clazz) {
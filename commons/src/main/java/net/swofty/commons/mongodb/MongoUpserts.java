@@ -0,0 +1,104 @@
+package net.swofty.commons.mongodb;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.*;
+import net.swofty.commons.Configuration;
+import org.bson.Document;
+import org.json.JSONObject;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single round-trip writes shared by every MongoDB-backed database class. Every
+ * save is an upsert keyed on {@code _id}, so callers never need to check whether
+ * the document exists first.
+ * <p>
+ * Write concerns can be overridden per collection from resources.json, e.g.
+ * {@code "mongodb-write-concerns": {"data": "majority", "tracked-items": "w1"}}.
+ * Collections without an entry keep the client default.
+ */
+public class MongoUpserts {
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final UpdateOptions UPSERT = new UpdateOptions().upsert(true);
+    private static final ReplaceOptions REPLACE_UPSERT = new ReplaceOptions().upsert(true);
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+    private static final CountOptions FIRST_ONLY = new CountOptions().limit(1);
+
+    private static JSONObject writeConcerns;
+
+    /**
+     * Applies the configured write concern for this collection, if any
+     */
+    public static MongoCollection<Document> configure(MongoCollection<Document> collection) {
+        if (writeConcerns == null) {
+            writeConcerns = Configuration.getOrDefault("mongodb-write-concerns", new JSONObject());
+        }
+
+        String name = collection.getNamespace().getCollectionName();
+        if (!writeConcerns.has(name)) return collection;
+
+        WriteConcern concern = WriteConcern.valueOf(writeConcerns.getString(name).toUpperCase());
+        if (concern == null) {
+            System.out.println("Unknown write concern " + writeConcerns.getString(name) + " for collection " + name);
+            return collection;
+        }
+        return collection.withWriteConcern(concern);
+    }
+
+    public static void setField(MongoCollection<Document> collection, Object id, String key, Object value) {
+        collection.updateOne(Filters.eq("_id", id), Updates.set(key, value), UPSERT);
+    }
+
+    public static void setFields(MongoCollection<Document> collection, Object id, Map<String, ?> fields) {
+        if (fields.isEmpty()) return;
+        collection.updateOne(Filters.eq("_id", id), toSet(fields), UPSERT);
+    }
+
+    public static void replace(MongoCollection<Document> collection, Object id, Document document) {
+        collection.replaceOne(Filters.eq("_id", id), document, REPLACE_UPSERT);
+    }
+
+    /**
+     * Inserts the document unless one with the same id already exists, in which
+     * case the existing document is left untouched
+     */
+    public static void insertIfAbsent(MongoCollection<Document> collection, Object id, Document document) {
+        Document fields = new Document(document);
+        fields.remove("_id");
+        collection.updateOne(Filters.eq("_id", id), Updates.setOnInsert(fields), UPSERT);
+    }
+
+    public static boolean exists(MongoCollection<Document> collection, Object id) {
+        return collection.countDocuments(Filters.eq("_id", id), FIRST_ONLY) > 0;
+    }
+
+    public static boolean delete(MongoCollection<Document> collection, Object id) {
+        return collection.deleteOne(Filters.eq("_id", id)).getDeletedCount() > 0;
+    }
+
+    public static UpdateOneModel<Document> setFieldsModel(Object id, Map<String, ?> fields) {
+        return new UpdateOneModel<>(Filters.eq("_id", id), toSet(fields), UPSERT);
+    }
+
+    public static ReplaceOneModel<Document> replaceModel(Object id, Document document) {
+        return new ReplaceOneModel<>(Filters.eq("_id", id), document, REPLACE_UPSERT);
+    }
+
+    /**
+     * Executes the writes as unordered bulk writes of at most {@link #MAX_BATCH_SIZE}
+     */
+    public static void bulkWrite(MongoCollection<Document> collection, List<? extends WriteModel<Document>> writes) {
+        for (int i = 0; i < writes.size(); i += MAX_BATCH_SIZE) {
+            collection.bulkWrite(writes.subList(i, Math.min(i + MAX_BATCH_SIZE, writes.size())), UNORDERED);
+        }
+    }
+
+    private static Document toSet(Map<String, ?> fields) {
+        Document set = new Document();
+        set.putAll(fields);
+        return new Document("$set", set);
+    }
+}
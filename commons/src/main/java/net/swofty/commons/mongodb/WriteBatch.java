@@ -0,0 +1,42 @@
+package net.swofty.commons.mongodb;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects upserts against one collection and sends them as a single bulk write
+ */
+public class WriteBatch {
+    private final MongoCollection<Document> collection;
+    private final List<WriteModel<Document>> writes = new ArrayList<>();
+
+    public WriteBatch(MongoCollection<Document> collection) {
+        this.collection = collection;
+    }
+
+    public WriteBatch setFields(Object id, Map<String, ?> fields) {
+        if (!fields.isEmpty()) writes.add(MongoUpserts.setFieldsModel(id, fields));
+        return this;
+    }
+
+    public WriteBatch replace(Object id, Document document) {
+        writes.add(MongoUpserts.replaceModel(id, document));
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return writes.isEmpty();
+    }
+
+    public void flush() {
+        if (writes.isEmpty()) return;
+
+        MongoUpserts.bulkWrite(collection, writes);
+        writes.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package net.swofty.commons.protocol;
+
+import lombok.Getter;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carries several requests for one ProtocolObject in a single message, on its own
+ * channel next to the original. Each element is serialized with the wrapped object's
+ * serializers. A response element is null when the service could not process the
+ * request at that position.
+ */
+@Getter
+public class BatchProtocolObject<T, R> extends ProtocolObject<List<T>, List<R>> {
+    public static final String CHANNEL_SUFFIX = "Batch";
+
+    private final ProtocolObject<T, R> inner;
+
+    public BatchProtocolObject(ProtocolObject<T, R> inner) {
+        this.inner = inner;
+    }
+
+    @Override
+    public Serializer<List<T>> getSerializer() {
+        return elements(inner.getSerializer());
+    }
+
+    @Override
+    public Serializer<List<R>> getReturnSerializer() {
+        return elements(inner.getReturnSerializer());
+    }
+
+    @Override
+    public String channel() {
+        return inner.channel() + CHANNEL_SUFFIX;
+    }
+
+    @Override
+    public boolean isIdempotent() {
+        return inner.isIdempotent();
+    }
+
+    private static <E> Serializer<List<E>> elements(Serializer<E> serializer) {
+        return new Serializer<List<E>>() {
+            @Override
+            public String serialize(List<E> value) {
+                JSONArray array = new JSONArray();
+                value.forEach(element -> array.put(element == null ? JSONObject.NULL : serializer.serialize(element)));
+                return array.toString();
+            }
+
+            @Override
+            public List<E> deserialize(String json) {
+                JSONArray array = new JSONArray(json);
+                List<E> elements = new ArrayList<>(array.length());
+                for (int i = 0; i < array.length(); i++) {
+                    elements.add(array.isNull(i) ? null : serializer.deserialize(array.getString(i)));
+                }
+                return elements;
+            }
+
+            @Override
+            public List<E> clone(List<E> value) {
+                return new ArrayList<>(value.stream().map(serializer::clone).toList());
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -2,30 +2,35 @@ package net.swofty.commons.protocol;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.SneakyThrows;
 
 public class JacksonSerializer<T> implements Serializer<T> {
-    private final ObjectMapper mapper;
-    private final Class<T> clazz;
+    // ObjectMapper is thread safe once configured, so every serializer shares one
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
 
     public JacksonSerializer(Class<T> clazz) {
-        this.mapper = new ObjectMapper()
-                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        this.clazz = clazz;
+        this.reader = MAPPER.readerFor(clazz);
+        this.writer = MAPPER.writerFor(clazz);
     }
 
     @SneakyThrows
     @Override
     public String serialize(T value) {
-        return mapper.writeValueAsString(value);
+        return writer.writeValueAsString(value);
     }
 
     @SneakyThrows
     @Override
     public T deserialize(String json) {
-        return mapper.readValue(json, clazz);
+        return reader.readValue(json);
     }
 
     @Override
@@ -0,0 +1,108 @@
+package net.swofty.commons.protocol;
+
+import java.util.UUID;
+
+/**
+ * Versioned envelope for ProtocolObject requests and responses.
+ * <p>
+ * Redis pub/sub only carries strings here, so the frame is a string whose header is
+ * plain ASCII and whose payload follows it untouched: {@link #PREFIX}, the version
+ * and flag bytes, the request id as 32 hex digits, the schema fingerprint as 8, then
+ * the callback and channel each behind a 4 hex digit length. Unlike the legacy JSON
+ * request the payload is never escaped, and unlike the legacy response no regex is
+ * needed to find it. Legacy messages never start with the prefix, which lets both
+ * formats share a channel while nodes are upgraded.
+ */
+public record ProtocolFrame(UUID requestId, boolean response, int schema,
+                            String callback, String channel, String payload) {
+    public static final int VERSION = 1;
+    public static final String PREFIX = "#F";
+
+    private static final int FLAG_RESPONSE = 1;
+    private static final int HEADER_LENGTH = PREFIX.length() + 2 + 32 + 8;
+    private static final int MAX_FIELD_LENGTH = 0xFFFF;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public static ProtocolFrame request(UUID requestId, int schema, String callback, String channel, String payload) {
+        return new ProtocolFrame(requestId, false, schema, callback, channel, payload);
+    }
+
+    public static ProtocolFrame response(UUID requestId, int schema, String payload) {
+        return new ProtocolFrame(requestId, true, schema, "", "", payload);
+    }
+
+    public static boolean isFrame(String message) {
+        return message.startsWith(PREFIX);
+    }
+
+    public String encode() {
+        if (callback.length() > MAX_FIELD_LENGTH || channel.length() > MAX_FIELD_LENGTH)
+            throw new IllegalArgumentException("Callback or channel is too long for a protocol frame");
+
+        StringBuilder frame = new StringBuilder(HEADER_LENGTH + 8
+                + callback.length() + channel.length() + payload.length());
+        frame.append(PREFIX)
+                .append((char) VERSION)
+                .append((char) (response ? FLAG_RESPONSE : 0));
+        appendHex(frame, requestId.getMostSignificantBits(), 16);
+        appendHex(frame, requestId.getLeastSignificantBits(), 16);
+        appendHex(frame, schema, 8);
+        appendHex(frame, callback.length(), 4);
+        frame.append(callback);
+        appendHex(frame, channel.length(), 4);
+        frame.append(channel);
+        return frame.append(payload).toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the message is not a frame, is cut short or was
+     * written by a newer version than this node reads
+     */
+    public static ProtocolFrame decode(String message) {
+        if (!isFrame(message) || message.length() < HEADER_LENGTH + 8)
+            throw new IllegalArgumentException("Message is not a protocol frame");
+
+        int version = message.charAt(PREFIX.length());
+        if (version > VERSION)
+            throw new IllegalArgumentException("Unsupported protocol frame version " + version);
+
+        boolean response = (message.charAt(PREFIX.length() + 1) & FLAG_RESPONSE) != 0;
+        int index = PREFIX.length() + 2;
+        UUID requestId = new UUID(
+                Long.parseUnsignedLong(message, index, index + 16, 16),
+                Long.parseUnsignedLong(message, index + 16, index + 32, 16));
+        index += 32;
+        int schema = Integer.parseUnsignedInt(message, index, index + 8, 16);
+        index += 8;
+
+        int callbackLength = length(message, index);
+        index += 4;
+        String callback = field(message, index, callbackLength);
+        index += callbackLength;
+
+        int channelLength = length(message, index);
+        index += 4;
+        String channel = field(message, index, channelLength);
+        index += channelLength;
+
+        return new ProtocolFrame(requestId, response, schema, callback, channel, message.substring(index));
+    }
+
+    private static int length(String message, int start) {
+        if (start + 4 > message.length())
+            throw new IllegalArgumentException("Protocol frame is cut short");
+        return Integer.parseInt(message, start, start + 4, 16);
+    }
+
+    private static String field(String message, int start, int length) {
+        if (start + length > message.length())
+            throw new IllegalArgumentException("Protocol frame is cut short");
+        return length == 0 ? "" : message.substring(start, start + length);
+    }
+
+    private static void appendHex(StringBuilder builder, long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            builder.append(HEX[(int) (value >>> shift) & 0xF]);
+        }
+    }
+}
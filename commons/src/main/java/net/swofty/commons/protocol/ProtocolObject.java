@@ -25,4 +25,21 @@ public abstract class ProtocolObject<T, R> {
     public String channel() {
         return getClass().getSimpleName();
     }
+
+    /**
+     * Whether sending the same request twice is harmless, which allows callers to
+     * retry it after a timeout
+     */
+    public boolean isIdempotent() {
+        return false;
+    }
+
+    /**
+     * Whether callers may coalesce requests to this object into a
+     * {@link BatchProtocolObject}. Services register the batch channel alongside
+     * the normal one.
+     */
+    public boolean isBatchable() {
+        return false;
+    }
 }
@@ -0,0 +1,71 @@
+package net.swofty.commons.protocol;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Validates ProtocolObjects as they are registered and fingerprints their message
+ * and response types. The fingerprint travels in every {@link ProtocolFrame}, so a
+ * node talking to a peer built against different message classes is warned rather
+ * than silently misreading payloads.
+ */
+public class ProtocolSchema {
+    private static final Map<String, Class<?>> channels = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Integer> fingerprints = new ConcurrentHashMap<>();
+    private static final Set<String> warnedChannels = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @throws IllegalStateException if the object is missing a serializer, its types
+     * cannot be resolved or another ProtocolObject already uses its channel
+     */
+    public static void register(ProtocolObject<?, ?> object) {
+        String channel = object.channel();
+        if (object.getSerializer() == null || object.getReturnSerializer() == null)
+            throw new IllegalStateException("ProtocolObject " + channel + " is missing a serializer");
+
+        Class<?> existing = channels.putIfAbsent(channel, object.getClass());
+        if (existing != null && existing != object.getClass())
+            throw new IllegalStateException("Channel " + channel + " is used by both "
+                    + existing.getName() + " and " + object.getClass().getName());
+
+        fingerprint(object);
+    }
+
+    public static int fingerprint(ProtocolObject<?, ?> object) {
+        // Every batch shares one class, so its fingerprint comes from what it wraps
+        if (object instanceof BatchProtocolObject<?, ?> batch)
+            return 31 * fingerprint(batch.getInner()) + 1;
+
+        return fingerprints.computeIfAbsent(object.getClass(), clazz -> {
+            if (!(clazz.getGenericSuperclass() instanceof ParameterizedType type))
+                throw new IllegalStateException("Could not resolve the message types of " + clazz.getName());
+
+            Type[] arguments = type.getActualTypeArguments();
+            return (describe(arguments[0]) + "->" + describe(arguments[1])).hashCode();
+        });
+    }
+
+    /**
+     * Logs once per channel when a peer's fingerprint differs from ours
+     */
+    public static void check(ProtocolObject<?, ?> object, int schema) {
+        if (schema == fingerprint(object)) return;
+        if (warnedChannels.add(object.channel())) {
+            System.out.println("Schema mismatch on channel " + object.channel()
+                    + ", the remote node was built against different message classes");
+        }
+    }
+
+    private static String describe(Type type) {
+        if (!(type instanceof Class<?> clazz) || !clazz.isRecord()) return type.getTypeName();
+
+        return clazz.getName() + Arrays.stream(clazz.getRecordComponents())
+                .map(component -> component.getName() + ":" + component.getGenericType().getTypeName())
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+}
@@ -4,9 +4,17 @@ import net.swofty.commons.protocol.ProtocolObject;
 import net.swofty.commons.protocol.Serializer;
 import net.swofty.commons.protocol.objects.bazaar.BazaarSellProtocolObject;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class PingProtocolObject extends ProtocolObject<
         PingProtocolObject.EmptyMessage,
-        PingProtocolObject.EmptyMessage> {
+        PingProtocolObject.PingResponse> {
+
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
 
     @Override
     public Serializer<EmptyMessage> getSerializer() {
@@ -29,24 +37,39 @@ public class PingProtocolObject extends ProtocolObject<
     }
 
     @Override
-    public Serializer<EmptyMessage> getReturnSerializer() {
-        return new Serializer<EmptyMessage>() {
+    public Serializer<PingResponse> getReturnSerializer() {
+        return new Serializer<PingResponse>() {
             @Override
-            public String serialize(EmptyMessage value) {
-                return "";
+            public String serialize(PingResponse value) {
+                return value.frameVersion() + (value.batching() ? ",batch" : "");
             }
 
             @Override
-            public EmptyMessage deserialize(String json) {
-                return new EmptyMessage();
+            public PingResponse deserialize(String json) {
+                // Services from before protocol frames reply with an empty string, and services
+                // that briefly dropped them reply with only the batching flag
+                List<String> split = Arrays.asList(json.split(","));
+                int frameVersion;
+                try {
+                    frameVersion = Integer.parseInt(split.get(0));
+                } catch (NumberFormatException e) {
+                    frameVersion = 0;
+                }
+                return new PingResponse(frameVersion, split.contains("batch"));
             }
 
             @Override
-            public EmptyMessage clone(EmptyMessage value) {
-                return new EmptyMessage();
+            public PingResponse clone(PingResponse value) {
+                return new PingResponse(value.frameVersion(), value.batching());
             }
         };
     }
 
     public record EmptyMessage() {}
-}
+
+    /**
+     * @param frameVersion the highest {@link net.swofty.commons.protocol.ProtocolFrame} version the service reads, 0 for none
+     * @param batching whether the service registers batch channels for batchable protocol objects
+     */
+    public record PingResponse(int frameVersion, boolean batching) {}
+}
\ No newline at end of file
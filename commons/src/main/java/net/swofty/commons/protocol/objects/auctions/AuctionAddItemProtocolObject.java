@@ -44,22 +44,27 @@ public class AuctionAddItemProtocolObject extends ProtocolObject
         return new Serializer<AuctionAddItemResponse>() {
             @Override
             public String serialize(AuctionAddItemResponse value) {
-                return value.uuid.toString();
+                return value.uuid + (value.accepted ? "" : ":rejected");
             }
 
             @Override
             public AuctionAddItemResponse deserialize(String json) {
-                return new AuctionAddItemResponse(UUID.fromString(json));
+                String[] split = json.split(":");
+                return new AuctionAddItemResponse(UUID.fromString(split[0]), split.length == 1);
             }
 
             @Override
             public AuctionAddItemResponse clone(AuctionAddItemResponse value) {
-                return new AuctionAddItemResponse(value.uuid);
+                return new AuctionAddItemResponse(value.uuid, value.accepted);
             }
         };
     }
 
     public record AuctionAddItemMessage(AuctionItem item, AuctionCategories category) { }
 
-    public record AuctionAddItemResponse(UUID uuid) { }
+    /**
+     * @param accepted false if the auction had already ended and been moved, so the
+     * update was not applied
+     */
+    public record AuctionAddItemResponse(UUID uuid, boolean accepted) { }
 }
@@ -11,6 +11,16 @@ public class AuctionFetchItemProtocolObject extends ProtocolObject<
         AuctionFetchItemProtocolObject.AuctionFetchItemMessage,
         AuctionFetchItemProtocolObject.AuctionFetchItemResponse> {
 
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return true;
+    }
+
     @Override
     public Serializer<AuctionFetchItemMessage> getSerializer() {
         return new Serializer<AuctionFetchItemMessage>() {
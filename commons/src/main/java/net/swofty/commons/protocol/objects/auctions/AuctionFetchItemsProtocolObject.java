@@ -15,6 +15,11 @@ public class AuctionFetchItemsProtocolObject extends ProtocolObject<
         AuctionFetchItemsProtocolObject.AuctionFetchItemsMessage,
         AuctionFetchItemsProtocolObject.AuctionFetchItemsResponse> {
 
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
+
     @Override
     public Serializer<AuctionFetchItemsMessage> getSerializer() {
         return new Serializer<AuctionFetchItemsMessage>() {
@@ -24,6 +29,8 @@ public class AuctionFetchItemsProtocolObject extends ProtocolObject<
                 json.put("sorting", value.sorting.name());
                 json.put("filter", value.filter.name());
                 json.put("category", value.category.name());
+                json.put("cursor", value.cursor == null ? JSONObject.NULL : value.cursor);
+                json.put("page-size", value.pageSize);
                 return json.toString();
             }
 
@@ -33,12 +40,14 @@ public class AuctionFetchItemsProtocolObject extends ProtocolObject<
                 AuctionsSorting sorting = AuctionsSorting.valueOf(jsonObject.getString("sorting"));
                 AuctionsFilter filter = AuctionsFilter.valueOf(jsonObject.getString("filter"));
                 AuctionCategories category = AuctionCategories.valueOf(jsonObject.getString("category"));
-                return new AuctionFetchItemsMessage(sorting, filter, category);
+                String cursor = jsonObject.optString("cursor", null);
+                int pageSize = jsonObject.getInt("page-size");
+                return new AuctionFetchItemsMessage(sorting, filter, category, cursor, pageSize);
             }
 
             @Override
             public AuctionFetchItemsMessage clone(AuctionFetchItemsMessage value) {
-                return new AuctionFetchItemsMessage(value.sorting, value.filter, value.category);
+                return new AuctionFetchItemsMessage(value.sorting, value.filter, value.category, value.cursor, value.pageSize);
             }
         };
     }
@@ -48,28 +57,43 @@ public class AuctionFetchItemsProtocolObject extends ProtocolObject<
         return new Serializer<AuctionFetchItemsResponse>() {
             @Override
             public String serialize(AuctionFetchItemsResponse value) {
-                return new AuctionItemListSerializer().serialize(value.items);
+                JSONObject json = new JSONObject();
+                json.put("items", new JSONObject(new AuctionItemListSerializer().serialize(value.items)));
+                json.put("next-cursor", value.nextCursor == null ? JSONObject.NULL : value.nextCursor);
+                return json.toString();
             }
 
             @Override
             public AuctionFetchItemsResponse deserialize(String json) {
-                return new AuctionFetchItemsResponse(new AuctionItemListSerializer().deserialize(json));
+                JSONObject jsonObject = new JSONObject(json);
+                return new AuctionFetchItemsResponse(
+                        new AuctionItemListSerializer().deserialize(jsonObject.getJSONObject("items").toString()),
+                        jsonObject.optString("next-cursor", null));
             }
 
             @Override
             public AuctionFetchItemsResponse clone(AuctionFetchItemsResponse value) {
-                return new AuctionFetchItemsResponse(value.items);
+                return new AuctionFetchItemsResponse(value.items, value.nextCursor);
             }
         };
     }
 
+    /**
+     * @param cursor the cursor returned with the previous page, or null to fetch the first page
+     */
     public record AuctionFetchItemsMessage(
             AuctionsSorting sorting,
             AuctionsFilter filter,
-            AuctionCategories category
+            AuctionCategories category,
+            String cursor,
+            int pageSize
     ) { }
 
+    /**
+     * @param nextCursor the cursor to pass to fetch the following page, or null if this was the last page
+     */
     public record AuctionFetchItemsResponse(
-            List<AuctionItem> items
+            List<AuctionItem> items,
+            String nextCursor
     ) { }
 }
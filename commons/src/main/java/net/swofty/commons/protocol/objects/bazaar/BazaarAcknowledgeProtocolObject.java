@@ -0,0 +1,86 @@
+package net.swofty.commons.protocol.objects.bazaar;
+
+import net.swofty.commons.protocol.ProtocolObject;
+import net.swofty.commons.protocol.Serializer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class BazaarAcknowledgeProtocolObject extends ProtocolObject<
+        BazaarAcknowledgeProtocolObject.BazaarAcknowledgeMessage,
+        BazaarAcknowledgeProtocolObject.BazaarAcknowledgeResponse> {
+
+    /**
+     * Acknowledging the same reservation again changes nothing, so it is safe to retry
+     */
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
+
+    @Override
+    public Serializer<BazaarAcknowledgeMessage> getSerializer() {
+        return new Serializer<BazaarAcknowledgeMessage>() {
+            @Override
+            public String serialize(BazaarAcknowledgeMessage value) {
+                JSONObject json = new JSONObject();
+                json.put("player-uuid", value.playerUUID);
+                json.put("reservation", value.reservation);
+                json.put("delivered", new JSONArray(value.delivered));
+                return json.toString();
+            }
+
+            @Override
+            public BazaarAcknowledgeMessage deserialize(String json) {
+                JSONObject jsonObject = new JSONObject(json);
+                JSONArray delivered = jsonObject.getJSONArray("delivered");
+                List<String> list = new ArrayList<>();
+                for (int i = 0; i < delivered.length(); i++) {
+                    list.add(delivered.getString(i));
+                }
+                return new BazaarAcknowledgeMessage(
+                        UUID.fromString(jsonObject.getString("player-uuid")),
+                        jsonObject.getString("reservation"),
+                        list);
+            }
+
+            @Override
+            public BazaarAcknowledgeMessage clone(BazaarAcknowledgeMessage value) {
+                return new BazaarAcknowledgeMessage(value.playerUUID, value.reservation, new ArrayList<>(value.delivered));
+            }
+        };
+    }
+
+    @Override
+    public Serializer<BazaarAcknowledgeResponse> getReturnSerializer() {
+        return new Serializer<BazaarAcknowledgeResponse>() {
+            @Override
+            public String serialize(BazaarAcknowledgeResponse value) {
+                JSONObject json = new JSONObject();
+                json.put("acknowledged", value.acknowledged);
+                return json.toString();
+            }
+
+            @Override
+            public BazaarAcknowledgeResponse deserialize(String json) {
+                return new BazaarAcknowledgeResponse(new JSONObject(json).getInt("acknowledged"));
+            }
+
+            @Override
+            public BazaarAcknowledgeResponse clone(BazaarAcknowledgeResponse value) {
+                return new BazaarAcknowledgeResponse(value.acknowledged);
+            }
+        };
+    }
+
+    /**
+     * @param delivered the ids of the reserved settlements the player received. Any other
+     *                  settlement of the reservation is released to be claimed again.
+     */
+    public record BazaarAcknowledgeMessage(UUID playerUUID, String reservation, List<String> delivered) {}
+
+    public record BazaarAcknowledgeResponse(int acknowledged) {}
+}
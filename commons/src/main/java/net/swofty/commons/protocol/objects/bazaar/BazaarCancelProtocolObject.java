@@ -0,0 +1,73 @@
+package net.swofty.commons.protocol.objects.bazaar;
+
+import net.swofty.commons.protocol.ProtocolObject;
+import net.swofty.commons.protocol.Serializer;
+import org.json.JSONObject;
+
+import java.util.UUID;
+
+public class BazaarCancelProtocolObject extends ProtocolObject<
+        BazaarCancelProtocolObject.BazaarCancelMessage,
+        BazaarCancelProtocolObject.BazaarCancelResponse> {
+
+    @Override
+    public Serializer<BazaarCancelMessage> getSerializer() {
+        return new Serializer<BazaarCancelMessage>() {
+            @Override
+            public String serialize(BazaarCancelMessage value) {
+                JSONObject json = new JSONObject();
+                json.put("item-name", value.itemName);
+                json.put("player-uuid", value.playerUUID);
+                json.put("buy-order", value.buyOrder);
+                return json.toString();
+            }
+
+            @Override
+            public BazaarCancelMessage deserialize(String json) {
+                JSONObject jsonObject = new JSONObject(json);
+                return new BazaarCancelMessage(
+                        jsonObject.getString("item-name"),
+                        UUID.fromString(jsonObject.getString("player-uuid")),
+                        jsonObject.getBoolean("buy-order"));
+            }
+
+            @Override
+            public BazaarCancelMessage clone(BazaarCancelMessage value) {
+                return new BazaarCancelMessage(value.itemName, value.playerUUID, value.buyOrder);
+            }
+        };
+    }
+
+    @Override
+    public Serializer<BazaarCancelResponse> getReturnSerializer() {
+        return new Serializer<BazaarCancelResponse>() {
+            @Override
+            public String serialize(BazaarCancelResponse value) {
+                JSONObject json = new JSONObject();
+                json.put("successful", value.successful);
+                json.put("remaining", value.remaining);
+                return json.toString();
+            }
+
+            @Override
+            public BazaarCancelResponse deserialize(String json) {
+                JSONObject jsonObject = new JSONObject(json);
+                return new BazaarCancelResponse(
+                        jsonObject.getBoolean("successful"),
+                        jsonObject.getDouble("remaining"));
+            }
+
+            @Override
+            public BazaarCancelResponse clone(BazaarCancelResponse value) {
+                return new BazaarCancelResponse(value.successful, value.remaining);
+            }
+        };
+    }
+
+    public record BazaarCancelMessage(String itemName, UUID playerUUID, boolean buyOrder) {}
+
+    /**
+     * @param remaining the unfilled amount of the order at the time it was cancelled
+     */
+    public record BazaarCancelResponse(boolean successful, double remaining) {}
+}
@@ -0,0 +1,96 @@
+package net.swofty.commons.protocol.objects.bazaar;
+
+import net.swofty.commons.protocol.ProtocolObject;
+import net.swofty.commons.protocol.Serializer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class BazaarClaimProtocolObject extends ProtocolObject<
+        BazaarClaimProtocolObject.BazaarClaimMessage,
+        BazaarClaimProtocolObject.BazaarClaimResponse> {
+
+    @Override
+    public Serializer<BazaarClaimMessage> getSerializer() {
+        return new Serializer<BazaarClaimMessage>() {
+            @Override
+            public String serialize(BazaarClaimMessage value) {
+                JSONObject json = new JSONObject();
+                json.put("player-uuid", value.playerUUID);
+                return json.toString();
+            }
+
+            @Override
+            public BazaarClaimMessage deserialize(String json) {
+                JSONObject jsonObject = new JSONObject(json);
+                return new BazaarClaimMessage(UUID.fromString(jsonObject.getString("player-uuid")));
+            }
+
+            @Override
+            public BazaarClaimMessage clone(BazaarClaimMessage value) {
+                return new BazaarClaimMessage(value.playerUUID);
+            }
+        };
+    }
+
+    @Override
+    public Serializer<BazaarClaimResponse> getReturnSerializer() {
+        return new Serializer<BazaarClaimResponse>() {
+            @Override
+            public String serialize(BazaarClaimResponse value) {
+                JSONArray settlements = new JSONArray();
+                value.settlements.forEach(settlement -> settlements.put(new JSONObject()
+                        .put("id", settlement.id)
+                        .put("item-name", settlement.itemName)
+                        .put("amount", settlement.amount)
+                        .put("coins", settlement.coins)
+                        .put("price", settlement.price)));
+
+                JSONObject json = new JSONObject();
+                json.put("reservation", value.reservation);
+                json.put("settlements", settlements);
+                return json.toString();
+            }
+
+            @Override
+            public BazaarClaimResponse deserialize(String json) {
+                JSONObject jsonObject = new JSONObject(json);
+                JSONArray settlements = jsonObject.getJSONArray("settlements");
+                List<Settlement> list = new ArrayList<>();
+                for (int i = 0; i < settlements.length(); i++) {
+                    JSONObject settlement = settlements.getJSONObject(i);
+                    list.add(new Settlement(
+                            settlement.getString("id"),
+                            settlement.getString("item-name"),
+                            settlement.getDouble("amount"),
+                            settlement.getDouble("coins"),
+                            settlement.getDouble("price")));
+                }
+                return new BazaarClaimResponse(jsonObject.getString("reservation"), list);
+            }
+
+            @Override
+            public BazaarClaimResponse clone(BazaarClaimResponse value) {
+                return new BazaarClaimResponse(value.reservation, new ArrayList<>(value.settlements));
+            }
+        };
+    }
+
+    public record BazaarClaimMessage(UUID playerUUID) {}
+
+    /**
+     * @param amount the items owed to the player
+     * @param coins  the coins owed to the player, from sales or from bidding above the filled price
+     * @param price  the price each item was filled at, paid out instead for any part of an item
+     */
+    public record Settlement(String id, String itemName, double amount, double coins, double price) {}
+
+    /**
+     * @param reservation identifies the reserved settlements when acknowledging them,
+     *                    see {@link BazaarAcknowledgeProtocolObject}
+     */
+    public record BazaarClaimResponse(String reservation, List<Settlement> settlements) {}
+}
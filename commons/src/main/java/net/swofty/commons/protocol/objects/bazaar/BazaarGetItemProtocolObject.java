@@ -9,6 +9,16 @@ public class BazaarGetItemProtocolObject extends ProtocolObject<
         BazaarGetItemProtocolObject.BazaarGetItemMessage,
         BazaarGetItemProtocolObject.BazaarGetItemResponse> {
 
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return true;
+    }
+
     @Override
     public Serializer<BazaarGetItemMessage> getSerializer() {
         return new Serializer<BazaarGetItemMessage>() {
@@ -9,6 +9,11 @@ public class BazaarInitializeProtocolObject extends ProtocolObject<
         BazaarInitializeProtocolObject.BazaarInitializationRequest,
         BazaarInitializeProtocolObject.BazaarInitializeResponse> {
 
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
+
     @Override
     public Serializer<BazaarInitializationRequest> getSerializer() {
         return new Serializer<BazaarInitializationRequest>() {
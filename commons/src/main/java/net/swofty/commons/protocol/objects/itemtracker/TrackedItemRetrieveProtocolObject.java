@@ -12,6 +12,16 @@ public class TrackedItemRetrieveProtocolObject extends ProtocolObject
         TrackedItemRetrieveProtocolObject.TrackedItemResponse> {
 
 
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return true;
+    }
+
     @Override
     public Serializer<TrackedItemRetrieveMessage> getSerializer() {
         return new Serializer<TrackedItemRetrieveMessage>() {
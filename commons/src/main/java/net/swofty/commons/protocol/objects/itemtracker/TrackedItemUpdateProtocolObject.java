@@ -9,6 +9,11 @@ public class TrackedItemUpdateProtocolObject extends ProtocolObject<
         TrackedItemUpdateProtocolObject.TrackedItemUpdateMessage,
         TrackedItemUpdateProtocolObject.TrackedItemUpdateResponse> {
 
+    @Override
+    public boolean isBatchable() {
+        return true;
+    }
+
     @Override
     public Serializer<TrackedItemUpdateMessage> getSerializer() {
         return new Serializer<TrackedItemUpdateMessage>() {
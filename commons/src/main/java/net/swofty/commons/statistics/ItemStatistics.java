@@ -1,23 +1,33 @@
 package net.swofty.commons.statistics;
 
-import lombok.Getter;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
 
-@Getter
+/**
+ * Immutable set of statistics, stored as one double per {@link ItemStatistic} ordinal
+ * for each of the base, additive and multiplicative components. A component value of
+ * zero means the statistic is not set. Use {@link MutableItemStatistics} to sum many
+ * of these without allocating an instance per step.
+ */
 public class ItemStatistics {
-    private final Map<ItemStatistic, Double> statisticsBase;
-    private final Map<ItemStatistic, Double> statisticsAdditive;
-    private final Map<ItemStatistic, Double> statisticsMultiplicative;
+    static final ItemStatistic[] STATISTICS = ItemStatistic.values();
+    static final int SIZE = STATISTICS.length;
 
-    // Private constructor used by the builder
-    private ItemStatistics(Map<ItemStatistic, Double> statisticsBase, Map<ItemStatistic, Double> statisticsAdditive, Map<ItemStatistic, Double> statisticsMultiplicative) {
-        this.statisticsBase = statisticsBase;
-        this.statisticsAdditive = statisticsAdditive;
-        this.statisticsMultiplicative = statisticsMultiplicative;
+    private static final ItemStatistics EMPTY = new ItemStatistics(new double[SIZE], new double[SIZE], new double[SIZE]);
+
+    final double[] base;
+    final double[] additive;
+    final double[] multiplicative;
+
+    // Takes ownership of the arrays, callers must not modify them afterwards
+    ItemStatistics(double[] base, double[] additive, double[] multiplicative) {
+        this.base = base;
+        this.additive = additive;
+        this.multiplicative = multiplicative;
     }
 
     // Static method to create the builder
@@ -25,22 +35,37 @@ public class ItemStatistics {
         return new Builder();
     }
 
-    public static ItemStatistics empty() { return ItemStatistics.builder().build(); }
+    public static ItemStatistics empty() { return EMPTY; }
 
+    /**
+     * ItemStatistics is immutable, so the same instance can be shared
+     */
     @Override
     public @NonNull ItemStatistics clone() {
-        return new ItemStatistics(new EnumMap<>(this.statisticsBase),
-                new EnumMap<>(this.statisticsAdditive),
-                new EnumMap<>(this.statisticsMultiplicative));
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof ItemStatistics statistics)) return false;
+        return Arrays.equals(base, statistics.base)
+                && Arrays.equals(additive, statistics.additive)
+                && Arrays.equals(multiplicative, statistics.multiplicative);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(base) + Arrays.hashCode(additive)) + Arrays.hashCode(multiplicative);
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
 
-        for (ItemStatistic stat : ItemStatistic.values()) {
-            double additiveValue = statisticsAdditive.getOrDefault(stat, 0D);
-            double multiplicativeValue = statisticsMultiplicative.getOrDefault(stat, 0D);
+        for (ItemStatistic stat : STATISTICS) {
+            double additiveValue = additive[stat.ordinal()];
+            double multiplicativeValue = multiplicative[stat.ordinal()];
 
             if (additiveValue != 0 || multiplicativeValue != 0) {
                 builder.append(stat.name()).append(":");
@@ -88,67 +113,77 @@ public class ItemStatistics {
 
     // Builder class
     public static class Builder {
-        private final Map<ItemStatistic, Double> statisticsBase = new EnumMap<>(ItemStatistic.class);
-        private final Map<ItemStatistic, Double> statisticsAdditive = new EnumMap<>(ItemStatistic.class);
-        private final Map<ItemStatistic, Double> statisticsMultiplicative = new EnumMap<>(ItemStatistic.class);
+        private final double[] base = new double[SIZE];
+        private final double[] additive = new double[SIZE];
+        private final double[] multiplicative = new double[SIZE];
 
         public Builder withBase(ItemStatistic stat, Double value) {
-            this.statisticsBase.put(stat, value);
+            this.base[stat.ordinal()] = value;
             return this;
         }
 
         public Builder withAdditive(ItemStatistic stat, Double value) {
             if (value < 0) value = 0.01D;
-            this.statisticsAdditive.put(stat, value);
+            this.additive[stat.ordinal()] = value;
             return this;
         }
 
         public Builder withAdditivePercentage(ItemStatistic stat, Double valuePercentage) {
             if (valuePercentage < 0) valuePercentage = 1D;
-            this.statisticsAdditive.put(stat, 1 + (valuePercentage / 100));
+            this.additive[stat.ordinal()] = 1 + (valuePercentage / 100);
             return this;
         }
 
         public Builder withMultiplicative(ItemStatistic stat, Double multiplicationValue) {
             if (multiplicationValue < 0) multiplicationValue = 0.01;
-            this.statisticsMultiplicative.put(stat, multiplicationValue);
+            this.multiplicative[stat.ordinal()] = multiplicationValue;
             return this;
         }
 
         public Builder withMultiplicativePercentage(ItemStatistic stat, Double multiplicationValuePercentage) {
             if (multiplicationValuePercentage < 0) multiplicationValuePercentage = 1D;
-            this.statisticsMultiplicative.put(stat, 1 + (multiplicationValuePercentage / 100));
+            this.multiplicative[stat.ordinal()] = 1 + (multiplicationValuePercentage / 100);
             return this;
         }
 
         public ItemStatistics build() {
-            return new ItemStatistics(new EnumMap<>(this.statisticsBase),
-                    new EnumMap<>(this.statisticsAdditive),
-                    new EnumMap<>(this.statisticsMultiplicative));
+            return new ItemStatistics(base.clone(), additive.clone(), multiplicative.clone());
         }
     }
 
     public ItemStatistics addBase(ItemStatistic stat, Double value) {
-        ItemStatistics result = this.clone();
-        result.statisticsBase.put(stat, this.getBase(stat) + value);
-        return result;
+        double[] result = base.clone();
+        result[stat.ordinal()] += value;
+        return new ItemStatistics(result, additive, multiplicative);
     }
 
     public ItemStatistics addAdditive(ItemStatistic stat, Double value) {
-        ItemStatistics result = this.clone();
-        result.statisticsAdditive.put(stat, this.getAdditive(stat) + value);
-        return result;
+        double[] result = additive.clone();
+        result[stat.ordinal()] += value;
+        return new ItemStatistics(base, result, multiplicative);
     }
 
     public ItemStatistics addMultiplicative(ItemStatistic stat, Double value) {
-        ItemStatistics result = this.clone();
-        result.statisticsMultiplicative.put(stat, this.getMultiplicative(stat) + value);
-        return result;
+        double[] result = multiplicative.clone();
+        result[stat.ordinal()] += value;
+        return new ItemStatistics(base, additive, result);
+    }
+
+    public Map<ItemStatistic, Double> getStatisticsBase() {
+        return toMap(base);
+    }
+
+    public Map<ItemStatistic, Double> getStatisticsAdditive() {
+        return toMap(additive);
+    }
+
+    public Map<ItemStatistic, Double> getStatisticsMultiplicative() {
+        return toMap(multiplicative);
     }
 
     public Map<ItemStatistic, Double> getOverall() {
         Map<ItemStatistic, Double> result = new EnumMap<>(ItemStatistic.class);
-        for (ItemStatistic stat : ItemStatistic.values()) {
+        for (ItemStatistic stat : STATISTICS) {
             result.put(stat, getOverall(stat));
         }
         return result;
@@ -156,71 +191,56 @@ public class ItemStatistics {
 
     public @NonNull Double getOverall(@Nullable ItemStatistic stat) {
         if (stat == null) return 0D;
-        Double value = 0D;
-        if (this.statisticsBase.containsKey(stat)) value += this.statisticsBase.get(stat);
-        value *= getAdditive(stat);
-        return value;
+        return base[stat.ordinal()] * (additive[stat.ordinal()] + 1);
     }
 
     public @NonNull Double getBase(@Nullable ItemStatistic stat) {
         if (stat == null) return 0D;
-        return this.statisticsBase.getOrDefault(stat, 0D);
+        return base[stat.ordinal()];
     }
 
     public @NonNull Double getAdditive(@Nullable ItemStatistic stat) {
         if (stat == null) return 1D;
-        return this.statisticsAdditive.getOrDefault(stat, 0D) + 1;
+        return additive[stat.ordinal()] + 1;
     }
 
     public @NonNull Double getMultiplicative(@Nullable ItemStatistic stat) {
         if (stat == null) return 1D;
-        return this.statisticsMultiplicative.getOrDefault(stat, 0D) + 1;
+        return multiplicative[stat.ordinal()] + 1;
     }
 
     public @NonNull Double getMultiplicativeAsPercentage(@Nullable ItemStatistic stat) {
         if (stat == null) return 100D;
-        return this.statisticsMultiplicative.getOrDefault(stat, 0D) * 100 + 100;
+        return multiplicative[stat.ordinal()] * 100 + 100;
     }
 
     public static ItemStatistics add(ItemStatistics first, ItemStatistics other) {
-        ItemStatistics result = new ItemStatistics(new EnumMap<>(first.statisticsBase),
-                new EnumMap<>(first.statisticsAdditive),
-                new EnumMap<>(first.statisticsMultiplicative));
-
-        for (ItemStatistic stat : ItemStatistic.values()) {
-            result.statisticsBase.put(stat, first.getBase(stat) + other.getBase(stat));
-            result.statisticsAdditive.put(stat, first.statisticsAdditive.getOrDefault(stat, 0D)
-                    + other.statisticsAdditive.getOrDefault(stat, 0D));
-            result.statisticsMultiplicative.put(stat, first.statisticsMultiplicative.getOrDefault(stat, 1D)
-                    * other.statisticsMultiplicative.getOrDefault(stat, 1D));
-        }
-
-        return result;
+        return new MutableItemStatistics().add(first).add(other).toStatistics();
     }
 
     public static ItemStatistics multiply(ItemStatistics statistics, double multiplier) {
-        ItemStatistics result = new ItemStatistics(new EnumMap<>(statistics.statisticsBase), new EnumMap<>(statistics.statisticsAdditive), new EnumMap<>(statistics.statisticsMultiplicative));
+        return new MutableItemStatistics().addScaled(statistics, multiplier).toStatistics();
+    }
 
-        for (ItemStatistic stat : ItemStatistic.values()) {
-            result.statisticsBase.put(stat, statistics.statisticsBase.getOrDefault(stat, 0D) * multiplier);
-            result.statisticsAdditive.put(stat, statistics.statisticsAdditive.getOrDefault(stat, 0D) * multiplier);
-            result.statisticsMultiplicative.put(stat, statistics.statisticsMultiplicative.getOrDefault(stat, 0D) * multiplier);
+    public ItemStatistics sub(ItemStatistics other) {
+        double[] resultBase = new double[SIZE];
+        double[] resultAdditive = new double[SIZE];
+        double[] resultMultiplicative = new double[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            resultBase[i] = base[i] - other.base[i];
+            resultAdditive[i] = additive[i] - other.additive[i] + 1;
+            resultMultiplicative[i] = (multiplicative[i] + 1) / (other.multiplicative[i] + 1);
         }
 
-        return result;
+        return new ItemStatistics(resultBase, resultAdditive, resultMultiplicative);
     }
 
-    public ItemStatistics sub(ItemStatistics other) {
-        ItemStatistics result = new ItemStatistics(new EnumMap<>(this.statisticsBase),
-                new EnumMap<>(this.statisticsAdditive),
-                new EnumMap<>(this.statisticsMultiplicative));
-
-        for (ItemStatistic stat : ItemStatistic.values()) {
-            result.statisticsBase.put(stat, this.getBase(stat) - other.getBase(stat));
-            result.statisticsAdditive.put(stat, this.getAdditive(stat) - other.getAdditive(stat) + 1);
-            result.statisticsMultiplicative.put(stat, this.getMultiplicative(stat) / other.getMultiplicative(stat));
+    private static Map<ItemStatistic, Double> toMap(double[] values) {
+        Map<ItemStatistic, Double> result = new EnumMap<>(ItemStatistic.class);
+        for (int i = 0; i < SIZE; i++) {
+            if (values[i] != 0) result.put(STATISTICS[i], values[i]);
         }
-
         return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package net.swofty.commons.statistics;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accumulator for summing {@link ItemStatistics} in place. Adding follows the same
+ * rules as {@link ItemStatistics#add(ItemStatistics, ItemStatistics)}: base and
+ * additive components are summed and multiplicative components are multiplied, with
+ * an unset multiplicative component counting as a factor of one.
+ */
+public class MutableItemStatistics {
+    private final double[] base = new double[ItemStatistics.SIZE];
+    private final double[] additive = new double[ItemStatistics.SIZE];
+    private final double[] multiplicative = new double[ItemStatistics.SIZE];
+
+    public MutableItemStatistics add(ItemStatistics statistics) {
+        for (int i = 0; i < ItemStatistics.SIZE; i++) {
+            base[i] += statistics.base[i];
+            additive[i] += statistics.additive[i];
+            multiplicative[i] = factor(multiplicative[i]) * factor(statistics.multiplicative[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the statistics scaled by the multiplier, the same as adding
+     * {@link ItemStatistics#multiply(ItemStatistics, double)} without the intermediate
+     */
+    public MutableItemStatistics addScaled(ItemStatistics statistics, double multiplier) {
+        for (int i = 0; i < ItemStatistics.SIZE; i++) {
+            base[i] += statistics.base[i] * multiplier;
+            additive[i] += statistics.additive[i] * multiplier;
+            multiplicative[i] = factor(multiplicative[i]) * factor(statistics.multiplicative[i] * multiplier);
+        }
+        return this;
+    }
+
+    public MutableItemStatistics addBase(ItemStatistic stat, double value) {
+        base[stat.ordinal()] += value;
+        return this;
+    }
+
+    public @NonNull Double getOverall(@Nullable ItemStatistic stat) {
+        if (stat == null) return 0D;
+        return base[stat.ordinal()] * (additive[stat.ordinal()] + 1);
+    }
+
+    public ItemStatistics toStatistics() {
+        return new ItemStatistics(base.clone(), additive.clone(), multiplicative.clone());
+    }
+
+    private static double factor(double value) {
+        return value == 0 ? 1 : value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package net.swofty.commons.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.*;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the write helpers against an in-memory collection that applies the filters,
+ * updates and options it is handed the way the server would, and records every
+ * call so round trips and batch sizes can be checked.
+ */
+class MongoUpsertsTest {
+    private final InMemoryCollection store = new InMemoryCollection();
+    private final MongoCollection<Document> collection = store.proxy();
+
+    @Test
+    void setFieldCreatesMissingDocument() {
+        MongoUpserts.setField(collection, "a", "coins", 5);
+
+        assertEquals(new Document("_id", "a").append("coins", 5), store.documents.get("a"));
+        assertEquals(List.of("updateOne"), store.calls);
+    }
+
+    @Test
+    void setFieldsOnlyTouchesGivenFields() {
+        store.documents.put("a", new Document("_id", "a").append("coins", 5).append("bits", 2));
+
+        MongoUpserts.setFields(collection, "a", Map.of("coins", 9, "xp", 3));
+
+        assertEquals(new Document("_id", "a").append("coins", 9).append("bits", 2).append("xp", 3),
+                store.documents.get("a"));
+    }
+
+    @Test
+    void emptySetFieldsSkipsTheRoundTrip() {
+        MongoUpserts.setFields(collection, "a", Map.of());
+        new WriteBatch(collection).setFields("a", Map.of()).flush();
+
+        assertTrue(store.calls.isEmpty());
+    }
+
+    @Test
+    void replaceUpsertsWholeDocument() {
+        MongoUpserts.replace(collection, "a", new Document("_id", "a").append("coins", 1));
+        MongoUpserts.replace(collection, "a", new Document("_id", "a").append("bits", 4));
+
+        assertEquals(new Document("_id", "a").append("bits", 4), store.documents.get("a"));
+    }
+
+    @Test
+    void insertIfAbsentLeavesExistingDocument() {
+        MongoUpserts.insertIfAbsent(collection, "a", new Document("_id", "a").append("coins", 1));
+        MongoUpserts.insertIfAbsent(collection, "a", new Document("_id", "a").append("coins", 2));
+
+        assertEquals(new Document("_id", "a").append("coins", 1), store.documents.get("a"));
+        assertEquals(List.of("updateOne", "updateOne"), store.calls);
+    }
+
+    @Test
+    void existsAndDelete() {
+        assertFalse(MongoUpserts.exists(collection, "a"));
+        MongoUpserts.setField(collection, "a", "coins", 1);
+        assertTrue(MongoUpserts.exists(collection, "a"));
+
+        assertTrue(MongoUpserts.delete(collection, "a"));
+        assertFalse(MongoUpserts.delete(collection, "a"));
+    }
+
+    @Test
+    void bulkWriteSplitsIntoUnorderedBatches() {
+        List<WriteModel<Document>> writes = new ArrayList<>();
+        for (int i = 0; i < 2 * MongoUpserts.MAX_BATCH_SIZE + 1; i++) {
+            writes.add(MongoUpserts.setFieldsModel(i, Map.of("value", i)));
+        }
+
+        MongoUpserts.bulkWrite(collection, writes);
+
+        assertEquals(List.of(MongoUpserts.MAX_BATCH_SIZE, MongoUpserts.MAX_BATCH_SIZE, 1), store.batchSizes);
+        assertTrue(store.batchesOrdered.stream().noneMatch(ordered -> ordered));
+        assertEquals(writes.size(), store.documents.size());
+        assertEquals(new Document("_id", 1500).append("value", 1500), store.documents.get(1500));
+    }
+
+    @Test
+    void writeBatchSendsOneBulkWriteAndClears() {
+        store.documents.put("b", new Document("_id", "b").append("coins", 1).append("bits", 1));
+
+        WriteBatch batch = new WriteBatch(collection)
+                .setFields("a", Map.of("coins", 3))
+                .setFields("b", Map.of("coins", 4))
+                .replace("c", new Document("_id", "c").append("bits", 5));
+        batch.flush();
+
+        assertEquals(List.of("bulkWrite"), store.calls);
+        assertTrue(batch.isEmpty());
+        assertEquals(new Document("_id", "a").append("coins", 3), store.documents.get("a"));
+        assertEquals(new Document("_id", "b").append("coins", 4).append("bits", 1), store.documents.get("b"));
+        assertEquals(new Document("_id", "c").append("bits", 5), store.documents.get("c"));
+
+        batch.flush();
+        assertEquals(1, store.calls.size());
+    }
+
+    /**
+     * Understands the subset of the driver the helpers use: filters on {@code _id},
+     * {@code $set} and {@code $setOnInsert} updates, replacements and the upsert flag
+     */
+    private static class InMemoryCollection {
+        final Map<Object, Document> documents = new LinkedHashMap<>();
+        final List<String> calls = new ArrayList<>();
+        final List<Integer> batchSizes = new ArrayList<>();
+        final List<Boolean> batchesOrdered = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        MongoCollection<Document> proxy() {
+            return (MongoCollection<Document>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{MongoCollection.class}, (proxy, method, args) -> {
+                        calls.add(method.getName());
+                        return switch (method.getName()) {
+                            case "updateOne" -> {
+                                update((Bson) args[0], (Bson) args[1], ((UpdateOptions) args[2]).isUpsert());
+                                yield UpdateResult.unacknowledged();
+                            }
+                            case "replaceOne" -> {
+                                replace((Bson) args[0], (Document) args[1], ((ReplaceOptions) args[2]).isUpsert());
+                                yield UpdateResult.unacknowledged();
+                            }
+                            case "bulkWrite" -> {
+                                bulkWrite((List<WriteModel<Document>>) args[0], (BulkWriteOptions) args[1]);
+                                yield BulkWriteResult.unacknowledged();
+                            }
+                            case "countDocuments" -> documents.containsKey(id((Bson) args[0])) ? 1L : 0L;
+                            case "deleteOne" -> DeleteResult.acknowledged(documents.remove(id((Bson) args[0])) != null ? 1 : 0);
+                            case "getNamespace" -> new MongoNamespace("test", "test");
+                            default -> throw new UnsupportedOperationException(method.getName());
+                        };
+                    });
+        }
+
+        void bulkWrite(List<WriteModel<Document>> writes, BulkWriteOptions options) {
+            batchSizes.add(writes.size());
+            batchesOrdered.add(options.isOrdered());
+            for (WriteModel<Document> write : writes) {
+                if (write instanceof UpdateOneModel<Document> update) {
+                    update(update.getFilter(), update.getUpdate(), update.getOptions().isUpsert());
+                } else if (write instanceof ReplaceOneModel<Document> replace) {
+                    replace(replace.getFilter(), replace.getReplacement(), replace.getReplaceOptions().isUpsert());
+                } else {
+                    throw new UnsupportedOperationException(write.getClass().getSimpleName());
+                }
+            }
+        }
+
+        void update(Bson filter, Bson update, boolean upsert) {
+            Object id = id(filter);
+            Document existing = documents.get(id);
+            if (existing == null && !upsert) return;
+
+            Document operators = toDocument(update);
+            Document document = existing == null ? new Document("_id", id) : existing;
+            if (operators.containsKey("$set")) document.putAll(operators.get("$set", Document.class));
+            if (existing == null && operators.containsKey("$setOnInsert")) {
+                document.putAll(operators.get("$setOnInsert", Document.class));
+            }
+            documents.put(id, document);
+        }
+
+        void replace(Bson filter, Document replacement, boolean upsert) {
+            Object id = id(filter);
+            if (!documents.containsKey(id) && !upsert) return;
+            documents.put(id, new Document(replacement));
+        }
+
+        static Object id(Bson filter) {
+            return toDocument(filter).get("_id");
+        }
+
+        static Document toDocument(Bson bson) {
+            BsonDocument document = bson.toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry());
+            return Document.parse(document.toJson());
+        }
+    }
+}
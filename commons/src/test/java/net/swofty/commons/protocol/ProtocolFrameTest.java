@@ -0,0 +1,184 @@
+package net.swofty.commons.protocol;
+
+import com.sun.management.ThreadMXBean;
+import net.swofty.commons.impl.ServiceProxyRequest;
+import net.swofty.commons.protocol.objects.PingProtocolObject;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that frames carry every field and payload through untouched, and measures a
+ * request and response round trip of a frame against the legacy string protocol.
+ */
+class ProtocolFrameTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private static final UUID REQUEST_ID = UUID.randomUUID();
+    private static final String CALLBACK = UUID.randomUUID().toString();
+    private static final String CHANNEL = "BazaarGetItemProtocolObject";
+    private static final String PAYLOAD = samplePayload();
+
+    @Test
+    void requestRoundTrip() {
+        ProtocolFrame frame = ProtocolFrame.decode(
+                ProtocolFrame.request(REQUEST_ID, -123456789, CALLBACK, CHANNEL, PAYLOAD).encode());
+
+        assertEquals(REQUEST_ID, frame.requestId());
+        assertFalse(frame.response());
+        assertEquals(-123456789, frame.schema());
+        assertEquals(CALLBACK, frame.callback());
+        assertEquals(CHANNEL, frame.channel());
+        assertEquals(PAYLOAD, frame.payload());
+    }
+
+    @Test
+    void responseRoundTrip() {
+        ProtocolFrame frame = ProtocolFrame.decode(ProtocolFrame.response(REQUEST_ID, 42, "").encode());
+
+        assertEquals(REQUEST_ID, frame.requestId());
+        assertTrue(frame.response());
+        assertEquals(42, frame.schema());
+        assertEquals("", frame.payload());
+    }
+
+    @Test
+    void payloadIsCarriedUntouched() {
+        String payload = "#F}=-=---={\"quoted\"\n\\§6Coins ✦ 💰;";
+
+        assertEquals(payload, ProtocolFrame.decode(
+                ProtocolFrame.request(REQUEST_ID, 0, CALLBACK, CHANNEL, payload).encode()).payload());
+    }
+
+    @Test
+    void headerIsOneByteACharacterOnTheWire() {
+        String encoded = ProtocolFrame.response(REQUEST_ID, 0, "").encode();
+
+        assertEquals(encoded.length(), encoded.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void newerVersionIsRejected() {
+        String encoded = ProtocolFrame.request(REQUEST_ID, 0, CALLBACK, CHANNEL, PAYLOAD).encode();
+        String newer = encoded.substring(0, 2) + (char) (ProtocolFrame.VERSION + 1) + encoded.substring(3);
+
+        assertThrows(IllegalArgumentException.class, () -> ProtocolFrame.decode(newer));
+    }
+
+    @Test
+    void truncatedFrameIsRejected() {
+        String encoded = ProtocolFrame.request(REQUEST_ID, 0, CALLBACK, CHANNEL, PAYLOAD).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> ProtocolFrame.decode(encoded.substring(0, 60)));
+        assertThrows(IllegalArgumentException.class, () -> ProtocolFrame.decode(encoded.substring(0, 30)));
+    }
+
+    @Test
+    void legacyMessagesAreNotFrames() {
+        assertFalse(ProtocolFrame.isFrame(legacyRequest(PAYLOAD)));
+        assertFalse(ProtocolFrame.isFrame(REQUEST_ID + "}=-=---={" + PAYLOAD));
+    }
+
+    @Test
+    void pingRepliesOfEveryVersionNegotiate() {
+        Serializer<PingProtocolObject.PingResponse> serializer = new PingProtocolObject().getReturnSerializer();
+
+        // Before frames, while frames were dropped, and now
+        assertEquals(new PingProtocolObject.PingResponse(0, false), serializer.deserialize(""));
+        assertEquals(new PingProtocolObject.PingResponse(0, true), serializer.deserialize("batch"));
+        assertEquals(new PingProtocolObject.PingResponse(ProtocolFrame.VERSION, true), serializer.deserialize(
+                serializer.serialize(new PingProtocolObject.PingResponse(ProtocolFrame.VERSION, true))));
+    }
+
+    /**
+     * Encodes and decodes a request and its response in both formats. Allocation is read
+     * per thread from the JVM, and every decoded payload feeds a checksum so none of the
+     * work can be optimised away.
+     */
+    @Test
+    void frameRoundTripAllocatesLessThanLegacy() {
+        Measurement legacy = measure("legacy", ProtocolFrameTest::legacyRoundTrip);
+        Measurement framed = measure("framed", ProtocolFrameTest::framedRoundTrip);
+
+        int legacyWire = utf8(legacyRequest(PAYLOAD)) + utf8(REQUEST_ID + "}=-=---={" + PAYLOAD);
+        int framedWire = utf8(ProtocolFrame.request(REQUEST_ID, 0, CALLBACK, CHANNEL, PAYLOAD).encode())
+                + utf8(ProtocolFrame.response(REQUEST_ID, 0, PAYLOAD).encode());
+        System.out.printf("Wire bytes per round trip: legacy %d, framed %d%n", legacyWire, framedWire);
+
+        assertEquals(legacy.checksum(), framed.checksum());
+        assertTrue(framed.bytesPerOp() < legacy.bytesPerOp(),
+                "Frames allocated " + framed.bytesPerOp() + " bytes a round trip against " + legacy.bytesPerOp());
+        assertTrue(framedWire < legacyWire);
+    }
+
+    private static long legacyRoundTrip(String payload) {
+        ServiceProxyRequest request = ServiceProxyRequest.fromJSON(new JSONObject(legacyRequest(payload)));
+
+        String[] split = (request.getRequestId() + "}=-=---={" + request.getMessage()).split("}=-=---=\\{");
+        return UUID.fromString(split[0]).getLeastSignificantBits() + split[1].length();
+    }
+
+    private static long framedRoundTrip(String payload) {
+        ProtocolFrame request = ProtocolFrame.decode(
+                ProtocolFrame.request(REQUEST_ID, 0, CALLBACK, CHANNEL, payload).encode());
+
+        ProtocolFrame response = ProtocolFrame.decode(
+                ProtocolFrame.response(request.requestId(), 0, request.payload()).encode());
+        return response.requestId().getLeastSignificantBits() + response.payload().length();
+    }
+
+    private static Measurement measure(String name, ToLongFunction<String> roundTrip) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long checksum = 0;
+        for (int i = 0; i < WARMUP; i++) checksum += roundTrip.applyAsLong(PAYLOAD);
+
+        checksum = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) checksum += roundTrip.applyAsLong(PAYLOAD);
+        long elapsed = System.nanoTime() - started;
+        long bytesPerOp = (threads.getThreadAllocatedBytes(thread) - allocatedBefore) / ITERATIONS;
+
+        System.out.printf("%s: %d ns and %d bytes allocated a round trip (%.0f round trips/s)%n",
+                name, elapsed / ITERATIONS, bytesPerOp, ITERATIONS / (elapsed / 1e9));
+        return new Measurement(bytesPerOp, checksum);
+    }
+
+    private static String legacyRequest(String payload) {
+        return new ServiceProxyRequest(REQUEST_ID, CALLBACK, CHANNEL, payload).toJSON().toString();
+    }
+
+    private static int utf8(String message) {
+        return message.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * A bazaar item with a few dozen orders, about the size of a typical response
+     */
+    private static String samplePayload() {
+        JSONArray orders = new JSONArray();
+        for (int i = 0; i < 24; i++) {
+            orders.put(new JSONObject()
+                    .put("owner", new UUID(i, i).toString())
+                    .put("price", 12.5 + i)
+                    .put("amount", 64 - i));
+        }
+        return new JSONObject()
+                .put("item-name", "ENCHANTED_DIAMOND")
+                .put("display", "§9Enchanted Diamond ✦")
+                .put("sell-orders", orders)
+                .toString();
+    }
+
+    private record Measurement(long bytesPerOp, long checksum) {}
+}
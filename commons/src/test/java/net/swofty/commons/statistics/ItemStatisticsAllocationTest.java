@@ -0,0 +1,139 @@
+package net.swofty.commons.statistics;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sums a player's worth of item statistics with the array-backed accumulator and with
+ * the EnumMap summing ItemStatistics used before it, which copied three boxed maps on
+ * every add. Allocation is read per thread from the JVM, and every sum feeds a
+ * checksum so none of the work can be optimised away.
+ */
+class ItemStatisticsAllocationTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    // Armor, accessories, the held item and a pet's per-level statistics
+    private static final int STATISTICS_PER_PLAYER = 40;
+
+    private static final List<ItemStatistics> STATISTICS = sampleStatistics();
+    private static final List<EnumMapStatistics> ENUM_MAP_STATISTICS = STATISTICS.stream().map(EnumMapStatistics::of).toList();
+
+    @Test
+    void accumulatorMatchesEnumMapSum() {
+        ItemStatistics summed = sumArrays(STATISTICS);
+        EnumMapStatistics legacy = sumEnumMaps(ENUM_MAP_STATISTICS);
+
+        for (ItemStatistic stat : ItemStatistic.values()) {
+            assertEquals(legacy.getOverall(stat), summed.getOverall(stat), 1e-9, stat.name());
+            assertEquals(legacy.multiplicative.get(stat), summed.getStatisticsMultiplicative().get(stat), 1e-9, stat.name());
+        }
+    }
+
+    @Test
+    void summingThroughArraysAllocatesLessThanEnumMaps() {
+        Measurement legacy = measure("EnumMap", () -> sumEnumMaps(ENUM_MAP_STATISTICS).getOverall(ItemStatistic.HEALTH));
+        Measurement arrays = measure("double[]", () -> sumArrays(STATISTICS).getOverall(ItemStatistic.HEALTH));
+
+        assertEquals(legacy.checksum(), arrays.checksum(), 1e-3);
+        // Boxed maps of every statistic against three arrays per sum, well over an order of magnitude
+        assertTrue(arrays.bytesPerOp() * 10 < legacy.bytesPerOp(),
+                "Arrays allocated " + arrays.bytesPerOp() + " bytes a sum against " + legacy.bytesPerOp());
+    }
+
+    private static ItemStatistics sumArrays(List<ItemStatistics> statistics) {
+        MutableItemStatistics total = new MutableItemStatistics();
+        for (ItemStatistics next : statistics) total.add(next);
+        return total.toStatistics();
+    }
+
+    private static EnumMapStatistics sumEnumMaps(List<EnumMapStatistics> statistics) {
+        EnumMapStatistics total = new EnumMapStatistics();
+        for (EnumMapStatistics next : statistics) total = EnumMapStatistics.add(total, next);
+        return total;
+    }
+
+    private static Measurement measure(String name, DoubleSupplier sum) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        double checksum = 0;
+        for (int i = 0; i < WARMUP; i++) checksum += sum.getAsDouble();
+
+        checksum = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) checksum += sum.getAsDouble();
+        long elapsed = System.nanoTime() - started;
+        long bytesPerOp = (threads.getThreadAllocatedBytes(thread) - allocatedBefore) / ITERATIONS;
+
+        System.out.printf("%s: %d ns and %d bytes allocated summing %d statistics%n",
+                name, elapsed / ITERATIONS, bytesPerOp, STATISTICS_PER_PLAYER);
+        return new Measurement(bytesPerOp, checksum);
+    }
+
+    private static List<ItemStatistics> sampleStatistics() {
+        Random random = new Random(1);
+        ItemStatistic[] stats = ItemStatistic.values();
+
+        List<ItemStatistics> statistics = new ArrayList<>();
+        for (int i = 0; i < STATISTICS_PER_PLAYER; i++) {
+            ItemStatistics.Builder builder = ItemStatistics.builder();
+            for (int j = 0; j < 4; j++) {
+                builder.withBase(stats[random.nextInt(stats.length)], (double) random.nextInt(100));
+            }
+            if (i % 8 == 0) builder.withAdditivePercentage(stats[random.nextInt(stats.length)], 10D);
+            if (i % 10 == 0) builder.withMultiplicativePercentage(stats[random.nextInt(stats.length)], 5D);
+            statistics.add(builder.build());
+        }
+        return statistics;
+    }
+
+    /**
+     * The summing of ItemStatistics before it moved onto arrays, kept as the baseline
+     */
+    private static class EnumMapStatistics {
+        final Map<ItemStatistic, Double> base = new EnumMap<>(ItemStatistic.class);
+        final Map<ItemStatistic, Double> additive = new EnumMap<>(ItemStatistic.class);
+        final Map<ItemStatistic, Double> multiplicative = new EnumMap<>(ItemStatistic.class);
+
+        static EnumMapStatistics of(ItemStatistics statistics) {
+            EnumMapStatistics result = new EnumMapStatistics();
+            result.base.putAll(statistics.getStatisticsBase());
+            result.additive.putAll(statistics.getStatisticsAdditive());
+            result.multiplicative.putAll(statistics.getStatisticsMultiplicative());
+            return result;
+        }
+
+        static EnumMapStatistics add(EnumMapStatistics first, EnumMapStatistics other) {
+            EnumMapStatistics result = new EnumMapStatistics();
+            result.base.putAll(first.base);
+            result.additive.putAll(first.additive);
+            result.multiplicative.putAll(first.multiplicative);
+
+            for (ItemStatistic stat : ItemStatistic.values()) {
+                result.base.put(stat, first.base.getOrDefault(stat, 0D) + other.base.getOrDefault(stat, 0D));
+                result.additive.put(stat, first.additive.getOrDefault(stat, 0D) + other.additive.getOrDefault(stat, 0D));
+                result.multiplicative.put(stat, first.multiplicative.getOrDefault(stat, 1D)
+                        * other.multiplicative.getOrDefault(stat, 1D));
+            }
+            return result;
+        }
+
+        double getOverall(ItemStatistic stat) {
+            return base.getOrDefault(stat, 0D) * (additive.getOrDefault(stat, 0D) + 1);
+        }
+    }
+
+    private record Measurement(long bytesPerOp, double checksum) {}
+}
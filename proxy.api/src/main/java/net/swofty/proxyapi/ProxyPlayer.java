@@ -68,8 +68,6 @@ public class ProxyPlayer {
     }
 
     public CompletableFuture<Boolean> isOnline() {
-        CompletableFuture<Boolean> future = new CompletableFuture<>();
-
         JSONObject json = new JSONObject();
         json.put("uuid", uuid.toString());
 
@@ -77,13 +75,8 @@ public class ProxyPlayer {
                 PlayerHandlerRequirements.PlayerHandlerActions.IS_ONLINE;
         json.put("action", action.name());
 
-        ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER,
-                json, (s) -> {
-            boolean isOnline = (boolean) s.get("isOnline");
-            future.complete(isOnline);
-        });
-
-        return future;
+        return ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER, json)
+                .thenApply(s -> (boolean) s.get("isOnline"));
     }
 
     public void runEvent(ProxyUnderstandableEvent event) {
@@ -124,17 +117,18 @@ public class ProxyPlayer {
                 PlayerHandlerRequirements.PlayerHandlerActions.TRANSFER;
         json.put("action", action.name());
 
-        ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER,
-                json, (s) -> {});
-
         waitingForTransferComplete.put(uuid, future);
+        ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER, json)
+                .exceptionally(throwable -> {
+                    waitingForTransferComplete.remove(uuid, future);
+                    future.completeExceptionally(throwable);
+                    return null;
+                });
 
         return future;
     }
 
     public CompletableFuture<UUID> getBankHash() {
-        CompletableFuture<UUID> future = new CompletableFuture<>();
-
         JSONObject json = new JSONObject();
         json.put("uuid", uuid.toString());
 
@@ -142,17 +136,11 @@ public class ProxyPlayer {
                 PlayerHandlerRequirements.PlayerHandlerActions.BANK_HASH;
         json.put("action", action.name());
 
-        ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER,
-                json, (s) -> {
-            future.complete(UUID.fromString((String) s.get("bankHash")));
-        });
-
-        return future;
+        return ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER, json)
+                .thenApply(s -> UUID.fromString((String) s.get("bankHash")));
     }
 
     public CompletableFuture<MinecraftVersion> getVersion() {
-        CompletableFuture<MinecraftVersion> future = new CompletableFuture<>();
-
         JSONObject json = new JSONObject();
         json.put("uuid", uuid.toString());
 
@@ -160,22 +148,28 @@ public class ProxyPlayer {
                 PlayerHandlerRequirements.PlayerHandlerActions.VERSION;
         json.put("action", action.name());
 
-        ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER,
-                json, (s) -> {
-            try {
-                future.complete(MinecraftVersion.byProtocolId(
-                        (int) s.get("version")
-                ));
-            } catch (Exception e) {
-                future.complete(MinecraftVersion.MINECRAFT_1_21);
-            } // ViaVersion is disabled
-        });
+        return ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER, json)
+                .thenApply(s -> {
+                    try {
+                        return MinecraftVersion.byProtocolId((int) s.get("version"));
+                    } catch (Exception e) {
+                        return MinecraftVersion.MINECRAFT_1_21;
+                    } // ViaVersion is disabled
+                });
+    }
 
-        return future;
+    public CompletableFuture<JSONObject> refreshCoopData(String datapoint) {
+        return refreshCoopData(datapoint, new JSONObject());
     }
 
-    public void refreshCoopData(String datapoint) {
-        JSONObject json = new JSONObject();
+    /**
+     * Asks the player's server to update the datapoint, using the value carried in
+     * the delta when there is one instead of reloading it from the database
+     *
+     * @return the reply of the player's server, empty if the player is offline
+     */
+    public CompletableFuture<JSONObject> refreshCoopData(String datapoint, JSONObject delta) {
+        JSONObject json = new JSONObject(delta.toMap());
         json.put("uuid", uuid.toString());
         json.put("datapoint", datapoint);
 
@@ -183,7 +177,6 @@ public class ProxyPlayer {
                 PlayerHandlerRequirements.PlayerHandlerActions.REFRESH_COOP_DATA;
         json.put("action", action.name());
 
-        ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER,
-                json, (s) -> {});
+        return ServerOutboundMessage.sendMessageToProxy(ToProxyChannels.PLAYER_HANDLER, json);
     }
 }
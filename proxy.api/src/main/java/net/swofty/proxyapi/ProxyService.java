@@ -1,52 +1,88 @@
 package net.swofty.proxyapi;
 
+import net.swofty.commons.Configuration;
 import net.swofty.commons.ServiceType;
 import net.swofty.commons.protocol.ProtocolObject;
 import net.swofty.commons.protocol.objects.PingProtocolObject;
+import net.swofty.proxyapi.redis.RequestCoalescer;
+import net.swofty.proxyapi.redis.RequestFailure;
+import net.swofty.proxyapi.redis.RequestRegistry;
 import net.swofty.proxyapi.redis.ServerOutboundMessage;
-import org.json.JSONObject;
+import net.swofty.proxyapi.redis.ServiceRequestException;
 
-import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 public record ProxyService(ServiceType type) {
+    private static final long PING_TIMEOUT = Configuration.getOrDefault("service-ping-timeout-ms", 250);
+    private static final int MAX_RETRIES = 3;
+    private static final long BASE_BACKOFF = 100;
+
     public CompletableFuture<Boolean> isOnline() {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
-        AtomicBoolean hasReceivedResponse = new AtomicBoolean(false);
 
         ServerOutboundMessage.sendMessageToService(type, new PingProtocolObject(),
-                new PingProtocolObject.EmptyMessage(), (s) -> {
-            future.complete(true);
-            hasReceivedResponse.set(true);
-        });
-
-        Thread.startVirtualThread(() -> {
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-
-            if (!hasReceivedResponse.get()) {
-                future.complete(false);
-            }
-        });
+                new PingProtocolObject.EmptyMessage(), PING_TIMEOUT,
+                (s) -> future.complete(true),
+                (failure) -> future.complete(false));
 
         return future;
     }
 
+    /**
+     * Sends the request to the service. The future fails with a {@link ServiceRequestException}
+     * if no reply arrives in time; requests the protocol object marks as idempotent are
+     * first retried with exponential backoff. Cancelling the future abandons the request.
+     * Batchable requests are coalesced with others to the same service when it supports it.
+     */
     public <T, R> CompletableFuture<R> handleRequest(T request) {
         ProtocolObject<T, R> protocolObject = ServerOutboundMessage.protocolObjects.get(request.getClass().getSimpleName());
+        if (protocolObject.isBatchable() && ServerOutboundMessage.supportsBatching(type)) {
+            return RequestCoalescer.submit(type, protocolObject, request);
+        }
+
+        return send(protocolObject, request);
+    }
 
+    /**
+     * Sends the request on its own, with the same timeout and retries as
+     * {@link #handleRequest} but without coalescing. Used for the batches the
+     * {@link RequestCoalescer} builds.
+     */
+    public <T, R> CompletableFuture<R> send(ProtocolObject<T, R> protocolObject, T request) {
         CompletableFuture<R> future = new CompletableFuture<>();
-        Thread.startVirtualThread(() -> {
-            ServerOutboundMessage.sendMessageToService(type, protocolObject, request, (s) -> {
-                Thread.startVirtualThread(() -> {
+        Thread.startVirtualThread(() -> attempt(protocolObject, request, future, 0));
+        return future;
+    }
+
+    private <T, R> void attempt(ProtocolObject<T, R> protocolObject, T request, CompletableFuture<R> future, int attempt) {
+        if (future.isDone()) return;
+
+        UUID requestId = ServerOutboundMessage.sendMessageToService(type, protocolObject, request,
+                ServerOutboundMessage.SERVICE_TIMEOUT, (s) -> {
+            Thread.startVirtualThread(() -> {
+                try {
                     future.complete(protocolObject.translateReturnFromString(s));
-                });
+                } catch (Exception e) {
+                    future.completeExceptionally(new ServiceRequestException(
+                            RequestFailure.MALFORMED_REPLY, protocolObject.channel(), e));
+                }
             });
+        }, (failure) -> {
+            if (failure == RequestFailure.TIMED_OUT && protocolObject.isIdempotent() && attempt < MAX_RETRIES) {
+                RequestRegistry.recordRetry();
+                long backoff = (BASE_BACKOFF << attempt) + ThreadLocalRandom.current().nextLong(BASE_BACKOFF);
+                CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS)
+                        .execute(() -> attempt(protocolObject, request, future, attempt + 1));
+                return;
+            }
+            future.completeExceptionally(new ServiceRequestException(failure, protocolObject.channel()));
+        });
+
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) RequestRegistry.cancel(requestId);
         });
-        return future;
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package net.swofty.proxyapi.redis;
+
+import net.swofty.commons.Configuration;
+import net.swofty.commons.ServiceType;
+import net.swofty.commons.protocol.BatchProtocolObject;
+import net.swofty.commons.protocol.ProtocolObject;
+import net.swofty.proxyapi.ProxyService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups requests for batchable ProtocolObjects into one message per service and
+ * channel. A batch is sent once it is {@link #BATCH_WINDOW} ms old or holds
+ * {@link #MAX_BATCH_SIZE} requests, whichever comes first. Identical requests to an
+ * idempotent object share a single slot in the batch and all receive its response.
+ */
+public class RequestCoalescer {
+    private static final long BATCH_WINDOW = Configuration.getOrDefault("service-batch-window-ms", 5);
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private static final Map<String, Batch> open = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-batch-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static <T, R> CompletableFuture<R> submit(ServiceType service, ProtocolObject<T, R> object, T request) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        String key = service.name() + ":" + object.channel();
+        String serialized = object.isIdempotent() ? object.translateToString(request) : null;
+
+        Batch[] full = new Batch[1];
+        open.compute(key, (k, batch) -> {
+            if (batch == null) {
+                batch = new Batch(service, object);
+                Batch scheduled = batch;
+                flusher.schedule(() -> {
+                    if (open.remove(key, scheduled)) send(scheduled);
+                }, BATCH_WINDOW, TimeUnit.MILLISECONDS);
+            }
+
+            batch.add(request, serialized, future);
+            if (batch.requests.size() < MAX_BATCH_SIZE) return batch;
+
+            full[0] = batch;
+            return null;
+        });
+
+        if (full[0] != null) send(full[0]);
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void send(Batch batch) {
+        ProtocolObject object = batch.object;
+        BatchProtocolObject spec = new BatchProtocolObject<>(object);
+
+        // Sent through ProxyService so a batch of idempotent requests is retried like a single one
+        CompletableFuture<List<Object>> reply = new ProxyService(batch.service).send(spec, batch.requests);
+        reply.whenComplete((responses, throwable) -> {
+            if (throwable != null) {
+                batch.fail(throwable);
+                return;
+            }
+
+            for (int i = 0; i < batch.waiters.size(); i++) {
+                Object response = i < responses.size() ? responses.get(i) : null;
+                for (CompletableFuture<Object> waiter : batch.waiters.get(i)) {
+                    if (response == null) {
+                        waiter.completeExceptionally(new ServiceRequestException(
+                                RequestFailure.REJECTED, object.channel()));
+                    } else waiter.complete(response);
+                }
+            }
+        });
+    }
+
+    private static class Batch {
+        private final ServiceType service;
+        private final ProtocolObject<?, ?> object;
+        private final List<Object> requests = new ArrayList<>();
+        private final List<List<CompletableFuture<Object>>> waiters = new ArrayList<>();
+        private final Map<String, Integer> slots = new HashMap<>();
+
+        private Batch(ServiceType service, ProtocolObject<?, ?> object) {
+            this.service = service;
+            this.object = object;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void add(Object request, String serialized, CompletableFuture<?> future) {
+            Integer slot = serialized == null ? null : slots.get(serialized);
+            if (slot == null) {
+                slot = requests.size();
+                requests.add(request);
+                waiters.add(new ArrayList<>());
+                if (serialized != null) slots.put(serialized, slot);
+            }
+            waiters.get(slot).add((CompletableFuture<Object>) future);
+        }
+
+        private void fail(Throwable throwable) {
+            waiters.forEach(slot -> slot.forEach(waiter -> waiter.completeExceptionally(throwable)));
+        }
+    }
+}
\ No newline at end of file
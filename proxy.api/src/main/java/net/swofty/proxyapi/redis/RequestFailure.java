@@ -0,0 +1,21 @@
+package net.swofty.proxyapi.redis;
+
+public enum RequestFailure {
+    /**
+     * No reply arrived before the request's deadline
+     */
+    TIMED_OUT,
+    /**
+     * The caller gave up on the request before a reply arrived
+     */
+    CANCELLED,
+    /**
+     * A reply arrived but could not be deserialized
+     */
+    MALFORMED_REPLY,
+    /**
+     * The service answered a batch but could not process this request within it
+     */
+    REJECTED,
+    ;
+}
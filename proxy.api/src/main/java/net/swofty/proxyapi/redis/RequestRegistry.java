@@ -0,0 +1,136 @@
+package net.swofty.proxyapi.redis;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Tracks every request awaiting a reply over Redis.
+ * <p>
+ * Each request has a deadline. Deadlines sit in a hashed timer wheel that one timer
+ * thread advances every {@link #TICK_MS} ms. Expiring a request means removing it
+ * from the registry and reporting {@link RequestFailure#TIMED_OUT}, so a reply that
+ * never arrives cannot leak its callback. A reply for a request that is no longer
+ * registered is counted as late and dropped.
+ */
+public class RequestRegistry {
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 512;
+
+    private static final Map<UUID, PendingRequest> pending = new ConcurrentHashMap<>();
+    private static final Queue<Deadline>[] wheel = createWheel();
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-request-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final AtomicLong sent = new AtomicLong();
+    private static final AtomicLong completed = new AtomicLong();
+    private static final AtomicLong timedOut = new AtomicLong();
+    private static final AtomicLong cancelled = new AtomicLong();
+    private static final AtomicLong lateReplies = new AtomicLong();
+    private static final AtomicLong retries = new AtomicLong();
+
+    private static volatile long lastTick = System.currentTimeMillis() / TICK_MS;
+
+    static {
+        timer.scheduleAtFixedRate(RequestRegistry::advance, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public static void register(UUID requestId, String channel, long timeoutMs,
+                                Consumer<String> onReply, Consumer<RequestFailure> onFailure) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        pending.put(requestId, new PendingRequest(channel, onReply, onFailure));
+
+        // The first tick at or after the deadline, so the request is due when its slot
+        // is reached. Never a tick the timer has already passed, which would only be
+        // visited again a full turn later.
+        long tick = Math.max((deadline + TICK_MS - 1) / TICK_MS, lastTick);
+        wheel[(int) (tick % WHEEL_SIZE)].add(new Deadline(requestId, deadline));
+        sent.incrementAndGet();
+    }
+
+    /**
+     * @return false if the request had already timed out or been cancelled
+     */
+    public static boolean complete(UUID requestId, String reply) {
+        PendingRequest request = pending.remove(requestId);
+        if (request == null) {
+            lateReplies.incrementAndGet();
+            return false;
+        }
+
+        completed.incrementAndGet();
+        request.onReply().accept(reply);
+        return true;
+    }
+
+    public static boolean cancel(UUID requestId) {
+        PendingRequest request = pending.remove(requestId);
+        if (request == null) return false;
+
+        cancelled.incrementAndGet();
+        request.onFailure().accept(RequestFailure.CANCELLED);
+        return true;
+    }
+
+    public static void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    public static Metrics getMetrics() {
+        return new Metrics(pending.size(), sent.get(), completed.get(), timedOut.get(),
+                cancelled.get(), lateReplies.get(), retries.get());
+    }
+
+    private static void advance() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / TICK_MS;
+
+        // Catch up on every slot passed since the last run, at most one full turn
+        long from = Math.max(lastTick, currentTick - WHEEL_SIZE + 1);
+        for (long tick = from; tick <= currentTick; tick++) {
+            wheel[(int) (tick % WHEEL_SIZE)].removeIf(deadline -> {
+                if (deadline.at() > now) return false;
+                expire(deadline.requestId());
+                return true;
+            });
+        }
+        lastTick = currentTick + 1;
+    }
+
+    private static void expire(UUID requestId) {
+        PendingRequest request = pending.remove(requestId);
+        if (request == null) return;
+
+        timedOut.incrementAndGet();
+        try {
+            request.onFailure().accept(RequestFailure.TIMED_OUT);
+        } catch (Exception e) {
+            System.out.println("Error handling timeout of request on channel " + request.channel());
+            e.printStackTrace();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Queue<Deadline>[] createWheel() {
+        Queue<Deadline>[] slots = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) slots[i] = new ConcurrentLinkedQueue<>();
+        return slots;
+    }
+
+    private record PendingRequest(String channel, Consumer<String> onReply, Consumer<RequestFailure> onFailure) {}
+
+    private record Deadline(UUID requestId, long at) {}
+
+    public record Metrics(int inFlight, long sent, long completed, long timedOut,
+                          long cancelled, long lateReplies, long retries) {}
+}
@@ -1,8 +1,13 @@
 package net.swofty.proxyapi.redis;
 
+import net.swofty.commons.Configuration;
 import net.swofty.commons.ServiceType;
 import net.swofty.commons.impl.ServiceProxyRequest;
+import net.swofty.commons.protocol.BatchProtocolObject;
+import net.swofty.commons.protocol.ProtocolFrame;
 import net.swofty.commons.protocol.ProtocolObject;
+import net.swofty.commons.protocol.ProtocolSchema;
+import net.swofty.commons.protocol.objects.PingProtocolObject;
 import net.swofty.commons.proxy.ToProxyChannels;
 import net.swofty.redisapi.api.ChannelRegistry;
 import net.swofty.redisapi.api.RedisAPI;
@@ -13,11 +18,16 @@ import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 public class ServerOutboundMessage {
-    private static final Map<UUID, Consumer<String>> redisMessageListeners = new HashMap<>();
     public static final Map<String, ProtocolObject> protocolObjects = new HashMap<>();
+    public static final long PROXY_TIMEOUT = Configuration.getOrDefault("proxy-request-timeout-ms", 10_000);
+    public static final long SERVICE_TIMEOUT = Configuration.getOrDefault("service-request-timeout-ms", 5_000);
+    private static final long NEGOTIATION_TTL = 60_000;
+    private static final Map<ServiceType, Negotiation> negotiations = new ConcurrentHashMap<>();
 
     public static void registerServerToProxy(ToProxyChannels channel) {
         RedisAPI.getInstance().registerChannel(channel.getChannelName(), (event) -> {
@@ -26,58 +36,140 @@ public class ServerOutboundMessage {
             String[] split = messageWithoutFilter.split("}=-=-=\\{");
             UUID uuid = UUID.fromString(split[0]);
 
-            redisMessageListeners.get(uuid).accept(split[1]);
-            redisMessageListeners.remove(uuid);
+            RequestRegistry.complete(uuid, split[1]);
         });
     }
 
     public static void sendMessageToProxy(ToProxyChannels channel, JSONObject message, Consumer<JSONObject> response) {
+        sendMessageToProxy(channel, message).thenAccept(response);
+    }
+
+    /**
+     * Sends the message to the proxy. The future fails with a {@link ServiceRequestException}
+     * if no reply arrives within {@link #PROXY_TIMEOUT} ms.
+     */
+    public static CompletableFuture<JSONObject> sendMessageToProxy(ToProxyChannels channel, JSONObject message) {
+        CompletableFuture<JSONObject> future = new CompletableFuture<>();
         UUID uuid = UUID.randomUUID();
         UUID filterID = UUID.fromString(RedisAPI.getInstance().getFilterId());
 
-        Consumer<String> consumer = (s) -> {
-            response.accept(new JSONObject(s));
-        };
-        redisMessageListeners.put(uuid, consumer);
+        RequestRegistry.register(uuid, channel.getChannelName(), PROXY_TIMEOUT, (s) -> {
+            try {
+                future.complete(new JSONObject(s));
+            } catch (Exception e) {
+                future.completeExceptionally(new ServiceRequestException(
+                        RequestFailure.MALFORMED_REPLY, channel.getChannelName(), e));
+            }
+        }, (failure) -> future.completeExceptionally(new ServiceRequestException(failure, channel.getChannelName())));
 
         RedisAPI.getInstance().publishMessage("proxy",
                 ChannelRegistry.getFromName(channel.getChannelName()),
                 message.toString() + "}=-=-={" + uuid + "}=-=-={" + filterID);
+        return future;
     }
 
     public static void registerFromProtocolObject(ProtocolObject object) {
         String requestTypeName = getRequestTypeName(object);
         protocolObjects.put(requestTypeName, object);
+        registerResponseChannel(object);
+
+        // Batches are only ever sent by the RequestCoalescer, so they need no lookup entry
+        if (object.isBatchable()) registerResponseChannel(new BatchProtocolObject<>(object));
+    }
+
+    private static void registerResponseChannel(ProtocolObject object) {
+        ProtocolSchema.register(object);
 
         RedisAPI.getInstance().registerChannel(object.channel(), (event) -> {
             String messageWithoutFilter = event.message.substring(event.message.indexOf(";") + 1);
-            String[] split = messageWithoutFilter.split("}=-=---=\\{");
 
-            UUID uuid = UUID.fromString(split[0]);
+            UUID uuid;
             String message;
-            if (split.length != 1) {
-                message = split[1];
-            } else message = "";
+            if (ProtocolFrame.isFrame(messageWithoutFilter)) {
+                ProtocolFrame frame = ProtocolFrame.decode(messageWithoutFilter);
+                ProtocolSchema.check(object, frame.schema());
+                uuid = frame.requestId();
+                message = frame.payload();
+            } else {
+                String[] split = messageWithoutFilter.split("}=-=---=\\{");
+                uuid = UUID.fromString(split[0]);
+                if (split.length != 1) {
+                    message = split[1];
+                } else message = "";
+            }
 
-            redisMessageListeners.get(uuid).accept(message);
-            redisMessageListeners.remove(uuid);
+            RequestRegistry.complete(uuid, message);
         });
     }
 
-    public static void sendMessageToService(ServiceType service,
+    /**
+     * Sends the request and registers its callbacks. Exactly one of them runs: the
+     * response when the reply arrives, or the failure once the timeout passes or the
+     * request is cancelled through {@link RequestRegistry#cancel(UUID)}.
+     *
+     * @return the request id
+     */
+    public static UUID sendMessageToService(ServiceType service,
                                             ProtocolObject specification,
                                             Object rawMessage,
-                                            Consumer<String> response) {
+                                            long timeoutMs,
+                                            Consumer<String> response,
+                                            Consumer<RequestFailure> failure) {
         UUID requestId = UUID.randomUUID();
         UUID toCallback = UUID.fromString(RedisAPI.getInstance().getFilterId());
-        redisMessageListeners.put(requestId, response);
+        RequestRegistry.register(requestId, specification.channel(), timeoutMs, response, failure);
 
         String message = specification.translateToString(rawMessage);
 
+        // Pings always use the legacy format, as they are how frame support is discovered
+        boolean framed = !(specification instanceof PingProtocolObject) && supportsFrames(service);
+        String payload = framed
+                ? ProtocolFrame.request(requestId, ProtocolSchema.fingerprint(specification),
+                        toCallback.toString(), specification.channel(), message).encode()
+                : new ServiceProxyRequest(requestId, toCallback.toString(),
+                        specification.channel(), message).toJSON().toString();
+
         RedisAPI.getInstance().publishMessage(service.name(),
-                ChannelRegistry.getFromName(specification.channel()),
-                new ServiceProxyRequest(requestId, toCallback.toString(),
-                        specification.channel(), message).toJSON().toString());
+                ChannelRegistry.getFromName(specification.channel()), payload);
+        return requestId;
+    }
+
+    /**
+     * Whether the service is known to read protocol frames. Support is learnt from its
+     * ping response and re-checked every {@link #NEGOTIATION_TTL} ms, so a service that
+     * is rolled back to an older build is picked up again.
+     */
+    private static boolean supportsFrames(ServiceType service) {
+        Negotiation negotiation = negotiate(service);
+        return negotiation != null && negotiation.frameVersion() >= ProtocolFrame.VERSION;
+    }
+
+    /**
+     * Whether the service answers batch channels, learnt the same way as frame support
+     */
+    public static boolean supportsBatching(ServiceType service) {
+        Negotiation negotiation = negotiate(service);
+        return negotiation != null && negotiation.batching();
+    }
+
+    private static Negotiation negotiate(ServiceType service) {
+        Negotiation negotiation = negotiations.get(service);
+        if (negotiation == null || System.currentTimeMillis() - negotiation.checkedAt() > NEGOTIATION_TTL) {
+            // Keep the previous answer until the new one arrives, so only one ping is in flight
+            negotiations.put(service, negotiation == null
+                    ? new Negotiation(0, false, System.currentTimeMillis())
+                    : new Negotiation(negotiation.frameVersion(), negotiation.batching(), System.currentTimeMillis()));
+
+            PingProtocolObject ping = new PingProtocolObject();
+            sendMessageToService(service, ping, new PingProtocolObject.EmptyMessage(), SERVICE_TIMEOUT, (response) -> {
+                PingProtocolObject.PingResponse pong = ping.translateReturnFromString(response);
+                negotiations.put(service, new Negotiation(pong.frameVersion(), pong.batching(), System.currentTimeMillis()));
+            }, (failure) -> {
+                // An unreachable service is treated as legacy until a later ping succeeds
+                negotiations.put(service, new Negotiation(0, false, System.currentTimeMillis()));
+            });
+        }
+        return negotiation;
     }
 
     private static String getRequestTypeName(ProtocolObject<?, ?> protocolObject) {
@@ -100,4 +192,6 @@ public class ServerOutboundMessage {
 
         throw new IllegalArgumentException("Could not determine the type T for the given ProtocolObject");
     }
-}
+
+    private record Negotiation(int frameVersion, boolean batching, long checkedAt) {}
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package net.swofty.proxyapi.redis;
+
+import lombok.Getter;
+
+/**
+ * Completes a service request future that did not produce a response
+ */
+@Getter
+public class ServiceRequestException extends RuntimeException {
+    private final RequestFailure failure;
+    private final String channel;
+
+    public ServiceRequestException(RequestFailure failure, String channel) {
+        super("Request on channel " + channel + " failed: " + failure.name());
+        this.failure = failure;
+        this.channel = channel;
+    }
+
+    public ServiceRequestException(RequestFailure failure, String channel, Throwable cause) {
+        super("Request on channel " + channel + " failed: " + failure.name(), cause);
+        this.failure = failure;
+        this.channel = channel;
+    }
+}
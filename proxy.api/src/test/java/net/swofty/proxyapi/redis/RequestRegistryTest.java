@@ -0,0 +1,154 @@
+package net.swofty.proxyapi.redis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that replies reach the request they answer, that every request ends in
+ * exactly one callback whether it is answered, cancelled or times out, and that the
+ * timer wheel neither expires a request early nor leaks one that is never answered.
+ * <p>
+ * The registry is shared by the whole JVM, so metrics are compared as deltas.
+ */
+class RequestRegistryTest {
+    private static final long TIMEOUT_SLACK_MS = 1_000;
+
+    @Test
+    void repliesReachTheRequestTheyAnswer() throws Exception {
+        int requests = 10_000;
+        Map<UUID, CompletableFuture<String>> futures = new HashMap<>();
+        for (int i = 0; i < requests; i++) {
+            UUID requestId = UUID.randomUUID();
+            futures.put(requestId, register(requestId, 30_000));
+        }
+
+        // Answered out of order, from several threads
+        List<UUID> order = new ArrayList<>(futures.keySet());
+        Collections.shuffle(order, new Random(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (UUID requestId : order) {
+                executor.execute(() -> assertTrue(RequestRegistry.complete(requestId, requestId.toString())));
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        for (Map.Entry<UUID, CompletableFuture<String>> entry : futures.entrySet()) {
+            assertEquals(entry.getKey().toString(), entry.getValue().get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void unansweredRequestTimesOut() {
+        RequestRegistry.Metrics before = RequestRegistry.getMetrics();
+        UUID requestId = UUID.randomUUID();
+
+        long started = System.nanoTime();
+        CompletableFuture<String> future = register(requestId, 100);
+        RequestFailure failure = awaitFailure(future, 100 + TIMEOUT_SLACK_MS);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(RequestFailure.TIMED_OUT, failure);
+        assertTrue(elapsedMs >= 100, "Timed out after " + elapsedMs + "ms");
+        assertTrue(RequestRegistry.getMetrics().timedOut() > before.timedOut());
+    }
+
+    @Test
+    void replyAfterTimeoutIsDroppedAsLate() {
+        UUID requestId = UUID.randomUUID();
+        CompletableFuture<String> future = register(requestId, 20);
+        awaitFailure(future, 20 + TIMEOUT_SLACK_MS);
+
+        RequestRegistry.Metrics before = RequestRegistry.getMetrics();
+        assertFalse(RequestRegistry.complete(requestId, "late"));
+        assertFalse(RequestRegistry.cancel(requestId));
+        assertEquals(before.lateReplies() + 1, RequestRegistry.getMetrics().lateReplies());
+    }
+
+    @Test
+    void cancelledRequestIgnoresItsReply() {
+        UUID requestId = UUID.randomUUID();
+        CompletableFuture<String> future = register(requestId, 30_000);
+
+        assertTrue(RequestRegistry.cancel(requestId));
+        assertEquals(RequestFailure.CANCELLED, awaitFailure(future, 0));
+        assertFalse(RequestRegistry.complete(requestId, "reply"));
+        assertFalse(RequestRegistry.cancel(requestId));
+    }
+
+    @Test
+    void answeredRequestNeverTimesOut() throws Exception {
+        UUID requestId = UUID.randomUUID();
+        AtomicInteger failures = new AtomicInteger();
+        RequestRegistry.register(requestId, "test", 20, reply -> {}, failure -> failures.incrementAndGet());
+
+        assertTrue(RequestRegistry.complete(requestId, "reply"));
+        Thread.sleep(200);
+        assertEquals(0, failures.get());
+    }
+
+    /**
+     * A deadline further out than one turn of the wheel shares its slot with earlier
+     * ticks, and must survive every pass over that slot until it is actually due
+     */
+    @Test
+    void deadlineBeyondOneWheelTurnIsNotExpiredEarly() throws Exception {
+        UUID requestId = UUID.randomUUID();
+        CompletableFuture<String> future = register(requestId, 6_000);
+
+        Thread.sleep(5_500);
+        assertFalse(future.isDone(), "Expired after one turn of the wheel");
+        assertEquals(RequestFailure.TIMED_OUT, awaitFailure(future, 500 + TIMEOUT_SLACK_MS));
+    }
+
+    /**
+     * Replies race the timer for requests due right now. Each one must end in a reply
+     * or a timeout, never both and never neither.
+     */
+    @Test
+    void replyRacingTimeoutEndsInExactlyOneCallback() throws Exception {
+        int requests = 2_000;
+        AtomicInteger replies = new AtomicInteger();
+        AtomicInteger timeouts = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            UUID requestId = UUID.randomUUID();
+            ids.add(requestId);
+            RequestRegistry.register(requestId, "test", 15, reply -> {
+                replies.incrementAndGet();
+                done.countDown();
+            }, failure -> {
+                timeouts.incrementAndGet();
+                done.countDown();
+            });
+        }
+        Thread.sleep(10);
+        ids.forEach(requestId -> RequestRegistry.complete(requestId, "reply"));
+
+        assertTrue(done.await(TIMEOUT_SLACK_MS, TimeUnit.MILLISECONDS));
+        Thread.sleep(100);
+        assertEquals(requests, replies.get() + timeouts.get());
+    }
+
+    private static CompletableFuture<String> register(UUID requestId, long timeoutMs) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        RequestRegistry.register(requestId, "test", timeoutMs, future::complete,
+                failure -> future.completeExceptionally(new ServiceRequestException(failure, "test")));
+        return future;
+    }
+
+    private static RequestFailure awaitFailure(CompletableFuture<String> future, long timeoutMs) {
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> future.get(timeoutMs, TimeUnit.MILLISECONDS));
+        return assertInstanceOf(ServiceRequestException.class, thrown.getCause()).getFailure();
+    }
+}
@@ -0,0 +1,220 @@
+package net.swofty.service.auction;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.WriteModel;
+import net.swofty.commons.auctions.AuctionCategories;
+import net.swofty.commons.auctions.AuctionItem;
+import net.swofty.commons.mongodb.MongoUpserts;
+import net.swofty.service.generic.redis.ServiceToProxy;
+import org.bson.Document;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves ended auctions from the active to the inactive collection in batches,
+ * ordered by end time.
+ * <p>
+ * A batch is first upserted into the inactive collection and only then deleted
+ * from the active one. If the service stops partway through a batch, the auctions
+ * are still active on restart and are simply moved again with identical results.
+ * <p>
+ * New auctions and bids go through {@link #update}, which marks the auction as being
+ * written under the same lock as the sweep's bookkeeping, then does its reads and
+ * writes outside it. A sweep leaves an auction alone while it is being written, so an
+ * update either lands before the auction is taken for a batch, and is moved with it,
+ * or is rejected once the auction has been taken.
+ */
+public class AuctionExpirySweeper {
+    private static final int BATCH_SIZE = 250;
+    private static final long SWEEP_INTERVAL_MS = 1000;
+
+    private final AuctionIndex index;
+    private final ConcurrentSkipListMap<ExpiryKey, UUID> queue = new ConcurrentSkipListMap<>();
+    private final Map<UUID, ExpiryKey> scheduled = new ConcurrentHashMap<>();
+    private final Set<UUID> sweeping = new HashSet<>();
+    private final Set<UUID> writing = new HashSet<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    public AuctionExpirySweeper(AuctionIndex index) {
+        this.index = index;
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }, SWEEP_INTERVAL_MS, SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules the auction to expire at the given time, replacing any earlier
+     * schedule for it (bids may extend an auction)
+     */
+    public synchronized void schedule(UUID auction, long endTime) {
+        ExpiryKey key = new ExpiryKey(endTime, auction);
+        ExpiryKey previous = scheduled.put(auction, key);
+        if (previous != null) queue.remove(previous);
+        queue.put(key, auction);
+    }
+
+    public synchronized void unschedule(UUID auction) {
+        ExpiryKey previous = scheduled.remove(auction);
+        if (previous != null) queue.remove(previous);
+    }
+
+    /**
+     * Stores a new auction or a bid on an existing one, then indexes and schedules it.
+     * Updates to the same auction are written one at a time.
+     *
+     * @return false if the auction has already been taken by a sweep, in which case
+     * nothing is written
+     */
+    public boolean update(AuctionItem item, AuctionCategories category) {
+        UUID uuid = item.getUuid();
+        if (!beginWrite(uuid)) return false;
+
+        boolean written = false;
+        try {
+            if (index.get(uuid) == null && AuctionInactiveDatabase.collection
+                    .find(Filters.eq("_id", uuid.toString())).first() != null) return false;
+
+            Document document = item.toDocument();
+            document.put("category", category.name());
+            MongoUpserts.replace(AuctionActiveDatabase.collection, document.get("_id"), document);
+            written = true;
+        } finally {
+            endWrite(item, category, written);
+        }
+        return true;
+    }
+
+    private synchronized boolean beginWrite(UUID uuid) {
+        while (writing.contains(uuid)) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (sweeping.contains(uuid)) return false;
+
+        writing.add(uuid);
+        return true;
+    }
+
+    private synchronized void endWrite(AuctionItem item, AuctionCategories category, boolean written) {
+        if (written) {
+            index.put(item, category);
+            schedule(item.getUuid(), item.getEndTime());
+        }
+        writing.remove(item.getUuid());
+        notifyAll();
+    }
+
+    private void sweep() {
+        List<UUID> batch;
+        while (!(batch = pollExpired(System.currentTimeMillis())).isEmpty()) {
+            try {
+                moveToInactive(batch);
+            } catch (RuntimeException e) {
+                requeue(batch);
+                throw e;
+            }
+        }
+    }
+
+    private synchronized List<UUID> pollExpired(long now) {
+        List<UUID> batch = new ArrayList<>();
+        Iterator<Map.Entry<ExpiryKey, UUID>> entries = queue.entrySet().iterator();
+        while (batch.size() < BATCH_SIZE && entries.hasNext()) {
+            Map.Entry<ExpiryKey, UUID> entry = entries.next();
+            if (entry.getKey().endTime() > now) break;
+            // Taken by a later sweep, once the write has finished and scheduled it again
+            if (writing.contains(entry.getValue())) continue;
+
+            entries.remove();
+            scheduled.remove(entry.getValue());
+            sweeping.add(entry.getValue());
+            batch.add(entry.getValue());
+        }
+        return batch;
+    }
+
+    private synchronized void finish(List<UUID> batch) {
+        batch.forEach(uuid -> {
+            index.remove(uuid);
+            sweeping.remove(uuid);
+        });
+    }
+
+    private synchronized void requeue(List<UUID> batch) {
+        batch.forEach(uuid -> {
+            sweeping.remove(uuid);
+            AuctionItem item = index.get(uuid);
+            if (item != null) schedule(uuid, item.getEndTime());
+        });
+    }
+
+    private void moveToInactive(List<UUID> batch) {
+        List<WriteModel<Document>> writes = new ArrayList<>(batch.size());
+        List<AuctionItem> moved = new ArrayList<>(batch.size());
+
+        for (UUID uuid : batch) {
+            AuctionItem item = index.get(uuid);
+            AuctionCategories category = index.getCategory(uuid);
+            if (item == null || category == null) continue;
+
+            Document document = item.toDocument();
+            document.put("category", category.name());
+
+            writes.add(MongoUpserts.replaceModel(uuid.toString(), document));
+            moved.add(item);
+        }
+
+        if (!writes.isEmpty()) {
+            MongoUpserts.bulkWrite(AuctionInactiveDatabase.collection, writes);
+            AuctionActiveDatabase.collection.deleteMany(Filters.in("_id",
+                    moved.stream().map(item -> item.getUuid().toString()).toList()));
+        }
+
+        finish(batch);
+        moved.forEach(AuctionExpirySweeper::notifyParticipants);
+    }
+
+    private static void notifyParticipants(AuctionItem item) {
+        Optional<AuctionItem.Bid> winningBid = item.getBids().stream()
+                .max(Comparator.comparingLong(AuctionItem.Bid::value));
+
+        if (winningBid.isEmpty()) {
+            ServiceToProxy.sendMessage(item.getOriginator(),
+                    "§6[Auction] §eYour auction has expired with no bids! §7Collect your item from the Auction House.");
+            return;
+        }
+
+        ServiceToProxy.sendMessage(item.getOriginator(),
+                "§6[Auction] §eYour auction has ended for §6" + winningBid.get().value() + " coins§e! §7Collect your coins from the Auction House.");
+        item.getBids().stream()
+                .map(AuctionItem.Bid::uuid)
+                .distinct()
+                .forEach(bidder -> ServiceToProxy.sendMessage(bidder, bidder.equals(winningBid.get().uuid())
+                        ? "§6[Auction] §eYou won an auction! §7Collect your item from the Auction House."
+                        : "§6[Auction] §eAn auction you bid on has ended. §7Collect your coins from the Auction House."));
+    }
+
+    private record ExpiryKey(long endTime, UUID uuid) implements Comparable<ExpiryKey> {
+        @Override
+        public int compareTo(ExpiryKey other) {
+            int result = Long.compare(endTime, other.endTime);
+            return result != 0 ? result : uuid.compareTo(other.uuid);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package net.swofty.service.auction;
+
+import net.swofty.commons.auctions.AuctionCategories;
+import net.swofty.commons.auctions.AuctionItem;
+import net.swofty.commons.auctions.AuctionsFilter;
+import net.swofty.commons.auctions.AuctionsSorting;
+import org.bson.Document;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+
+/**
+ * In-memory secondary indexes over the active auctions, one sorted map per
+ * category, sort mode and filter. Each auction is kept in every index it belongs
+ * to and moved incrementally when it is created, bid on or removed, so a fetch
+ * only walks the entries of the page being served.
+ * <p>
+ * Index keys are a single long plus the auction UUID as a tie-breaker, which
+ * gives a total, stable order that a cursor can resume from.
+ */
+public class AuctionIndex {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final Map<UUID, IndexedAuction> auctions = new ConcurrentHashMap<>();
+    private final Map<IndexId, ConcurrentSkipListMap<IndexKey, AuctionItem>> indexes = new ConcurrentHashMap<>();
+
+    public AuctionItem put(Document document) {
+        AuctionItem item = AuctionItem.fromDocument(document);
+        put(item, AuctionCategories.valueOf(document.getString("category")));
+        return item;
+    }
+
+    /**
+     * Inserts the auction, or re-indexes it if it is already present
+     */
+    public synchronized void put(AuctionItem item, AuctionCategories category) {
+        unlink(auctions.get(item.getUuid()));
+
+        IndexedAuction indexed = new IndexedAuction(item, category, computeKeys(item));
+        auctions.put(item.getUuid(), indexed);
+        forEachIndex(indexed, (index, key) -> index.put(key, item));
+    }
+
+    public synchronized void remove(UUID uuid) {
+        unlink(auctions.remove(uuid));
+    }
+
+    public AuctionItem get(UUID uuid) {
+        IndexedAuction indexed = auctions.get(uuid);
+        return indexed == null ? null : indexed.item();
+    }
+
+    public AuctionCategories getCategory(UUID uuid) {
+        IndexedAuction indexed = auctions.get(uuid);
+        return indexed == null ? null : indexed.category();
+    }
+
+    public int size() {
+        return auctions.size();
+    }
+
+    /**
+     * Serves a page of auctions that have not yet ended
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     */
+    public Page fetch(AuctionCategories category, AuctionsSorting sorting, AuctionsFilter filter,
+                      String cursor, int pageSize) {
+        ConcurrentSkipListMap<IndexKey, AuctionItem> index = indexes.get(new IndexId(category, sorting, filter));
+        if (index == null) return new Page(List.of(), null);
+
+        IndexKey after = IndexKey.fromCursor(cursor);
+        NavigableMap<IndexKey, AuctionItem> remaining = after == null ? index : index.tailMap(after, false);
+
+        int size = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        long now = System.currentTimeMillis();
+        List<AuctionItem> items = new ArrayList<>(size);
+        IndexKey last = null;
+        boolean hasMore = false;
+
+        // Walks one live auction past a full page, so a cursor is only handed out when
+        // there is something left to serve with it
+        for (Map.Entry<IndexKey, AuctionItem> entry : remaining.entrySet()) {
+            if (entry.getValue().getEndTime() < now) continue;
+            if (items.size() == size) {
+                hasMore = true;
+                break;
+            }
+
+            items.add(entry.getValue());
+            last = entry.getKey();
+        }
+
+        return new Page(items, hasMore ? last.toCursor() : null);
+    }
+
+    private void unlink(IndexedAuction indexed) {
+        if (indexed == null) return;
+        forEachIndex(indexed, Map::remove);
+    }
+
+    private void forEachIndex(IndexedAuction indexed,
+                              BiConsumer<ConcurrentSkipListMap<IndexKey, AuctionItem>, IndexKey> action) {
+        UUID uuid = indexed.item().getUuid();
+        AuctionsFilter binFilter = indexed.item().isBin() ? AuctionsFilter.BIN_ONLY : AuctionsFilter.AUCTIONS_ONLY;
+
+        for (AuctionsSorting sorting : AuctionsSorting.values()) {
+            IndexKey key = new IndexKey(indexed.keys()[sorting.ordinal()], uuid);
+
+            for (AuctionsFilter filter : List.of(AuctionsFilter.SHOW_ALL, binFilter)) {
+                action.accept(indexes.computeIfAbsent(new IndexId(indexed.category(), sorting, filter),
+                        id -> new ConcurrentSkipListMap<>()), key);
+            }
+        }
+    }
+
+    private static long[] computeKeys(AuctionItem item) {
+        long price = item.getBids().stream()
+                .mapToLong(AuctionItem.Bid::value)
+                .max()
+                .orElse(item.getStartingPrice());
+
+        long[] keys = new long[AuctionsSorting.values().length];
+        keys[AuctionsSorting.HIGHEST_BID.ordinal()] = -price;
+        keys[AuctionsSorting.LOWEST_BID.ordinal()] = price;
+        keys[AuctionsSorting.ENDING_SOON.ordinal()] = item.getEndTime();
+        keys[AuctionsSorting.MOST_BIDS.ordinal()] = -item.getBids().size();
+        return keys;
+    }
+
+    public record Page(List<AuctionItem> items, String nextCursor) { }
+
+    private record IndexedAuction(AuctionItem item, AuctionCategories category, long[] keys) { }
+
+    private record IndexId(AuctionCategories category, AuctionsSorting sorting, AuctionsFilter filter) { }
+
+    private record IndexKey(long value, UUID uuid) implements Comparable<IndexKey> {
+        @Override
+        public int compareTo(IndexKey other) {
+            int result = Long.compare(value, other.value);
+            return result != 0 ? result : uuid.compareTo(other.uuid);
+        }
+
+        public String toCursor() {
+            return value + ":" + uuid;
+        }
+
+        public static IndexKey fromCursor(String cursor) {
+            if (cursor == null || cursor.isEmpty()) return null;
+
+            try {
+                int split = cursor.indexOf(':');
+                return new IndexKey(Long.parseLong(cursor.substring(0, split)),
+                        UUID.fromString(cursor.substring(split + 1)));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -2,21 +2,32 @@ package net.swofty.service.auction;
 
 import net.swofty.commons.Configuration;
 import net.swofty.commons.ServiceType;
+import net.swofty.commons.auctions.AuctionItem;
 import net.swofty.service.generic.SkyBlockService;
 import net.swofty.service.generic.redis.ServiceEndpoint;
+import org.bson.Document;
 
 import java.util.List;
 
 public class AuctionService implements SkyBlockService {
-    public static AuctionsCacheService cacheService;
+    public static AuctionIndex index;
+    public static AuctionExpirySweeper expirySweeper;
 
     public static void main(String[] args) {
-        SkyBlockService.init(new AuctionService());
-
-        cacheService = new AuctionsCacheService();
-
         new AuctionActiveDatabase("_placeholder").connect(Configuration.get("mongodb"));
         new AuctionInactiveDatabase("_placeholder").connect(Configuration.get("mongodb"));
+
+        index = new AuctionIndex();
+        expirySweeper = new AuctionExpirySweeper(index);
+
+        // Auctions that ended while the service was down are picked up by the first sweep
+        for (Document document : AuctionActiveDatabase.collection.find()) {
+            AuctionItem item = index.put(document);
+            expirySweeper.schedule(item.getUuid(), item.getEndTime());
+        }
+
+        SkyBlockService.init(new AuctionService());
+        expirySweeper.start();
     }
 
     @Override
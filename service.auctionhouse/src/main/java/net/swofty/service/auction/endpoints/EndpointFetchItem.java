@@ -2,14 +2,12 @@ package net.swofty.service.auction.endpoints;
 
 import net.swofty.commons.impl.ServiceProxyRequest;
 import net.swofty.commons.protocol.objects.auctions.AuctionFetchItemProtocolObject;
-import net.swofty.service.auction.AuctionActiveDatabase;
 import net.swofty.service.auction.AuctionInactiveDatabase;
+import net.swofty.service.auction.AuctionService;
 import net.swofty.service.generic.redis.ServiceEndpoint;
 import net.swofty.commons.auctions.AuctionItem;
 import org.bson.Document;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 public class EndpointFetchItem implements ServiceEndpoint<
@@ -25,13 +23,13 @@ public class EndpointFetchItem implements ServiceEndpoint<
     public AuctionFetchItemProtocolObject.AuctionFetchItemResponse onMessage(ServiceProxyRequest message, AuctionFetchItemProtocolObject.AuctionFetchItemMessage messageObject) {
         UUID uuidToFetch = messageObject.uuid();
 
-        AuctionItem toReturn = new AuctionItem();
-
-        Document item = AuctionActiveDatabase.collection.find(new Document("_id", uuidToFetch.toString())).first();
-        if (item != null) {
-            toReturn = AuctionItem.fromDocument(item);
+        AuctionItem active = AuctionService.index.get(uuidToFetch);
+        if (active != null) {
+            return new AuctionFetchItemProtocolObject.AuctionFetchItemResponse(active);
         }
 
+        AuctionItem toReturn = new AuctionItem();
+
         Document inactiveItem = AuctionInactiveDatabase.collection.find(new Document("_id", uuidToFetch.toString())).first();
         if (inactiveItem != null) {
             toReturn = AuctionItem.fromDocument(inactiveItem);
@@ -0,0 +1,96 @@
+package net.swofty.service.auction;
+
+import net.swofty.commons.auctions.AuctionCategories;
+import net.swofty.commons.auctions.AuctionItem;
+import net.swofty.commons.auctions.AuctionsFilter;
+import net.swofty.commons.auctions.AuctionsSorting;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pages through an index holding live auctions mixed with ended ones that the
+ * sweeper has not removed yet, which a page must skip without handing out a cursor
+ * that leads to an empty page.
+ */
+class AuctionIndexTest {
+    private final AuctionIndex index = new AuctionIndex();
+    private final long now = System.currentTimeMillis();
+
+    @Test
+    void cursorPagesThroughLiveAuctionsOnly() {
+        for (int price = 1; price <= 50; price++) add(price, price % 2 == 0, true);
+
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            AuctionIndex.Page page = fetch(AuctionsFilter.SHOW_ALL, cursor, 10);
+            page.items().forEach(item -> {
+                assertTrue(item.getEndTime() >= now);
+                assertTrue(seen.add(item.getUuid()), "Auction served twice");
+            });
+            assertFalse(page.items().isEmpty(), "A cursor led to an empty page");
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(25, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void noCursorWhenOnlyEndedAuctionsFollowThePage() {
+        for (int price = 1; price <= 10; price++) add(price, true, true);
+        for (int price = 11; price <= 20; price++) add(price, false, true);
+
+        AuctionIndex.Page page = fetch(AuctionsFilter.SHOW_ALL, null, 10);
+
+        assertEquals(10, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void noCursorWhenThePageIsExactlyFull() {
+        for (int price = 1; price <= 10; price++) add(price, true, true);
+
+        assertNull(fetch(AuctionsFilter.SHOW_ALL, null, 10).nextCursor());
+    }
+
+    @Test
+    void noCursorWhenOnlyFilteredAuctionsFollowThePage() {
+        for (int price = 1; price <= 10; price++) add(price, true, true);
+        for (int price = 11; price <= 20; price++) add(price, true, false);
+
+        AuctionIndex.Page bins = fetch(AuctionsFilter.BIN_ONLY, null, 10);
+        assertEquals(10, bins.items().size());
+        assertNull(bins.nextCursor());
+
+        assertNotNull(fetch(AuctionsFilter.SHOW_ALL, null, 10).nextCursor());
+    }
+
+    @Test
+    void cursorResumesAfterTheLastServedAuction() {
+        for (int price = 1; price <= 15; price++) add(price, true, true);
+
+        AuctionIndex.Page first = fetch(AuctionsFilter.SHOW_ALL, null, 10);
+        AuctionIndex.Page second = fetch(AuctionsFilter.SHOW_ALL, first.nextCursor(), 10);
+
+        assertEquals(List.of(11, 12, 13, 14, 15), second.items().stream().map(AuctionItem::getStartingPrice).toList());
+        assertNull(second.nextCursor());
+    }
+
+    private AuctionIndex.Page fetch(AuctionsFilter filter, String cursor, int pageSize) {
+        return index.fetch(AuctionCategories.TOOLS, AuctionsSorting.LOWEST_BID, filter, cursor, pageSize);
+    }
+
+    private void add(long price, boolean live, boolean bin) {
+        long endTime = live ? now + 60_000 : now - 60_000;
+        index.put(new AuctionItem(null, UUID.randomUUID(), endTime, bin, price), AuctionCategories.TOOLS);
+    }
+}
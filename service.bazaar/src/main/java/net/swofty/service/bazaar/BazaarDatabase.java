@@ -4,7 +4,7 @@ import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.*;
 import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.Updates;
+import net.swofty.commons.mongodb.MongoUpserts;
 import net.swofty.service.generic.MongoDB;
 import org.bson.Document;
 
@@ -23,7 +23,7 @@ public record BazaarDatabase(String bazaarItemKey) implements MongoDB {
         client = MongoClients.create(settings);
 
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("bazaar");
+        collection = MongoUpserts.configure(database.getCollection("bazaar"));
         return this;
     }
 
@@ -61,35 +61,15 @@ public record BazaarDatabase(String bazaarItemKey) implements MongoDB {
 
     @Override
     public boolean remove(String id) {
-        Document query = new Document("_id", id);
-        Document found = collection.find(query).first();
-
-        if (found == null) {
-            return false;
-        }
-
-        collection.deleteOne(query);
-        return true;
+        return MongoUpserts.delete(collection, id);
     }
 
     public void insertOrUpdate(String key, Object value) {
-        if (exists()) {
-            Document query = new Document("_id", bazaarItemKey);
-            Document found = collection.find(query).first();
-
-            assert found != null;
-            collection.updateOne(found, Updates.set(key, value));
-            return;
-        }
-        Document New = new Document("_id", bazaarItemKey);
-        New.append(key, value);
-        collection.insertOne(New);
+        MongoUpserts.setField(collection, bazaarItemKey, key, value);
     }
 
     public boolean exists() {
-        Document query = new Document("_id", bazaarItemKey);
-        Document found = collection.find(query).first();
-        return found != null;
+        return MongoUpserts.exists(collection, bazaarItemKey);
     }
 }
 
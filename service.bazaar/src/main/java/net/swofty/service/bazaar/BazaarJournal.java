@@ -0,0 +1,146 @@
+package net.swofty.service.bazaar;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Sorts;
+import net.swofty.service.bazaar.orderbook.BazaarOrder;
+import net.swofty.service.bazaar.orderbook.OrderFill;
+import net.swofty.service.bazaar.orderbook.OrderJournal;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of every order book mutation. Entries are keyed by a
+ * monotonically increasing sequence so the books can be rebuilt on startup by
+ * replaying the collection in {@code _id} order.
+ * <p>
+ * Entries are written in batches by a single writer, in sequence order. Requests
+ * call {@link #awaitWritten()} before acknowledging, so every acknowledged order
+ * is already in MongoDB and survives a crash. A batch that fails to write is
+ * retried until it succeeds, as dropping it would leave a gap in the log.
+ */
+public class BazaarJournal implements OrderJournal {
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long RETRY_DELAY_MS = 1000;
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoCollection<Document> collection;
+    private final AtomicLong sequence;
+    private final LinkedBlockingQueue<Document> pending = new LinkedBlockingQueue<>();
+    // The highest sequence known to be in MongoDB
+    private final Object writtenLock = new Object();
+    private long written;
+
+    public BazaarJournal(MongoCollection<Document> collection) {
+        this.collection = collection;
+
+        Document last = collection.find().sort(Sorts.descending("_id")).first();
+        this.sequence = new AtomicLong(last == null ? 0 : last.getLong("_id"));
+        this.written = sequence.get();
+    }
+
+    public void start() {
+        Thread.startVirtualThread(() -> {
+            while (true) {
+                try {
+                    List<Document> batch = new ArrayList<>();
+                    batch.add(pending.take());
+                    pending.drainTo(batch, MAX_BATCH_SIZE - 1);
+                    writeUntilDone(batch);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    public boolean isEmpty() {
+        return sequence.get() == 0;
+    }
+
+    /**
+     * Blocks until every entry appended before this call has been written
+     */
+    public void awaitWritten() throws InterruptedException {
+        long target = sequence.get();
+        synchronized (writtenLock) {
+            while (written < target) writtenLock.wait();
+        }
+    }
+
+    /**
+     * Synchronously writes everything still queued, used on shutdown
+     */
+    public void flush() {
+        List<Document> batch = new ArrayList<>();
+        pending.drainTo(batch);
+        if (!batch.isEmpty()) write(batch);
+    }
+
+    @Override
+    public void appendPlace(String item, BazaarOrder order) {
+        append(item, "PLACE", order.toDocument());
+    }
+
+    @Override
+    public void appendFill(String item, OrderFill fill) {
+        append(item, "FILL", fill.toDocument());
+    }
+
+    @Override
+    public void appendCancel(String item, UUID orderId) {
+        append(item, "CANCEL", new Document("order", orderId.toString()));
+    }
+
+    public void replay(Consumer<Document> consumer) {
+        collection.find().sort(Sorts.ascending("_id")).forEach(consumer);
+    }
+
+    // Synchronized so entries are queued in the order their sequence was taken
+    private synchronized void append(String item, String type, Document data) {
+        pending.add(new Document("_id", sequence.incrementAndGet())
+                .append("item", item)
+                .append("type", type)
+                .append("time", System.currentTimeMillis())
+                .append("data", data));
+    }
+
+    private void writeUntilDone(List<Document> batch) throws InterruptedException {
+        while (true) {
+            try {
+                write(batch);
+                return;
+            } catch (MongoBulkWriteException e) {
+                // Entries a failed attempt already inserted come back as duplicates, which are written
+                if (e.getWriteErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY)) {
+                    markWritten(batch);
+                    return;
+                }
+                e.printStackTrace();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            Thread.sleep(RETRY_DELAY_MS);
+        }
+    }
+
+    private void write(List<Document> batch) {
+        collection.insertMany(batch, new InsertManyOptions().ordered(false));
+        markWritten(batch);
+    }
+
+    private void markWritten(List<Document> batch) {
+        long last = batch.getLast().getLong("_id");
+        synchronized (writtenLock) {
+            written = Math.max(written, last);
+            writtenLock.notifyAll();
+        }
+    }
+}
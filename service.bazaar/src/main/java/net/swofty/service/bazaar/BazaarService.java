@@ -1,22 +1,71 @@
 package net.swofty.service.bazaar;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import net.swofty.commons.Configuration;
 import net.swofty.commons.ServiceType;
+import net.swofty.commons.mongodb.MongoUpserts;
+import net.swofty.service.bazaar.orderbook.BazaarOrder;
+import net.swofty.service.bazaar.orderbook.OrderBookManager;
+import net.swofty.service.bazaar.orderbook.OrderFill;
 import net.swofty.service.generic.SkyBlockService;
 import net.swofty.service.generic.redis.ServiceEndpoint;
 
 import java.util.List;
+import java.util.Map;
 
 public class BazaarService implements SkyBlockService {
     @Getter
-    public static BazaarCacheService cacheService;
+    public static OrderBookManager orderBooks;
+    @Getter
+    public static BazaarJournal journal;
+    @Getter
+    public static BazaarSettlements settlements;
+
+    public static void main(String[] args) throws InterruptedException {
+        new BazaarDatabase("_placeholder").connect(Configuration.get("mongodb"));
+
+        // The books have to be rebuilt before any endpoint starts accepting orders
+        journal = new BazaarJournal(MongoUpserts.configure(BazaarDatabase.database.getCollection("bazaar-journal")));
+        settlements = new BazaarSettlements(MongoUpserts.configure(BazaarDatabase.database.getCollection("bazaar-settlements")));
+        orderBooks = new OrderBookManager(journal);
+        boolean importLegacy = journal.isEmpty();
+        OrderBookManager.Replay replay = orderBooks.rebuild();
+        Map<String, List<OrderFill>> fills = replay.fills();
+        journal.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(journal::flush));
+
+        // Orders from before the journal existed are only in the legacy collection, imported once
+        if (importLegacy) {
+            fills.putAll(orderBooks.importLegacy(BazaarDatabase.collection.find()));
+            journal.awaitWritten();
+        }
+        // Restores any settlement a crash lost between journalling a fill or cancel and recording it
+        fills.forEach(settlements::record);
+        replay.cancelled().forEach(settlements::refund);
 
-    public static void main(String[] args) {
         SkyBlockService.init(new BazaarService());
+    }
 
-        cacheService = new BazaarCacheService();
-        new BazaarDatabase("_placeholder").connect(Configuration.get("mongodb"));
+    /**
+     * Waits for the request's journal entries to be written and records what its fills
+     * owe both parties, which has to happen before the request is acknowledged
+     */
+    @SneakyThrows
+    public static void commit(String item, List<OrderFill> fills) {
+        journal.awaitWritten();
+        settlements.record(item, fills);
+        settlements.announce(item, fills);
+    }
+
+    /**
+     * Waits for the cancel to be written to the journal and records the escrow it gives
+     * back, which has to happen before the cancel is acknowledged
+     */
+    @SneakyThrows
+    public static void commitCancel(String item, BazaarOrder order) {
+        journal.awaitWritten();
+        settlements.refund(item, List.of(order));
     }
 
     @Override
@@ -0,0 +1,148 @@
+package net.swofty.service.bazaar;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import net.swofty.commons.mongodb.MongoUpserts;
+import net.swofty.service.bazaar.orderbook.BazaarOrder;
+import net.swofty.service.bazaar.orderbook.OrderFill;
+import net.swofty.service.bazaar.orderbook.OrderSide;
+import net.swofty.service.generic.redis.ServiceToProxy;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What each player is owed from their filled and cancelled orders, until their
+ * game server claims it. Every fill owes the seller its coins and the buyer its
+ * items, plus the coins the buyer bid above the price the fill executed at. A
+ * cancelled order gives back the escrow of its unfilled remainder.
+ * <p>
+ * Settlements are keyed by the fill or cancel they came from and only ever
+ * inserted, so recording the journal again on startup restores any settlement a
+ * crash lost without paying anyone twice. Claimed settlements are marked rather
+ * than deleted for the same reason.
+ * <p>
+ * Claiming takes two steps. {@link #reserve} hands the player's settlements to one
+ * game server for a limited time, and {@link #acknowledge} marks them claimed once
+ * the player has received them. A reservation that is never acknowledged, because
+ * the player left or the server went down, expires and the settlements can be
+ * reserved again.
+ */
+public class BazaarSettlements {
+    private static final UpdateOptions UPSERT = new UpdateOptions().upsert(true);
+    private static final long RESERVATION_MS = 60_000;
+
+    private final MongoCollection<Document> collection;
+
+    public BazaarSettlements(MongoCollection<Document> collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Synchronously records what the fills owe both parties
+     */
+    public void record(String item, List<OrderFill> fills) {
+        if (fills.isEmpty()) return;
+
+        List<WriteModel<Document>> writes = new ArrayList<>();
+        for (OrderFill fill : fills) {
+            writes.add(insert(fill.id() + ":seller", fill.seller(), item, 0, fill.price() * fill.amount(), fill.price()));
+            writes.add(insert(fill.id() + ":buyer", fill.buyer(), item, fill.amount(), fill.buyerRefund(), fill.price()));
+        }
+        MongoUpserts.bulkWrite(collection, writes);
+    }
+
+    /**
+     * Synchronously records the escrow the cancelled orders give back to their owners,
+     * being the coins bid on what a buy order had left or the items a sell order had left
+     */
+    public void refund(String item, List<BazaarOrder> orders) {
+        if (orders.isEmpty()) return;
+
+        List<WriteModel<Document>> writes = new ArrayList<>();
+        for (BazaarOrder order : orders) {
+            boolean buy = order.getSide() == OrderSide.BUY;
+            writes.add(insert(order.getOrderId() + ":cancel", order.getOwner(), item,
+                    buy ? 0 : order.getRemaining(),
+                    buy ? order.getRemaining() * order.getPrice() : 0,
+                    order.getPrice()));
+        }
+        MongoUpserts.bulkWrite(collection, writes);
+    }
+
+    /**
+     * Tells both parties of each fill that they have something to claim
+     */
+    public void announce(String item, List<OrderFill> fills) {
+        for (OrderFill fill : fills) {
+            ServiceToProxy.sendMessage(fill.seller(), "§6[Bazaar] §eYour sell order for §a" + fill.amount()
+                    + "x " + item + " §efilled! Claim your coins from Manage Orders.");
+            ServiceToProxy.sendMessage(fill.buyer(), "§6[Bazaar] §eYour buy order for §a" + fill.amount()
+                    + "x " + item + " §efilled! Claim your items from Manage Orders.");
+        }
+    }
+
+    /**
+     * Reserves every unclaimed settlement of the player that is not already reserved.
+     * Each settlement is reserved atomically, so two servers claiming at once never
+     * both receive it.
+     *
+     * @return the reservation, and the settlements it holds
+     */
+    public Reservation reserve(UUID owner) {
+        String reservation = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+
+        collection.updateMany(Filters.and(
+                        Filters.eq("owner", owner.toString()),
+                        Filters.eq("claimed", false),
+                        // Missing on settlements that were never reserved
+                        Filters.not(Filters.gt("reserved-until", now))),
+                Updates.combine(
+                        Updates.set("reservation", reservation),
+                        Updates.set("reserved-until", now + RESERVATION_MS)));
+
+        return new Reservation(reservation, collection.find(Filters.and(
+                Filters.eq("reservation", reservation),
+                Filters.eq("claimed", false))).into(new ArrayList<>()));
+    }
+
+    /**
+     * Marks the delivered settlements of the reservation claimed, and releases the rest
+     * of it to be reserved again
+     *
+     * @return how many settlements were marked claimed
+     */
+    public long acknowledge(String reservation, List<String> delivered) {
+        long claimed = collection.updateMany(Filters.and(
+                        Filters.eq("reservation", reservation),
+                        Filters.in("_id", delivered),
+                        Filters.eq("claimed", false)),
+                Updates.set("claimed", true)).getModifiedCount();
+
+        collection.updateMany(Filters.and(
+                        Filters.eq("reservation", reservation),
+                        Filters.eq("claimed", false)),
+                Updates.set("reserved-until", 0L));
+        return claimed;
+    }
+
+    private static UpdateOneModel<Document> insert(String id, UUID owner, String item, double amount, double coins, double price) {
+        return new UpdateOneModel<>(Filters.eq("_id", id), Updates.setOnInsert(new Document()
+                .append("owner", owner.toString())
+                .append("item", item)
+                .append("amount", amount)
+                .append("coins", coins)
+                .append("price", price)
+                .append("claimed", false)
+                .append("time", System.currentTimeMillis())), UPSERT);
+    }
+
+    public record Reservation(String id, List<Document> settlements) {}
+}
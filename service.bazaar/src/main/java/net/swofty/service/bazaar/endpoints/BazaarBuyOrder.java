@@ -1,14 +1,15 @@
 package net.swofty.service.bazaar.endpoints;
 
-import net.swofty.commons.bazaar.BazaarItem;
 import net.swofty.commons.impl.ServiceProxyRequest;
 import net.swofty.commons.protocol.objects.bazaar.BazaarBuyProtocolObject;
 import net.swofty.service.bazaar.BazaarService;
+import net.swofty.service.bazaar.orderbook.BazaarOrder;
+import net.swofty.service.bazaar.orderbook.OrderBook;
+import net.swofty.service.bazaar.orderbook.OrderFill;
+import net.swofty.service.bazaar.orderbook.OrderSide;
 import net.swofty.service.generic.redis.ServiceEndpoint;
-import org.bson.Document;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
 
 public class BazaarBuyOrder implements ServiceEndpoint<
@@ -27,16 +28,18 @@ public class BazaarBuyOrder implements ServiceEndpoint<
         int price = messageObject.price;
         int amount = messageObject.amount;
 
-        Document document = BazaarService.getCacheService().getItem(itemName);
-        BazaarItem item = BazaarItem.fromDocument(document);
+        OrderBook book = BazaarService.getOrderBooks().getBook(itemName);
 
-        if (item.getBuyOrders().containsKey(playerUUID)) {
-            return new BazaarBuyProtocolObject.BazaarBuyResponse(false);
-        }
+        List<OrderFill> fills;
+        // Check and place under the same lock, otherwise two requests could both pass the check
+        synchronized (book) {
+            if (book.getOrder(playerUUID, OrderSide.BUY).isPresent()) {
+                return new BazaarBuyProtocolObject.BazaarBuyResponse(false);
+            }
 
-        BazaarService.getCacheService().invalidateCache(itemName);
-        item.getBuyOrders().put(playerUUID, Map.entry((double) price, (double) amount));
-        BazaarService.getCacheService().setItem(itemName, item.toDocument());
+            fills = book.place(new BazaarOrder(playerUUID, OrderSide.BUY, price, amount));
+        }
+        BazaarService.commit(itemName, fills);
 
         return new BazaarBuyProtocolObject.BazaarBuyResponse(true);
     }
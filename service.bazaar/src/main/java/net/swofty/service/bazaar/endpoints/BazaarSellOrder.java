@@ -1,15 +1,16 @@
 package net.swofty.service.bazaar.endpoints;
 
-import net.swofty.commons.bazaar.BazaarItem;
 import net.swofty.commons.impl.ServiceProxyRequest;
 import net.swofty.commons.protocol.ProtocolObject;
 import net.swofty.commons.protocol.objects.bazaar.BazaarSellProtocolObject;
 import net.swofty.service.bazaar.BazaarService;
+import net.swofty.service.bazaar.orderbook.BazaarOrder;
+import net.swofty.service.bazaar.orderbook.OrderBook;
+import net.swofty.service.bazaar.orderbook.OrderFill;
+import net.swofty.service.bazaar.orderbook.OrderSide;
 import net.swofty.service.generic.redis.ServiceEndpoint;
-import org.bson.Document;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
 
 public class BazaarSellOrder implements ServiceEndpoint<
@@ -28,19 +29,18 @@ public class BazaarSellOrder implements ServiceEndpoint<
         Double price = messageObject.price;
         int amount = messageObject.amount;
 
-        Map<String, Object> toReturn = new HashMap<>();
+        OrderBook book = BazaarService.getOrderBooks().getBook(itemName);
 
-        Document document = BazaarService.getCacheService().getItem(itemName);
-        BazaarItem item = BazaarItem.fromDocument(document);
+        List<OrderFill> fills;
+        // Check and place under the same lock, otherwise two requests could both pass the check
+        synchronized (book) {
+            if (book.getOrder(playerUUID, OrderSide.SELL).isPresent()) {
+                return new BazaarSellProtocolObject.BazaarSellResponse(false);
+            }
 
-        if (item.getSellOrders().containsKey(playerUUID)) {
-            toReturn.put("successful", false);
-            return new BazaarSellProtocolObject.BazaarSellResponse(false);
+            fills = book.place(new BazaarOrder(playerUUID, OrderSide.SELL, price, amount));
         }
-
-        BazaarService.getCacheService().invalidateCache(itemName);
-        item.getSellOrders().put(playerUUID, Map.entry(price, (double) amount));
-        BazaarService.getCacheService().setItem(itemName, item.toDocument());
+        BazaarService.commit(itemName, fills);
 
         return new BazaarSellProtocolObject.BazaarSellResponse(true);
     }
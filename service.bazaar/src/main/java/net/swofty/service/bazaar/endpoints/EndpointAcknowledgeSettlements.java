@@ -0,0 +1,23 @@
+package net.swofty.service.bazaar.endpoints;
+
+import net.swofty.commons.impl.ServiceProxyRequest;
+import net.swofty.commons.protocol.objects.bazaar.BazaarAcknowledgeProtocolObject;
+import net.swofty.service.bazaar.BazaarService;
+import net.swofty.service.generic.redis.ServiceEndpoint;
+
+public class EndpointAcknowledgeSettlements implements ServiceEndpoint<
+        BazaarAcknowledgeProtocolObject.BazaarAcknowledgeMessage,
+        BazaarAcknowledgeProtocolObject.BazaarAcknowledgeResponse> {
+
+    @Override
+    public BazaarAcknowledgeProtocolObject associatedProtocolObject() {
+        return new BazaarAcknowledgeProtocolObject();
+    }
+
+    @Override
+    public BazaarAcknowledgeProtocolObject.BazaarAcknowledgeResponse onMessage(ServiceProxyRequest message, BazaarAcknowledgeProtocolObject.BazaarAcknowledgeMessage messageObject) {
+        long acknowledged = BazaarService.getSettlements()
+                .acknowledge(messageObject.reservation(), messageObject.delivered());
+        return new BazaarAcknowledgeProtocolObject.BazaarAcknowledgeResponse((int) acknowledged);
+    }
+}
@@ -0,0 +1,39 @@
+package net.swofty.service.bazaar.endpoints;
+
+import net.swofty.commons.impl.ServiceProxyRequest;
+import net.swofty.commons.protocol.objects.bazaar.BazaarCancelProtocolObject;
+import net.swofty.service.bazaar.BazaarService;
+import net.swofty.service.bazaar.orderbook.BazaarOrder;
+import net.swofty.service.bazaar.orderbook.OrderBook;
+import net.swofty.service.bazaar.orderbook.OrderSide;
+import net.swofty.service.generic.redis.ServiceEndpoint;
+
+import java.util.Optional;
+
+public class EndpointCancelOrder implements ServiceEndpoint<
+        BazaarCancelProtocolObject.BazaarCancelMessage,
+        BazaarCancelProtocolObject.BazaarCancelResponse> {
+
+    @Override
+    public BazaarCancelProtocolObject associatedProtocolObject() {
+        return new BazaarCancelProtocolObject();
+    }
+
+    @Override
+    public BazaarCancelProtocolObject.BazaarCancelResponse onMessage(ServiceProxyRequest message, BazaarCancelProtocolObject.BazaarCancelMessage messageObject) {
+        OrderBook book = BazaarService.getOrderBooks().getBook(messageObject.itemName());
+        OrderSide side = messageObject.buyOrder() ? OrderSide.BUY : OrderSide.SELL;
+
+        Optional<BazaarOrder> cancelled;
+        synchronized (book) {
+            cancelled = book.getOrder(messageObject.playerUUID(), side)
+                    .flatMap(order -> book.cancel(order.getOrderId()));
+            // The refund is recorded before another request can see the book without the order
+            cancelled.ifPresent(order -> BazaarService.commitCancel(messageObject.itemName(), order));
+        }
+
+        return cancelled
+                .map(order -> new BazaarCancelProtocolObject.BazaarCancelResponse(true, order.getRemaining()))
+                .orElseGet(() -> new BazaarCancelProtocolObject.BazaarCancelResponse(false, 0));
+    }
+}
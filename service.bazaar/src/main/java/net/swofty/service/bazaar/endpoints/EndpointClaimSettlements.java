@@ -0,0 +1,36 @@
+package net.swofty.service.bazaar.endpoints;
+
+import net.swofty.commons.impl.ServiceProxyRequest;
+import net.swofty.commons.protocol.objects.bazaar.BazaarClaimProtocolObject;
+import net.swofty.service.bazaar.BazaarService;
+import net.swofty.service.bazaar.BazaarSettlements;
+import net.swofty.service.generic.redis.ServiceEndpoint;
+
+import java.util.List;
+
+public class EndpointClaimSettlements implements ServiceEndpoint<
+        BazaarClaimProtocolObject.BazaarClaimMessage,
+        BazaarClaimProtocolObject.BazaarClaimResponse> {
+
+    @Override
+    public BazaarClaimProtocolObject associatedProtocolObject() {
+        return new BazaarClaimProtocolObject();
+    }
+
+    @Override
+    public BazaarClaimProtocolObject.BazaarClaimResponse onMessage(ServiceProxyRequest message, BazaarClaimProtocolObject.BazaarClaimMessage messageObject) {
+        BazaarSettlements.Reservation reservation = BazaarService.getSettlements().reserve(messageObject.playerUUID());
+
+        List<BazaarClaimProtocolObject.Settlement> settlements = reservation.settlements().stream()
+                .map(document -> new BazaarClaimProtocolObject.Settlement(
+                        document.getString("_id"),
+                        document.getString("item"),
+                        document.getDouble("amount"),
+                        document.getDouble("coins"),
+                        // Settlements recorded before the price was kept have none
+                        document.get("price", 0D)))
+                .toList();
+
+        return new BazaarClaimProtocolObject.BazaarClaimResponse(reservation.id(), settlements);
+    }
+}
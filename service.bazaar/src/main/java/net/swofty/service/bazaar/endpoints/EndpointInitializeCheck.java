@@ -1,16 +1,11 @@
 package net.swofty.service.bazaar.endpoints;
 
-import net.swofty.commons.bazaar.BazaarItem;
 import net.swofty.commons.impl.ServiceProxyRequest;
 import net.swofty.commons.protocol.ProtocolObject;
 import net.swofty.commons.protocol.objects.bazaar.BazaarInitializeProtocolObject;
-import net.swofty.service.bazaar.BazaarDatabase;
 import net.swofty.service.bazaar.BazaarService;
+import net.swofty.service.bazaar.orderbook.OrderBookManager;
 import net.swofty.service.generic.redis.ServiceEndpoint;
-import org.bson.Document;
-
-import java.util.HashMap;
-import java.util.Map;
 
 public class EndpointInitializeCheck implements ServiceEndpoint<
         BazaarInitializeProtocolObject.BazaarInitializationRequest,
@@ -23,16 +18,9 @@ public class EndpointInitializeCheck implements ServiceEndpoint<
 
     @Override
     public BazaarInitializeProtocolObject.BazaarInitializeResponse onMessage(ServiceProxyRequest message, BazaarInitializeProtocolObject.BazaarInitializationRequest messageObject) {
-        if (!BazaarService.getCacheService().isEmpty()) return new BazaarInitializeProtocolObject.BazaarInitializeResponse();
-
-        messageObject.itemsToInitialize().stream().parallel().forEach(entry -> {
-            if (BazaarDatabase.collection.find(new Document("_id", entry)).first() == null) {
-                BazaarItem item = new BazaarItem(entry,
-                        new HashMap<>(), new HashMap<>());
+        OrderBookManager orderBooks = BazaarService.getOrderBooks();
 
-                BazaarDatabase.collection.insertOne(item.toDocument());
-            }
-        });
+        messageObject.itemsToInitialize().forEach(orderBooks::getBook);
 
         return new BazaarInitializeProtocolObject.BazaarInitializeResponse();
     }
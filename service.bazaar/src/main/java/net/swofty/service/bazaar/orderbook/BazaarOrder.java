@@ -0,0 +1,62 @@
+package net.swofty.service.bazaar.orderbook;
+
+import lombok.Getter;
+import org.bson.Document;
+
+import java.util.UUID;
+
+@Getter
+public class BazaarOrder {
+    private final UUID orderId;
+    private final UUID owner;
+    private final OrderSide side;
+    private final double price;
+    private final double amount;
+    private double remaining;
+
+    public BazaarOrder(UUID orderId, UUID owner, OrderSide side, double price, double amount) {
+        this.orderId = orderId;
+        this.owner = owner;
+        this.side = side;
+        this.price = price;
+        this.amount = amount;
+        this.remaining = amount;
+    }
+
+    public BazaarOrder(UUID owner, OrderSide side, double price, double amount) {
+        this(UUID.randomUUID(), owner, side, price, amount);
+    }
+
+    void reduce(double filled) {
+        remaining = Math.max(0, remaining - filled);
+    }
+
+    public boolean isFilled() {
+        return remaining <= 0;
+    }
+
+    /**
+     * Whether this order would trade against a resting order at the given price
+     */
+    public boolean crosses(double restingPrice) {
+        return side == OrderSide.BUY ? restingPrice <= price : restingPrice >= price;
+    }
+
+    public Document toDocument() {
+        return new Document()
+                .append("order", orderId.toString())
+                .append("owner", owner.toString())
+                .append("side", side.name())
+                .append("price", price)
+                .append("amount", amount);
+    }
+
+    public static BazaarOrder fromDocument(Document document) {
+        return new BazaarOrder(
+                UUID.fromString(document.getString("order")),
+                UUID.fromString(document.getString("owner")),
+                OrderSide.valueOf(document.getString("side")),
+                document.getDouble("price"),
+                document.getDouble("amount"));
+    }
+}
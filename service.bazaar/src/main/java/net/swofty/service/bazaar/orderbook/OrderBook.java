@@ -0,0 +1,165 @@
+package net.swofty.service.bazaar.orderbook;
+
+import lombok.Getter;
+import net.swofty.commons.bazaar.BazaarItem;
+
+import java.util.*;
+
+/**
+ * Limit order book for a single bazaar item. Orders are matched with price-time
+ * priority: the best price on the opposite side trades first, and orders resting
+ * at the same price trade in the order they were placed.
+ * <p>
+ * Every mutation is appended to the {@link OrderJournal} while the book lock is
+ * held, so the journal always reflects the order in which the book changed.
+ */
+public class OrderBook {
+    @Getter
+    private final String itemName;
+    private final OrderJournal journal;
+
+    private final TreeMap<Double, ArrayDeque<BazaarOrder>> bids = new TreeMap<>(Comparator.reverseOrder());
+    private final TreeMap<Double, ArrayDeque<BazaarOrder>> asks = new TreeMap<>();
+    private final Map<UUID, BazaarOrder> orders = new HashMap<>();
+    private final Map<UUID, BazaarOrder> buyersByOwner = new HashMap<>();
+    private final Map<UUID, BazaarOrder> sellersByOwner = new HashMap<>();
+
+    public OrderBook(String itemName, OrderJournal journal) {
+        this.itemName = itemName;
+        this.journal = journal;
+    }
+
+    /**
+     * Places an order, matching it against the opposite side for as long as the
+     * prices cross. Any unfilled remainder rests on the book.
+     *
+     * @return the fills produced by this order, in execution order
+     */
+    public synchronized List<OrderFill> place(BazaarOrder order) {
+        journal.appendPlace(itemName, order);
+
+        List<OrderFill> fills = new ArrayList<>();
+        TreeMap<Double, ArrayDeque<BazaarOrder>> opposite = levels(order.getSide().opposite());
+
+        while (!order.isFilled() && !opposite.isEmpty()) {
+            Map.Entry<Double, ArrayDeque<BazaarOrder>> best = opposite.firstEntry();
+            if (!order.crosses(best.getKey())) break;
+
+            ArrayDeque<BazaarOrder> queue = best.getValue();
+            BazaarOrder maker = queue.peekFirst();
+            double amount = Math.min(maker.getRemaining(), order.getRemaining());
+
+            OrderFill fill = new OrderFill(maker.getOrderId(), maker.getOwner(),
+                    order.getOrderId(), order.getOwner(), order.getSide(), maker.getPrice(), order.getPrice(), amount);
+            applyFill(fill, maker, order);
+            journal.appendFill(itemName, fill);
+            fills.add(fill);
+        }
+
+        if (!order.isFilled()) rest(order);
+        return fills;
+    }
+
+    /**
+     * Removes a resting order from the book
+     *
+     * @return the cancelled order, or empty if it was not resting
+     */
+    public synchronized Optional<BazaarOrder> cancel(UUID orderId) {
+        BazaarOrder order = orders.get(orderId);
+        if (order == null) return Optional.empty();
+
+        unlink(order);
+        journal.appendCancel(itemName, orderId);
+        return Optional.of(order);
+    }
+
+    public synchronized Optional<BazaarOrder> getOrder(UUID owner, OrderSide side) {
+        return Optional.ofNullable(owners(side).get(owner));
+    }
+
+    public synchronized OptionalDouble bestPrice(OrderSide side) {
+        TreeMap<Double, ArrayDeque<BazaarOrder>> levels = levels(side);
+        return levels.isEmpty() ? OptionalDouble.empty() : OptionalDouble.of(levels.firstKey());
+    }
+
+    public synchronized int size() {
+        return orders.size();
+    }
+
+    /**
+     * Builds the legacy per-player view of this book, as sent to game servers
+     */
+    public synchronized BazaarItem toBazaarItem() {
+        Map<UUID, Map.Entry<Double, Double>> buyOrders = new HashMap<>();
+        Map<UUID, Map.Entry<Double, Double>> sellOrders = new HashMap<>();
+
+        for (BazaarOrder order : orders.values()) {
+            Map<UUID, Map.Entry<Double, Double>> target = order.getSide() == OrderSide.BUY ? buyOrders : sellOrders;
+            target.put(order.getOwner(), Map.entry(order.getPrice(), order.getRemaining()));
+        }
+
+        return new BazaarItem(itemName, buyOrders, sellOrders);
+    }
+
+    /*
+     * Journal replay; these mutate the book without matching or journalling
+     */
+
+    synchronized void replayPlace(BazaarOrder order) {
+        rest(order);
+    }
+
+    synchronized void replayFill(OrderFill fill) {
+        BazaarOrder maker = orders.get(fill.makerOrder());
+        BazaarOrder taker = orders.get(fill.takerOrder());
+        if (maker == null || taker == null) return;
+
+        applyFill(fill, maker, taker);
+    }
+
+    /**
+     * @return the cancelled order as it stood when cancelled, or null if it was not resting
+     */
+    synchronized BazaarOrder replayCancel(UUID orderId) {
+        BazaarOrder order = orders.get(orderId);
+        if (order != null) unlink(order);
+        return order;
+    }
+
+    private void applyFill(OrderFill fill, BazaarOrder maker, BazaarOrder taker) {
+        maker.reduce(fill.amount());
+        taker.reduce(fill.amount());
+
+        if (maker.isFilled()) unlink(maker);
+        if (taker.isFilled() && orders.containsKey(taker.getOrderId())) unlink(taker);
+    }
+
+    private void rest(BazaarOrder order) {
+        levels(order.getSide())
+                .computeIfAbsent(order.getPrice(), price -> new ArrayDeque<>())
+                .addLast(order);
+        orders.put(order.getOrderId(), order);
+        owners(order.getSide()).put(order.getOwner(), order);
+    }
+
+    private void unlink(BazaarOrder order) {
+        orders.remove(order.getOrderId());
+        owners(order.getSide()).remove(order.getOwner(), order);
+
+        TreeMap<Double, ArrayDeque<BazaarOrder>> levels = levels(order.getSide());
+        ArrayDeque<BazaarOrder> queue = levels.get(order.getPrice());
+        if (queue == null) return;
+
+        queue.remove(order);
+        if (queue.isEmpty()) levels.remove(order.getPrice());
+    }
+
+    private TreeMap<Double, ArrayDeque<BazaarOrder>> levels(OrderSide side) {
+        return side == OrderSide.BUY ? bids : asks;
+    }
+
+    private Map<UUID, BazaarOrder> owners(OrderSide side) {
+        return side == OrderSide.BUY ? buyersByOwner : sellersByOwner;
+    }
+}
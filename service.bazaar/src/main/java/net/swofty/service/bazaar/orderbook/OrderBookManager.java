@@ -0,0 +1,106 @@
+package net.swofty.service.bazaar.orderbook;
+
+import net.swofty.service.bazaar.BazaarJournal;
+import org.bson.Document;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class OrderBookManager {
+    private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+    private final BazaarJournal journal;
+
+    public OrderBookManager(BazaarJournal journal) {
+        this.journal = journal;
+    }
+
+    public OrderBook getBook(String itemName) {
+        return books.computeIfAbsent(itemName, name -> new OrderBook(name, journal));
+    }
+
+    public boolean hasBook(String itemName) {
+        return books.containsKey(itemName);
+    }
+
+    public boolean isEmpty() {
+        return books.isEmpty();
+    }
+
+    /**
+     * Rebuilds every book from the journal. Must run before any endpoint is
+     * able to place orders.
+     *
+     * @return every fill and cancelled order in the journal by item, so what they
+     *         owe their owners can be restored
+     */
+    public Replay rebuild() {
+        Map<String, List<OrderFill>> fills = new HashMap<>();
+        Map<String, List<BazaarOrder>> cancelled = new HashMap<>();
+        journal.replay(entry -> {
+            OrderBook book = getBook(entry.getString("item"));
+            Document data = entry.get("data", Document.class);
+
+            switch (entry.getString("type")) {
+                case "PLACE" -> book.replayPlace(BazaarOrder.fromDocument(data));
+                case "FILL" -> {
+                    OrderFill fill = OrderFill.fromDocument(data);
+                    book.replayFill(fill);
+                    fills.computeIfAbsent(book.getItemName(), k -> new ArrayList<>()).add(fill);
+                }
+                case "CANCEL" -> {
+                    BazaarOrder order = book.replayCancel(UUID.fromString(data.getString("order")));
+                    if (order != null) cancelled.computeIfAbsent(book.getItemName(), k -> new ArrayList<>()).add(order);
+                }
+            }
+        });
+        return new Replay(fills, cancelled);
+    }
+
+    /**
+     * Places the orders of the legacy per-item documents, which were kept before the
+     * journal existed. Orders that cross each other are matched as they are placed.
+     *
+     * @return the fills produced by placing them, by item
+     */
+    public Map<String, List<OrderFill>> importLegacy(Iterable<Document> items) {
+        Map<String, List<OrderFill>> fills = new HashMap<>();
+        for (Document item : items) {
+            OrderBook book = getBook(item.getString("_id"));
+            importLegacyOrders(book, item.get("buyOrders"), OrderSide.BUY, fills);
+            importLegacyOrders(book, item.get("sellOrders"), OrderSide.SELL, fills);
+        }
+        return fills;
+    }
+
+    private void importLegacyOrders(OrderBook book, Object orders, OrderSide side, Map<String, List<OrderFill>> fills) {
+        if (!(orders instanceof Map<?, ?> byOwner)) return;
+
+        byOwner.forEach((owner, entry) -> {
+            double[] order = parseLegacyEntry(entry);
+            if (order == null) {
+                System.out.println("Skipping unreadable legacy bazaar order of " + owner + " on " + book.getItemName());
+                return;
+            }
+
+            List<OrderFill> placed = book.place(new BazaarOrder(UUID.fromString(owner.toString()), side, order[0], order[1]));
+            if (!placed.isEmpty()) fills.computeIfAbsent(book.getItemName(), k -> new ArrayList<>()).addAll(placed);
+        });
+    }
+
+    /**
+     * Reads a legacy price and amount pair, stored either as a key and value or as a two element list
+     */
+    private static double[] parseLegacyEntry(Object entry) {
+        if (entry instanceof Map<?, ?> map && map.get("key") instanceof Number price
+                && map.get("value") instanceof Number amount) {
+            return new double[]{price.doubleValue(), amount.doubleValue()};
+        }
+        if (entry instanceof List<?> list && list.size() == 2
+                && list.get(0) instanceof Number price && list.get(1) instanceof Number amount) {
+            return new double[]{price.doubleValue(), amount.doubleValue()};
+        }
+        return null;
+    }
+
+    public record Replay(Map<String, List<OrderFill>> fills, Map<String, List<BazaarOrder>> cancelled) {}
+}
@@ -0,0 +1,63 @@
+package net.swofty.service.bazaar.orderbook;
+
+import org.bson.Document;
+
+import java.util.UUID;
+
+/**
+ * A single match between a resting (maker) order and an incoming (taker) order.
+ * Fills always execute at the maker's price; the taker's own limit price is kept
+ * so a buyer who bid above it can be refunded the difference.
+ */
+public record OrderFill(UUID makerOrder, UUID makerOwner,
+                        UUID takerOrder, UUID takerOwner,
+                        OrderSide takerSide, double price, double takerPrice, double amount) {
+
+    public UUID buyer() {
+        return takerSide == OrderSide.BUY ? takerOwner : makerOwner;
+    }
+
+    public UUID seller() {
+        return takerSide == OrderSide.SELL ? takerOwner : makerOwner;
+    }
+
+    /**
+     * The coins the buyer put in escrow above the price the fill executed at
+     */
+    public double buyerRefund() {
+        return takerSide == OrderSide.BUY ? (takerPrice - price) * amount : 0;
+    }
+
+    /**
+     * Identifies the fill across restarts, as a taker only fills each maker once
+     */
+    public String id() {
+        return takerOrder + ":" + makerOrder;
+    }
+
+    public Document toDocument() {
+        return new Document()
+                .append("maker", makerOrder.toString())
+                .append("maker-owner", makerOwner.toString())
+                .append("taker", takerOrder.toString())
+                .append("taker-owner", takerOwner.toString())
+                .append("side", takerSide.name())
+                .append("price", price)
+                .append("taker-price", takerPrice)
+                .append("amount", amount);
+    }
+
+    public static OrderFill fromDocument(Document document) {
+        double price = document.getDouble("price");
+        return new OrderFill(
+                UUID.fromString(document.getString("maker")),
+                UUID.fromString(document.getString("maker-owner")),
+                UUID.fromString(document.getString("taker")),
+                UUID.fromString(document.getString("taker-owner")),
+                OrderSide.valueOf(document.getString("side")),
+                price,
+                // Entries journalled before the taker price was recorded cannot refund anything
+                document.get("taker-price", price),
+                document.getDouble("amount"));
+    }
+}
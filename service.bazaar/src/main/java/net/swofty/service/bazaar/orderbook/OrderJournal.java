@@ -0,0 +1,14 @@
+package net.swofty.service.bazaar.orderbook;
+
+import java.util.UUID;
+
+/**
+ * Receives every mutation of an {@link OrderBook}, in the order the book made them
+ */
+public interface OrderJournal {
+    void appendPlace(String item, BazaarOrder order);
+
+    void appendFill(String item, OrderFill fill);
+
+    void appendCancel(String item, UUID orderId);
+}
@@ -0,0 +1,11 @@
+package net.swofty.service.bazaar.orderbook;
+
+public enum OrderSide {
+    BUY,
+    SELL,
+    ;
+
+    public OrderSide opposite() {
+        return this == BUY ? SELL : BUY;
+    }
+}
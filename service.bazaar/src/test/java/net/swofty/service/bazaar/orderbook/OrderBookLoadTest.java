@@ -0,0 +1,172 @@
+package net.swofty.service.bazaar.orderbook;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives a single book from many threads at once, then checks that no amount was
+ * created or lost, that the book never rests crossed, and that replaying what was
+ * journalled rebuilds the same book.
+ */
+class OrderBookLoadTest {
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 25_000;
+
+    private final RecordingJournal journal = new RecordingJournal();
+    private final OrderBook book = new OrderBook("ENCHANTED_DIAMOND", journal);
+
+    private final Map<UUID, BazaarOrder> placed = new ConcurrentHashMap<>();
+    private final Set<UUID> cancelled = ConcurrentHashMap.newKeySet();
+    private final Queue<OrderFill> fills = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void concurrentOrdersConserveEveryAmount() {
+        long started = System.nanoTime();
+        assertTimeoutPreemptively(Duration.ofSeconds(60), this::placeConcurrently);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("Matched %d orders into %d fills in %.2fs (%.0f orders/s)%n",
+                placed.size(), fills.size(), seconds, placed.size() / seconds);
+
+        assertEquals(THREADS * ORDERS_PER_THREAD, placed.size());
+
+        Map<UUID, Double> filled = new HashMap<>();
+        for (OrderFill fill : fills) {
+            BazaarOrder maker = placed.get(fill.makerOrder());
+            BazaarOrder taker = placed.get(fill.takerOrder());
+            assertNotEquals(maker.getSide(), taker.getSide());
+            // Fills execute at the maker's price, which the taker has to cross
+            assertEquals(maker.getPrice(), fill.price());
+            assertTrue(taker.crosses(fill.price()));
+
+            filled.merge(fill.makerOrder(), fill.amount(), Double::sum);
+            filled.merge(fill.takerOrder(), fill.amount(), Double::sum);
+        }
+
+        int resting = 0;
+        for (BazaarOrder order : placed.values()) {
+            assertEquals(order.getAmount(), filled.getOrDefault(order.getOrderId(), 0D) + order.getRemaining(),
+                    "Order " + order.getOrderId() + " gained or lost amount");
+            if (!order.isFilled() && !cancelled.contains(order.getOrderId())) resting++;
+        }
+        assertEquals(resting, book.size());
+
+        OptionalDouble bid = book.bestPrice(OrderSide.BUY);
+        OptionalDouble ask = book.bestPrice(OrderSide.SELL);
+        if (bid.isPresent() && ask.isPresent()) {
+            assertTrue(bid.getAsDouble() < ask.getAsDouble(), "The book rests crossed");
+        }
+
+        assertEquals(placed.size(), journal.count("PLACE"));
+        assertEquals(fills.size(), journal.count("FILL"));
+        assertEquals(cancelled.size(), journal.count("CANCEL"));
+    }
+
+    @Test
+    void replayingTheJournalRebuildsTheBook() {
+        placeConcurrently();
+
+        OrderBook replayed = new OrderBook(book.getItemName(), new RecordingJournal());
+        journal.replay(replayed);
+
+        assertEquals(book.size(), replayed.size());
+        assertEquals(book.bestPrice(OrderSide.BUY), replayed.bestPrice(OrderSide.BUY));
+        assertEquals(book.bestPrice(OrderSide.SELL), replayed.bestPrice(OrderSide.SELL));
+        assertEquals(book.toBazaarItem().getBuyOrders(), replayed.toBazaarItem().getBuyOrders());
+        assertEquals(book.toBazaarItem().getSellOrders(), replayed.toBazaarItem().getSellOrders());
+    }
+
+    @Test
+    void deepBookSweepsInPriceOrder() {
+        int levels = 20_000;
+        List<Integer> prices = new ArrayList<>();
+        for (int i = 1; i <= levels; i++) prices.add(i);
+        Collections.shuffle(prices, new Random(1));
+        for (int price : prices) book.place(new BazaarOrder(UUID.randomUUID(), OrderSide.SELL, price, 1));
+
+        List<OrderFill> sweep = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> book.place(new BazaarOrder(UUID.randomUUID(), OrderSide.BUY, levels, levels)));
+
+        assertEquals(levels, sweep.size());
+        for (int i = 0; i < levels; i++) assertEquals(i + 1, sweep.get(i).price());
+        assertEquals(0, book.size());
+        assertTrue(book.bestPrice(OrderSide.SELL).isEmpty());
+    }
+
+    private void placeConcurrently() {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            Random random = new Random(thread);
+            workers.add(executor.submit(() -> {
+                start.await();
+                List<UUID> own = new ArrayList<>();
+                for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                    // An occasional cancel of one of this thread's earlier orders, resting or not
+                    if (!own.isEmpty() && random.nextInt(10) == 0) {
+                        book.cancel(own.get(random.nextInt(own.size()))).ifPresent(order -> cancelled.add(order.getOrderId()));
+                    }
+
+                    BazaarOrder order = new BazaarOrder(UUID.randomUUID(),
+                            random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL,
+                            90 + random.nextInt(21), 1 + random.nextInt(64));
+                    placed.put(order.getOrderId(), order);
+                    own.add(order.getOrderId());
+                    fills.addAll(book.place(order));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        try {
+            for (Future<?> worker : workers) worker.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new AssertionError(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Keeps each entry as the replay of it, with placed orders copied as they were placed
+     */
+    private static class RecordingJournal implements OrderJournal {
+        private final List<Map.Entry<String, Consumer<OrderBook>>> entries = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void appendPlace(String item, BazaarOrder order) {
+            BazaarOrder copy = BazaarOrder.fromDocument(order.toDocument());
+            entries.add(Map.entry("PLACE", book -> book.replayPlace(copy)));
+        }
+
+        @Override
+        public void appendFill(String item, OrderFill fill) {
+            entries.add(Map.entry("FILL", book -> book.replayFill(fill)));
+        }
+
+        @Override
+        public void appendCancel(String item, UUID orderId) {
+            entries.add(Map.entry("CANCEL", book -> book.replayCancel(orderId)));
+        }
+
+        long count(String type) {
+            synchronized (entries) {
+                return entries.stream().filter(entry -> entry.getKey().equals(type)).count();
+            }
+        }
+
+        void replay(OrderBook book) {
+            synchronized (entries) {
+                entries.forEach(entry -> entry.getValue().accept(book));
+            }
+        }
+    }
+}
@@ -4,19 +4,25 @@ import lombok.RequiredArgsConstructor;
 import net.swofty.commons.Configuration;
 import net.swofty.commons.impl.ServiceProxyRequest;
 import net.swofty.commons.item.attribute.ItemAttribute;
+import net.swofty.commons.protocol.BatchProtocolObject;
+import net.swofty.commons.protocol.ProtocolFrame;
 import net.swofty.commons.protocol.ProtocolObject;
+import net.swofty.commons.protocol.ProtocolSchema;
 import net.swofty.commons.protocol.Serializer;
 import net.swofty.redisapi.api.ChannelRegistry;
 import net.swofty.redisapi.api.RedisAPI;
+import net.swofty.service.generic.redis.BatchServiceEndpoint;
 import net.swofty.service.generic.redis.PingEndpoint;
 import net.swofty.service.generic.redis.ServiceEndpoint;
 import net.swofty.service.generic.redis.ServiceRedisManager;
+import net.swofty.service.generic.redis.ServiceToProxy;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 @RequiredArgsConstructor
 public class ServiceInitializer {
@@ -35,27 +41,66 @@ public class ServiceInitializer {
 
         endpoints.forEach(endpoint -> {
             ProtocolObject protocolObject = endpoint.associatedProtocolObject();
-            System.out.println("Registering channel " + protocolObject.channel());
+            registerChannel(protocolObject, endpoint::onMessage);
 
-            RedisAPI.getInstance().registerChannel(protocolObject.channel(), message -> {
-                // Everything after the first semicolon is the actual message
-                String realMessage = message.message.substring(message.message.indexOf(";") + 1);
-                ServiceProxyRequest request = ServiceProxyRequest.fromJSON(new JSONObject(realMessage));
+            if (protocolObject.isBatchable()) {
+                registerChannel(new BatchProtocolObject<>(protocolObject), (request, messages) -> {
+                    if (endpoint instanceof BatchServiceEndpoint batchEndpoint) {
+                        return batchEndpoint.onBatch(request, (List) messages);
+                    }
 
-                Object messageData = protocolObject.translateFromString(request.getMessage());
-
-                Thread.startVirtualThread(() -> {
-                    Object rawResponse = endpoint.onMessage(request, messageData);
-                    String response = protocolObject.translateReturnToString(rawResponse);
-
-                    RedisAPI.getInstance().publishMessage(request.getRequestServer(),
-                            ChannelRegistry.getFromName(request.getEndpoint()),
-                            request.getRequestId() + "}=-=---={" + response).join();
+                    List<Object> responses = new ArrayList<>();
+                    for (Object messageData : (List) messages) {
+                        try {
+                            responses.add(endpoint.onMessage(request, messageData));
+                        } catch (Exception e) {
+                            e.printStackTrace();
+                            responses.add(null);
+                        }
+                    }
+                    return responses;
                 });
-            });
+            }
         });
 
+        ServiceToProxy.register();
+
         RedisAPI.getInstance().startListeners();
         System.out.println("Service " + service.getType().name() + " initialized!");
     }
-}
+
+    private void registerChannel(ProtocolObject protocolObject, BiFunction<ServiceProxyRequest, Object, Object> handler) {
+        System.out.println("Registering channel " + protocolObject.channel());
+        ProtocolSchema.register(protocolObject);
+        int schema = ProtocolSchema.fingerprint(protocolObject);
+
+        RedisAPI.getInstance().registerChannel(protocolObject.channel(), message -> {
+            // Everything after the first semicolon is the actual message
+            String realMessage = message.message.substring(message.message.indexOf(";") + 1);
+
+            // Requests are answered in the format they arrived in, so older callers keep working
+            boolean framed = ProtocolFrame.isFrame(realMessage);
+            ServiceProxyRequest request;
+            if (framed) {
+                ProtocolFrame frame = ProtocolFrame.decode(realMessage);
+                ProtocolSchema.check(protocolObject, frame.schema());
+                request = new ServiceProxyRequest(frame.requestId(), frame.callback(), frame.channel(), frame.payload());
+            } else {
+                request = ServiceProxyRequest.fromJSON(new JSONObject(realMessage));
+            }
+
+            Object messageData = protocolObject.translateFromString(request.getMessage());
+
+            Thread.startVirtualThread(() -> {
+                Object rawResponse = handler.apply(request, messageData);
+                String response = protocolObject.translateReturnToString(rawResponse);
+
+                String reply = framed
+                        ? ProtocolFrame.response(request.getRequestId(), schema, response).encode()
+                        : request.getRequestId() + "}=-=---={" + response;
+                RedisAPI.getInstance().publishMessage(request.getRequestServer(),
+                        ChannelRegistry.getFromName(request.getEndpoint()), reply).join();
+            });
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package net.swofty.service.generic.redis;
+
+import net.swofty.commons.impl.ServiceProxyRequest;
+
+import java.util.List;
+
+/**
+ * An endpoint that handles a whole batch of requests at once, for instance with a
+ * single bulk database operation. Only used for batchable protocol objects; other
+ * endpoints receive batched requests one at a time through onMessage.
+ */
+public interface BatchServiceEndpoint<T, R> extends ServiceEndpoint<T, R> {
+    /**
+     * @return one response per message, in the same order, with null for any message
+     * that could not be processed
+     */
+    List<R> onBatch(ServiceProxyRequest message, List<T> messageObjects);
+
+    @Override
+    default R onMessage(ServiceProxyRequest message, T messageObject) {
+        return onBatch(message, List.of(messageObject)).getFirst();
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package net.swofty.service.generic.redis;
 
 import net.swofty.commons.impl.ServiceProxyRequest;
+import net.swofty.commons.protocol.ProtocolFrame;
 import net.swofty.commons.protocol.ProtocolObject;
 import net.swofty.commons.protocol.objects.PingProtocolObject;
 
@@ -9,14 +10,14 @@ import java.util.Map;
 
 public class PingEndpoint implements ServiceEndpoint<
         PingProtocolObject.EmptyMessage,
-        PingProtocolObject.EmptyMessage> {
+        PingProtocolObject.PingResponse> {
     @Override
-    public ProtocolObject<PingProtocolObject.EmptyMessage, PingProtocolObject.EmptyMessage> associatedProtocolObject() {
+    public ProtocolObject<PingProtocolObject.EmptyMessage, PingProtocolObject.PingResponse> associatedProtocolObject() {
         return new PingProtocolObject();
     }
 
     @Override
-    public PingProtocolObject.EmptyMessage onMessage(ServiceProxyRequest message, PingProtocolObject.EmptyMessage messageObject) {
-        return new PingProtocolObject.EmptyMessage();
+    public PingProtocolObject.PingResponse onMessage(ServiceProxyRequest message, PingProtocolObject.EmptyMessage messageObject) {
+        return new PingProtocolObject.PingResponse(ProtocolFrame.VERSION, true);
     }
 }
@@ -0,0 +1,33 @@
+package net.swofty.service.generic.redis;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.swofty.commons.proxy.ToProxyChannels;
+import net.swofty.commons.proxy.requirements.to.PlayerHandlerRequirements;
+import net.swofty.redisapi.api.ChannelRegistry;
+import net.swofty.redisapi.api.RedisAPI;
+import org.json.JSONObject;
+
+import java.util.UUID;
+
+/**
+ * Fire-and-forget messages from a service to the proxy, using the same framing
+ * the game servers use. Services never wait on the proxy's reply, so it is sent
+ * to a throwaway filter that nothing listens on.
+ */
+public class ServiceToProxy {
+    public static void register() {
+        RedisAPI.getInstance().registerChannel(ToProxyChannels.PLAYER_HANDLER.getChannelName(), (event) -> {});
+    }
+
+    public static void sendMessage(UUID player, String message) {
+        JSONObject json = new JSONObject();
+        json.put("uuid", player.toString());
+        json.put("message", GsonComponentSerializer.gson().serialize(Component.text(message)));
+        json.put("action", PlayerHandlerRequirements.PlayerHandlerActions.MESSAGE.name());
+
+        RedisAPI.getInstance().publishMessage("proxy",
+                ChannelRegistry.getFromName(ToProxyChannels.PLAYER_HANDLER.getChannelName()),
+                json + "}=-=-={" + UUID.randomUUID() + "}=-=-={" + UUID.randomUUID());
+    }
+}
@@ -7,6 +7,7 @@ import com.mongodb.client.model.Filters;
 import lombok.Getter;
 import lombok.Setter;
 import net.swofty.commons.TrackedItem;
+import net.swofty.commons.mongodb.MongoUpserts;
 import org.bson.Document;
 
 import java.util.List;
@@ -24,7 +25,7 @@ public record TrackedItemsDatabase(UUID itemUUID) {
         client = MongoClients.create(settings);
 
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("tracked-items");
+        collection = MongoUpserts.configure(database.getCollection("tracked-items"));
     }
 
     public static Integer getNumberMade(String itemType) {
@@ -32,7 +33,7 @@ public record TrackedItemsDatabase(UUID itemUUID) {
     }
 
     public boolean exists() {
-        return collection.find(Filters.eq("_id", itemUUID.toString())).first() != null;
+        return MongoUpserts.exists(collection, itemUUID.toString());
     }
 
     public TrackedItem get() {
@@ -41,11 +42,8 @@ public record TrackedItemsDatabase(UUID itemUUID) {
     }
 
     public void insertOrUpdate(TrackedItem trackedItem) {
-        if (!exists()) {
-            collection.insertOne(trackedItem.toDocument().append("_id", trackedItem.itemUUID.toString()));
-            return;
-        }
-        collection.replaceOne(Filters.eq("_id", trackedItem.itemUUID.toString()), trackedItem.toDocument());
+        String id = trackedItem.itemUUID.toString();
+        MongoUpserts.replace(collection, id, trackedItem.toDocument().append("_id", id));
     }
 }
 
@@ -1,14 +1,17 @@
 package net.swofty.service.itemtracker.endpoints;
 
+import com.mongodb.client.model.Filters;
 import net.swofty.commons.TrackedItem;
 import net.swofty.commons.impl.ServiceProxyRequest;
+import net.swofty.commons.mongodb.WriteBatch;
 import net.swofty.commons.protocol.objects.itemtracker.TrackedItemUpdateProtocolObject;
-import net.swofty.service.generic.redis.ServiceEndpoint;
+import net.swofty.service.generic.redis.BatchServiceEndpoint;
 import net.swofty.service.itemtracker.TrackedItemsDatabase;
+import org.bson.Document;
 
 import java.util.*;
 
-public class EndpointUpdateItem implements ServiceEndpoint<
+public class EndpointUpdateItem implements BatchServiceEndpoint<
         TrackedItemUpdateProtocolObject.TrackedItemUpdateMessage,
         TrackedItemUpdateProtocolObject.TrackedItemUpdateResponse> {
 
@@ -18,29 +21,56 @@ public class EndpointUpdateItem implements ServiceEndpoint<
     }
 
     @Override
-    public TrackedItemUpdateProtocolObject.TrackedItemUpdateResponse onMessage(ServiceProxyRequest message, TrackedItemUpdateProtocolObject.TrackedItemUpdateMessage messageObject) {
-        UUID itemUUID = messageObject.itemUUID();
-        UUID attachedPlayerUUID = messageObject.attachedPlayerUUID();
-        UUID attachedPlayerProfile = messageObject.attachedPlayerProfile();
-        String itemType = messageObject.itemType();
-
-        Thread.startVirtualThread(() -> {
-            if (!new TrackedItemsDatabase(itemUUID).exists()) {
-                TrackedItem item = TrackedItem.newTrackedItem(
+    public List<TrackedItemUpdateProtocolObject.TrackedItemUpdateResponse> onBatch(ServiceProxyRequest message, List<TrackedItemUpdateProtocolObject.TrackedItemUpdateMessage> messageObjects) {
+        update(messageObjects);
+
+        List<TrackedItemUpdateProtocolObject.TrackedItemUpdateResponse> responses = new ArrayList<>();
+        messageObjects.forEach(messageObject -> responses.add(new TrackedItemUpdateProtocolObject.TrackedItemUpdateResponse()));
+        return responses;
+    }
+
+    /**
+     * Loads every item in the batch with one query and writes them back with one bulk
+     * write. Items created in the batch are counted locally so each gets its own number.
+     * Batches run one at a time, as two overlapping read-modify-write cycles would
+     * overwrite each other's changes and hand out the same number twice.
+     */
+    private synchronized void update(List<TrackedItemUpdateProtocolObject.TrackedItemUpdateMessage> messageObjects) {
+        List<String> ids = messageObjects.stream().map(messageObject -> messageObject.itemUUID().toString()).distinct().toList();
+
+        Map<UUID, TrackedItem> items = new HashMap<>();
+        for (Document document : TrackedItemsDatabase.collection.find(Filters.in("_id", ids))) {
+            TrackedItem item = TrackedItem.fromDocument(document);
+            items.put(item.itemUUID, item);
+        }
+
+        Map<String, Integer> numberMade = new HashMap<>();
+        for (TrackedItemUpdateProtocolObject.TrackedItemUpdateMessage messageObject : messageObjects) {
+            UUID itemUUID = messageObject.itemUUID();
+            TrackedItem item = items.get(itemUUID);
+
+            if (item == null) {
+                String itemType = messageObject.itemType();
+                int made = numberMade.computeIfAbsent(itemType, TrackedItemsDatabase::getNumberMade);
+                numberMade.put(itemType, made + 1);
+
+                items.put(itemUUID, TrackedItem.newTrackedItem(
                         itemUUID,
-                        attachedPlayerUUID,
-                        attachedPlayerProfile,
+                        messageObject.attachedPlayerUUID(),
+                        messageObject.attachedPlayerProfile(),
                         itemType,
-                        TrackedItemsDatabase.getNumberMade(itemType)
-                );
-                new TrackedItemsDatabase(itemUUID).insertOrUpdate(item);
+                        made
+                ));
             } else {
-                TrackedItem item = new TrackedItemsDatabase(itemUUID).get();
-                item.addOrUpdateAttachedPlayer(attachedPlayerUUID, attachedPlayerProfile);
-                new TrackedItemsDatabase(itemUUID).insertOrUpdate(item);
+                item.addOrUpdateAttachedPlayer(messageObject.attachedPlayerUUID(), messageObject.attachedPlayerProfile());
             }
-        });
+        }
 
-        return new TrackedItemUpdateProtocolObject.TrackedItemUpdateResponse();
+        WriteBatch batch = new WriteBatch(TrackedItemsDatabase.collection);
+        items.forEach((itemUUID, item) -> {
+            String id = itemUUID.toString();
+            batch.replace(id, item.toDocument().append("_id", id));
+        });
+        batch.flush();
     }
-}
+}
\ No newline at end of file
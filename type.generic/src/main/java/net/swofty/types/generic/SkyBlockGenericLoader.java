@@ -32,7 +32,9 @@ import net.swofty.types.generic.collection.CollectionCategories;
 import net.swofty.types.generic.collection.CollectionCategory;
 import net.swofty.types.generic.collection.CustomCollectionAward;
 import net.swofty.types.generic.command.SkyBlockCommand;
+import net.swofty.types.generic.data.CoopSync;
 import net.swofty.types.generic.data.DataHandler;
+import net.swofty.types.generic.data.ProfileWriteQueue;
 import net.swofty.types.generic.data.mongodb.*;
 import net.swofty.types.generic.entity.ServerCrystalImpl;
 import net.swofty.types.generic.entity.animalnpc.SkyBlockAnimalNPC;
@@ -41,6 +43,7 @@ import net.swofty.types.generic.entity.hologram.ServerHolograms;
 import net.swofty.types.generic.entity.mob.MobRegistry;
 import net.swofty.types.generic.entity.mob.SkyBlockMob;
 import net.swofty.types.generic.entity.npc.NPCDialogue;
+import net.swofty.types.generic.entity.npc.NPCInterestManager;
 import net.swofty.types.generic.entity.npc.SkyBlockNPC;
 import net.swofty.types.generic.entity.villager.NPCVillagerDialogue;
 import net.swofty.types.generic.entity.villager.SkyBlockVillagerNPC;
@@ -66,6 +69,7 @@ import net.swofty.types.generic.packet.SkyBlockPacketClientListener;
 import net.swofty.types.generic.packet.SkyBlockPacketServerListener;
 import net.swofty.types.generic.redis.RedisAuthenticate;
 import net.swofty.types.generic.redis.RedisOriginServer;
+import net.swofty.types.generic.region.PlayerRegionTracker;
 import net.swofty.types.generic.region.SkyBlockMiningConfiguration;
 import net.swofty.types.generic.region.SkyBlockRegion;
 import net.swofty.types.generic.server.attribute.SkyBlockServerAttributes;
@@ -173,6 +177,7 @@ public record SkyBlockGenericLoader(SkyBlockTypeLoader typeLoader) {
             typeLoader.getNPCs().forEach(SkyBlockNPC::register);
             typeLoader.getVillagerNPCs().forEach(SkyBlockVillagerNPC::register);
             typeLoader.getAnimalNPCs().forEach(SkyBlockAnimalNPC::register);
+            NPCInterestManager.start();
         }
 
         /**
@@ -191,9 +196,10 @@ public record SkyBlockGenericLoader(SkyBlockTypeLoader typeLoader) {
         SkyBlockServerAttributes.saveAttributeLoop();
 
         /**
-         * Start data loop
+         * Start profile saving
          */
-        DataHandler.startRepeatSetValueLoop();
+        ProfileWriteQueue.start();
+        CoopSync.start();
 
         /**
          * Attempt to start the song service
@@ -383,6 +389,7 @@ public record SkyBlockGenericLoader(SkyBlockTypeLoader typeLoader) {
                 .forEach(SkyBlockValueEvent::cacheEvent);
         SkyBlockValueEvent.register();
         CustomEventCaller.start();
+        PlayerRegionTracker.start();
         SkyBlockEventHandler.register(SkyBlockConst.getEventHandler());
 
         /**
@@ -0,0 +1,76 @@
+package net.swofty.types.generic.bazaar;
+
+import net.swofty.commons.ServiceType;
+import net.swofty.commons.StringUtility;
+import net.swofty.commons.protocol.objects.bazaar.BazaarAcknowledgeProtocolObject;
+import net.swofty.commons.protocol.objects.bazaar.BazaarClaimProtocolObject;
+import net.swofty.proxyapi.ProxyService;
+import net.swofty.types.generic.item.ItemTypeLinker;
+import net.swofty.types.generic.item.SkyBlockItem;
+import net.swofty.types.generic.user.SkyBlockPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Claims what the player's filled bazaar orders owe them. The bazaar only reserves
+ * the settlements for this server, and they are acknowledged once delivered. Any
+ * settlement that could not be delivered, or whose acknowledgement never arrives,
+ * is released by the bazaar to be claimed again.
+ */
+public class BazaarClaims {
+    private static final int MAX_STACK_SIZE = 64;
+
+    /**
+     * Claims the coins and items the player's filled bazaar orders owe them, if the bazaar is online
+     */
+    public static void claim(SkyBlockPlayer player) {
+        ProxyService bazaar = new ProxyService(ServiceType.BAZAAR);
+        bazaar.isOnline().thenAccept(online -> {
+            if (!online || !player.isOnline()) return;
+
+            bazaar.<BazaarClaimProtocolObject.BazaarClaimMessage, BazaarClaimProtocolObject.BazaarClaimResponse>handleRequest(
+                    new BazaarClaimProtocolObject.BazaarClaimMessage(player.getUuid())
+            ).thenAccept(response -> {
+                if (response.settlements().isEmpty()) return;
+
+                // The inventory and coins are only changed from the player's own tick. A player who
+                // leaves first never runs it, and the reservation expires.
+                player.scheduleNextTick(entity -> {
+                    List<String> delivered = new ArrayList<>();
+                    for (BazaarClaimProtocolObject.Settlement settlement : response.settlements()) {
+                        if (deliver(player, settlement)) delivered.add(settlement.id());
+                    }
+
+                    bazaar.handleRequest(new BazaarAcknowledgeProtocolObject.BazaarAcknowledgeMessage(
+                            player.getUuid(), response.reservation(), delivered));
+                });
+            });
+        });
+    }
+
+    /**
+     * @return whether the settlement was delivered, which it is not if its item is unknown to this server
+     */
+    private static boolean deliver(SkyBlockPlayer player, BazaarClaimProtocolObject.Settlement settlement) {
+        ItemTypeLinker linker = ItemTypeLinker.get(settlement.itemName());
+        if (linker == null && settlement.amount() > 0) return false;
+
+        // Only whole items can be given, any part of one is paid out at the price it filled at
+        int amount = (int) Math.floor(settlement.amount());
+        double coins = settlement.coins() + (settlement.amount() - amount) * settlement.price();
+
+        int remaining = amount;
+        while (remaining > 0) {
+            int stack = Math.min(remaining, MAX_STACK_SIZE);
+            player.addAndUpdateItem(new SkyBlockItem(linker, stack));
+            remaining -= stack;
+        }
+        if (coins > 0) player.setCoins(player.getCoins() + coins);
+
+        player.sendMessage("§6[Bazaar] §eClaimed " + (amount > 0 ? "§a" + amount + "x §e" + linker.getDisplayName(null) : "")
+                + (amount > 0 && coins > 0 ? " §eand " : "")
+                + (coins > 0 ? "§6" + StringUtility.commaify(coins) + " coins" : "") + "§e!");
+        return true;
+    }
+}
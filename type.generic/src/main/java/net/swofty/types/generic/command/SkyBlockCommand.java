@@ -3,10 +3,14 @@ package net.swofty.types.generic.command;
 import lombok.Getter;
 import net.minestom.server.command.CommandSender;
 import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.arguments.ArgumentEnum;
 import net.swofty.types.generic.data.DataHandler;
 import net.swofty.types.generic.data.datapoints.DatapointRank;
+import net.swofty.types.generic.item.ItemTypeLinker;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 
+import java.util.List;
+
 public abstract class SkyBlockCommand {
     public static final String COMMAND_SUFFIX = "Command";
 
@@ -38,6 +42,23 @@ public abstract class SkyBlockCommand {
         return passes;
     }
 
+    /**
+     * Answers a mistyped item with the closest item names rather than the usage message
+     */
+    public static ArgumentEnum<ItemTypeLinker> withItemSuggestions(ArgumentEnum<ItemTypeLinker> argument) {
+        argument.setCallback((sender, exception) -> {
+            List<ItemTypeLinker> suggestions = ItemTypeLinker.suggest(exception.getInput(), 5);
+            if (suggestions.isEmpty()) {
+                sender.sendMessage("§cUnknown item §e" + exception.getInput() + "§c.");
+                return;
+            }
+
+            sender.sendMessage("§cUnknown item §e" + exception.getInput() + "§c, did you mean: §e"
+                    + String.join("§c, §e", suggestions.stream().map(Enum::name).toList()) + "§c?");
+        });
+        return argument;
+    }
+
     public static class MinestomCommand extends Command {
 
         public MinestomCommand(SkyBlockCommand command) {
@@ -21,7 +21,7 @@ import net.swofty.types.generic.user.categories.Rank;
 public class AddCrystalCommand extends SkyBlockCommand {
     @Override
     public void registerUsage(MinestomCommand command) {
-        ArgumentEnum<ItemTypeLinker> itemType = new ArgumentEnum<>("itemType", ItemTypeLinker.class);
+        ArgumentEnum<ItemTypeLinker> itemType = withItemSuggestions(new ArgumentEnum<>("itemType", ItemTypeLinker.class));
 
         command.addSyntax((sender, context) -> {
             if (!permissionCheck(sender)) return;
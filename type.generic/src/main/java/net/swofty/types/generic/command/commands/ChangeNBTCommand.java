@@ -3,7 +3,6 @@ package net.swofty.types.generic.command.commands;
 import net.minestom.server.command.builder.arguments.ArgumentString;
 import net.minestom.server.command.builder.arguments.ArgumentType;
 import net.minestom.server.entity.Player;
-import net.swofty.commons.item.attribute.ItemAttribute;
 import net.swofty.types.generic.command.CommandParameters;
 import net.swofty.types.generic.command.SkyBlockCommand;
 import net.swofty.types.generic.item.SkyBlockItem;
@@ -30,8 +29,10 @@ public class ChangeNBTCommand extends SkyBlockCommand {
             SkyBlockPlayer player = (SkyBlockPlayer) sender;
             SkyBlockItem item = new SkyBlockItem(player.getInventory().getItemInHand(Player.Hand.MAIN));
 
-            ItemAttribute attribute = item.getAttribute(key);
-            attribute.setValue(attribute.loadFromString(value));
+            if (!item.setAttributeFromString(key, value)) {
+                player.sendMessage("§cThere is no NBT key §e" + key + "§c.");
+                return;
+            }
 
             player.getInventory().setItemInHand(Player.Hand.MAIN, item.getItemStack());
             player.sendMessage("§aSuccessfully changed NBT key §e" + key + "§a to §e" + value + "§a.");
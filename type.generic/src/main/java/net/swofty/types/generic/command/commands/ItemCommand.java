@@ -18,7 +18,7 @@ import net.swofty.types.generic.user.categories.Rank;
 public class ItemCommand extends SkyBlockCommand {
     @Override
     public void registerUsage(MinestomCommand command) {
-        ArgumentEnum<ItemTypeLinker> itemArgument = ArgumentType.Enum("item", ItemTypeLinker.class);
+        ArgumentEnum<ItemTypeLinker> itemArgument = withItemSuggestions(ArgumentType.Enum("item", ItemTypeLinker.class));
         ArgumentInteger amountArgument = ArgumentType.Integer("amount");
 
         command.addSyntax((sender, context) -> {
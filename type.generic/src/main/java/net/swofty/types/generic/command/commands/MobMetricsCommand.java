@@ -0,0 +1,31 @@
+package net.swofty.types.generic.command.commands;
+
+import net.swofty.types.generic.command.CommandParameters;
+import net.swofty.types.generic.command.SkyBlockCommand;
+import net.swofty.types.generic.entity.mob.MobChunkPolicy;
+import net.swofty.types.generic.entity.mob.SkyBlockMob;
+import net.swofty.types.generic.user.categories.Rank;
+
+@CommandParameters(aliases = "mobmetrics",
+        description = "Shows how many mobs are tracked and frozen at unloaded chunks",
+        usage = "/mobmetrics",
+        permission = Rank.ADMIN,
+        allowsConsole = true)
+public class MobMetricsCommand extends SkyBlockCommand {
+
+    @Override
+    public void registerUsage(MinestomCommand command) {
+        command.addSyntax((sender, context) -> {
+            if (!permissionCheck(sender)) return;
+
+            MobChunkPolicy.Metrics metrics = MobChunkPolicy.getMetrics();
+            sender.sendMessage("§7Tracked mobs: §a" + SkyBlockMob.getMobs().size());
+            sender.sendMessage("§7Frozen mobs: §e" + metrics.frozen()
+                    + " §7waiting on §e" + metrics.pendingLoads() + "§7 chunk loads");
+            sender.sendMessage("§7Freezes: §a" + metrics.freezes()
+                    + " §7Resumes: §a" + metrics.resumes()
+                    + " §7Despawns: §c" + metrics.despawns());
+            sender.sendMessage("§7Chunk loads requested: §a" + metrics.loadsRequested());
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package net.swofty.types.generic.command.commands;
+
+import net.swofty.types.generic.command.CommandParameters;
+import net.swofty.types.generic.command.SkyBlockCommand;
+import net.swofty.types.generic.packet.SkyBlockPacketClientListener;
+import net.swofty.types.generic.user.categories.Rank;
+
+@CommandParameters(aliases = "packetmetrics",
+        description = "Shows how often each packet listener ran and the time spent in it",
+        usage = "/packetmetrics",
+        permission = Rank.ADMIN,
+        allowsConsole = true)
+public class PacketMetricsCommand extends SkyBlockCommand {
+
+    @Override
+    public void registerUsage(MinestomCommand command) {
+        command.addSyntax((sender, context) -> {
+            if (!permissionCheck(sender)) return;
+
+            for (SkyBlockPacketClientListener.Metrics metrics : SkyBlockPacketClientListener.getMetrics()) {
+                sender.sendMessage("§e" + metrics.listener() + " §7(" + metrics.packet() + ")"
+                        + " §7Calls: §a" + metrics.calls()
+                        + " §7Total: §a" + (metrics.totalNanos() / 1_000_000) + "ms"
+                        + " §7Average: §a" + String.format("%.2f", metrics.averageMicros()) + "µs");
+            }
+        });
+    }
+}
\ No newline at end of file
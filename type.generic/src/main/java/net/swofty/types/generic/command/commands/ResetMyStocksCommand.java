@@ -17,7 +17,7 @@ public class ResetMyStocksCommand extends SkyBlockCommand {
             if (!permissionCheck(sender)) return;
 
             SkyBlockPlayer player = (SkyBlockPlayer) sender;
-            player.getShoppingData().resetStocks();
+            player.updateShoppingData(data -> data.resetStocks());
             player.sendMessage("§aWhoop!");
         });
     }
@@ -17,7 +17,7 @@ import net.swofty.types.generic.user.categories.Rank;
 public class SetCollectionCommand extends SkyBlockCommand {
     @Override
     public void registerUsage(MinestomCommand command) {
-        ArgumentEnum<ItemTypeLinker> itemType = new ArgumentEnum("item_type", ItemTypeLinker.class);
+        ArgumentEnum<ItemTypeLinker> itemType = withItemSuggestions(new ArgumentEnum("item_type", ItemTypeLinker.class));
         ArgumentInteger amountArgument = new ArgumentInteger("amount");
 
         command.addSyntax((sender, context) -> {
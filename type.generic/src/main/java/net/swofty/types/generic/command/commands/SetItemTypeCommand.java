@@ -19,7 +19,7 @@ import net.swofty.types.generic.user.categories.Rank;
 public class SetItemTypeCommand extends SkyBlockCommand {
     @Override
     public void registerUsage(MinestomCommand command) {
-        ArgumentEnum<ItemTypeLinker> material = new ArgumentEnum<>("material", ItemTypeLinker.class);
+        ArgumentEnum<ItemTypeLinker> material = withItemSuggestions(new ArgumentEnum<>("material", ItemTypeLinker.class));
 
         command.addSyntax((sender, context) -> {
             if (!permissionCheck(sender)) return;
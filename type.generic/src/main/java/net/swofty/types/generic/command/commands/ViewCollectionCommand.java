@@ -19,7 +19,7 @@ public class ViewCollectionCommand extends SkyBlockCommand {
 
     @Override
     public void registerUsage(MinestomCommand command) {
-        ArgumentEnum<ItemTypeLinker> itemArgument = ArgumentType.Enum("item", ItemTypeLinker.class);
+        ArgumentEnum<ItemTypeLinker> itemArgument = withItemSuggestions(ArgumentType.Enum("item", ItemTypeLinker.class));
 
         command.addSyntax((sender, context) -> {
             if (!permissionCheck(sender)) return;
@@ -17,7 +17,7 @@ import net.swofty.types.generic.user.categories.Rank;
 public class ViewRecipeCommand extends SkyBlockCommand {
     @Override
     public void registerUsage(MinestomCommand command) {
-        ArgumentEnum<ItemTypeLinker> itemArgument = ArgumentType.Enum("item", ItemTypeLinker.class);
+        ArgumentEnum<ItemTypeLinker> itemArgument = withItemSuggestions(ArgumentType.Enum("item", ItemTypeLinker.class));
 
         command.addSyntax((sender, context) -> {
             if (!permissionCheck(sender)) return;
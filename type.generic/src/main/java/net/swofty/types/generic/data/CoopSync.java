@@ -0,0 +1,256 @@
+package net.swofty.types.generic.data;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.timer.ExecutionType;
+import net.minestom.server.timer.TaskSchedule;
+import net.swofty.commons.mongodb.WriteBatch;
+import net.swofty.proxyapi.ProxyPlayer;
+import net.swofty.types.generic.SkyBlockGenericLoader;
+import net.swofty.types.generic.data.mongodb.CoopDatabase;
+import net.swofty.types.generic.data.mongodb.ProfilesDatabase;
+import net.swofty.types.generic.user.SkyBlockPlayer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.tinylog.Logger;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps coop persistent datapoints in step across every member of a coop.
+ * <p>
+ * Members on this server are updated in memory, and members online elsewhere are
+ * sent the new value through the proxy. Their servers reply with the profile they
+ * hold, and only the member profiles no server holds get a targeted field update,
+ * batched into one bulk write per second. A profile that is loaded somewhere is
+ * saved by that server, so writing it here as well would race with its save.
+ * <p>
+ * Each change carries a version per coop, so servers drop deltas that arrive after
+ * a newer value for the same datapoint. Versions never fall behind the wall clock,
+ * which lets a server forget the versions of a coop once none of its members are
+ * loaded there.
+ */
+public class CoopSync {
+    private static final long MEMBERSHIP_TTL = 30_000;
+    private static final CoopDatabase.Coop NO_COOP = new CoopDatabase.Coop(
+            new UUID(0, 0), new UUID(0, 0), List.of(), List.of(), List.of());
+
+    private static final Map<UUID, CachedCoop> membership = new ConcurrentHashMap<>();
+    private static final Map<UUID, Map<String, QueuedWrite>> offlineWrites = new ConcurrentHashMap<>();
+    private static final Map<UUID, Long> clocks = new ConcurrentHashMap<>();
+    private static final Map<UUID, Map<String, Version>> applied = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> bypassing = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Returns the coop the player is a member or invitee of, served from cache when fresh
+     */
+    public static CoopDatabase.Coop getCoop(UUID member) {
+        CachedCoop cached = membership.get(member);
+        if (cached != null && System.currentTimeMillis() - cached.fetchedAt() < MEMBERSHIP_TTL) {
+            return cached.coop() == NO_COOP ? null : cached.coop();
+        }
+
+        CoopDatabase.Coop coop = CoopDatabase.getFromMember(member);
+        membership.put(member, new CachedCoop(coop == null ? NO_COOP : coop, System.currentTimeMillis()));
+        return coop;
+    }
+
+    /**
+     * Drops every cached membership involving this coop, called whenever it is saved
+     */
+    public static void invalidate(CoopDatabase.Coop coop) {
+        membership.entrySet().removeIf(entry -> entry.getValue().coop().isSameAs(coop));
+        coop.members().forEach(membership::remove);
+        coop.memberInvites().forEach(membership::remove);
+    }
+
+    /**
+     * Forgets the versions of the player's coop once no other member is loaded on this
+     * server, called when the player leaves
+     */
+    public static void forget(SkyBlockPlayer player) {
+        CachedCoop cached = membership.remove(player.getUuid());
+        if (cached == null || cached.coop() == NO_COOP) return;
+
+        CoopDatabase.Coop coop = cached.coop();
+        boolean stillLoaded = coop.members().stream()
+                .filter(member -> !member.equals(player.getUuid()))
+                .map(SkyBlockGenericLoader::getFromUUID)
+                .anyMatch(member -> member != null
+                        && coop.memberProfiles().contains(member.getProfiles().getCurrentlySelected()));
+        if (!stillLoaded) forget(coop);
+    }
+
+    /**
+     * Forgets the versions of the coop, called when it is disbanded
+     */
+    public static void forget(CoopDatabase.Coop coop) {
+        clocks.remove(coop.coopUUID());
+        applied.remove(coop.coopUUID());
+    }
+
+    /**
+     * Runs the update without propagating it to the rest of the coop
+     */
+    public static void bypass(Runnable update) {
+        if (bypassing.get()) {
+            update.run();
+            return;
+        }
+
+        bypassing.set(true);
+        try {
+            update.run();
+        } finally {
+            bypassing.set(false);
+        }
+    }
+
+    static void propagate(Player player, Datapoint datapoint) {
+        if (bypassing.get()) return;
+        if (!(player instanceof SkyBlockPlayer origin) || !origin.isCoop()) return;
+
+        CoopDatabase.Coop coop = getCoop(origin.getUuid());
+        if (coop == null) return;
+
+        String key = datapoint.getKey();
+        Object value = datapoint.getValue();
+        String serialized;
+        try {
+            serialized = datapoint.getSerializedValue();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return;
+        }
+
+        Version version = new Version(clocks.merge(coop.coopUUID(), System.currentTimeMillis(),
+                (previous, now) -> Math.max(previous + 1, now)), origin.getUuid().toString());
+        versions(coop.coopUUID()).put(key, version);
+
+        Set<UUID> unheldProfiles = new HashSet<>(coop.memberProfiles());
+        unheldProfiles.remove(origin.getProfiles().getCurrentlySelected());
+
+        JSONObject delta = new JSONObject()
+                .put("coop", coop.coopUUID().toString())
+                .put("version", version.clock())
+                .put("origin", version.origin())
+                .put("value", serialized)
+                .put("profiles", new JSONArray(coop.memberProfiles().stream().map(UUID::toString).toList()));
+
+        List<CompletableFuture<UUID>> heldElsewhere = new ArrayList<>();
+        for (UUID member : coop.members()) {
+            if (member.equals(origin.getUuid())) continue;
+
+            SkyBlockPlayer online = SkyBlockGenericLoader.getFromUUID(member);
+            if (online == null) {
+                // Either offline or on another server, whose reply names the profile it holds.
+                // Without a reply the profile is treated as held nowhere.
+                heldElsewhere.add(new ProxyPlayer(member).refreshCoopData(key, delta)
+                        .thenApply(reply -> reply.has("profile") ? UUID.fromString(reply.getString("profile")) : null)
+                        .exceptionally(failure -> null));
+                continue;
+            }
+
+            UUID selectedProfile = online.getProfiles().getCurrentlySelected();
+            if (!coop.memberProfiles().contains(selectedProfile)) continue;
+
+            bypass(() -> online.getDataHandler().getDatapoint(key).setValue(value));
+            unheldProfiles.remove(selectedProfile);
+        }
+
+        CompletableFuture.allOf(heldElsewhere.toArray(CompletableFuture[]::new)).thenRun(() -> {
+            heldElsewhere.forEach(held -> unheldProfiles.remove(held.join()));
+            unheldProfiles.forEach(profile -> queueWrite(coop.coopUUID(), profile, key, version, serialized));
+        });
+    }
+
+    /**
+     * Queues the value to be written to the profile, unless a newer change to the same
+     * datapoint has been made since, as that change writes its own value
+     */
+    private static synchronized void queueWrite(UUID coop, UUID profile, String key, Version version, String serialized) {
+        Version latest = versions(coop).get(key);
+        if (latest != null && latest.isNewerThan(version)) return;
+
+        offlineWrites.compute(profile, (id, queued) -> {
+            if (queued == null) queued = new HashMap<>();
+            queued.merge(key, new QueuedWrite(version, serialized),
+                    (existing, incoming) -> incoming.version().isNewerThan(existing.version()) ? incoming : existing);
+            return queued;
+        });
+    }
+
+    private static Map<String, Version> versions(UUID coop) {
+        return applied.computeIfAbsent(coop, k -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Applies a delta sent by another server, returning false if it is older than the
+     * value this server already holds for that datapoint
+     */
+    public static boolean apply(SkyBlockPlayer player, String key, JSONObject delta) {
+        UUID coop = UUID.fromString(delta.getString("coop"));
+        Version version = new Version(delta.getLong("version"), delta.getString("origin"));
+        clocks.merge(coop, version.clock(), Math::max);
+
+        boolean onCoopProfile = delta.getJSONArray("profiles").toList()
+                .contains(player.getProfiles().getCurrentlySelected().toString());
+        if (!onCoopProfile) return false;
+
+        Version current = versions(coop).merge(key, version,
+                (existing, incoming) -> incoming.isNewerThan(existing) ? incoming : existing);
+        if (current.isNewerThan(version)) return false;
+
+        Datapoint datapoint = player.getDataHandler().getDatapoint(key);
+        try {
+            Datapoint<?> incoming = datapoint.getClass().getDeclaredConstructor(String.class).newInstance(key);
+            incoming.deserializeValue(delta.getString("value"));
+            bypass(() -> datapoint.setValue(incoming.getValue()));
+            return true;
+        } catch (Exception e) {
+            Logger.error("Failed to apply coop datapoint " + key + " for " + player.getUsername());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    public static void flush() {
+        if (offlineWrites.isEmpty()) return;
+
+        WriteBatch batch = new WriteBatch(ProfilesDatabase.collection);
+        new ArrayList<>(offlineWrites.keySet()).forEach(profile -> {
+            Map<String, QueuedWrite> queued = offlineWrites.remove(profile);
+            if (queued == null) return;
+
+            Map<String, Object> fields = new HashMap<>();
+            queued.forEach((key, write) -> fields.put(key, write.serialized()));
+            batch.setFields(profile.toString(), fields);
+        });
+        batch.flush();
+    }
+
+    public static void start() {
+        Arrays.stream(DataHandler.Data.values())
+                .filter(DataHandler.Data::getIsCoopPersistent)
+                .forEach(data -> DataHandler.subscribe(data, CoopSync::propagate));
+
+        MinecraftServer.getSchedulerManager().scheduleTask(() -> {
+            Thread.startVirtualThread(CoopSync::flush);
+        }, TaskSchedule.seconds(1), TaskSchedule.seconds(1), ExecutionType.TICK_END);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(CoopSync::flush));
+    }
+
+    private record CachedCoop(CoopDatabase.Coop coop, long fetchedAt) {}
+
+    private record QueuedWrite(Version version, String serialized) {}
+
+    private record Version(long clock, String origin) {
+        boolean isNewerThan(Version other) {
+            if (clock != other.clock) return clock > other.clock;
+            return origin.compareTo(other.origin) > 0;
+        }
+    }
+}
@@ -10,8 +10,6 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.scoreboard.Team;
 import net.minestom.server.scoreboard.TeamBuilder;
-import net.minestom.server.timer.TaskSchedule;
-import net.swofty.types.generic.SkyBlockGenericLoader;
 import net.swofty.types.generic.data.datapoints.*;
 import net.swofty.types.generic.data.mongodb.ProfilesDatabase;
 import net.swofty.types.generic.data.mongodb.UserDatabase;
@@ -35,16 +33,37 @@ import org.tinylog.Logger;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 public class DataHandler {
     public static Map<UUID, DataHandler> userCache = new HashMap<>();
+    private static final Map<Data, List<BiConsumer<Player, Datapoint>>> subscribers = new ConcurrentHashMap<>();
     @Getter
     private UUID uuid;
     private final Map<String, Datapoint> datapoints = new HashMap<>();
 
+    /**
+     * Registers a listener that is called on the player's datapoint whenever its value
+     * actually changes, after the datapoint's own onChange handler
+     */
+    public static void subscribe(Data data, BiConsumer<Player, Datapoint> subscriber) {
+        subscribers.computeIfAbsent(data, key -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    static void publish(Player player, Datapoint datapoint) {
+        if (datapoint.data.onChange != null)
+            datapoint.data.onChange.accept(player, datapoint);
+
+        List<BiConsumer<Player, Datapoint>> listeners = subscribers.get(datapoint.data);
+        if (listeners != null)
+            listeners.forEach(listener -> listener.accept(player, datapoint));
+    }
+
     public Datapoint getDatapoint(String key) {
         return this.datapoints.get(key);
     }
@@ -94,7 +113,7 @@ public class DataHandler {
         dataHandler.uuid = UUID.fromString(document.getString("_owner"));
         Arrays.stream(Data.values()).forEach(data -> {
             if (!document.containsKey(data.getKey())) {
-                dataHandler.datapoints.put(data.getKey(), data.getDefaultDatapoint().setUser(dataHandler).setData(data));
+                dataHandler.putDefault(data);
                 return;
             }
 
@@ -106,7 +125,7 @@ public class DataHandler {
                 dataHandler.datapoints.put(data.getKey(), datapoint.setUser(dataHandler).setData(data));
             } catch (Exception e) {
                 // Issue with data, revert back to default
-                dataHandler.datapoints.put(data.getKey(), data.getDefaultDatapoint().setUser(dataHandler).setData(data));
+                dataHandler.putDefault(data);
                 Logger.info("Issue with datapoint " + data.getKey() + " for user " + dataHandler.uuid.toString() + " - Reverting to default value");
 
                 e.printStackTrace();
@@ -129,6 +148,27 @@ public class DataHandler {
         return document;
     }
 
+    /**
+     * Serialized values of every datapoint that changed since the last poll, ready
+     * to be sent as a field-level update. With verify set, datapoints that were not
+     * marked dirty are compared too, so values mutated in place are not lost.
+     */
+    public Map<String, Object> pollChanges(boolean verify) {
+        Map<String, Object> changes = new HashMap<>();
+        for (Data data : Data.values()) {
+            Datapoint datapoint = getDatapoint(data.getKey());
+            if (datapoint == null) continue;
+            try {
+                String serialized = datapoint.pollChange(verify);
+                if (serialized != null) changes.put(data.getKey(), serialized);
+            } catch (JsonProcessingException e) {
+                e.printStackTrace();
+            }
+        }
+        if (!changes.isEmpty()) changes.put("_owner", this.uuid.toString());
+        return changes;
+    }
+
     public Map<String, Object> getPersistentValues() {
         Map<String, Object> values = new HashMap<>();
         Arrays.stream(Data.values()).forEach(data -> {
@@ -177,10 +217,7 @@ public class DataHandler {
         dataHandler.uuid = uuid;
         for (Data data : Data.values()) {
             try {
-                dataHandler.datapoints.put(
-                        data.getKey(),
-                        data.getDefaultDatapoint().deepClone().setUser(dataHandler).setData(data)
-                );
+                dataHandler.putDefault(data);
             } catch (Exception e) {
                 Logger.error("Issue with datapoint " + data.getKey() + " for user " + uuid.toString() + " - This must be fixed");
                 e.printStackTrace();
@@ -189,14 +226,23 @@ public class DataHandler {
         return dataHandler;
     }
 
+    /**
+     * Defaults are cloned per handler and start dirty, as they are not in the database yet
+     */
+    private void putDefault(Data data) {
+        Datapoint datapoint = data.getDefaultDatapoint().deepClone().setUser(this).setData(data);
+        datapoint.markDirty();
+        this.datapoints.put(data.getKey(), datapoint);
+    }
+
     public enum Data {
-        PROFILE_NAME("profile_name", false, true, false, DatapointString.class, new DatapointString("profile_name", "null"), (player, datapoint) -> {
+        PROFILE_NAME("profile_name", false, true, DatapointString.class, new DatapointString("profile_name", "null"), (player, datapoint) -> {
         }, (player, datapoint) -> {
             if (datapoint.getValue().equals("null")) {
                 datapoint.setValue(PlayerProfiles.getRandomName());
             }
         }),
-        RANK("rank", true, false, false, DatapointRank.class, new DatapointRank("rank", Rank.DEFAULT), (player, datapoint) -> {
+        RANK("rank", true, false, DatapointRank.class, new DatapointRank("rank", Rank.DEFAULT), (player, datapoint) -> {
             player.sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(player));
 
             Rank rank = (Rank) datapoint.getValue();
@@ -232,8 +278,8 @@ public class DataHandler {
             player.setTeam(team);
             player.getTeam().sendUpdatePacket();
         })),
-        COINS("coins", false, false, false, DatapointDouble.class, new DatapointDouble("coins", 0.0)),
-        INVENTORY("inventory", false, false, false, DatapointInventory.class, new DatapointInventory("inventory", new SkyBlockInventory()), (player, datapoint) -> {
+        COINS("coins", false, false, DatapointDouble.class, new DatapointDouble("coins", 0.0)),
+        INVENTORY("inventory", false, false, DatapointInventory.class, new DatapointInventory("inventory", new SkyBlockInventory()), (player, datapoint) -> {
         }, (player, datapoint) -> {
             SkyBlockInventory skyBlockInventory = (SkyBlockInventory) datapoint.getValue();
 
@@ -286,95 +332,95 @@ public class DataHandler {
             }
             return new DatapointInventory("inventory", skyBlockInventory);
         }),
-        SKILLS("skills", false, false, false, DatapointSkills.class, new DatapointSkills("skills")),
-        IGN_LOWER("ignLowercase", true, false, false, DatapointString.class, new DatapointString("ignLowercase", "null"), (player, datapoint) -> {
+        SKILLS("skills", false, false, DatapointSkills.class, new DatapointSkills("skills")),
+        IGN_LOWER("ignLowercase", true, false, DatapointString.class, new DatapointString("ignLowercase", "null"), (player, datapoint) -> {
         }, (player, datapoint) -> {
             datapoint.setValue(player.getUsername().toLowerCase());
         }),
-        IGN("ign", true, false, false, DatapointString.class, new DatapointString("ign", "null"), (player, datapoint) -> {
+        IGN("ign", true, false, DatapointString.class, new DatapointString("ign", "null"), (player, datapoint) -> {
         }, (player, datapoint) -> {
             datapoint.setValue(player.getUsername());
         }),
-        BUILD_MODE("build_mode", true, false, false, DatapointBoolean.class, new DatapointBoolean("build_mode", false), (player, datapoint) -> {
+        BUILD_MODE("build_mode", true, false, DatapointBoolean.class, new DatapointBoolean("build_mode", false), (player, datapoint) -> {
         }, (player, datapoint) -> {
             player.setBypassBuild((Boolean) datapoint.getValue());
         }, (player) -> new DatapointBoolean("build_mode", player.isBypassBuild())),
-        GAMEMODE("gamemode", true, false, false, DatapointGamemode.class, new DatapointGamemode("gamemode", GameMode.SURVIVAL), (player, datapoint) -> {
+        GAMEMODE("gamemode", true, false, DatapointGamemode.class, new DatapointGamemode("gamemode", GameMode.SURVIVAL), (player, datapoint) -> {
         }, (player, datapoint) -> {
             player.setGameMode((GameMode) datapoint.getValue());
         }, (player) -> new DatapointGamemode("gamemode", player.getGameMode())),
-        EXPERIENCE("experience", false, false, false, DatapointFloat.class, new DatapointFloat("experience", 0f), (player, datapoint) -> {
+        EXPERIENCE("experience", false, false, DatapointFloat.class, new DatapointFloat("experience", 0f), (player, datapoint) -> {
         }, (player, datapoint) -> {
             player.setExp((Float) datapoint.getValue());
         }, (player) -> new DatapointFloat("experience", player.getExp())),
-        BAZAAR_ORDERS("bazaar_orders", false, false, false, DatapointStringList.class, new DatapointStringList("bazaar_orders")),
-        LEVELS("levels", false, false, false, DatapointInteger.class, new DatapointInteger("levels", 0), (player, datapoint) -> {
+        BAZAAR_ORDERS("bazaar_orders", false, false, DatapointStringList.class, new DatapointStringList("bazaar_orders")),
+        LEVELS("levels", false, false, DatapointInteger.class, new DatapointInteger("levels", 0), (player, datapoint) -> {
         }, (player, datapoint) -> {
             player.setLevel((Integer) datapoint.getValue());
         }, (player) -> new DatapointInteger("levels", player.getLevel())),
-        MISSION_DATA("mission_data", false, false, false, DatapointMissionData.class, new DatapointMissionData("mission_data", new MissionData()), (player, datapoint) -> {
+        MISSION_DATA("mission_data", false, false, DatapointMissionData.class, new DatapointMissionData("mission_data", new MissionData()), (player, datapoint) -> {
         }, (player, datapoint) -> {
             MissionData data = (MissionData) datapoint.getValue();
             data.setSkyBlockPlayer(player);
             datapoint.setValue(data);
         }),
-        SHOPPING_DATA("shopping_data", false, false, true, DatapointShopData.class, new DatapointShopData("shopping_data", new PlayerShopData()), (player, datapoint) -> {}),
-        TOGGLES("toggles", true, false, false, DatapointToggles.class, new DatapointToggles("toggles")),
-        FAIRY_SOULS("player_fairy_souls", false, false, false, DatapointFairySouls.class, new DatapointFairySouls("player_fairy_souls")),
-        CREATED("created", false, true, false, DatapointLong.class, new DatapointLong("created", 0L), (player, datapoint) -> {
+        SHOPPING_DATA("shopping_data", false, false, DatapointShopData.class, new DatapointShopData("shopping_data", new PlayerShopData()), (player, datapoint) -> {}),
+        TOGGLES("toggles", true, false, DatapointToggles.class, new DatapointToggles("toggles")),
+        FAIRY_SOULS("player_fairy_souls", false, false, DatapointFairySouls.class, new DatapointFairySouls("player_fairy_souls")),
+        CREATED("created", false, true, DatapointLong.class, new DatapointLong("created", 0L), (player, datapoint) -> {
         }, (player, datapoint) -> {
             if (datapoint.getValue().equals(0L)) {
                 datapoint.setValue(System.currentTimeMillis());
             }
         }),
-        LAST_EDITED_SKILL("last_edited_skill", false, false, false, DatapointSkillCategory.class, new DatapointSkillCategory("last_edited_skill", SkillCategories.FORAGING)),
-        ISLAND_UUID("island_uuid", false, true, false, DatapointUUID.class, new DatapointUUID("island_uuid", null), (player, datapoint) -> {
+        LAST_EDITED_SKILL("last_edited_skill", false, false, DatapointSkillCategory.class, new DatapointSkillCategory("last_edited_skill", SkillCategories.FORAGING)),
+        ISLAND_UUID("island_uuid", false, true, DatapointUUID.class, new DatapointUUID("island_uuid", null), (player, datapoint) -> {
         }, (player, datapoint) -> {
             datapoint.setValue(player.getSkyBlockIsland().getIslandID());
         }),
-        IS_COOP("is_coop", false, true, false, DatapointBoolean.class, new DatapointBoolean("is_coop", false)),
-        COLLECTION("collection", false, true, false, DatapointCollection.class, new DatapointCollection("collection")),
-        MINION_DATA("minions", false, true, false, DatapointMinionData.class, new DatapointMinionData("minions")),
-        STORAGE("storage", false, false, false, DatapointStorage.class, new DatapointStorage("storage")),
-        BACKPACKS("backpacks", false, false, false, DatapointBackpacks.class, new DatapointBackpacks("backpacks")),
-        VISITED_REGIONS("visited_regions", false, false, false, DatapointStringList.class, new DatapointStringList("visited_regions")),
-        AUCTION_STATISTICS("auction_statistics", false, false, false, DatapointAuctionStatistics.class, new DatapointAuctionStatistics("auction_statistics")),
-        AUCTION_ACTIVE_BIDS("auction_bids", false, false, false, DatapointUUIDList.class, new DatapointUUIDList("auction_active_bids")),
-        AUCTION_INACTIVE_BIDS("auction_inactive_bids", false, false, false, DatapointUUIDList.class, new DatapointUUIDList("auction_inactive_bids")),
-        AUCTION_ACTIVE_OWNED("auction_owned", false, false, false, DatapointUUIDList.class, new DatapointUUIDList("auction_active_owned")),
-        AUCTION_INACTIVE_OWNED("auction_inactive_owned", false, false, false, DatapointUUIDList.class, new DatapointUUIDList("auction_inactive_owned")),
-        AUCTION_ESCROW("auction_escrow", false, false, false, DatapointAuctionEscrow.class, new DatapointAuctionEscrow("auction_escrow")),
-        BANK_DATA("bank_data", false, true, false, DatapointBankData.class, new DatapointBankData("bank_data"), (player, datapoint) -> {
+        IS_COOP("is_coop", false, true, DatapointBoolean.class, new DatapointBoolean("is_coop", false)),
+        COLLECTION("collection", false, true, DatapointCollection.class, new DatapointCollection("collection")),
+        MINION_DATA("minions", false, true, DatapointMinionData.class, new DatapointMinionData("minions")),
+        STORAGE("storage", false, false, DatapointStorage.class, new DatapointStorage("storage")),
+        BACKPACKS("backpacks", false, false, DatapointBackpacks.class, new DatapointBackpacks("backpacks")),
+        VISITED_REGIONS("visited_regions", false, false, DatapointStringList.class, new DatapointStringList("visited_regions")),
+        AUCTION_STATISTICS("auction_statistics", false, false, DatapointAuctionStatistics.class, new DatapointAuctionStatistics("auction_statistics")),
+        AUCTION_ACTIVE_BIDS("auction_bids", false, false, DatapointUUIDList.class, new DatapointUUIDList("auction_active_bids")),
+        AUCTION_INACTIVE_BIDS("auction_inactive_bids", false, false, DatapointUUIDList.class, new DatapointUUIDList("auction_inactive_bids")),
+        AUCTION_ACTIVE_OWNED("auction_owned", false, false, DatapointUUIDList.class, new DatapointUUIDList("auction_active_owned")),
+        AUCTION_INACTIVE_OWNED("auction_inactive_owned", false, false, DatapointUUIDList.class, new DatapointUUIDList("auction_inactive_owned")),
+        AUCTION_ESCROW("auction_escrow", false, false, DatapointAuctionEscrow.class, new DatapointAuctionEscrow("auction_escrow")),
+        BANK_DATA("bank_data", false, true, DatapointBankData.class, new DatapointBankData("bank_data"), (player, datapoint) -> {
         }, (player, datapoint) -> {
             Thread.startVirtualThread(() -> {
                 datapoint.setValue(datapoint.getValue());
             });
         }),
-        PET_DATA("pet_data", false, false, false, DatapointPetData.class, new DatapointPetData("pet_data")),
-        QUIVER("quiver", false, false, false, DatapointQuiver.class, new DatapointQuiver("quiver")),
-        ACCESSORY_BAG("accessory_bag", false, false, false, DatapointAccessoryBag.class, new DatapointAccessoryBag("accessory_bag")),
-        SACK_OF_SACKS("sack_of_sacks", false, false, false, DatapointSackOfSacks.class, new DatapointSackOfSacks("sack_of_sacks")),
-        ITEMS_IN_SACKS("items_in_sacks", false, false, false, DatapointItemsInSacks.class, new DatapointItemsInSacks("items_in_sacks")),
-        SKYBLOCK_EXPERIENCE("skyblock_experience", false, false, false, DatapointSkyBlockExperience.class, new DatapointSkyBlockExperience("skyblock_experience")),
-        BITS("bits", false, false, false, DatapointInteger.class, new DatapointInteger("bits", 0)),
-        GEMS("gems", false, false, false, DatapointInteger.class, new DatapointInteger("gems", 0)),
-        MUSEUM_DATA("museum_data", false, false, false, DatapointMuseum.class, new DatapointMuseum("museum_data"), (player, datapoint) -> {
+        PET_DATA("pet_data", false, false, DatapointPetData.class, new DatapointPetData("pet_data")),
+        QUIVER("quiver", false, false, DatapointQuiver.class, new DatapointQuiver("quiver")),
+        ACCESSORY_BAG("accessory_bag", false, false, DatapointAccessoryBag.class, new DatapointAccessoryBag("accessory_bag")),
+        SACK_OF_SACKS("sack_of_sacks", false, false, DatapointSackOfSacks.class, new DatapointSackOfSacks("sack_of_sacks")),
+        ITEMS_IN_SACKS("items_in_sacks", false, false, DatapointItemsInSacks.class, new DatapointItemsInSacks("items_in_sacks")),
+        SKYBLOCK_EXPERIENCE("skyblock_experience", false, false, DatapointSkyBlockExperience.class, new DatapointSkyBlockExperience("skyblock_experience")),
+        BITS("bits", false, false, DatapointInteger.class, new DatapointInteger("bits", 0)),
+        GEMS("gems", false, false, DatapointInteger.class, new DatapointInteger("gems", 0)),
+        MUSEUM_DATA("museum_data", false, false, DatapointMuseum.class, new DatapointMuseum("museum_data"), (player, datapoint) -> {
         }, (player, datapoint) -> {
             DatapointMuseum.MuseumData data = (DatapointMuseum.MuseumData) datapoint.getValue();
             data.setCurrentlyViewing(Map.entry(player.getUuid(), player.getProfiles().getCurrentlySelected()));
         }),
-        SKIN_SIGNATURE("skin_signature", false, false, false, DatapointString.class, new DatapointString("skin_signature", "null"), (player, datapoint) -> {
+        SKIN_SIGNATURE("skin_signature", false, false, DatapointString.class, new DatapointString("skin_signature", "null"), (player, datapoint) -> {
         }, (player, datapoint) -> {
             datapoint.setValue(player.getSkin().signature());
         }),
-        SKIN_TEXTURE("skin_texture", false, false, false, DatapointString.class, new DatapointString("skin_texture", "null"), (player, datapoint) -> {
+        SKIN_TEXTURE("skin_texture", false, false, DatapointString.class, new DatapointString("skin_texture", "null"), (player, datapoint) -> {
         }, (player, datapoint) -> {
             datapoint.setValue(player.getSkin().textures());
         }),
-        VISITED_ISLANDS("visited_islands", false, false, false, DatapointStringList.class, new DatapointStringList("visited_islands")),
-        USED_SCROLLS("used_scrolls", false, false, false, DatapointStringList.class, new DatapointStringList("used_scrolls")),
-        BOOSTER_COOKIE_EXPIRATION_DATE("booster_cookie_expiration_date", false, false, false, DatapointLong.class, new DatapointLong("booster_cookie_expiration_date", 1L)),
-        KAT("kat", false, false, false, DatapointKat.class, new DatapointKat("kat")),
+        VISITED_ISLANDS("visited_islands", false, false, DatapointStringList.class, new DatapointStringList("visited_islands")),
+        USED_SCROLLS("used_scrolls", false, false, DatapointStringList.class, new DatapointStringList("used_scrolls")),
+        BOOSTER_COOKIE_EXPIRATION_DATE("booster_cookie_expiration_date", false, false, DatapointLong.class, new DatapointLong("booster_cookie_expiration_date", 1L)),
+        KAT("kat", false, false, DatapointKat.class, new DatapointKat("kat")),
         ;
 
         @Getter
@@ -384,8 +430,6 @@ public class DataHandler {
         @Getter
         private final Boolean isCoopPersistent;
         @Getter
-        private final Boolean repeatSetValue;
-        @Getter
         private final Class<? extends Datapoint> type;
         @Getter
         private final Datapoint defaultDatapoint;
@@ -393,11 +437,10 @@ public class DataHandler {
         public final BiConsumer<SkyBlockPlayer, Datapoint> onLoad;
         public final Function<SkyBlockPlayer, Datapoint> onQuit;
 
-        Data(String key, Boolean isProfilePersistent, Boolean isCoopPersistent, Boolean repeatSetValue, Class<? extends Datapoint> type, Datapoint defaultDatapoint, BiConsumer<Player, Datapoint> onChange, BiConsumer<SkyBlockPlayer, Datapoint> onLoad, Function<SkyBlockPlayer, Datapoint> onQuit) {
+        Data(String key, Boolean isProfilePersistent, Boolean isCoopPersistent, Class<? extends Datapoint> type, Datapoint defaultDatapoint, BiConsumer<Player, Datapoint> onChange, BiConsumer<SkyBlockPlayer, Datapoint> onLoad, Function<SkyBlockPlayer, Datapoint> onQuit) {
             this.key = key;
             this.isProfilePersistent = isProfilePersistent;
             this.isCoopPersistent = isCoopPersistent;
-            this.repeatSetValue = repeatSetValue;
             this.type = type;
             this.defaultDatapoint = defaultDatapoint;
             this.onChange = onChange;
@@ -405,11 +448,10 @@ public class DataHandler {
             this.onQuit = onQuit;
         }
 
-        Data(String key, Boolean isProfilePersistent, Boolean isCoopPersistent, Boolean repeatSetValue, Class<? extends Datapoint> type, Datapoint defaultDatapoint, BiConsumer<Player, Datapoint> onChange, BiConsumer<SkyBlockPlayer, Datapoint> onLoad) {
+        Data(String key, Boolean isProfilePersistent, Boolean isCoopPersistent, Class<? extends Datapoint> type, Datapoint defaultDatapoint, BiConsumer<Player, Datapoint> onChange, BiConsumer<SkyBlockPlayer, Datapoint> onLoad) {
             this.key = key;
             this.isProfilePersistent = isProfilePersistent;
             this.isCoopPersistent = isCoopPersistent;
-            this.repeatSetValue = repeatSetValue;
             this.type = type;
             this.defaultDatapoint = defaultDatapoint;
             this.onChange = onChange;
@@ -417,11 +459,10 @@ public class DataHandler {
             this.onQuit = null;
         }
 
-        Data(String key, Boolean isProfilePersistent, Boolean isCoopPersistent, Boolean repeatSetValue, Class<? extends Datapoint> type, Datapoint defaultDatapoint, BiConsumer<Player, Datapoint> onChange) {
+        Data(String key, Boolean isProfilePersistent, Boolean isCoopPersistent, Class<? extends Datapoint> type, Datapoint defaultDatapoint, BiConsumer<Player, Datapoint> onChange) {
             this.key = key;
             this.isProfilePersistent = isProfilePersistent;
             this.isCoopPersistent = isCoopPersistent;
-            this.repeatSetValue = repeatSetValue;
             this.type = type;
             this.defaultDatapoint = defaultDatapoint;
             this.onChange = onChange;
@@ -429,11 +470,10 @@ public class DataHandler {
             this.onQuit = null;
         }
 
-        Data(String key, Boolean isProfilePersistent, Boolean isCoopPersistent, Boolean repeatSetValue, Class<? extends Datapoint> type, Datapoint defaultDatapoint) {
+        Data(String key, Boolean isProfilePersistent, Boolean isCoopPersistent, Class<? extends Datapoint> type, Datapoint defaultDatapoint) {
             this.key = key;
             this.isProfilePersistent = isProfilePersistent;
             this.isCoopPersistent = isCoopPersistent;
-            this.repeatSetValue = repeatSetValue;
             this.type = type;
             this.defaultDatapoint = defaultDatapoint;
             this.onChange = null;
@@ -450,18 +490,4 @@ public class DataHandler {
             return null;
         }
     }
-
-    public static void startRepeatSetValueLoop() {
-        MinecraftServer.getSchedulerManager().submitTask(() -> {
-            SkyBlockGenericLoader.getLoadedPlayers().forEach(player -> {
-                Arrays.stream(Data.values()).forEach(data -> {
-                    if (data.repeatSetValue) {
-                        Datapoint datapoint = player.getDataHandler().get(data, data.getType());
-                        datapoint.setValue(datapoint.getValue());
-                    }
-                });
-            });
-            return TaskSchedule.nextTick();
-        });
-    }
 }
\ No newline at end of file
@@ -5,17 +5,9 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
-import net.swofty.proxyapi.ProxyPlayer;
 import net.swofty.commons.protocol.Serializer;
-import net.swofty.types.generic.SkyBlockGenericLoader;
-import net.swofty.types.generic.data.datapoints.DatapointBoolean;
-import net.swofty.types.generic.data.mongodb.CoopDatabase;
-import net.swofty.types.generic.data.mongodb.ProfilesDatabase;
-import net.swofty.types.generic.user.SkyBlockPlayer;
-import org.bson.Document;
-
-import java.util.ArrayList;
-import java.util.List;
+
+import java.util.Objects;
 import java.util.UUID;
 
 public abstract class Datapoint<T> {
@@ -26,6 +18,8 @@ public abstract class Datapoint<T> {
     private T value;
     protected Serializer<T> serializer;
     DataHandler.Data data;
+    private volatile boolean dirty;
+    private String persistedValue;
 
     protected Datapoint(String key, T value, Serializer<T> serializer) {
         this.key = key;
@@ -59,83 +53,63 @@ public abstract class Datapoint<T> {
         return serializer.serialize(value);
     }
 
-    public void deserializeValue(String json) throws JsonProcessingException {
+    public synchronized void deserializeValue(String json) throws JsonProcessingException {
         this.value = serializer.deserialize(json);
+        this.persistedValue = json;
+        this.dirty = false;
     }
 
-    @SneakyThrows
-    public void setValueBypassCoop(T value) {
-        this.value = value;
+    public boolean isDirty() {
+        return dirty;
+    }
 
-        Player player = MinecraftServer.getConnectionManager().getOnlinePlayerByUuid(dataHandler.getUuid());
-        if (player != null)
-            if (data.onChange != null)
-                data.onChange.accept(player, this);
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Returns the serialized value if it differs from what was last persisted, or
+     * null if the stored copy is still up to date. Values that were never marked
+     * dirty are only serialized when forced, which catches in-place mutations.
+     * Polls are serialized, so a change is only ever handed to one of two
+     * concurrent callers.
+     */
+    synchronized String pollChange(boolean force) throws JsonProcessingException {
+        if (!dirty && !force) return null;
+        dirty = false;
+
+        String serialized = getSerializedValue();
+        if (serialized.equals(persistedValue)) return null;
+        persistedValue = serialized;
+        return serialized;
+    }
+
+    /**
+     * Sets the value without passing it on to the rest of the player's coop
+     */
+    public void setValueBypassCoop(T value) {
+        CoopSync.bypass(() -> setValue(value));
     }
 
     @SneakyThrows
     public void setValue(T value) {
+        T previous = this.value;
         this.value = value;
+        if (!isMutation(previous, value)) return;
+        this.dirty = true;
 
         Player player = MinecraftServer.getConnectionManager().getOnlinePlayerByUuid(dataHandler.getUuid());
-        if (player != null) {
-            if (data.onChange != null)
-                data.onChange.accept(player, this);
-
-            // Handle coop datapoints
-            if (data.getIsCoopPersistent() && dataHandler.get(DataHandler.Data.IS_COOP, DatapointBoolean.class).getValue()) {
-                List<UUID> coopMembers = CoopDatabase.getFromMember(dataHandler.getUuid()).members();
-                List<UUID> coopMembersProfiles = CoopDatabase.getFromMember(dataHandler.getUuid()).memberProfiles();
-
-                List<UUID> updatedProfiles = new ArrayList<>();
-
-                for (UUID member : coopMembers) {
-                    // Handle online coop members datapoints
-                    SkyBlockPlayer skyBlockPlayer = SkyBlockGenericLoader.getFromUUID(member);
-                    if (skyBlockPlayer != null) {
-                        UUID selectedProfile = skyBlockPlayer.getProfiles().getCurrentlySelected();
-
-                        if (skyBlockPlayer.getDataHandler().getUuid() == dataHandler.getUuid()) {
-                            // Ensure we don't update the player's own datapoints
-                            updatedProfiles.add(selectedProfile);
-                            continue;
-                        }
-
-                        // Player is not on their coop profile
-                        if (!coopMembersProfiles.contains(selectedProfile)) continue;
-
-                        DataHandler dataHandler = skyBlockPlayer.getDataHandler();
-                        dataHandler.getDatapoint(key).setValueBypassCoop(value);
-                        updatedProfiles.add(selectedProfile);
-                    }
-                }
-
-                coopMembersProfiles.removeAll(updatedProfiles);
-                coopMembersProfiles.remove(dataHandler.getUuid());
-                coopMembersProfiles.forEach(uuid -> {
-                    Thread.startVirtualThread(() -> {
-                        ProfilesDatabase profilesDatabase = new ProfilesDatabase(uuid.toString());
-                        UUID playerUUID = dataHandler.getUuid();
-                        ProxyPlayer proxyPlayer = new ProxyPlayer(playerUUID);
-
-                        if (proxyPlayer.isOnline().join()) {
-                            // Put the freshest data in the DB
-                            proxyPlayer.refreshCoopData(key);
-                        }
-
-                        DataHandler dataHandler = DataHandler.fromDocument(profilesDatabase.getDocument());
-                        dataHandler.getDatapoint(key).value = value;
-
-                        Document document = dataHandler.toDocument(uuid);
-                        ProfilesDatabase.collection.replaceOne(profilesDatabase.getDocument(), document);
-
-                        if (proxyPlayer.isOnline().join()) {
-                            // Refresh the player's data with the new data
-                            proxyPlayer.refreshCoopData(key);
-                        }
-                    });
-                });
-            }
-        }
+        if (player != null)
+            DataHandler.publish(player, this);
+    }
+
+    /**
+     * Setting an equal value is not a change. Setting the same mutable object again
+     * is, as that is how callers signal they changed it in place.
+     */
+    private static boolean isMutation(Object previous, Object value) {
+        if (previous != value) return !Objects.equals(previous, value);
+        return !(value == null || value instanceof Number || value instanceof String
+                || value instanceof Boolean || value instanceof Enum<?> || value instanceof UUID);
     }
 }
\ No newline at end of file
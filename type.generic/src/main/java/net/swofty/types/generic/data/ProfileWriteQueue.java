@@ -0,0 +1,156 @@
+package net.swofty.types.generic.data;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.timer.ExecutionType;
+import net.minestom.server.timer.TaskSchedule;
+import net.swofty.commons.Configuration;
+import net.swofty.commons.mongodb.MongoUpserts;
+import net.swofty.commons.mongodb.WriteBatch;
+import net.swofty.types.generic.SkyBlockGenericLoader;
+import net.swofty.types.generic.data.mongodb.ProfilesDatabase;
+import net.swofty.types.generic.user.SkyBlockPlayer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Write-behind queue for profile documents. Changed datapoints are collected from
+ * loaded players on the tick thread and written as $set updates off it, with
+ * repeated writes to the same field of a profile collapsing into the latest value.
+ * <p>
+ * Every drain and write runs on a single writer thread. A periodic flush that
+ * drained an older snapshot therefore always lands before a later save of the
+ * same profile, never after it. Changes are polled and queued in one step per
+ * player, so a newer poll is never queued underneath an older one.
+ */
+public class ProfileWriteQueue {
+    private static final Map<UUID, Map<String, Object>> pending = new ConcurrentHashMap<>();
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("profile-writer").factory());
+    private static final Set<SkyBlockPlayer> closing = ConcurrentHashMap.newKeySet();
+
+    public static void enqueue(UUID profileId, Map<String, Object> fields) {
+        if (fields.isEmpty()) return;
+        pending.merge(profileId, new HashMap<>(fields), (queued, latest) -> {
+            queued.putAll(latest);
+            return queued;
+        });
+    }
+
+    /**
+     * Collects the player's changes, including in-place mutations, and writes them
+     * before returning
+     */
+    public static void save(SkyBlockPlayer player) {
+        flush(collect(player, true));
+    }
+
+    /**
+     * Takes the player out of the periodic flush and then saves them, so nothing is
+     * collected from them after their final write. Used when the player quits.
+     */
+    public static void close(SkyBlockPlayer player) {
+        closing.add(player);
+        try {
+            save(player);
+        } finally {
+            closing.remove(player);
+        }
+    }
+
+    private static UUID collect(SkyBlockPlayer player, boolean verify) {
+        DataHandler dataHandler = player.getDataHandler();
+        synchronized (dataHandler) {
+            UUID profileId = player.getProfiles().getCurrentlySelected();
+            enqueue(profileId, dataHandler.pollChanges(verify));
+            return profileId;
+        }
+    }
+
+    /**
+     * Writes the profile's queued fields on the writer thread and waits for the result
+     */
+    public static void flush(UUID profileId) {
+        await(writer.submit(() -> write(profileId)));
+    }
+
+    /**
+     * Writes every queued profile on the writer thread and waits for the result
+     */
+    public static void flushAll() {
+        await(writer.submit(ProfileWriteQueue::writeAll));
+    }
+
+    private static void write(UUID profileId) {
+        Map<String, Object> fields = pending.remove(profileId);
+        if (fields == null) return;
+
+        try {
+            MongoUpserts.setFields(ProfilesDatabase.collection, profileId.toString(), fields);
+        } catch (Exception e) {
+            // Requeue underneath anything newer so the next flush retries it
+            pending.merge(profileId, fields, (queued, failed) -> {
+                failed.putAll(queued);
+                return failed;
+            });
+            throw e;
+        }
+    }
+
+    private static void writeAll() {
+        if (pending.isEmpty()) return;
+
+        Map<UUID, Map<String, Object>> drained = new HashMap<>();
+        pending.keySet().forEach(profileId -> {
+            Map<String, Object> fields = pending.remove(profileId);
+            if (fields != null) drained.put(profileId, fields);
+        });
+
+        WriteBatch batch = new WriteBatch(ProfilesDatabase.collection);
+        drained.forEach((profileId, fields) -> batch.setFields(profileId.toString(), fields));
+        try {
+            batch.flush();
+        } catch (Exception e) {
+            drained.forEach((profileId, fields) -> pending.merge(profileId, fields, (queued, failed) -> {
+                failed.putAll(queued);
+                return failed;
+            }));
+            e.printStackTrace();
+        }
+    }
+
+    public static void start() {
+        int interval = Configuration.getOrDefault("profile-save-interval-seconds", 30);
+
+        MinecraftServer.getSchedulerManager().scheduleTask(() -> {
+            SkyBlockGenericLoader.getLoadedPlayers().forEach(player -> {
+                if (!closing.contains(player)) collect(player, false);
+            });
+            writer.execute(ProfileWriteQueue::writeAll);
+        }, TaskSchedule.seconds(interval), TaskSchedule.seconds(interval), ExecutionType.TICK_END);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            SkyBlockGenericLoader.getLoadedPlayers().forEach(player -> collect(player, true));
+            flushAll();
+        }));
+    }
+
+    private static void await(Future<?> write) {
+        try {
+            write.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
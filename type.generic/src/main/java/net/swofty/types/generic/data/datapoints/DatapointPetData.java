@@ -11,6 +11,7 @@ import net.swofty.types.generic.item.ItemTypeLinker;
 import net.swofty.types.generic.item.SkyBlockItem;
 import net.swofty.types.generic.item.impl.SkullHead;
 import net.swofty.types.generic.user.SkyBlockPlayer;
+import net.swofty.types.generic.user.statistics.StatisticSource;
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONObject;
 
@@ -119,6 +120,8 @@ public class DatapointPetData extends Datapoint<DatapointPetData.UserPetData> {
             }
             if (player == null) return;
 
+            // Every change to the enabled pet goes through here
+            player.getStatistics().invalidate(StatisticSource.PET);
             SkyBlockItem enabledPet = getEnabledPet();
             if (enabledPet != null) {
                 enabledPetEntityImpl = new PetEntityImpl(player,
@@ -13,6 +13,7 @@ import net.swofty.types.generic.skill.SkillCategory;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 import net.swofty.commons.statistics.ItemStatistics;
 import net.swofty.commons.StringUtility;
+import net.swofty.types.generic.user.statistics.StatisticSource;
 import org.json.JSONObject;
 
 import java.util.HashMap;
@@ -141,6 +142,7 @@ public class DatapointSkills extends Datapoint<DatapointSkills.PlayerSkills> {
                     getCumulative(category) + value - getRaw(category)
             ));
             skills.put(category, value);
+            player.getStatistics().invalidate(StatisticSource.LEVELS);
             player.playSound(Sound.sound(Key.key("entity.experience_orb.pickup"), Sound.Source.PLAYER, 1f, 2f), Sound.Emitter.self());
         }
 
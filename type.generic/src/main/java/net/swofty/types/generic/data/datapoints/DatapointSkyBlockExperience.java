@@ -12,6 +12,7 @@ import net.swofty.types.generic.levels.SkyBlockLevelCause;
 import net.swofty.types.generic.levels.SkyBlockLevelRequirement;
 import net.swofty.types.generic.levels.abstr.SkyBlockLevelCauseAbstr;
 import net.swofty.types.generic.user.SkyBlockPlayer;
+import net.swofty.types.generic.user.statistics.StatisticSource;
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONObject;
 
@@ -137,9 +138,11 @@ public class DatapointSkyBlockExperience extends Datapoint<DatapointSkyBlockExpe
             completedExperienceCauses.add(cause);
             double newXP = getTotalXP();
 
-            if (getAttachedPlayer() != null)
+            if (getAttachedPlayer() != null) {
+                getAttachedPlayer().getStatistics().invalidate(StatisticSource.LEVELS);
                 SkyBlockEventHandler.callSkyBlockEvent(new SkyBlockXPModificationEvent(
                         getAttachedPlayer(), cause, oldXP, newXP));
+            }
         }
 
         /**
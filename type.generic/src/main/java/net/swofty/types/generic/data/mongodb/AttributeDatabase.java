@@ -5,6 +5,7 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import org.bson.Document;
+import net.swofty.commons.mongodb.MongoUpserts;
 
 public class AttributeDatabase {
     public static MongoClient client;
@@ -13,15 +14,11 @@ public class AttributeDatabase {
 
     public static void connect(MongoClient client) {
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("attribute");
+        collection = MongoUpserts.configure(database.getCollection("attribute"));
     }
 
     public static void saveDocument(Document document) {
-        if (collection.find(Filters.eq("_id", document.getString("_id"))).first() != null) {
-            collection.replaceOne(Filters.eq("_id", document.getString("_id")), document);
-        } else {
-            collection.insertOne(document);
-        }
+        MongoUpserts.replace(collection, document.getString("_id"), document);
     }
 
     public static Document getDocument(String key) {
@@ -5,9 +5,9 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.Updates;
 import org.bson.Document;
 import org.jetbrains.annotations.Nullable;
+import net.swofty.commons.mongodb.MongoUpserts;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -24,7 +24,7 @@ public record AuthenticationDatabase(UUID id) implements MongoDB {
 
     public static void connect(MongoClient client) {
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("authentication");
+        collection = MongoUpserts.configure(database.getCollection("authentication"));
     }
 
     @Override
@@ -57,35 +57,15 @@ public record AuthenticationDatabase(UUID id) implements MongoDB {
 
     @Override
     public boolean remove(String id) {
-        Document query = new Document("_id", id);
-        Document found = collection.find(query).first();
-
-        if (found == null) {
-            return false;
-        }
-
-        collection.deleteOne(query);
-        return true;
+        return MongoUpserts.delete(collection, id);
     }
 
     public void insertOrUpdate(String key, Object value) {
-        if (exists()) {
-            Document query = new Document("_id", id);
-            Document found = collection.find(query).first();
-
-            assert found != null;
-            collection.updateOne(found, Updates.set(key, value));
-            return;
-        }
-        Document New = new Document("_id", id);
-        New.append(key, value);
-        collection.insertOne(New);
+        MongoUpserts.setField(collection, id, key, value);
     }
 
     public boolean exists() {
-        Document query = new Document("_id", id);
-        Document found = collection.find(query).first();
-        return found != null;
+        return MongoUpserts.exists(collection, id);
     }
 
     public @Nullable AuthenticationData getAuthenticationData() {
@@ -99,11 +79,7 @@ public record AuthenticationDatabase(UUID id) implements MongoDB {
     public void setAuthenticationData(AuthenticationData data) {
         Document document = data.serialize();
         document.put("_id", id.toString());
-        if (collection.find(Filters.eq("_id", id.toString())).first() == null) {
-            collection.insertOne(document);
-            return;
-        }
-        collection.replaceOne(Filters.eq("_id", id.toString()), document);
+        MongoUpserts.replace(collection, id.toString(), document);
     }
 
     public static AuthenticationData makeFromPassword(String password) {
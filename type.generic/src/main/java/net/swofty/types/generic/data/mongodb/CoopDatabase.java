@@ -4,8 +4,10 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
+import net.swofty.commons.mongodb.MongoUpserts;
 import net.swofty.proxyapi.ProxyPlayerSet;
 import net.swofty.types.generic.SkyBlockGenericLoader;
+import net.swofty.types.generic.data.CoopSync;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 import org.bson.Document;
 
@@ -19,48 +21,35 @@ public class CoopDatabase {
 
     public static void connect(MongoClient client) {
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("coop");
+        collection = MongoUpserts.configure(database.getCollection("coop"));
     }
 
     public void save(Coop coop) {
         if (coop.members.isEmpty() && coop.memberInvites.isEmpty()) {
             collection.deleteOne(Filters.eq("_id", coop.coopUUID.toString()));
+            CoopSync.invalidate(coop);
+            CoopSync.forget(coop);
             return;
         }
 
-        Document document = coop.serialize();
-        if (collection.find(Filters.eq("_id", coop.coopUUID.toString())).first() != null) {
-            collection.replaceOne(Filters.eq("_id", coop.coopUUID.toString()), document);
-        } else {
-            collection.insertOne(document);
-        }
+        MongoUpserts.replace(collection, coop.coopUUID.toString(), coop.serialize());
+        CoopSync.invalidate(coop);
     }
 
     public static Coop getFromMember(UUID member) {
-        // Search through all coop documents and find the one that contains the UUID the list Members or MembersInvited
-        for (Document document : collection.find()) {
-            List<String> members = (List<String>) document.get("members");
-            List<String> memberInvites = (List<String>) document.get("memberInvites");
-
-            if (members.contains(member.toString()) || memberInvites.contains(member.toString())) {
-                return Coop.deserialize(document);
-            }
-        }
+        // Matches the coop whose members or invites array contains the UUID
+        Document document = collection.find(Filters.or(
+                Filters.eq("members", member.toString()),
+                Filters.eq("memberInvites", member.toString())
+        )).first();
 
-        return null;
+        return document == null ? null : Coop.deserialize(document);
     }
 
     public static Coop getFromMemberProfile(UUID memberProfile) {
-        // Search through all coop documents and find the one that contains the UUID in the memberProfiles list
-        for (Document document : collection.find()) {
-            List<String> memberProfiles = (List<String>) document.get("memberProfiles");
-
-            if (memberProfiles.contains(memberProfile.toString())) {
-                return Coop.deserialize(document);
-            }
-        }
+        Document document = collection.find(Filters.eq("memberProfiles", memberProfile.toString())).first();
 
-        return null;
+        return document == null ? null : Coop.deserialize(document);
     }
 
     public static Coop getClean(UUID originator) {
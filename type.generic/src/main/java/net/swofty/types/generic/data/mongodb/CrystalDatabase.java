@@ -6,6 +6,7 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import net.minestom.server.coordinate.Pos;
 import net.swofty.commons.ServerType;
+import net.swofty.commons.mongodb.MongoUpserts;
 import net.swofty.types.generic.SkyBlockConst;
 import net.swofty.types.generic.item.ItemTypeLinker;
 import org.bson.Document;
@@ -20,7 +21,7 @@ public class CrystalDatabase {
 
     public static void connect(MongoClient client) {
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("crystals");
+        collection = MongoUpserts.configure(database.getCollection("crystals"));
     }
 
     public static Document getDocument(String key) {
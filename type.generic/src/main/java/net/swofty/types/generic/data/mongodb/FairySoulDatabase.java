@@ -5,6 +5,7 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import net.minestom.server.coordinate.Pos;
+import net.swofty.commons.mongodb.MongoUpserts;
 import net.swofty.types.generic.user.fairysouls.FairySoul;
 import net.swofty.types.generic.user.fairysouls.FairySoulZone;
 import org.bson.Document;
@@ -19,7 +20,7 @@ public class FairySoulDatabase {
 
     public static void connect(MongoClient client) {
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("fairysouls");
+        collection = MongoUpserts.configure(database.getCollection("fairysouls"));
     }
 
     public static Document getDocument(String key) {
@@ -5,11 +5,12 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.Updates;
 import org.bson.Document;
+import net.swofty.commons.mongodb.MongoUpserts;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public record IslandDatabase(String profileUuid) implements MongoDB {
     public static MongoDatabase database;
@@ -17,7 +18,7 @@ public record IslandDatabase(String profileUuid) implements MongoDB {
 
     public static void connect(MongoClient client) {
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("island");
+        collection = MongoUpserts.configure(database.getCollection("island"));
     }
 
     @Override
@@ -55,34 +56,18 @@ public record IslandDatabase(String profileUuid) implements MongoDB {
 
     @Override
     public boolean remove(String id) {
-        Document query = new Document("_id", id);
-        Document found = collection.find(query).first();
-
-        if (found == null) {
-            return false;
-        }
-
-        collection.deleteOne(query);
-        return true;
+        return MongoUpserts.delete(collection, id);
     }
 
     public void insertOrUpdate(String key, Object value) {
-        if (exists()) {
-            Document query = new Document("_id", profileUuid);
-            Document found = collection.find(query).first();
+        MongoUpserts.setField(collection, profileUuid, key, value);
+    }
 
-            assert found != null;
-            collection.updateOne(found, Updates.set(key, value));
-            return;
-        }
-        Document New = new Document("_id", profileUuid);
-        New.append(key, value);
-        collection.insertOne(New);
+    public void insertOrUpdate(Map<String, Object> fields) {
+        MongoUpserts.setFields(collection, profileUuid, fields);
     }
 
     public boolean exists() {
-        Document query = new Document("_id", profileUuid);
-        Document found = collection.find(query).first();
-        return found != null;
+        return MongoUpserts.exists(collection, profileUuid);
     }
 }
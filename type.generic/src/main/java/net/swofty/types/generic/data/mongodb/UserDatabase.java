@@ -3,6 +3,7 @@ package net.swofty.types.generic.data.mongodb;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import net.swofty.commons.mongodb.MongoUpserts;
 import net.swofty.types.generic.user.PlayerProfiles;
 import org.bson.Document;
 
@@ -25,7 +26,7 @@ public class UserDatabase {
 
     public static void connect(MongoClient client) {
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("profiles");
+        collection = MongoUpserts.configure(database.getCollection("profiles"));
     }
 
     public PlayerProfiles getProfiles() {
@@ -46,10 +47,6 @@ public class UserDatabase {
         Document document = new Document("_id", id.toString());
         document.putAll(map);
 
-        if (collection.find(new Document("_id", id.toString())).first() != null) {
-            collection.replaceOne(new Document("_id", id.toString()), document);
-        } else {
-            collection.insertOne(document);
-        }
+        MongoUpserts.replace(collection, id.toString(), document);
     }
 }
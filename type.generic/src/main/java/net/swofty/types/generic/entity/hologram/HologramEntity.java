@@ -4,11 +4,26 @@ import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.Metadata;
+import net.minestom.server.entity.Player;
 import net.minestom.server.entity.metadata.other.ArmorStandMeta;
+import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
 public class HologramEntity extends Entity {
+    // Custom name index of the entity metadata
+    private static final int CUSTOM_NAME_INDEX = 2;
+
     private String text;
+    // Text each viewer should see, and the text each was last sent where it differs from this entity's own
+    private final Map<UUID, String> viewerText = new ConcurrentHashMap<>();
+    private final Map<UUID, String> sentText = new ConcurrentHashMap<>();
 
     public HologramEntity(String text) {
         super(EntityType.ARMOR_STAND);
@@ -37,5 +52,55 @@ public class HologramEntity extends Entity {
         meta.setNotifyAboutChanges(false);
         meta.setCustomName(Component.text(text));
         meta.setNotifyAboutChanges(true);
+
+        String sent = text;
+        sentText.replaceAll((uuid, previous) -> sent);
+    }
+
+    /**
+     * Sets the text shown to one player, sending it only if it differs from what they were last shown
+     *
+     * @return true if the player had no text on this hologram before
+     */
+    public boolean setText(Player player, String text) {
+        text = text.replace("&", "§");
+        boolean added = viewerText.put(player.getUuid(), text) == null;
+        if (getViewers().contains(player)) sendText(player, text);
+        return added;
+    }
+
+    public void removeText(Player player) {
+        viewerText.remove(player.getUuid());
+        sentText.remove(player.getUuid());
+    }
+
+    public boolean hasText(Player player) {
+        return viewerText.containsKey(player.getUuid());
+    }
+
+    public boolean hasViewerText() {
+        return !viewerText.isEmpty();
+    }
+
+    @Override
+    public void updateNewViewer(@NotNull Player player) {
+        super.updateNewViewer(player);
+
+        // The spawn carried this entity's own text, so that is what the viewer now sees
+        sentText.put(player.getUuid(), text);
+        String ownText = viewerText.get(player.getUuid());
+        if (ownText != null) sendText(player, ownText);
+    }
+
+    @Override
+    public void updateOldViewer(@NotNull Player player) {
+        super.updateOldViewer(player);
+        sentText.remove(player.getUuid());
+    }
+
+    private void sendText(Player player, String text) {
+        if (Objects.equals(sentText.put(player.getUuid(), text), text)) return;
+        player.sendPacket(new EntityMetaDataPacket(getEntityId(),
+                Map.of(CUSTOM_NAME_INDEX, Metadata.OptChat(Component.text(text)))));
     }
 }
@@ -0,0 +1,55 @@
+package net.swofty.types.generic.entity.hologram;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders per-player hologram lines onto one {@link HologramEntity} per spot, shared
+ * by every player shown a line there.
+ * <p>
+ * A line entity is only viewable by the players it is rendered for, and is left to
+ * the entity view distance to spawn and despawn for them. Players who see the
+ * entity's own text need nothing beyond the spawn. Anyone else is sent a metadata
+ * packet with their text, and only again once their text changes. A line entity is
+ * removed once no player is shown it.
+ */
+public class HologramRenderer {
+    private static final Map<Line, HologramEntity> lines = new ConcurrentHashMap<>();
+
+    public static HologramEntity show(Player player, Instance instance, Pos position, String text) {
+        boolean[] added = new boolean[1];
+        HologramEntity entity = lines.compute(new Line(instance, position), (line, existing) -> {
+            HologramEntity hologram = existing != null ? existing : create(line, text);
+            added[0] = hologram.setText(player, text);
+            return hologram;
+        });
+
+        if (added[0]) entity.updateViewableRule();
+        return entity;
+    }
+
+    public static void hide(Player player, Instance instance, Pos position) {
+        HologramEntity entity = lines.computeIfPresent(new Line(instance, position), (line, hologram) -> {
+            hologram.removeText(player);
+            if (hologram.hasViewerText()) return hologram;
+
+            hologram.remove();
+            return null;
+        });
+
+        if (entity != null) entity.updateViewableRule();
+    }
+
+    private static HologramEntity create(Line line, String text) {
+        HologramEntity entity = new HologramEntity(text);
+        entity.updateViewableRule(entity::hasText);
+        entity.setInstance(line.instance(), line.position());
+        return entity;
+    }
+
+    private record Line(Instance instance, Pos position) {}
+}
\ No newline at end of file
@@ -8,16 +8,17 @@ import net.minestom.server.timer.TaskSchedule;
 import net.swofty.types.generic.SkyBlockConst;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
-import static java.util.stream.Collectors.*;
-
 public enum PlayerHolograms {
     ;
 
-    private static final HashMap<SkyBlockPlayer, List<Map.Entry<PlayerHolograms, HologramEntity>>> entities = new HashMap<>();
+    // Where each player is shown the lines of each hologram type
+    private static final Map<SkyBlockPlayer, Map<PlayerHolograms, List<Pos>>> shown = new ConcurrentHashMap<>();
     public static final ConcurrentHashMap<ExternalPlayerHologram, List<HologramEntity>> externalPlayerHolograms = new ConcurrentHashMap<>();
 
     private final Pos pos;
@@ -28,114 +29,104 @@ public enum PlayerHolograms {
         this.displayFunction = displayFunction;
     }
 
-    private static void addHologram(SkyBlockPlayer skyBlockPlayer, PlayerHolograms hologramType, String line, double heightOffset) {
-        HologramEntity entity = new HologramEntity(line);
-        entity.setInstance(SkyBlockConst.getInstanceContainer(), hologramType.pos.add(0, -heightOffset, 0));
-        entity.addViewer(skyBlockPlayer);
-
-        entities.computeIfAbsent(skyBlockPlayer, k -> new ArrayList<>())
-                .add(new AbstractMap.SimpleEntry<>(hologramType, entity));
-    }
-
     public static void spawnAll(SkyBlockPlayer skyBlockPlayer) {
+        Map<PlayerHolograms, List<Pos>> perType = shown.computeIfAbsent(skyBlockPlayer, k -> new ConcurrentHashMap<>());
         for (PlayerHolograms hologram : values()) {
-            String[] lines = hologram.displayFunction.apply(skyBlockPlayer);
-            if (lines != null) {
-                for (int i = 0; i < lines.length; i++) {
-                    addHologram(skyBlockPlayer, hologram, lines[i], i * 0.25);
-                }
-            }
+            hologram.render(skyBlockPlayer, perType);
         }
     }
 
+    /**
+     * Renders every hologram type for every player every 10 ticks. Lines are drawn
+     * through the {@link HologramRenderer}, so a line whose text is unchanged sends nothing.
+     */
     public static void updateAll(Scheduler scheduler) {
         scheduler.submitTask(() -> {
-            List<SkyBlockPlayer> toRemove = new ArrayList<>();
-            for (SkyBlockPlayer skyBlockPlayer : entities.keySet()) {
+            for (SkyBlockPlayer skyBlockPlayer : new ArrayList<>(shown.keySet())) {
                 if (!skyBlockPlayer.isOnline()) {
-                    toRemove.add(skyBlockPlayer);
+                    remove(skyBlockPlayer);
                     continue;
                 }
 
-                List<Map.Entry<PlayerHolograms, HologramEntity>> currentEntities = entities.get(skyBlockPlayer);
-                Map<PlayerHolograms, List<HologramEntity>> perTypeEntities = currentEntities.stream().collect(groupingBy(Map.Entry::getKey, mapping(Map.Entry::getValue, toList())));
-
-                for (PlayerHolograms hologram : PlayerHolograms.values()) {
-                    String[] lines = hologram.displayFunction.apply(skyBlockPlayer);
-                    if (lines == null) {
-                        // If null, we'll not display any hologram
-                        continue;
-                    }
-
-                    // Calculate the starting Y position based on the text length
-                    double startY = lines.length * 0.3 - 0.3;
-
-                    // Update existing or add new holograms
-                    List<HologramEntity> perTypeCurrentEntities = perTypeEntities.getOrDefault(hologram, new ArrayList<>());
-                    for (int i = 0; i < lines.length; i++) {
-                        if (i < perTypeCurrentEntities.size()) {
-                            // Update existing hologram text
-                            HologramEntity existingEntity = perTypeCurrentEntities.get(i);
-                            existingEntity.setText(lines[i]);
-                            // Update existing hologram position
-                            existingEntity.setInstance(SkyBlockConst.getInstanceContainer(), hologram.pos.add(0, startY - (i * 0.3), 0));
-                        } else {
-                            // Add new hologram
-                            HologramEntity entity = new HologramEntity(lines[i]);
-                            // Set hologram entity at the correct position considering new spacing and bottom alignment
-                            entity.setInstance(SkyBlockConst.getInstanceContainer(), hologram.pos.add(0, startY - (i * 0.3), 0));
-                            entity.addViewer(skyBlockPlayer);
-                            currentEntities.add(Map.entry(hologram, entity));
-                        }
-                    }
-
-                    // Remove excess holograms if there are too many for this hologram type
-                    while (perTypeCurrentEntities.size() > lines.length) {
-                        HologramEntity entity = perTypeCurrentEntities.remove(perTypeCurrentEntities.size() - 1);
-                        currentEntities.remove(Map.entry(hologram, entity));
-                        entity.removeViewer(skyBlockPlayer);
-                        entity.remove();
-                    }
+                Map<PlayerHolograms, List<Pos>> perType = shown.get(skyBlockPlayer);
+                if (perType == null) continue;
+                for (PlayerHolograms hologram : values()) {
+                    hologram.render(skyBlockPlayer, perType);
                 }
             }
-            toRemove.forEach(PlayerHolograms::remove);
             return TaskSchedule.tick(10);
         });
     }
 
+    private void render(SkyBlockPlayer skyBlockPlayer, Map<PlayerHolograms, List<Pos>> perType) {
+        String[] lines = displayFunction.apply(skyBlockPlayer);
+        // If null, we'll not display any hologram
+        if (lines == null) return;
+
+        List<Pos> positions = linePositions(pos, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            HologramRenderer.show(skyBlockPlayer, SkyBlockConst.getInstanceContainer(), positions.get(i), lines[i]);
+        }
+        hideRemoved(skyBlockPlayer, perType.getOrDefault(this, List.of()), positions);
+        perType.put(this, positions);
+    }
+
     public static void addExternalPlayerHologram(ExternalPlayerHologram hologram) {
         List<HologramEntity> entities = new ArrayList<>();
-        double startY = hologram.text.length * 0.3 - 0.3;
+        List<Pos> positions = linePositions(hologram.pos, hologram.text.length);
         for (int i = 0; i < hologram.text.length; i++) {
-            HologramEntity entity = new HologramEntity(hologram.text[i]);
-            entity.setInstance(SkyBlockConst.getInstanceContainer(), hologram.pos.add(0, startY - (i * 0.3), 0));
-            entity.addViewer(hologram.player);
-            entities.add(entity);
+            entities.add(HologramRenderer.show(hologram.player, SkyBlockConst.getInstanceContainer(),
+                    positions.get(i), hologram.text[i]));
         }
 
         externalPlayerHolograms.put(hologram, entities);
     }
 
     public static void removeExternalPlayerHologram(ExternalPlayerHologram hologram) {
-        List<HologramEntity> entities = externalPlayerHolograms.get(hologram);
-        if (entities == null) return;
+        if (externalPlayerHolograms.remove(hologram) == null) return;
 
-        for (HologramEntity entity : entities) {
-            entity.removeViewer(hologram.player);
-            entity.remove();
+        for (Pos position : linePositions(hologram.pos, hologram.text.length)) {
+            HologramRenderer.hide(hologram.player, SkyBlockConst.getInstanceContainer(), position);
         }
+    }
 
-        externalPlayerHolograms.remove(hologram);
+    /**
+     * Shows the player the new hologram in place of the previous one. Lines at the same
+     * spot are only resent if their text changed, rather than despawning and spawning both.
+     */
+    public static void replaceExternalPlayerHologram(@Nullable ExternalPlayerHologram previous, ExternalPlayerHologram hologram) {
+        addExternalPlayerHologram(hologram);
+        if (previous == null || previous == hologram) return;
+        if (externalPlayerHolograms.remove(previous) == null) return;
+
+        hideRemoved(previous.player, linePositions(previous.pos, previous.text.length),
+                previous.player == hologram.player ? linePositions(hologram.pos, hologram.text.length) : List.of());
     }
 
     public static void remove(SkyBlockPlayer skyBlockPlayer) {
-        List<Map.Entry<PlayerHolograms, HologramEntity>> hologramEntries = entities.remove(skyBlockPlayer);
-        if (hologramEntries != null) {
-            for (Map.Entry<PlayerHolograms, HologramEntity> entry : hologramEntries) {
-                entry.getValue().removeViewer(skyBlockPlayer);
-                entry.getValue().remove();
-            }
+        Map<PlayerHolograms, List<Pos>> perType = shown.remove(skyBlockPlayer);
+        if (perType == null) return;
+
+        perType.values().forEach(positions -> hideRemoved(skyBlockPlayer, positions, List.of()));
+    }
+
+    private static void hideRemoved(SkyBlockPlayer skyBlockPlayer, List<Pos> previous, List<Pos> current) {
+        for (Pos position : previous) {
+            if (!current.contains(position))
+                HologramRenderer.hide(skyBlockPlayer, SkyBlockConst.getInstanceContainer(), position);
+        }
+    }
+
+    /**
+     * Stacks the lines downwards so the last one sits at the given position
+     */
+    private static List<Pos> linePositions(Pos pos, int count) {
+        double startY = count * 0.3 - 0.3;
+        List<Pos> positions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            positions.add(pos.add(0, startY - (i * 0.3), 0));
         }
+        return positions;
     }
 
     @Builder
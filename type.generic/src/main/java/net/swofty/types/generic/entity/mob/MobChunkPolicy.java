@@ -0,0 +1,83 @@
+package net.swofty.types.generic.entity.mob;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.swofty.commons.Configuration;
+import org.tinylog.Logger;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides what a mob does when it stands in a chunk that is not loaded, so the tick
+ * thread never waits on a chunk load.
+ * <p>
+ * Such a mob is frozen: it skips its ticks and a load of its chunk is requested in
+ * the background. It resumes on the first tick after the chunk has arrived. A mob
+ * still frozen after {@link #DESPAWN_MS} is despawned, as its chunk is not coming.
+ * Loads are requested once per chunk however many mobs wait on it.
+ */
+public class MobChunkPolicy {
+    private static final long DESPAWN_MS = Configuration.getOrDefault("mob-frozen-despawn-seconds", 60) * 1000L;
+
+    private static final Map<SkyBlockMob, Long> frozen = new ConcurrentHashMap<>();
+    private static final Set<PendingChunk> pending = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong freezes = new AtomicLong();
+    private static final AtomicLong resumes = new AtomicLong();
+    private static final AtomicLong despawns = new AtomicLong();
+    private static final AtomicLong loadsRequested = new AtomicLong();
+
+    /**
+     * @return false if the mob is frozen and must skip this tick
+     */
+    static boolean canTick(SkyBlockMob mob, Instance instance, Point position) {
+        if (instance.isChunkLoaded(position)) {
+            if (frozen.remove(mob) != null) resumes.incrementAndGet();
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        Long since = frozen.putIfAbsent(mob, now);
+        if (since == null) {
+            freezes.incrementAndGet();
+            requestLoad(instance, position);
+        } else if (now - since > DESPAWN_MS) {
+            forget(mob);
+            MobIndex.remove(mob);
+            despawns.incrementAndGet();
+            mob.remove();
+        }
+        return false;
+    }
+
+    /**
+     * Requests the chunk at the position without waiting for it, unless a request for it is already pending
+     */
+    public static void requestLoad(Instance instance, Point position) {
+        PendingChunk chunk = new PendingChunk(instance, position.blockX() >> 4, position.blockZ() >> 4);
+        if (!pending.add(chunk)) return;
+
+        loadsRequested.incrementAndGet();
+        instance.loadChunk(chunk.chunkX(), chunk.chunkZ()).whenComplete((loaded, error) -> {
+            pending.remove(chunk);
+            if (error != null) Logger.warn("Failed to load chunk " + chunk.chunkX() + ", " + chunk.chunkZ() + " for mobs");
+        });
+    }
+
+    static void forget(SkyBlockMob mob) {
+        frozen.remove(mob);
+    }
+
+    public static Metrics getMetrics() {
+        return new Metrics(frozen.size(), pending.size(), freezes.get(), resumes.get(),
+                despawns.get(), loadsRequested.get());
+    }
+
+    private record PendingChunk(Instance instance, int chunkX, int chunkZ) {}
+
+    public record Metrics(int frozen, int pendingLoads, long freezes, long resumes,
+                          long despawns, long loadsRequested) {}
+}
@@ -0,0 +1,158 @@
+package net.swofty.types.generic.entity.mob;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.swofty.types.generic.region.RegionIndex;
+import net.swofty.types.generic.region.RegionType;
+import net.swofty.types.generic.region.SkyBlockRegion;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks every spawned {@link SkyBlockMob}, hashed by chunk column within its
+ * instance, along with the region type it stands in.
+ * <p>
+ * Mobs report themselves on spawn, on death and every tick. A tick only does work
+ * once the mob has entered a new block or the {@link RegionIndex} has changed, at
+ * which point its bucket and region are moved and the population counter of each
+ * mob class per region type is adjusted. This keeps region counts live instead of
+ * recounting every mob against every region.
+ */
+public class MobIndex {
+    private static final Map<SkyBlockMob, Tracked> tracked = new ConcurrentHashMap<>();
+    private static final Map<Instance, Map<Long, Set<SkyBlockMob>>> buckets = new ConcurrentHashMap<>();
+    private static final Map<RegionType, Set<SkyBlockMob>> byRegion = new ConcurrentHashMap<>();
+    private static final Map<Population, AtomicInteger> populations = new ConcurrentHashMap<>();
+
+    static void add(SkyBlockMob mob) {
+        remove(mob);
+
+        Tracked next = Tracked.of(mob);
+        if (next == null) return;
+        tracked.put(mob, next);
+        index(mob, next);
+    }
+
+    static void remove(SkyBlockMob mob) {
+        Tracked previous = tracked.remove(mob);
+        if (previous != null) unindex(mob, previous);
+    }
+
+    /**
+     * Moves the mob to its current position, if it has left the block it was indexed at
+     */
+    static void move(SkyBlockMob mob) {
+        Tracked previous = tracked.get(mob);
+        if (previous == null || previous.matches(mob)) return;
+
+        Tracked next = Tracked.of(mob);
+        if (next == null) {
+            remove(mob);
+            return;
+        }
+        // Another thread removed or moved the mob meanwhile, which wins
+        if (!tracked.replace(mob, previous, next)) return;
+        unindex(mob, previous);
+        index(mob, next);
+    }
+
+    public static List<SkyBlockMob> getMobs() {
+        return new ArrayList<>(tracked.keySet());
+    }
+
+    /**
+     * Returns the mobs standing within the same block as the position
+     */
+    public static List<SkyBlockMob> getMobsAt(Instance instance, Point position) {
+        Map<Long, Set<SkyBlockMob>> instanceBuckets = buckets.get(instance);
+        if (instanceBuckets == null) return List.of();
+
+        Set<SkyBlockMob> bucket = instanceBuckets.get(chunkKey(position.blockX() >> 4, position.blockZ() >> 4));
+        if (bucket == null) return List.of();
+
+        List<SkyBlockMob> mobs = new ArrayList<>();
+        for (SkyBlockMob mob : bucket) {
+            Point mobPosition = mob.getPosition();
+            if (mobPosition.blockX() == position.blockX()
+                    && mobPosition.blockY() == position.blockY()
+                    && mobPosition.blockZ() == position.blockZ()) mobs.add(mob);
+        }
+        return mobs;
+    }
+
+    public static List<SkyBlockMob> getMobsInRegion(RegionType type) {
+        return new ArrayList<>(byRegion.getOrDefault(type, Set.of()));
+    }
+
+    /**
+     * Returns how many mobs of the class currently stand in a region of the type
+     */
+    public static int getPopulation(Class<? extends SkyBlockMob> clazz, RegionType type) {
+        AtomicInteger population = populations.get(new Population(clazz, type));
+        return population == null ? 0 : population.get();
+    }
+
+    public static @Nullable RegionType getRegionType(SkyBlockMob mob) {
+        Tracked current = tracked.get(mob);
+        return current == null ? null : current.region();
+    }
+
+    private static void index(SkyBlockMob mob, Tracked entry) {
+        buckets.computeIfAbsent(entry.instance(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(entry.chunkKey(), k -> ConcurrentHashMap.newKeySet())
+                .add(mob);
+
+        if (entry.region() == null) return;
+        byRegion.computeIfAbsent(entry.region(), k -> ConcurrentHashMap.newKeySet()).add(mob);
+        populations.computeIfAbsent(new Population(mob.getClass(), entry.region()), k -> new AtomicInteger())
+                .incrementAndGet();
+    }
+
+    private static void unindex(SkyBlockMob mob, Tracked entry) {
+        buckets.computeIfPresent(entry.instance(), (instance, instanceBuckets) -> {
+            instanceBuckets.computeIfPresent(entry.chunkKey(), (key, bucket) -> {
+                bucket.remove(mob);
+                return bucket.isEmpty() ? null : bucket;
+            });
+            return instanceBuckets.isEmpty() ? null : instanceBuckets;
+        });
+
+        if (entry.region() == null) return;
+        Set<SkyBlockMob> regionMobs = byRegion.get(entry.region());
+        if (regionMobs != null) regionMobs.remove(mob);
+        AtomicInteger population = populations.get(new Population(mob.getClass(), entry.region()));
+        if (population != null) population.decrementAndGet();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private record Population(Class<? extends SkyBlockMob> clazz, RegionType region) {}
+
+    private record Tracked(Instance instance, int x, int y, int z, long version, @Nullable RegionType region) {
+        static @Nullable Tracked of(SkyBlockMob mob) {
+            Instance instance = mob.getInstance();
+            if (instance == null) return null;
+
+            Point position = mob.getPosition();
+            SkyBlockRegion region = SkyBlockRegion.getRegionOfPosition(position);
+            return new Tracked(instance, position.blockX(), position.blockY(), position.blockZ(),
+                    RegionIndex.getVersion(), region == null ? null : region.getType());
+        }
+
+        boolean matches(SkyBlockMob mob) {
+            Point position = mob.getPosition();
+            return instance == mob.getInstance()
+                    && x == position.blockX() && y == position.blockY() && z == position.blockZ()
+                    && version == RegionIndex.getVersion();
+        }
+
+        long chunkKey() {
+            return MobIndex.chunkKey(x >> 4, z >> 4);
+        }
+    }
+}
@@ -29,23 +29,18 @@ import net.swofty.types.generic.item.SkyBlockItem;
 import net.swofty.types.generic.loottable.LootAffector;
 import net.swofty.types.generic.loottable.SkyBlockLootTable;
 import net.swofty.types.generic.region.RegionType;
-import net.swofty.types.generic.region.SkyBlockRegion;
 import net.swofty.types.generic.skill.SkillCategories;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 import net.swofty.commons.statistics.ItemStatistic;
 import net.swofty.commons.statistics.ItemStatistics;
-import net.swofty.types.generic.utility.MathUtility;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 @Setter
 public abstract class SkyBlockMob extends EntityCreature {
-    @Getter
-    private static List<SkyBlockMob> mobs = new ArrayList<>();
     @Getter
     private long lastAttack = System.currentTimeMillis();
     @Getter
@@ -75,7 +70,7 @@ public abstract class SkyBlockMob extends EntityCreature {
     @Override
     public void spawn() {
         super.spawn();
-        mobs.add(this);
+        MobIndex.add(this);
     }
 
     public abstract String getDisplayName();
@@ -89,12 +84,8 @@ public abstract class SkyBlockMob extends EntityCreature {
     public abstract long getSkillXP();
 
     public ItemStatistics getStatistics() {
-        ItemStatistics statistics = getBaseStatistics().clone();
-        ItemStatistics toSubtract = ItemStatistics.builder()
-            .withBase(ItemStatistic.HEALTH, (double) getHealth())
-            .build();
-
-        return statistics.sub(toSubtract);
+        ItemStatistics toSubtract = ItemStatistics.empty().addBase(ItemStatistic.HEALTH, (double) getHealth());
+        return getBaseStatistics().sub(toSubtract);
     }
 
     @Override
@@ -123,7 +114,8 @@ public abstract class SkyBlockMob extends EntityCreature {
     @Override
     public void kill() {
         super.kill();
-        mobs.remove(this);
+        MobIndex.remove(this);
+        MobChunkPolicy.forget(this);
 
         if (!(getLastDamageSource().getAttacker() instanceof SkyBlockPlayer)) return;
         SkyBlockPlayer player = (SkyBlockPlayer) getLastDamageSource().getAttacker();
@@ -171,15 +163,7 @@ public abstract class SkyBlockMob extends EntityCreature {
                     RegionType regionType = populator.regionType();
                     int minimumAmountToPopulate = populator.minimumAmountToPopulate();
 
-                    int amountInRegion = 0;
-
-                    for (SkyBlockMob mob : SkyBlockRegion.getMobsInRegion(regionType)) {
-                        if (!MobRegistry.getFromMob(mob).equals(mobRegistry)) {
-                            continue;
-                        }
-
-                        amountInRegion++;
-                    }
+                    int amountInRegion = MobIndex.getPopulation(mobRegistry.getClazz(), regionType);
 
                     if (amountInRegion < minimumAmountToPopulate) {
                         for (int i = 0; i < minimumAmountToPopulate - amountInRegion; i++)
@@ -201,8 +185,8 @@ public abstract class SkyBlockMob extends EntityCreature {
             return;
         }
 
-        if (!instance.isChunkLoaded(position)) {
-            instance.loadChunk(position).join();
+        if (!MobChunkPolicy.canTick(this, instance, position)) {
+            return;
         }
 
         try {
@@ -210,15 +194,15 @@ public abstract class SkyBlockMob extends EntityCreature {
         } catch (Exception e) {
             // Suppress odd warnings
         }
+
+        MobIndex.move(this);
     }
 
-    public static @NonNull List<SkyBlockMob> getMobFromFuzzyPosition(Pos position) {
-        List<SkyBlockMob> mobs = new ArrayList<>();
-        for (SkyBlockMob mob : getMobs()) {
-            if (MathUtility.isWithinSameBlock(mob.getPosition(), position)) {
-                mobs.add(mob);
-            }
-        }
-        return mobs;
+    public static List<SkyBlockMob> getMobs() {
+        return MobIndex.getMobs();
+    }
+
+    public static @NonNull List<SkyBlockMob> getMobFromFuzzyPosition(Instance instance, Pos position) {
+        return MobIndex.getMobsAt(instance, position);
     }
 }
@@ -5,9 +5,13 @@ import net.minestom.server.entity.EntityCreature;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.ai.TargetSelector;
 import net.minestom.server.instance.Instance;
+import net.swofty.types.generic.entity.mob.MobIndex;
+import net.swofty.types.generic.entity.mob.SkyBlockMob;
 import net.swofty.types.generic.region.RegionType;
 import net.swofty.types.generic.region.SkyBlockRegion;
+import net.swofty.types.generic.user.SkyBlockPlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Comparator;
 import java.util.function.Predicate;
@@ -54,11 +58,23 @@ public class ClosestEntityRegionTarget extends TargetSelector {
                 .filter(ent -> !entityCreature.equals(ent) && !ent.isRemoved())
                 .filter(targetPredicate)
                 .filter(ent -> {
-                    SkyBlockRegion region = SkyBlockRegion.getRegionOfEntity(ent);
-                    return region == null || region.getType() == type;
+                    RegionType regionType = getRegionType(ent);
+                    return regionType == null || regionType == type;
                 })
                 .min(Comparator.comparingDouble(e -> e.getDistanceSquared(entityCreature)))
                 .orElse(null);
 
     }
+
+    /**
+     * Reads the region of players and mobs from their trackers, rather than resolving it per candidate
+     */
+    private static @Nullable RegionType getRegionType(Entity entity) {
+        if (entity instanceof SkyBlockMob mob) return MobIndex.getRegionType(mob);
+
+        SkyBlockRegion region = entity instanceof SkyBlockPlayer player && !player.isOnIsland()
+                ? player.getRegion()
+                : SkyBlockRegion.getRegionOfEntity(entity);
+        return region == null ? null : region.getType();
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.EntityCreature;
 import net.minestom.server.entity.ai.GoalSelector;
 import net.minestom.server.instance.block.Block;
+import net.swofty.types.generic.entity.mob.MobChunkPolicy;
 import net.swofty.types.generic.region.RegionType;
 import net.swofty.types.generic.region.SkyBlockRegion;
 import org.jetbrains.annotations.NotNull;
@@ -78,8 +79,12 @@ public class RandomRegionStrollGoal extends GoalSelector {
                 int entityZ = getEntityCreature().getPosition().blockZ()  + z;
 
                 if (entityCreature.getInstance() != null) {
-                    if (!entityCreature.getInstance().isChunkLoaded(new Pos(entityX, y, entityZ)))
-                        entityCreature.getInstance().loadChunk(new Pos(entityX, y, entityZ)).join();
+                    Pos candidate = new Pos(entityX, y, entityZ);
+                    // Never stroll into a chunk that is not loaded yet, it can be picked once it is
+                    if (!entityCreature.getInstance().isChunkLoaded(candidate)) {
+                        MobChunkPolicy.requestLoad(entityCreature.getInstance(), candidate);
+                        continue;
+                    }
                     Block block = entityCreature.getInstance().getBlock(entityX, y, entityZ);
 
                     if (!block.isAir()) continue;
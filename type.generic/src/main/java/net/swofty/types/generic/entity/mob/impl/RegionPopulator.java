@@ -3,6 +3,7 @@ package net.swofty.types.generic.entity.mob.impl;
 import lombok.Builder;
 import net.minestom.server.coordinate.Pos;
 import net.swofty.types.generic.SkyBlockConst;
+import net.swofty.types.generic.entity.mob.MobChunkPolicy;
 import net.swofty.types.generic.entity.mob.MobRegistry;
 import net.swofty.types.generic.entity.mob.SkyBlockMob;
 import net.swofty.types.generic.region.RegionType;
@@ -22,8 +23,11 @@ public interface RegionPopulator {
 
         if (randomPosition == null) return;
 
-        if (!SkyBlockConst.getInstanceContainer().isChunkLoaded(randomPosition))
-            SkyBlockConst.getInstanceContainer().loadChunk(randomPosition).join();
+        // Spawning waits for a later run rather than blocking on the chunk
+        if (!SkyBlockConst.getInstanceContainer().isChunkLoaded(randomPosition)) {
+            MobChunkPolicy.requestLoad(SkyBlockConst.getInstanceContainer(), randomPosition);
+            return;
+        }
 
         SkyBlockMob mob = registry.asMob();
         mob.setInstance(SkyBlockConst.getInstanceContainer(), randomPosition);
@@ -1,6 +1,5 @@
 package net.swofty.types.generic.entity.npc;
 
-import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Pos;
@@ -8,52 +7,54 @@ import net.minestom.server.entity.*;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.timer.TaskSchedule;
-import net.swofty.types.generic.user.SkyBlockPlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
-@Getter
+/**
+ * A player NPC entity shared by every player who sees its NPC at the same position.
+ * The name and skin are only sent in each viewer's own player info packet, so every
+ * viewer can be shown its own through {@link #setProfile}.
+ */
 public class NPCEntityImpl extends Entity {
-    @Getter
-    private List<SkyBlockPlayer> inRangeOf = Collections.synchronizedList(new ArrayList<>());
-    private final ArrayList<Player> packetsSent = new ArrayList<>();
-    private final String username;
+    private final Map<UUID, Profile> profiles = new ConcurrentHashMap<>();
+    private final Set<UUID> packetsSent = ConcurrentHashMap.newKeySet();
 
-    private final String skinTexture;
-    private final String skinSignature;
-    private final String[] holograms;
-
-    public NPCEntityImpl(@NotNull String bottomDisplay, @Nullable String skinTexture, @Nullable String skinSignature, @NotNull String[] holograms) {
+    public NPCEntityImpl() {
         super(EntityType.PLAYER, UUID.randomUUID());
-        this.username = bottomDisplay;
 
-        this.skinTexture = skinTexture;
-        this.skinSignature = skinSignature;
-        this.holograms = holograms;
+        setNoGravity(true);
+    }
 
-        if (holograms == null) {
-            throw new IllegalArgumentException("Holograms cannot be null");
-        }
+    /**
+     * Sets what the viewer is shown, taking effect the next time the entity is spawned for them
+     */
+    public void setProfile(Player player, @NotNull String username, @Nullable String skinTexture, @Nullable String skinSignature) {
+        profiles.put(player.getUuid(), new Profile(username, skinTexture, skinSignature));
+    }
 
-        setNoGravity(true);
+    public void removeProfile(Player player) {
+        profiles.remove(player.getUuid());
     }
 
     @Override
     public void updateNewViewer(@NotNull Player player) {
+        Profile profile = profiles.get(player.getUuid());
+        if (profile == null) return;
         super.updateNewViewer(player);
 
         List<PlayerInfoUpdatePacket.Property> properties = new ArrayList<>();
-        if (skinTexture != null && skinSignature != null) {
-            properties.add(new PlayerInfoUpdatePacket.Property("textures", skinTexture, skinSignature));
+        if (profile.skinTexture() != null && profile.skinSignature() != null) {
+            properties.add(new PlayerInfoUpdatePacket.Property("textures", profile.skinTexture(), profile.skinSignature()));
         }
 
         player.sendPackets(
                 new PlayerInfoUpdatePacket(PlayerInfoUpdatePacket.Action.ADD_PLAYER,
                         new PlayerInfoUpdatePacket.Entry(
                                 getUuid(),
-                                username,
+                                profile.username(),
                                 properties,
                                 false,
                                 0,
@@ -72,9 +73,9 @@ public class NPCEntityImpl extends Entity {
         );
         setInvisible(true);
 
-        packetsSent.add(player);
+        packetsSent.add(player.getUuid());
         MinecraftServer.getSchedulerManager().scheduleTask(() -> {
-            if (packetsSent.contains(player)) {
+            if (packetsSent.contains(player.getUuid())) {
                 player.sendPacket(new PlayerInfoRemovePacket(getUuid()));
             }
         }, TaskSchedule.tick(2), TaskSchedule.stop());
@@ -86,7 +87,7 @@ public class NPCEntityImpl extends Entity {
 
         player.sendPacket(new PlayerInfoRemovePacket(getUuid()));
 
-        packetsSent.remove(player);
+        packetsSent.remove(player.getUuid());
     }
 
     @Override
@@ -104,4 +105,6 @@ public class NPCEntityImpl extends Entity {
 
         super.tick(time);
     }
+
+    private record Profile(String username, @Nullable String skinTexture, @Nullable String skinSignature) {}
 }
\ No newline at end of file
@@ -0,0 +1,296 @@
+package net.swofty.types.generic.entity.npc;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
+import net.minestom.server.network.packet.server.play.EntityRotationPacket;
+import net.minestom.server.timer.TaskSchedule;
+import net.swofty.types.generic.SkyBlockConst;
+import net.swofty.types.generic.SkyBlockGenericLoader;
+import net.swofty.types.generic.entity.hologram.PlayerHolograms;
+import net.swofty.types.generic.user.SkyBlockPlayer;
+import net.swofty.types.generic.utility.MathUtility;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which NPCs each player is shown and which way they face that player.
+ * <p>
+ * Player NPCs share one {@link NPCEntityImpl} between every player who sees the NPC
+ * at the same position. What differs per player, the name, skin and hologram lines,
+ * is resolved once a second and kept as that player's overlay. Villager and animal
+ * NPCs are one entity already, and are tracked the same way.
+ * <p>
+ * Every tracked entity is bucketed by chunk. A move only checks the entities in the
+ * chunks around the player, and the set of those is only rebuilt when the player
+ * enters another chunk. Rotation packets are only sent when the angle the client
+ * would see changes.
+ */
+public class NPCInterestManager {
+    private static final int SPAWN_DISTANCE = 48;
+    private static final int LOOK_DISTANCE = 16;
+    // Enough chunks around the player's own to cover every NPC within the spawn distance
+    private static final int CHUNK_RADIUS = (SPAWN_DISTANCE >> 4) + 1;
+    // Facing the yaw the entity was spawned with
+    private static final int DEFAULT_YAW = Integer.MIN_VALUE;
+
+    private static final Map<Long, Set<Interest>> grid = new ConcurrentHashMap<>();
+    private static final Map<SkyBlockNPC, Map<Pos, Interest>> shared = new ConcurrentHashMap<>();
+    private static final Map<Entity, SkyBlockNPC> byEntity = new ConcurrentHashMap<>();
+    private static final Map<UUID, Viewer> viewers = new ConcurrentHashMap<>();
+
+    public static void start() {
+        if (SkyBlockConst.isIslandServer()) return;
+
+        MinecraftServer.getSchedulerManager().submitTask(() -> {
+            for (SkyBlockPlayer player : SkyBlockGenericLoader.getLoadedPlayers()) {
+                refresh(player);
+            }
+            return TaskSchedule.seconds(1);
+        });
+    }
+
+    public static void track(Entity entity, Pos position, boolean looking, Kind kind) {
+        add(new Interest(entity, position, looking, kind, null));
+    }
+
+    /**
+     * Resolves the player's overlay of every player NPC again, respawning those that changed for them
+     */
+    public static void refresh(SkyBlockPlayer player) {
+        Viewer viewer = viewers.computeIfAbsent(player.getUuid(), uuid -> new Viewer());
+
+        synchronized (viewer) {
+            for (SkyBlockNPC npc : SkyBlockNPC.getNpcs()) {
+                NPCParameters parameters = npc.getParameters();
+                String[] holograms = parameters.holograms(player);
+                String texture = parameters.texture(player);
+                String signature = parameters.signature(player);
+                Pos position = parameters.position(player);
+
+                Overlay current = viewer.overlays.get(npc);
+                if (current != null && current.matches(holograms, texture, signature, position)) continue;
+
+                if (current != null && current.matchesEntity(holograms, texture, signature, position)) {
+                    // Only the lines above the name changed, which the hologram renderer diffs in place
+                    Overlay overlay = new Overlay(current.interest(), holograms, texture, signature, position);
+                    viewer.overlays.put(npc, overlay);
+                    PlayerHolograms.ExternalPlayerHologram previous = viewer.holograms.get(npc);
+                    if (previous != null) {
+                        PlayerHolograms.ExternalPlayerHologram hologram = hologram(player, overlay);
+                        viewer.holograms.put(npc, hologram);
+                        PlayerHolograms.replaceExternalPlayerHologram(previous, hologram);
+                    }
+                    continue;
+                }
+
+                if (current != null && viewer.yaws.containsKey(current.interest())) {
+                    leave(player, viewer, current.interest());
+                }
+
+                Interest interest = shared.computeIfAbsent(npc, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(position, k -> createShared(npc, position));
+                ((NPCEntityImpl) interest.entity()).setProfile(player, holograms[holograms.length - 1], texture, signature);
+                viewer.overlays.put(npc, new Overlay(interest, holograms, texture, signature, position));
+                // The interest may be new to the grid, so the nearby set is rebuilt on the next update
+                viewer.nearbyChunk = null;
+            }
+
+            update(player, viewer, player.getPosition());
+        }
+    }
+
+    public static void move(SkyBlockPlayer player, Pos position) {
+        Viewer viewer = viewers.get(player.getUuid());
+        if (viewer == null) return;
+
+        synchronized (viewer) {
+            update(player, viewer, position);
+        }
+    }
+
+    public static @Nullable SkyBlockNPC getFromEntity(Entity entity) {
+        return byEntity.get(entity);
+    }
+
+    public static void remove(SkyBlockPlayer player) {
+        Viewer viewer = viewers.remove(player.getUuid());
+        if (viewer == null) return;
+
+        synchronized (viewer) {
+            viewer.holograms.values().forEach(PlayerHolograms::removeExternalPlayerHologram);
+            viewer.overlays.values().forEach(overlay -> {
+                overlay.interest().entity().removeViewer(player);
+                ((NPCEntityImpl) overlay.interest().entity()).removeProfile(player);
+            });
+        }
+    }
+
+    private static void update(SkyBlockPlayer player, Viewer viewer, Pos position) {
+        long chunk = chunkKey(position.blockX() >> 4, position.blockZ() >> 4);
+        if (viewer.nearbyChunk == null || viewer.nearbyChunk != chunk) {
+            viewer.nearby = nearby(position.blockX() >> 4, position.blockZ() >> 4);
+            viewer.nearbyChunk = chunk;
+        }
+
+        for (Interest interest : new ArrayList<>(viewer.yaws.keySet())) {
+            if (!viewer.nearby.contains(interest) || !interest.isShownTo(viewer))
+                leave(player, viewer, interest);
+        }
+
+        for (Interest interest : viewer.nearby) {
+            if (!interest.isShownTo(viewer)) continue;
+
+            boolean tracked = viewer.yaws.containsKey(interest);
+            double distance = position.distance(interest.position());
+            if (distance > SPAWN_DISTANCE || interest.entity().getInstance() != player.getInstance()) {
+                if (tracked) leave(player, viewer, interest);
+                continue;
+            }
+            if (!tracked) enter(player, viewer, interest);
+
+            float yaw = interest.position().yaw();
+            int angle = DEFAULT_YAW;
+            if (interest.looking() && distance <= LOOK_DISTANCE) {
+                double theta = Math.atan2(position.z() - interest.position().z(), position.x() - interest.position().x());
+                yaw = (float) MathUtility.normalizeAngle(Math.toDegrees(theta) + 90, 360.0);
+                angle = toAngle(yaw);
+            }
+
+            if (viewer.yaws.put(interest, angle) != angle) rotate(player, interest, yaw);
+        }
+    }
+
+    private static void enter(SkyBlockPlayer player, Viewer viewer, Interest interest) {
+        viewer.yaws.put(interest, DEFAULT_YAW);
+
+        switch (interest.kind()) {
+            case PLAYER -> {
+                PlayerHolograms.ExternalPlayerHologram hologram = hologram(player, viewer.overlays.get(interest.npc()));
+                PlayerHolograms.addExternalPlayerHologram(hologram);
+                viewer.holograms.put(interest.npc(), hologram);
+                interest.entity().addViewer(player);
+            }
+            case ANIMAL -> interest.entity().updateNewViewer(player);
+            case VILLAGER -> {}
+        }
+    }
+
+    private static void leave(SkyBlockPlayer player, Viewer viewer, Interest interest) {
+        Integer angle = viewer.yaws.remove(interest);
+
+        switch (interest.kind()) {
+            case PLAYER -> {
+                PlayerHolograms.ExternalPlayerHologram hologram = viewer.holograms.remove(interest.npc());
+                if (hologram != null) PlayerHolograms.removeExternalPlayerHologram(hologram);
+                interest.entity().removeViewer(player);
+                return;
+            }
+            case ANIMAL -> interest.entity().updateOldViewer(player);
+            case VILLAGER -> {}
+        }
+
+        if (angle != null && angle != DEFAULT_YAW) rotate(player, interest, interest.position().yaw());
+    }
+
+    private static PlayerHolograms.ExternalPlayerHologram hologram(SkyBlockPlayer player, Overlay overlay) {
+        String[] holograms = overlay.holograms();
+        return PlayerHolograms.ExternalPlayerHologram.builder()
+                .pos(overlay.position().add(0, 1.1, 0))
+                .text(Arrays.copyOfRange(holograms, 0, holograms.length - 1))
+                .player(player)
+                .build();
+    }
+
+    private static void rotate(SkyBlockPlayer player, Interest interest, float yaw) {
+        int entityId = interest.entity().getEntityId();
+        player.sendPackets(
+                new EntityRotationPacket(entityId, yaw, interest.position().pitch(), true),
+                new EntityHeadLookPacket(entityId, yaw)
+        );
+    }
+
+    private static Interest createShared(SkyBlockNPC npc, Pos position) {
+        NPCEntityImpl entity = new NPCEntityImpl();
+        entity.setAutoViewable(false);
+        entity.setInstance(SkyBlockConst.getInstanceContainer(), position);
+        byEntity.put(entity, npc);
+
+        Interest interest = new Interest(entity, position, npc.getParameters().looking(), Kind.PLAYER, npc);
+        add(interest);
+        return interest;
+    }
+
+    private static void add(Interest interest) {
+        grid.computeIfAbsent(chunkKey(interest.position().blockX() >> 4, interest.position().blockZ() >> 4),
+                k -> ConcurrentHashMap.newKeySet()).add(interest);
+    }
+
+    private static Set<Interest> nearby(int chunkX, int chunkZ) {
+        Set<Interest> nearby = new LinkedHashSet<>();
+        for (int x = chunkX - CHUNK_RADIUS; x <= chunkX + CHUNK_RADIUS; x++) {
+            for (int z = chunkZ - CHUNK_RADIUS; z <= chunkZ + CHUNK_RADIUS; z++) {
+                Set<Interest> bucket = grid.get(chunkKey(x, z));
+                if (bucket != null) nearby.addAll(bucket);
+            }
+        }
+        return nearby;
+    }
+
+    /**
+     * The yaw as the one byte angle the client receives
+     */
+    private static int toAngle(float yaw) {
+        return (byte) (yaw * 256.0F / 360.0F);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public enum Kind {
+        PLAYER,
+        ANIMAL,
+        VILLAGER
+    }
+
+    private record Interest(Entity entity, Pos position, boolean looking, Kind kind, @Nullable SkyBlockNPC npc) {
+        boolean isShownTo(Viewer viewer) {
+            if (kind != Kind.PLAYER) return true;
+            Overlay overlay = viewer.overlays.get(npc);
+            return overlay != null && overlay.interest() == this;
+        }
+    }
+
+    private static class Viewer {
+        private final Map<SkyBlockNPC, Overlay> overlays = new HashMap<>();
+        private final Map<SkyBlockNPC, PlayerHolograms.ExternalPlayerHologram> holograms = new HashMap<>();
+        // The angle last sent for each interest in range of this player
+        private final Map<Interest, Integer> yaws = new HashMap<>();
+        private Set<Interest> nearby = Set.of();
+        private Long nearbyChunk = null;
+    }
+
+    private record Overlay(Interest interest, String[] holograms, String texture, String signature, Pos position) {
+        boolean matches(String[] holograms, String texture, String signature, Pos position) {
+            return Arrays.equals(this.holograms, holograms)
+                    && Objects.equals(this.texture, texture)
+                    && Objects.equals(this.signature, signature)
+                    && this.position.equals(position);
+        }
+
+        /**
+         * @return true if the entity shown stays the same, with at most the lines above the name changed
+         */
+        boolean matchesEntity(String[] holograms, String texture, String signature, Pos position) {
+            return this.holograms.length == holograms.length
+                    && Objects.equals(this.holograms[this.holograms.length - 1], holograms[holograms.length - 1])
+                    && Objects.equals(this.texture, texture)
+                    && Objects.equals(this.signature, signature)
+                    && this.position.equals(position);
+        }
+    }
+}
\ No newline at end of file
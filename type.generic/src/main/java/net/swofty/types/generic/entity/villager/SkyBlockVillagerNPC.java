@@ -2,19 +2,16 @@ package net.swofty.types.generic.entity.villager;
 
 import lombok.Getter;
 import net.minestom.server.coordinate.Pos;
-import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
-import net.minestom.server.network.packet.server.play.EntityRotationPacket;
 import net.swofty.types.generic.SkyBlockConst;
 import net.swofty.types.generic.entity.hologram.ServerHolograms;
+import net.swofty.types.generic.entity.npc.NPCInterestManager;
 import net.swofty.types.generic.user.SkyBlockPlayer;
-import net.swofty.types.generic.utility.MathUtility;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Getter
 public abstract class SkyBlockVillagerNPC {
-    private static final int LOOK_DISTANCE = 16;
     @Getter
     private static final Map<SkyBlockVillagerNPC, VillagerEntityImpl> villagers = new HashMap();
 
@@ -42,34 +39,7 @@ public abstract class SkyBlockVillagerNPC {
         entity.spawn();
 
         villagers.put(this, entity);
-    }
-
-    public static void updateForPlayer(SkyBlockPlayer player) {
-        villagers.forEach((npc, entity) -> {
-            if (entity.getInstance() != SkyBlockConst.getInstanceContainer()) return;
-
-            Pos npcPosition = entity.getPosition();
-            Pos playerPosition = player.getPosition();
-            double entityDistance = entity.getDistance(playerPosition);
-            boolean isLookingNPC = npc.getParameters().looking();
-
-            if (entityDistance <= LOOK_DISTANCE && isLookingNPC) {
-                double diffX = playerPosition.x() - npcPosition.x();
-                double diffZ = playerPosition.z() - npcPosition.z();
-                double theta = Math.atan2(diffZ, diffX);
-                double yaw = MathUtility.normalizeAngle(Math.toDegrees(theta) + 90, 360.0);
-
-                player.sendPackets(
-                        new EntityRotationPacket(entity.getEntityId(), (float) yaw, npcPosition.pitch(), true),
-                        new EntityHeadLookPacket(entity.getEntityId(), (float) yaw)
-                );
-            } else {
-                player.sendPackets(
-                        new EntityRotationPacket(entity.getEntityId(), npcPosition.yaw(), npcPosition.pitch(), true),
-                        new EntityHeadLookPacket(entity.getEntityId(), npcPosition.yaw())
-                );
-            }
-        });
+        NPCInterestManager.track(entity, getParameters().position(), getParameters().looking(), NPCInterestManager.Kind.VILLAGER);
     }
 
     public static SkyBlockVillagerNPC getFromImpl(VillagerEntityImpl impl) {
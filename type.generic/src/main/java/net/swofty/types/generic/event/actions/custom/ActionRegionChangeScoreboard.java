@@ -0,0 +1,15 @@
+package net.swofty.types.generic.event.actions.custom;
+
+import net.swofty.types.generic.event.EventNodes;
+import net.swofty.types.generic.event.SkyBlockEvent;
+import net.swofty.types.generic.event.SkyBlockEventClass;
+import net.swofty.types.generic.event.custom.PlayerRegionChangeEvent;
+import net.swofty.types.generic.user.SkyBlockScoreboard;
+
+public class ActionRegionChangeScoreboard implements SkyBlockEventClass {
+
+    @SkyBlockEvent(node = EventNodes.CUSTOM , requireDataLoaded = false)
+    public void run(PlayerRegionChangeEvent event) {
+        SkyBlockScoreboard.refreshRegion(event.getPlayer());
+    }
+}
@@ -12,6 +12,7 @@ import net.swofty.types.generic.mission.MissionData;
 import net.swofty.types.generic.mission.MissionSet;
 import net.swofty.types.generic.mission.missions.MissionTalkToVillagers;
 import net.swofty.types.generic.mission.missions.MissionUseTeleporter;
+import net.swofty.types.generic.region.PlayerRegionTracker;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 import net.swofty.types.generic.event.SkyBlockEvent;
 
@@ -29,7 +30,7 @@ public class ActionPlayerTravel implements SkyBlockEventClass {
 
         if (delay.contains(player.getUuid())) return;
 
-        NamespaceID block = player.getInstance().getBlock(player.getPosition()).namespace();
+        NamespaceID block = PlayerRegionTracker.getBlock(player, event.getNewPosition()).namespace();
 
         if (block == Block.NETHER_PORTAL.namespace()) {
             MissionData data = player.getMissionData();
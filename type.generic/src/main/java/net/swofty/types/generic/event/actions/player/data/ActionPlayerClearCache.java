@@ -2,10 +2,10 @@ package net.swofty.types.generic.event.actions.player.data;
 
 import lombok.SneakyThrows;
 import net.minestom.server.event.player.PlayerDisconnectEvent;
-import net.swofty.types.generic.entity.animalnpc.SkyBlockAnimalNPC;
+import net.swofty.types.generic.data.CoopSync;
 import net.swofty.types.generic.entity.hologram.PlayerHolograms;
 import net.swofty.types.generic.entity.npc.NPCDialogue;
-import net.swofty.types.generic.entity.npc.SkyBlockNPC;
+import net.swofty.types.generic.entity.npc.NPCInterestManager;
 import net.swofty.types.generic.event.EventNodes;
 import net.swofty.types.generic.event.SkyBlockEvent;
 import net.swofty.types.generic.event.SkyBlockEventClass;
@@ -15,7 +15,9 @@ import net.swofty.types.generic.gui.SkyBlockAnvilGUI;
 import net.swofty.types.generic.gui.SkyBlockSignGUI;
 import net.swofty.types.generic.gui.inventory.SkyBlockInventoryGUI;
 import net.swofty.types.generic.item.updater.PlayerItemOrigin;
+import net.swofty.types.generic.item.updater.PlayerItemUpdater;
 import net.swofty.types.generic.packet.packets.client.anticheat.PacketListenerAirJump;
+import net.swofty.types.generic.region.PlayerRegionTracker;
 import net.swofty.types.generic.server.eventcaller.CustomEventCaller;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 import net.swofty.types.generic.user.SkyBlockScoreboard;
@@ -36,10 +38,7 @@ public class ActionPlayerClearCache implements SkyBlockEventClass {
         SkyBlockScoreboard.removeCache(player);
         ActionPlayerFall.fallHeight.remove(player);
         player.getPetData().updatePetEntityImpl(null);
-        SkyBlockNPC.getPerPlayerNPCs().remove(player.getUuid());
-        SkyBlockAnimalNPC.getAnimalNPCs().forEach((npc, entity) -> {
-            entity.clearCache(player);
-        });
+        NPCInterestManager.remove(player);
         if (SkyBlockSignGUI.signGUIs.containsKey(player)) {
             SkyBlockSignGUI.signGUIs.get(player).future().complete(null);
             SkyBlockSignGUI.signGUIs.remove(player);
@@ -55,8 +54,11 @@ public class ActionPlayerClearCache implements SkyBlockEventClass {
             SkyBlockInventoryGUI.GUI_MAP.remove(player.getUuid());
         }
         PlayerItemOrigin.clearCache(player.getUuid());
+        PlayerItemUpdater.clearCache(player.getUuid());
         PacketListenerAirJump.playerData.remove(player);
         CustomEventCaller.clearCache(player);
+        PlayerRegionTracker.remove(player.getUuid());
+        CoopSync.forget(player);
         NPCDialogue.remove(player);
         PlayerHolograms.remove(player);
         ActionPlayerStrayTooFar.startedStray.remove(player.getUuid());
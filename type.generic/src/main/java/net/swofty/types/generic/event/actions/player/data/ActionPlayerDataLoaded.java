@@ -9,6 +9,7 @@ import net.minestom.server.event.player.PlayerSpawnEvent;
 import net.minestom.server.network.packet.server.play.UpdateHealthPacket;
 import net.swofty.packer.SkyBlockTexture;
 import net.swofty.types.generic.SkyBlockConst;
+import net.swofty.types.generic.bazaar.BazaarClaims;
 import net.swofty.types.generic.data.DataHandler;
 import net.swofty.types.generic.data.datapoints.DatapointRank;
 import net.swofty.types.generic.data.datapoints.DatapointString;
@@ -82,6 +83,9 @@ public class ActionPlayerDataLoaded implements SkyBlockEventClass {
                 }
             }
 
+            // Orders may have filled while the player was offline
+            BazaarClaims.claim(player);
+
             if (SkyBlockConst.isIslandServer()) return;
             PlayerHolograms.spawnAll(player);
             SkyBlockNPC.updateForPlayer(player);
@@ -5,10 +5,12 @@ import lombok.SneakyThrows;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.player.PlayerDisconnectEvent;
 import net.minestom.server.timer.TaskSchedule;
+import net.swofty.commons.mongodb.WriteBatch;
 import net.swofty.commons.proxy.ToProxyChannels;
 import net.swofty.proxyapi.redis.ServerOutboundMessage;
 import net.swofty.types.generic.SkyBlockConst;
 import net.swofty.types.generic.data.DataHandler;
+import net.swofty.types.generic.data.ProfileWriteQueue;
 import net.swofty.types.generic.data.mongodb.ProfilesDatabase;
 import net.swofty.types.generic.data.mongodb.UserDatabase;
 import net.swofty.types.generic.event.EventNodes;
@@ -19,6 +21,7 @@ import net.swofty.types.generic.utility.MathUtility;
 import org.json.JSONObject;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -46,29 +49,28 @@ public class ActionPlayerDataSave implements SkyBlockEventClass {
 
         UUID profileId = player.getProfiles().getCurrentlySelected();
 
-        ProfilesDatabase profilesDatabase = new ProfilesDatabase(profileId.toString());
-        if (profilesDatabase.exists()) {
-            ProfilesDatabase.collection.replaceOne(
-                    profilesDatabase.getDocument(), player.getDataHandler().toDocument(profileId)
-            );
-        } else {
-            ProfilesDatabase.collection.insertOne(player.getDataHandler().toDocument(profileId));
-        }
+        // Only the fields that changed are written, along with anything still queued.
+        // The periodic flush stops collecting from the player first.
+        ProfileWriteQueue.close(player);
 
         Map<String, Object> persistentValues = player.getDataHandler().getPersistentValues();
-        player.getProfiles().getProfiles().stream().filter(profile -> profile != profileId).forEach(profile -> {
-            ProfilesDatabase otherProfileDatabase = new ProfilesDatabase(profile.toString());
-
-            Arrays.stream(DataHandler.Data.values()).forEach(data -> {
-                if (persistentValues.containsKey(data.getKey())) {
-                    try {
-                        otherProfileDatabase.insertOrUpdate(data.getKey(), player.getDataHandler().getDatapoint(data.getKey()).getSerializedValue());
-                    } catch (JsonProcessingException e) {
-                        throw new RuntimeException(e);
-                    }
+        Map<String, Object> serializedPersistentValues = new HashMap<>();
+        Arrays.stream(DataHandler.Data.values()).forEach(data -> {
+            if (persistentValues.containsKey(data.getKey())) {
+                try {
+                    serializedPersistentValues.put(data.getKey(), player.getDataHandler().getDatapoint(data.getKey()).getSerializedValue());
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException(e);
                 }
-            });
+            }
+        });
+
+        // Every other profile is updated in the same bulk write
+        WriteBatch otherProfiles = new WriteBatch(ProfilesDatabase.collection);
+        player.getProfiles().getProfiles().stream().filter(profile -> profile != profileId).forEach(profile -> {
+            otherProfiles.setFields(profile.toString(), serializedPersistentValues);
         });
+        otherProfiles.flush();
 
         DataHandler.userCache.remove(uuid);
         ServerOutboundMessage.sendMessageToProxy(
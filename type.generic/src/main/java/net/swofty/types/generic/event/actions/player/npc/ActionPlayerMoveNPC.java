@@ -2,7 +2,7 @@ package net.swofty.types.generic.event.actions.player.npc;
 
 import net.minestom.server.event.player.PlayerMoveEvent;
 import net.swofty.types.generic.SkyBlockConst;
-import net.swofty.types.generic.entity.npc.SkyBlockNPC;
+import net.swofty.types.generic.entity.npc.NPCInterestManager;
 import net.swofty.types.generic.event.EventNodes;
 import net.swofty.types.generic.event.SkyBlockEvent;
 import net.swofty.types.generic.event.SkyBlockEventClass;
@@ -16,6 +16,6 @@ public class ActionPlayerMoveNPC implements SkyBlockEventClass {
 
         if (SkyBlockConst.isIslandServer()) return;
 
-        SkyBlockNPC.updateForPlayer(player);
+        NPCInterestManager.move(player, event.getNewPosition());
     }
 }
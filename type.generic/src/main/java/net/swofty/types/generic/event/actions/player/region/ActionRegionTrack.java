@@ -0,0 +1,16 @@
+package net.swofty.types.generic.event.actions.player.region;
+
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.swofty.types.generic.event.EventNodes;
+import net.swofty.types.generic.event.SkyBlockEvent;
+import net.swofty.types.generic.event.SkyBlockEventClass;
+import net.swofty.types.generic.region.PlayerRegionTracker;
+import net.swofty.types.generic.user.SkyBlockPlayer;
+
+public class ActionRegionTrack implements SkyBlockEventClass {
+
+    @SkyBlockEvent(node = EventNodes.PLAYER , requireDataLoaded = true)
+    public void run(PlayerMoveEvent event) {
+        PlayerRegionTracker.update((SkyBlockPlayer) event.getPlayer(), event.getNewPosition());
+    }
+}
\ No newline at end of file
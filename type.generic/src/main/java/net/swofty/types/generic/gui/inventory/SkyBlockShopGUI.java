@@ -197,7 +197,7 @@ public abstract class SkyBlockShopGUI extends SkyBlockInventoryGUI {
 
                 player.addAndUpdateItem(new SkyBlockItem(itemStack.build()));
                 player.playSuccessSound();
-                player.getShoppingData().popBuyback();
+                player.updateShoppingData(data -> data.popBuyback());
                 player.getDataHandler().get(DataHandler.Data.COINS, DatapointDouble.class).setValue(playerCoins - value);
                 updateThis(player);
             }
@@ -268,7 +268,7 @@ public abstract class SkyBlockShopGUI extends SkyBlockInventoryGUI {
                     player.playSound(Sound.sound(Key.key("block.note_block.pling"), Sound.Source.PLAYER, 1.0f, 2.0f));
 
                     if (item.hasStock)
-                        player.getShoppingData().documentPurchase(item.getItem().toUnderstandable(), item.amount);
+                        player.updateShoppingData(data -> data.documentPurchase(item.getItem().toUnderstandable(), item.amount));
 
                     updateThis(player);
                 }
@@ -333,7 +333,7 @@ public abstract class SkyBlockShopGUI extends SkyBlockInventoryGUI {
 
         double sellPrice = sellable.getSellValue() * stack.amount();
 
-        getPlayer().getShoppingData().pushBuyback(item.toUnderstandable(), stack.amount());
+        getPlayer().updateShoppingData(data -> data.pushBuyback(item.toUnderstandable(), stack.amount()));
         getPlayer().getDataHandler().get(DataHandler.Data.COINS, DatapointDouble.class).setValue(
                 getPlayer().getDataHandler().get(DataHandler.Data.COINS, DatapointDouble.class).getValue() + sellPrice
         );
@@ -28,7 +28,6 @@ import net.swofty.types.generic.gui.inventory.item.GUIItem;
 import net.swofty.types.generic.item.SkyBlockItem;
 import net.swofty.types.generic.item.updater.PlayerItemUpdater;
 import net.swofty.types.generic.user.SkyBlockPlayer;
-import net.swofty.types.generic.utility.PaginationList;
 import net.swofty.commons.StringUtility;
 
 import java.util.*;
@@ -47,10 +46,14 @@ public class GUIAuctionBrowser extends SkyBlockInventoryGUI implements Refreshin
     @Getter
     private AuctionCategories category = AuctionCategories.WEAPONS;
 
-    private int page = 1;
     @Getter
     private List<AuctionItem> itemCache = new ArrayList<>();
 
+    // The cursor each visited page was fetched with, starting with null for the first page
+    private final List<String> pageCursors = new ArrayList<>(Collections.singletonList(null));
+    private int page = 0;
+    private String nextCursor = null;
+
     public GUIAuctionBrowser() {
         super("Auction Browser", InventoryType.CHEST_6_ROW);
 
@@ -62,24 +65,31 @@ public class GUIAuctionBrowser extends SkyBlockInventoryGUI implements Refreshin
                 new AuctionFetchItemsProtocolObject.AuctionFetchItemsMessage(
                         sorting,
                         filter,
-                        category
+                        category,
+                        pageCursors.get(page),
+                        PAGINATED_SLOTS.length
                 );
 
         new ProxyService(ServiceType.AUCTION_HOUSE).handleRequest(message)
                 .thenAccept(responseRaw -> {
             AuctionFetchItemsProtocolObject.AuctionFetchItemsResponse response = (AuctionFetchItemsProtocolObject.AuctionFetchItemsResponse) responseRaw;
-            List<AuctionItem> auctionItems = response.items();
-
-            // Items are already sorted, so just paginate them
-            PaginationList<AuctionItem> paginationList = new PaginationList<>(auctionItems, 24);
-            paginationList.addAll(auctionItems);
-
-            // Set the items in the GUI
-            List<AuctionItem> paginatedItems = paginationList.getPage(page);
-            setItemCache(paginatedItems);
+            // Items are already sorted and paginated by the auction service
+            setItemCache(response.items());
+            setNextCursor(response.nextCursor());
         });
     }
 
+    /**
+     * Goes back to the first page, as cursors are only valid for the sorting, filter
+     * and category they were returned for
+     */
+    private void resetPages() {
+        pageCursors.clear();
+        pageCursors.add(null);
+        page = 0;
+        nextCursor = null;
+    }
+
     @SneakyThrows
     private void setItems() {
         fill(ItemStackCreator.createNamedItemStack(category.getMaterial(), ""));
@@ -99,6 +109,7 @@ public class GUIAuctionBrowser extends SkyBlockInventoryGUI implements Refreshin
                     }
                 }
 
+                resetPages();
                 Thread.startVirtualThread(() -> updateItemsCache());
             }
 
@@ -135,12 +146,14 @@ public class GUIAuctionBrowser extends SkyBlockInventoryGUI implements Refreshin
                     AuctionsFilter nextFilter = filter.previous();
                     setFilter(nextFilter);
 
+                    resetPages();
                     Thread.startVirtualThread(() -> updateItemsCache());
                     return;
                 }
                 AuctionsFilter nextFilter = filter.next();
                 setFilter(nextFilter);
 
+                resetPages();
                 Thread.startVirtualThread(() -> updateItemsCache());
             }
 
@@ -174,6 +187,7 @@ public class GUIAuctionBrowser extends SkyBlockInventoryGUI implements Refreshin
                     }
 
                     setCategory(category);
+                    resetPages();
                     Thread.startVirtualThread(() -> updateItemsCache());
                 }
 
@@ -194,6 +208,43 @@ public class GUIAuctionBrowser extends SkyBlockInventoryGUI implements Refreshin
             });
         }
 
+        if (nextCursor != null) {
+            set(new GUIClickableItem(53) {
+                @Override
+                public void run(InventoryPreClickEvent e, SkyBlockPlayer player) {
+                    pageCursors.subList(page + 1, pageCursors.size()).clear();
+                    pageCursors.add(nextCursor);
+                    page++;
+                    nextCursor = null;
+
+                    Thread.startVirtualThread(() -> updateItemsCache());
+                }
+
+                @Override
+                public ItemStack.Builder getItem(SkyBlockPlayer player) {
+                    return ItemStackCreator.getStack("§aNext Page", Material.ARROW, 1,
+                            "§7Page " + (page + 2), " ", "§eClick to view!");
+                }
+            });
+        }
+        if (page > 0) {
+            set(new GUIClickableItem(46) {
+                @Override
+                public void run(InventoryPreClickEvent e, SkyBlockPlayer player) {
+                    page--;
+                    nextCursor = null;
+
+                    Thread.startVirtualThread(() -> updateItemsCache());
+                }
+
+                @Override
+                public ItemStack.Builder getItem(SkyBlockPlayer player) {
+                    return ItemStackCreator.getStack("§aPrevious Page", Material.ARROW, 1,
+                            "§7Page " + page, " ", "§eClick to view!");
+                }
+            });
+        }
+
         int highestCoveredSlot = 0;
 
         if (getItemCache() == null) {
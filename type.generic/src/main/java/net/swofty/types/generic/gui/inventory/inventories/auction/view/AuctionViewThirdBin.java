@@ -136,12 +136,6 @@ public class AuctionViewThirdBin implements AuctionView {
                     return;
                 }
 
-                DatapointUUIDList activeBids = player.getDataHandler().get(DataHandler.Data.AUCTION_ACTIVE_BIDS, DatapointUUIDList.class);
-                activeBids.setValue(new ArrayList<>(activeBids.getValue()) {{
-                    add(item.getUuid());
-                }});
-                player.getDataHandler().get(DataHandler.Data.AUCTION_ACTIVE_BIDS, DatapointUUIDList.class).setValue(activeBids.getValue());
-
                 // Add player bid to item and update it
                 item.setBids(new ArrayList<>(item.getBids()) {{
                     add(new AuctionItem.Bid(System.currentTimeMillis(), player.getUuid(), item.getStartingPrice().longValue()));
@@ -152,7 +146,20 @@ public class AuctionViewThirdBin implements AuctionView {
                         new AuctionAddItemProtocolObject.AuctionAddItemMessage(
                                 item, AuctionCategories.TOOLS);
 
-                new ProxyService(ServiceType.AUCTION_HOUSE).handleRequest(message).join();
+                AuctionAddItemProtocolObject.AuctionAddItemResponse response = (AuctionAddItemProtocolObject.AuctionAddItemResponse)
+                        new ProxyService(ServiceType.AUCTION_HOUSE).handleRequest(message).join();
+                if (!response.accepted()) {
+                    player.sendMessage("§cCouldn't purchase the item, the auction has ended!");
+                    player.sendMessage("§8Returning escrowed coins...");
+                    player.getDataHandler().get(DataHandler.Data.COINS, DatapointDouble.class).setValue(coins + item.getStartingPrice());
+                    return;
+                }
+
+                DatapointUUIDList activeBids = player.getDataHandler().get(DataHandler.Data.AUCTION_ACTIVE_BIDS, DatapointUUIDList.class);
+                activeBids.setValue(new ArrayList<>(activeBids.getValue()) {{
+                    add(item.getUuid());
+                }});
+                player.getDataHandler().get(DataHandler.Data.AUCTION_ACTIVE_BIDS, DatapointUUIDList.class).setValue(activeBids.getValue());
 
                 player.sendMessage("§eYou purchased " + new SkyBlockItem(item.getItem()).getDisplayName() + "§e for §6" + item.getStartingPrice() + " coins§e!");
 
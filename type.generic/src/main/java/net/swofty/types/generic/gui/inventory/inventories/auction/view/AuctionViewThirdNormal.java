@@ -277,7 +277,14 @@ public class AuctionViewThirdNormal implements AuctionView {
                     AuctionAddItemProtocolObject.AuctionAddItemMessage message =
                             new AuctionAddItemProtocolObject.AuctionAddItemMessage(
                                     item, category);
-                    new ProxyService(ServiceType.AUCTION_HOUSE).handleRequest(message).join();
+                    AuctionAddItemProtocolObject.AuctionAddItemResponse response = (AuctionAddItemProtocolObject.AuctionAddItemResponse)
+                            new ProxyService(ServiceType.AUCTION_HOUSE).handleRequest(message).join();
+                    if (!response.accepted()) {
+                        player.sendMessage("§cCouldn't place your bid, the auction has ended!");
+                        player.sendMessage("§8Returning escrowed coins...");
+                        coins.setValue(coins.getValue() + gui.bidAmount);
+                        return;
+                    }
 
                     player.sendMessage("§eBid of §6" + gui.bidAmount + " coins §eplaced!");
                     new GUIAuctionViewItem(gui.auctionID, gui.previousGUI).open(player);
@@ -6,10 +6,12 @@ import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.swofty.commons.ServiceType;
 import net.swofty.commons.bazaar.BazaarItem;
+import net.swofty.commons.protocol.objects.bazaar.BazaarCancelProtocolObject;
 import net.swofty.commons.protocol.objects.bazaar.BazaarGetItemProtocolObject;
 import net.swofty.commons.protocol.objects.bazaar.BazaarSellProtocolObject;
 import net.swofty.proxyapi.ProxyService;
 import net.swofty.types.generic.bazaar.BazaarCategories;
+import net.swofty.types.generic.bazaar.BazaarClaims;
 import net.swofty.types.generic.gui.inventory.ItemStackCreator;
 import net.swofty.types.generic.gui.inventory.RefreshingGUI;
 import net.swofty.types.generic.gui.inventory.SkyBlockInventoryGUI;
@@ -26,6 +28,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public class GUIBazaarItem extends SkyBlockInventoryGUI implements RefreshingGUI {
@@ -78,6 +81,10 @@ public class GUIBazaarItem extends SkyBlockInventoryGUI implements RefreshingGUI
 
     @Override
     public void onOpen(InventoryGUIOpenEvent e) {
+        fetchItem();
+    }
+
+    private void fetchItem() {
         Thread.startVirtualThread(() -> {
             BazaarGetItemProtocolObject.BazaarGetItemResponse response = (BazaarGetItemProtocolObject.BazaarGetItemResponse) new ProxyService(ServiceType.BAZAAR).handleRequest(
                     new BazaarGetItemProtocolObject.BazaarGetItemMessage(itemTypeLinker.name())
@@ -247,9 +254,59 @@ public class GUIBazaarItem extends SkyBlockInventoryGUI implements RefreshingGUI
             }
         });
 
+        UUID uuid = getPlayer().getUuid();
+        setCancelButton(21, item.getBuyOrders().containsKey(uuid), true);
+        setCancelButton(23, item.getSellOrders().containsKey(uuid), false);
+
         updateItemStacks(getInventory(), getPlayer());
     }
 
+    /**
+     * Shows a button cancelling the player's order on one side, if they have one. The
+     * escrow of what was left of the order is claimed straight after.
+     */
+    private void setCancelButton(int slot, boolean hasOrder, boolean buyOrder) {
+        if (!hasOrder) {
+            set(slot, ItemStackCreator.createNamedItemStack(Material.BLACK_STAINED_GLASS_PANE));
+            return;
+        }
+
+        set(new GUIClickableItem(slot) {
+            @Override
+            public void run(InventoryPreClickEvent e, SkyBlockPlayer player) {
+                player.sendMessage("§6[Bazaar] §7Cancelling order...");
+
+                BazaarCancelProtocolObject.BazaarCancelMessage message =
+                        new BazaarCancelProtocolObject.BazaarCancelMessage(itemTypeLinker.name(), player.getUuid(), buyOrder);
+                CompletableFuture<BazaarCancelProtocolObject.BazaarCancelResponse> future =
+                        new ProxyService(ServiceType.BAZAAR).handleRequest(message);
+                future.thenAccept(response -> {
+                    if (!response.successful()) {
+                        player.sendMessage("§c[Bazaar] §cYou don't have an order to cancel on this item!");
+                        return;
+                    }
+
+                    player.sendMessage("§6[Bazaar] §eCancelled! §7Refunding the §a" + response.remaining()
+                            + "x §7left of your " + (buyOrder ? "buy order" : "sell offer") + "...");
+                    BazaarClaims.claim(player);
+                    fetchItem();
+                });
+            }
+
+            @Override
+            public ItemStack.Builder getItem(SkyBlockPlayer player) {
+                return ItemStackCreator.getStack(buyOrder ? "§cCancel Buy Order" : "§cCancel Sell Offer",
+                        Material.BARRIER, 1,
+                        "§8" + itemTypeLinker.getDisplayName(null),
+                        " ",
+                        buyOrder ? "§7Refunds the coins bid on what" : "§7Returns the items of your offer",
+                        buyOrder ? "§7has not been filled yet." : "§7that have not sold yet.",
+                        " ",
+                        "§eClick to cancel!");
+            }
+        });
+    }
+
     @Override
     public void refreshItems(SkyBlockPlayer player) {
         if (!new ProxyService(ServiceType.BAZAAR).isOnline().join()) {
@@ -2,6 +2,7 @@ package net.swofty.types.generic.gui.inventory.inventories.bazaar;
 
 import net.minestom.server.event.inventory.InventoryPreClickEvent;
 import net.minestom.server.inventory.InventoryType;
+import net.swofty.types.generic.bazaar.BazaarClaims;
 import net.swofty.types.generic.gui.inventory.SkyBlockInventoryGUI;
 
 public class GUIBazaarOrders extends SkyBlockInventoryGUI {
@@ -9,6 +10,11 @@ public class GUIBazaarOrders extends SkyBlockInventoryGUI {
         super("Bazaar Orders", InventoryType.CHEST_4_ROW);
     }
 
+    @Override
+    public void onOpen(InventoryGUIOpenEvent e) {
+        BazaarClaims.claim(e.player());
+    }
+
     @Override
     public boolean allowHotkeying() {
         return false;
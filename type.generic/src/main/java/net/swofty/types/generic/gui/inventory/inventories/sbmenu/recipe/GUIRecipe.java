@@ -66,6 +66,37 @@ public class GUIRecipe extends SkyBlockInventoryGUI {
             }
         });
 
+        List<SkyBlockRecipe<?>> usages = SkyBlockRecipe.getFromIngredient(item.getAttributeHandler().getPotentialType());
+        if (!usages.isEmpty()) {
+            set(new GUIClickableItem(50) {
+                @Override
+                public void run(InventoryPreClickEvent e, SkyBlockPlayer player) {
+                    SkyBlockRecipe<?> usage = usages.getFirst();
+                    ItemTypeLinker result = usage.getResult().getAttributeHandler().getPotentialClassLinker();
+                    if (result == null) return;
+
+                    new GUIRecipe(
+                            usage.getResult(),
+                            GUIRecipe.this,
+                            Math.max(0, SkyBlockRecipe.getFromType(result).indexOf(usage))
+                    ).open(player);
+                }
+
+                @Override
+                public ItemStack.Builder getItem(SkyBlockPlayer player) {
+                    List<String> lore = new ArrayList<>(List.of("§7Used to craft:"));
+                    usages.stream().limit(8).forEach(usage ->
+                            lore.add("§8◼ §7" + usage.getResult().getDisplayName()));
+                    if (usages.size() > 8)
+                        lore.add("§7and §a" + (usages.size() - 8) + " §7more...");
+                    lore.add(" ");
+                    lore.add("§eClick to view the first recipe!");
+
+                    return ItemStackCreator.getStack("§aIngredient Usage", Material.BOOK, 1, lore);
+                }
+            });
+        }
+
         ItemTypeLinker itemTypeLinker = item.getAttributeHandler().getPotentialClassLinker();
         if (itemTypeLinker == null) {
             getPlayer().closeInventory();
@@ -87,7 +87,7 @@ public final class GUIGenericTradingOptions extends SkyBlockInventoryGUI {
                 cleanStack.amount(amount);
                 player.addAndUpdateItem(cleanStack.build());
                 player.playSound(Sound.sound(Key.key("block.note_block.pling"), Sound.Source.PLAYER, 1.0f, 2.0f));
-                player.getShoppingData().documentPurchase(item.getItem().toUnderstandable(), amount);
+                player.updateShoppingData(data -> data.documentPurchase(item.getItem().toUnderstandable(), amount));
                 updateThis(player);
             }
 
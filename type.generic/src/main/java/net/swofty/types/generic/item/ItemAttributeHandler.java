@@ -29,7 +29,7 @@ public class ItemAttributeHandler {
     }
 
     public String getTypeAsString() {
-        return ((ItemAttributeType) item.getAttribute("item_type")).getValue();
+        return item.getAttribute(ItemAttributeType.class).getValue();
     }
 
     public boolean shouldBeEnchanted() {
@@ -40,40 +40,40 @@ public class ItemAttributeHandler {
 
     public @Nullable ItemAttributeSandboxItem.SandboxData getSandboxData() {
         if (item.getGenericInstance() == null) return null;
-        return ((ItemAttributeSandboxItem) item.getAttribute("sandboxdata")).getValue();
+        return item.getAttribute(ItemAttributeSandboxItem.class).getValue();
     }
 
     public void setSandboxData(ItemAttributeSandboxItem.SandboxData data) {
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a sandbox item");
-        ((ItemAttributeSandboxItem) item.getAttribute("sandboxdata")).setValue(data);
+        item.setAttributeValue(ItemAttributeSandboxItem.class, data);
     }
 
     public int getRuneLevel() {
         if (!(item.getGenericInstance() instanceof RuneItem)) {
             throw new RuntimeException("Item is not a rune item " + getTypeAsString());
         }
-        return ((ItemAttributeRuneLevel) item.getAttribute("rune_level")).getValue();
+        return item.getAttribute(ItemAttributeRuneLevel.class).getValue();
     }
 
     public void setRuneLevel(int level) {
         if (!(item.getGenericInstance() instanceof RuneItem)) throw new RuntimeException("Item is not a rune item");
-        ((ItemAttributeRuneLevel) item.getAttribute("rune_level")).setValue(level);
+        item.setAttributeValue(ItemAttributeRuneLevel.class, level);
     }
 
     public ItemAttributeHotPotatoBookData.HotPotatoBookData getHotPotatoBookData() {
-        return ((ItemAttributeHotPotatoBookData) item.getAttribute("hot_potato_book_data")).getValue();
+        return item.getAttribute(ItemAttributeHotPotatoBookData.class).getValue();
     }
 
     public void setHotPotatoBookData(ItemAttributeHotPotatoBookData.HotPotatoBookData data) {
-        item.getAttribute("hot_potato_book_data").setValue(data);
+        item.setAttributeValue(ItemAttributeHotPotatoBookData.class, data);
     }
 
     public ItemAttributeRuneInfusedWith.RuneData getRuneData() {
-        return ((ItemAttributeRuneInfusedWith) item.getAttribute("rune_infused_with")).getValue();
+        return item.getAttribute(ItemAttributeRuneInfusedWith.class).getValue();
     }
 
     public void setRuneData(ItemAttributeRuneInfusedWith.RuneData data) {
-        ((ItemAttributeRuneInfusedWith) item.getAttribute("rune_infused_with")).setValue(data);
+        item.setAttributeValue(ItemAttributeRuneInfusedWith.class, data);
     }
 
     public boolean isPet() {
@@ -83,7 +83,7 @@ public class ItemAttributeHandler {
     public ItemAttributePetData.PetData getPetData() {
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a pet");
         if (item.getGenericInstance() instanceof Pet) {
-            return ((ItemAttributePetData) item.getAttribute("pet_data")).getValue();
+            return item.getAttribute(ItemAttributePetData.class).getValue();
         } else {
             throw new RuntimeException("Item is not a pet");
         }
@@ -98,16 +98,13 @@ public class ItemAttributeHandler {
     }
 
     public void setSoulBound(boolean coopAllowed) {
-        ((ItemAttributeSoulbound) item.getAttribute("soul_bound")).setValue(
-                new ItemAttributeSoulbound.SoulBoundData(coopAllowed)
-        );
+        item.setAttributeValue(ItemAttributeSoulbound.class, new ItemAttributeSoulbound.SoulBoundData(coopAllowed));
     }
 
     public ItemAttributeSoulbound.SoulBoundData getSoulBoundData() {
         if (item.getGenericInstance() == null)
             return null;
-        ItemAttributeSoulbound.SoulBoundData potentialData = ((ItemAttributeSoulbound) item
-                .getAttribute("soul_bound"))
+        ItemAttributeSoulbound.SoulBoundData potentialData = item.getAttribute(ItemAttributeSoulbound.class)
                 .getValue();
         if (potentialData != null) return potentialData;
         if (item.getGenericInstance() instanceof DefaultSoulbound soulBound)
@@ -118,7 +115,7 @@ public class ItemAttributeHandler {
     public @Nullable ItemAttributeGemData.GemData getGemData() {
         if (item.getGenericInstance() == null) return null;
         if (item.getGenericInstance() instanceof GemstoneItem) {
-            return ((ItemAttributeGemData) item.getAttribute("gems")).getValue();
+            return item.getAttribute(ItemAttributeGemData.class).getValue();
         } else {
             return null;
         }
@@ -127,7 +124,7 @@ public class ItemAttributeHandler {
     public void setGemData(ItemAttributeGemData.GemData data) {
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a gemstone item");
         if (item.getGenericInstance() instanceof GemstoneItem) {
-            ((ItemAttributeGemData) item.getAttribute("gems")).setValue(data);
+            item.setAttributeValue(ItemAttributeGemData.class, data);
         } else {
             throw new RuntimeException("Item is not a gemstone item");
         }
@@ -136,7 +133,7 @@ public class ItemAttributeHandler {
     public void setPetData(ItemAttributePetData.PetData data) {
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a pet");
         if (item.getGenericInstance() instanceof Pet) {
-            ((ItemAttributePetData) item.getAttribute("pet_data")).setValue(data);
+            item.setAttributeValue(ItemAttributePetData.class, data);
         } else {
             throw new RuntimeException("Item is not a pet");
         }
@@ -145,7 +142,7 @@ public class ItemAttributeHandler {
     public ItemAttributeBackpackData.BackpackData getBackpackData() {
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a backpack");
         if (item.getGenericInstance() instanceof Backpack) {
-            return ((ItemAttributeBackpackData) item.getAttribute("backpack_data")).getValue();
+            return item.getAttribute(ItemAttributeBackpackData.class).getValue();
         } else {
             throw new RuntimeException("Item is not a backpack");
         }
@@ -154,40 +151,32 @@ public class ItemAttributeHandler {
     public void setBackpackData(ItemAttributeBackpackData.BackpackData data) {
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a backpack");
         if (item.getGenericInstance() instanceof Backpack) {
-            ((ItemAttributeBackpackData) item.getAttribute("backpack_data")).setValue(data);
+            item.setAttributeValue(ItemAttributeBackpackData.class, data);
         } else {
             throw new RuntimeException("Item is not a backpack");
         }
     }
 
     public @Nullable ItemTypeLinker getPotentialClassLinker() {
-        try {
-            return ItemTypeLinker.valueOf(((ItemAttributeType) item.getAttribute("item_type")).getValue());
-        } catch (IllegalArgumentException e) {
-            return null;
-        }
+        return ItemTypeLinker.get(item.getAttribute(ItemAttributeType.class).getValue());
     }
 
     public @Nullable ItemType getPotentialType() {
-        try {
-            return ItemType.valueOf(((ItemAttributeType) item.getAttribute("item_type")).getValue());
-        } catch (IllegalArgumentException e) {
-            return null;
-        }
+        return ItemType.fromName(item.getAttribute(ItemAttributeType.class).getValue());
     }
 
     public Rarity getRarity() {
-        return ((ItemAttributeRarity) item.getAttribute("rarity")).getValue();
+        return item.getAttribute(ItemAttributeRarity.class).getValue();
     }
 
     public @Nullable String getUniqueTrackedID() {
-        String value = ((ItemAttributeUniqueTrackedID) item.getAttribute("unique-tracked-id")).getValue();
+        String value = item.getAttribute(ItemAttributeUniqueTrackedID.class).getValue();
         if (value.equals("none")) return null;
         return value;
     }
 
     public void setUniqueTrackedID(String uniqueTrackedID, SkyBlockPlayer player) {
-        item.getAttribute("unique-tracked-id").setValue(uniqueTrackedID);
+        item.setAttributeValue(ItemAttributeUniqueTrackedID.class, uniqueTrackedID);
 
         Thread.startVirtualThread(() -> {
             ProxyService itemTracker = new ProxyService(ServiceType.ITEM_TRACKER);
@@ -207,24 +196,24 @@ public class ItemAttributeHandler {
     }
 
     public void setRarity(Rarity rarity) {
-        ((ItemAttributeRarity) item.getAttribute("rarity")).setValue(rarity);
+        item.setAttributeValue(ItemAttributeRarity.class, rarity);
     }
 
     public boolean hasEnchantment(EnchantmentType type) {
-        return ((ItemAttributeEnchantments) item.getAttribute("enchantments")).getValue()
+        return item.getAttribute(ItemAttributeEnchantments.class).getValue()
                 .enchantments()
                 .stream()
                 .anyMatch(enchantment -> new SkyBlockEnchantment(enchantment).type() == type);
     }
 
     public void removeEnchantment(EnchantmentType type) {
-        ((ItemAttributeEnchantments) item.getAttribute("enchantments")).getValue()
+        item.getAttribute(ItemAttributeEnchantments.class).getValue()
                 .enchantments()
                 .removeIf(enchantment -> new SkyBlockEnchantment(enchantment).type() == type);
     }
 
     public @Nullable ReforgeType.Reforge getReforge() {
-        return ((ItemAttributeReforge) item.getAttribute("reforge")).getValue();
+        return item.getAttribute(ItemAttributeReforge.class).getValue();
     }
 
     public MinionRegistry getMinionType() {
@@ -239,7 +228,7 @@ public class ItemAttributeHandler {
     public ItemAttributeMinionData.MinionData getMinionData() {
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a minion");
         if (item.getGenericInstance() instanceof Minion) {
-            return ((ItemAttributeMinionData) item.getAttribute("minion_tier")).getValue();
+            return item.getAttribute(ItemAttributeMinionData.class).getValue();
         } else {
             throw new RuntimeException("Item is not a minion");
         }
@@ -248,7 +237,7 @@ public class ItemAttributeHandler {
     public void setMinionData(ItemAttributeMinionData.MinionData data) {
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a minion");
         if (item.getGenericInstance() instanceof Minion) {
-            ((ItemAttributeMinionData) item.getAttribute("minion_tier")).setValue(data);
+            item.setAttributeValue(ItemAttributeMinionData.class, data);
         } else {
             throw new RuntimeException("Item is not a minion");
         }
@@ -257,11 +246,11 @@ public class ItemAttributeHandler {
     public void setReforge(ReforgeType.Reforge reforge) throws IllegalArgumentException {
         if (!item.getAttributeHandler().getRarity().isReforgable())
             throw new IllegalArgumentException("The rarity " + item.getAttributeHandler().getRarity().name() + " is not reforgable.");
-        ((ItemAttributeReforge) item.getAttribute("reforge")).setValue(reforge);
+        item.setAttributeValue(ItemAttributeReforge.class, reforge);
     }
 
     public @Nullable SkyBlockEnchantment getEnchantment(EnchantmentType type) {
-        return ((ItemAttributeEnchantments) item.getAttribute("enchantments")).getValue()
+        return item.getAttribute(ItemAttributeEnchantments.class).getValue()
                 .enchantments()
                 .stream()
                 .filter(enchantment -> new SkyBlockEnchantment(enchantment).type() == type)
@@ -271,36 +260,36 @@ public class ItemAttributeHandler {
     }
 
     public Stream<SkyBlockEnchantment> getEnchantments() {
-        return ((ItemAttributeEnchantments) item.getAttribute("enchantments")).getValue()
+        return item.getAttribute(ItemAttributeEnchantments.class).getValue()
                 .enchantments().stream()
                 .map(SkyBlockEnchantment::new);
     }
 
     public void addEnchantment(SkyBlockEnchantment enchantment) {
-        ((ItemAttributeEnchantments) item.getAttribute("enchantments")).getValue()
+        item.getAttribute(ItemAttributeEnchantments.class).getValue()
                 .addEnchantment(enchantment.toUnderstandable());
     }
 
     public ItemStatistics getStatistics() {
-        return ((ItemAttributeStatistics) item.getAttribute("statistics")).getValue().clone();
+        return item.getAttribute(ItemAttributeStatistics.class).getValue().clone();
     }
 
     public void setStatistics(ItemStatistics statistics) {
-        ((ItemAttributeStatistics) item.getAttribute("statistics")).setValue(statistics);
+        item.setAttributeValue(ItemAttributeStatistics.class, statistics);
     }
 
     public void setRecombobulated(boolean value) {
-        ((ItemAttributeRecombobulated) item.getAttribute("recombobulated")).setValue(value);
+        item.setAttributeValue(ItemAttributeRecombobulated.class, value);
     }
 
     public boolean isRecombobulated() {
-        return ((ItemAttributeRecombobulated) item.getAttribute("recombobulated")).getValue();
+        return item.getAttribute(ItemAttributeRecombobulated.class).getValue();
     }
 
     public boolean isMithrilInfused(){
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a minion");
         if (item.getGenericInstance() instanceof Minion) {
-            return ((ItemAttributeMithrilInfusion) item.getAttribute("mithril_infusion")).getValue();
+            return item.getAttribute(ItemAttributeMithrilInfusion.class).getValue();
         } else {
             throw new RuntimeException("Item is not a minion");
         }
@@ -309,18 +298,18 @@ public class ItemAttributeHandler {
     public void setMithrilInfused(boolean value){
         if (item.getGenericInstance() == null) throw new RuntimeException("Item is not a minion");
         if (item.getGenericInstance() instanceof Minion) {
-            ((ItemAttributeMithrilInfusion) item.getAttribute("mithril_infusion")).setValue(value);
+            item.setAttributeValue(ItemAttributeMithrilInfusion.class, value);
         } else {
             throw new RuntimeException("Item is not a minion");
         }
     }
 
     public int getBreakingPower() {
-        return ((ItemAttributeBreakingPower) item.getAttribute("breaking-power")).getValue();
+        return item.getAttribute(ItemAttributeBreakingPower.class).getValue();
     }
 
     public void setBreakingPower(int breakingPower) {
-        ((ItemAttributeBreakingPower) item.getAttribute("breaking-power")).setValue(breakingPower);
+        item.setAttributeValue(ItemAttributeBreakingPower.class, breakingPower);
     }
 
     public boolean isMiningTool() {
@@ -9,7 +9,6 @@ import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.swofty.commons.item.ItemType;
 import net.swofty.commons.item.Rarity;
-import net.swofty.commons.item.ReforgeType;
 import net.swofty.types.generic.gems.GemRarity;
 import net.swofty.types.generic.gems.Gemstone;
 import net.swofty.commons.item.attribute.attributes.ItemAttributeGemData;
@@ -22,13 +21,13 @@ import net.swofty.types.generic.item.set.impl.ArmorSet;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 import net.swofty.commons.statistics.ItemStatistic;
 import net.swofty.commons.statistics.ItemStatistics;
+import net.swofty.commons.statistics.MutableItemStatistics;
 import net.swofty.commons.StringUtility;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 public class ItemLore {
@@ -92,9 +91,19 @@ public class ItemLore {
                     ItemStatistic.FARMING_FORTUNE, ItemStatistic.FORAGING_FORTUNE, ItemStatistic.BONUS_PEST_CHANCE, ItemStatistic.COLD_RESISTANCE,ItemStatistic.PRISTINE,
                     ItemStatistic.SWING_RANGE));
 
+            // Worked out once for the item rather than once per statistic
+            ItemStatistics reforgeStatistics = handler.getReforge() == null ? ItemStatistics.empty()
+                    : handler.getReforge().getAfterCalculation(ItemStatistics.empty(), rarity.ordinal() + 1);
+            MutableItemStatistics hotPotatoBookStatistics = new MutableItemStatistics();
+            ItemAttributeHotPotatoBookData.HotPotatoBookData hotPotatoBookData = handler.getHotPotatoBookData();
+            if (hotPotatoBookData.hasPotatoBook()) {
+                hotPotatoBookData.getPotatoType().stats.forEach(hotPotatoBookStatistics::addBase);
+            }
+
             boolean addNextLine = false;
             for (ItemStatistic itemStatistic : itemStatistics) {
-                boolean x = addPossiblePropertyInt(itemStatistic, statistics.getOverall(itemStatistic), handler.getReforge(), rarity);
+                boolean x = addPossiblePropertyInt(item, itemStatistic, statistics.getOverall(itemStatistic),
+                        reforgeStatistics.getOverall(itemStatistic), hotPotatoBookStatistics.getOverall(itemStatistic));
                 if (x) {
                     addNextLine = true;
                 }
@@ -256,26 +265,11 @@ public class ItemLore {
                         .decoration(TextDecoration.ITALIC, false));
     }
 
-    private boolean addPossiblePropertyInt(ItemStatistic statistic, double overallValue,
-                                           ReforgeType.Reforge reforge, Rarity rarity) {
-        SkyBlockItem item = new SkyBlockItem(stack);
-        double reforgeValue = 0;
+    private boolean addPossiblePropertyInt(SkyBlockItem item, ItemStatistic statistic, double overallValue,
+                                           double reforgeValue, double hpbValue) {
         double gemstoneValue = Gemstone.getExtraStatisticFromGemstone(statistic, item);
-        if (reforge != null) {
-            reforgeValue = reforge.getAfterCalculation(ItemStatistics.empty(), rarity.ordinal() + 1).getOverall(statistic);
-            overallValue += reforgeValue;
-        }
+        overallValue += reforgeValue;
         overallValue += gemstoneValue;
-
-        double hpbValue = 0;
-        ItemAttributeHotPotatoBookData.HotPotatoBookData hotPotatoBookData = item.getAttributeHandler().getHotPotatoBookData();
-        if (hotPotatoBookData.hasPotatoBook()) {
-            for (Map.Entry<ItemStatistic, Double> entry : hotPotatoBookData.getPotatoType().stats.entrySet()) {
-                ItemStatistic stat = entry.getKey();
-                Double value = entry.getValue();
-                if (stat == statistic) hpbValue += value;
-            }
-        }
         overallValue += hpbValue;
 
         if (overallValue == 0) return false;
@@ -202,6 +202,10 @@ import net.swofty.types.generic.item.items.vanilla.items.weapon.*;
 import net.swofty.types.generic.item.items.weapon.*;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Getter
 public enum ItemTypeLinker {
     SANDBOX_ITEM(ItemType.SANDBOX_ITEM, SandboxItem.class),
@@ -1327,21 +1331,44 @@ public enum ItemTypeLinker {
     ENCHANTED_BONE_MEAL(ItemType.ENCHANTED_BONE_MEAL, EnchantedBoneMeal.class),
     ;
 
+    // Lookup tables built once the constants exist, byType is indexed by ItemType ordinal
+    private static final ItemTypeLinker[] byType = new ItemTypeLinker[ItemType.values().length];
+    private static final Map<String, ItemTypeLinker> byName = new HashMap<>();
+
+    static {
+        for (ItemTypeLinker linker : values()) {
+            if (byType[linker.type.ordinal()] == null) byType[linker.type.ordinal()] = linker;
+            byName.put(linker.name(), linker);
+        }
+    }
+
     public final ItemType type;
     public final Class<? extends CustomSkyBlockItem> clazz;
+    private final String normalName;
+    private volatile CustomSkyBlockItem prototype;
 
     ItemTypeLinker(ItemType type, Class<? extends CustomSkyBlockItem> clazz) {
         this.type = type;
         this.clazz = clazz;
+        this.normalName = StringUtility.toNormalCase(this.name());
     }
 
-    @SneakyThrows
     public String getDisplayName(@Nullable SkyBlockItem item) {
-        if (clazz == null)
-            return StringUtility.toNormalCase(this.name());
-        if (clazz.newInstance() instanceof CustomDisplayName name)
+        if (getPrototype() instanceof CustomDisplayName name)
             return name.getDisplayName(item);
-        return StringUtility.toNormalCase(this.name());
+        return normalName;
+    }
+
+    /**
+     * Returns one shared instance of this item's class, for reading what it declares
+     * without instantiating it. Item classes hold no state, callers that want their
+     * own instance should use {@link #getNewInstance(Class)}.
+     */
+    @SneakyThrows
+    public @Nullable CustomSkyBlockItem getPrototype() {
+        if (clazz == null) return null;
+        if (prototype == null) prototype = clazz.getDeclaredConstructor().newInstance();
+        return prototype;
     }
 
     @SneakyThrows
@@ -1351,12 +1378,9 @@ public enum ItemTypeLinker {
         return toCastTo.cast(clazz.newInstance());
     }
 
-    public static ItemTypeLinker get(String name) {
-        try {
-            return ItemTypeLinker.valueOf(name);
-        } catch (Exception e) {
-            return null;
-        }
+    public static @Nullable ItemTypeLinker get(String name) {
+        if (name == null) return null;
+        return byName.get(name);
     }
 
     public static boolean hasLinker(ItemType type) {
@@ -1364,15 +1388,30 @@ public enum ItemTypeLinker {
     }
 
     public static @Nullable ItemTypeLinker fromType(ItemType type) {
-        for (ItemTypeLinker linker : values()) {
-            if (linker.type == type)
-                return linker;
-        }
-        return null;
+        if (type == null) return null;
+        return byType[type.ordinal()];
     }
 
+    /**
+     * Resolves the linker a plain stack of this material loads as, matching the
+     * potential class linker of {@code new SkyBlockItem(material)}
+     */
     public static @Nullable ItemTypeLinker fromMaterial(Material material) {
-        return new SkyBlockItem(material).getAttributeHandler().getPotentialClassLinker();
+        ItemType type = ItemType.get(material.namespace().value());
+        if (type == null) return null;
+
+        ItemTypeLinker linker = fromType(type);
+        return linker != null ? linker : get(type.name());
+    }
+
+    /**
+     * Returns up to limit linkers whose names are closest to the input, for
+     * suggesting corrections to a mistyped item
+     */
+    public static List<ItemTypeLinker> suggest(String input, int limit) {
+        return StringUtility.closestMatches(input, byName.keySet(), limit).stream()
+                .map(byName::get)
+                .toList();
     }
 
     public static boolean isVanillaReplaced(String item) {
@@ -25,10 +25,13 @@ import net.swofty.types.generic.user.SkyBlockPlayer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class SkyBlockItem {
-    public List<ItemAttribute> attributes = new ArrayList<>();
+    // Indexed by attribute id. Slots not marked as owned may be shared with clones, and are copied before being written
+    private ItemAttribute[] attributes = new ItemAttribute[ItemAttribute.getAttributeCount()];
+    private long ownedAttributes = 0L;
     public Class<? extends CustomSkyBlockItem> clazz = null;
     private Object instance = null;
     @Getter
@@ -54,12 +57,12 @@ public class SkyBlockItem {
         }
         setAmount(item.amount());
 
-        item.attributes().forEach(attribute -> {
-            ItemAttribute attributeOnItem = getAttribute(attribute.getKey());
-            attributeOnItem.setValue(attribute.getValue());
-        });
+        item.attributes().forEach(attribute ->
+                getWritableAttribute(ItemAttribute.getId(attribute.getClass())).setValue(attribute.getValue()));
     }
 
+    private SkyBlockItem() {}
+
     public SkyBlockItem(Material material) {
         String materialName = material.namespace().value();
         ItemType itemType = ItemType.get(materialName);
@@ -121,52 +124,45 @@ public class SkyBlockItem {
     @SneakyThrows
     private void loadAsLinker(ItemTypeLinker linker) {
         clazz = linker.clazz;
-        ItemStatistics statistics = clazz.newInstance().getStatistics(null);
+        ItemStatistics statistics = linker.getPrototype().getStatistics(null);
+        loadDefaultAttributes(statistics);
 
-        for (ItemAttribute attribute : ItemAttribute.getPossibleAttributes()) {
-            attribute.setValue(attribute.getDefaultValue(statistics));
-            attributes.add(attribute);
-        }
+        setAttributeValue(ItemAttributeType.class, linker.name());
 
-        ItemAttributeType typeAttribute = (ItemAttributeType) getAttribute("item_type");
-        typeAttribute.setValue(linker.name());
-
-        ItemAttributeRarity rarityAttribute = (ItemAttributeRarity) getAttribute("rarity");
         try {
-            rarityAttribute.setValue(linker.type.rarity);
+            setAttributeValue(ItemAttributeRarity.class, linker.type.rarity);
         } catch (IllegalArgumentException e) {
-            rarityAttribute.setValue(Rarity.COMMON);
+            setAttributeValue(ItemAttributeRarity.class, Rarity.COMMON);
         }
 
-        ItemAttributeStatistics statisticsAttribute = (ItemAttributeStatistics) getAttribute("statistics");
-        statisticsAttribute.setValue(linker.clazz.newInstance().getStatistics(this));
+        setAttributeValue(ItemAttributeStatistics.class, linker.getPrototype().getStatistics(this));
     }
 
     private void loadAsItemType(ItemType type) {
-        for (ItemAttribute attribute : ItemAttribute.getPossibleAttributes()) {
-            attribute.setValue(attribute.getDefaultValue(null));
-            attributes.add(attribute);
-        }
+        loadDefaultAttributes(null);
 
-        ItemAttributeType typeAttribute = (ItemAttributeType) getAttribute("item_type");
-        typeAttribute.setValue(type.name());
+        setAttributeValue(ItemAttributeType.class, type.name());
 
-        ItemAttributeRarity rarityAttribute = (ItemAttributeRarity) getAttribute("rarity");
         try {
-            rarityAttribute.setValue(type.rarity);
+            setAttributeValue(ItemAttributeRarity.class, type.rarity);
         } catch (IllegalArgumentException e) {
-            rarityAttribute.setValue(Rarity.COMMON);
+            setAttributeValue(ItemAttributeRarity.class, Rarity.COMMON);
         }
     }
 
     private void loadAsMaterial(Material material) {
-        for (ItemAttribute attribute : ItemAttribute.getPossibleAttributes()) {
-            attribute.setValue(attribute.getDefaultValue(null));
-            attributes.add(attribute);
-        }
+        loadDefaultAttributes(null);
 
-        ItemAttributeType typeAttribute = (ItemAttributeType) getAttribute("item_type");
-        typeAttribute.setValue(material.namespace().asString());
+        setAttributeValue(ItemAttributeType.class, material.namespace().asString());
+    }
+
+    private void loadDefaultAttributes(ItemStatistics statistics) {
+        for (int id = 0; id < attributes.length; id++) {
+            ItemAttribute attribute = ItemAttribute.create(id);
+            attribute.setValue(attribute.getDefaultValue(statistics));
+            attributes[id] = attribute;
+        }
+        ownedAttributes = 0L;
     }
 
     @SneakyThrows
@@ -184,7 +180,7 @@ public class SkyBlockItem {
             linker = ItemTypeLinker.fromType(type);
             if (linker != null) {
                 loadAsLinker(linker);
-                statistics = linker.clazz.newInstance().getStatistics(null);
+                statistics = linker.getPrototype().getStatistics(null);
             } else {
                 loadAsItemType(type);
             }
@@ -193,27 +189,70 @@ public class SkyBlockItem {
             loadAsMaterial(material);
         }
 
-        for (ItemAttribute attribute : ItemAttribute.getPossibleAttributes()) {
-            if (item.hasTag(Tag.String(attribute.getKey()))) {
-                attribute.setValue(attribute.loadFromString(item.getTag(Tag.String(attribute.getKey()))));
-                attributes.removeIf(a -> a.getKey().equals(attribute.getKey()));
-                attributes.add(attribute);
+        for (int id = 0; id < attributes.length; id++) {
+            ItemAttribute attribute = ItemAttribute.create(id);
+            Tag<String> tag = Tag.String(ItemAttribute.getKey(id));
+            if (item.hasTag(tag)) {
+                attribute.setValue(attribute.loadFromString(item.getTag(tag)));
             } else {
                 attribute.setValue(attribute.getDefaultValue(statistics));
-                attributes.removeIf(a -> a.getKey().equals(attribute.getKey()));
-                attributes.add(attribute);
             }
+            attributes[id] = attribute;
         }
 
         if (linker != null) {
             // All items re-retrieve their base stats when loaded from an itemstack
-            ItemAttributeStatistics statisticsAttribute = (ItemAttributeStatistics) getAttribute("statistics");
-            statisticsAttribute.setValue(linker.clazz.newInstance().getStatistics(this));
+            setAttributeValue(ItemAttributeStatistics.class, linker.getPrototype().getStatistics(this));
         }
     }
 
     public ItemAttribute getAttribute(String key) {
-        return attributes.stream().filter(attribute -> attribute.getKey().equals(key)).findFirst().orElse(null);
+        int id = ItemAttribute.getId(key);
+        return id == -1 ? null : getAttribute(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A extends ItemAttribute<?>> A getAttribute(Class<A> type) {
+        return (A) getAttribute(ItemAttribute.getId(type));
+    }
+
+    /**
+     * Returns the attribute for reading, as it may be shared with clones of this item.
+     * Values are changed through {@link #setAttributeValue}.
+     */
+    private ItemAttribute getAttribute(int id) {
+        return attributes[id];
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> void setAttributeValue(Class<? extends ItemAttribute<T>> type, T value) {
+        getWritableAttribute(ItemAttribute.getId(type)).setValue(value);
+    }
+
+    /**
+     * Sets the attribute with the key from its string form, returning false if no attribute has the key
+     */
+    @SuppressWarnings("unchecked")
+    public boolean setAttributeFromString(String key, String value) {
+        int id = ItemAttribute.getId(key);
+        if (id == -1) return false;
+
+        ItemAttribute attribute = getWritableAttribute(id);
+        attribute.setValue(attribute.loadFromString(value));
+        return true;
+    }
+
+    private ItemAttribute getWritableAttribute(int id) {
+        // Take a copy of a slot that may still be shared before writing to it
+        if ((ownedAttributes & (1L << id)) == 0) {
+            attributes[id] = attributes[id].copy();
+            ownedAttributes |= 1L << id;
+        }
+        return attributes[id];
+    }
+
+    public List<ItemAttribute> getAttributes() {
+        return new ArrayList<>(Arrays.asList(attributes));
     }
 
     public Object getGenericInstance() {
@@ -225,25 +264,28 @@ public class SkyBlockItem {
             return instance;
         } catch (Exception e) {}
 
-        try {
-            instance = getAttributeHandler().getPotentialClassLinker().clazz.newInstance();
-            return instance;
-        } catch (Exception e) {}
+        ItemTypeLinker linker = getAttributeHandler().getPotentialClassLinker();
+        if (linker == null || linker.clazz == null)
+            return null;
 
-        return null;
+        instance = linker.getPrototype();
+        return instance;
     }
 
     @Override
     public SkyBlockItem clone() {
-        SkyBlockItem item = new SkyBlockItem(getMaterial());
-        List<ItemAttribute> attributesForClone = new ArrayList<>();
+        SkyBlockItem item = new SkyBlockItem();
         item.clazz = clazz;
         item.amount = amount;
-        ItemAttribute.getPossibleAttributes().forEach(attribute -> {
-            attribute.setValue(getAttribute(attribute.getKey()).getValue());
-            attributesForClone.add(attribute);
-        });
-        item.attributes = attributesForClone;
+        item.attributes = attributes.clone();
+
+        // Slots this item owns may still be written in place, so only those are copied.
+        // The rest stay shared and unowned on both sides, and this item is left untouched.
+        for (long owned = ownedAttributes; owned != 0; owned &= owned - 1) {
+            int id = Long.numberOfTrailingZeros(owned);
+            item.attributes[id] = attributes[id].copy();
+        }
+        item.ownedAttributes = ownedAttributes;
         return item;
     }
 
@@ -252,17 +294,17 @@ public class SkyBlockItem {
         if (data != null && data.getMaterial() != ItemType.AIR)
             return data.getMaterial().material;
 
-        ItemAttributeType typeAttribute = (ItemAttributeType) getAttribute("item_type");
-        try {
-            return ItemType.valueOf(typeAttribute.getValue()).material;
-        } catch (IllegalArgumentException e) {
-            if (typeAttribute.getValue().equalsIgnoreCase("N/A"))
-                return Material.BEDROCK;
-            Material material = Material.fromNamespaceId(typeAttribute.getValue());
-            if (material == null)
-                return Material.AIR;
-            return material;
-        }
+        ItemAttributeType typeAttribute = getAttribute(ItemAttributeType.class);
+        ItemType type = ItemType.fromName(typeAttribute.getValue());
+        if (type != null)
+            return type.material;
+
+        if (typeAttribute.getValue().equalsIgnoreCase("N/A"))
+            return Material.BEDROCK;
+        Material material = Material.fromNamespaceId(typeAttribute.getValue());
+        if (material == null)
+            return Material.AIR;
+        return material;
     }
 
     public ItemStack getItemStack() {
@@ -283,13 +325,16 @@ public class SkyBlockItem {
     public boolean isSimilar(SkyBlockItem item) {
         boolean allAttributesMatch = true;
 
-        for (ItemAttribute attribute : attributes) {
+        for (int id = 0; id < attributes.length; id++) {
+            ItemAttribute attribute = attributes[id];
+            ItemAttribute other = item.attributes[id];
+
             // If both are null, skip
-            if (attribute.getValue() == null && item.getAttribute(attribute.getKey()).getValue() == null)
+            if (attribute.getValue() == null && other.getValue() == null)
                 continue;
 
-            if (attribute.getValue() != null && item.getAttribute(attribute.getKey()).getValue() != null) {
-                if (!attribute.saveIntoString().equals(item.getAttribute(attribute.getKey()).saveIntoString())) {
+            if (attribute.getValue() != null && other.getValue() != null) {
+                if (!attribute.saveIntoString().equals(other.saveIntoString())) {
                     allAttributesMatch = false;
                     break;
                 }
@@ -320,7 +365,7 @@ public class SkyBlockItem {
     public UnderstandableSkyBlockItem toUnderstandable() {
         return new UnderstandableSkyBlockItem(
                 getAttributeHandler().getPotentialType(),
-                attributes, amount, getMaterial()
+                getAttributes(), amount, getMaterial()
         );
     }
 
@@ -337,7 +382,7 @@ public class SkyBlockItem {
                 ", itemType=" + getAttributeHandler().getTypeAsString() +
                 ", clazz=" + clazz +
                 ", amount=" + amount +
-                ", attributes=" + attributes.stream().map(attribute -> attribute.getKey() + "=" + attribute.getValue()).reduce((s, s2) -> s + ", " + s2).orElse("null") +
+                ", attributes=" + Arrays.stream(attributes).map(attribute -> attribute.getKey() + "=" + attribute.getValue()).reduce((s, s2) -> s + ", " + s2).orElse("null") +
                 '}';
     }
 
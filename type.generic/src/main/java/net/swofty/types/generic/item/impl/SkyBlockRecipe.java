@@ -8,6 +8,7 @@ import net.swofty.commons.item.ItemType;
 import net.swofty.types.generic.SkyBlockGenericLoader;
 import net.swofty.types.generic.item.ItemTypeLinker;
 import net.swofty.types.generic.item.SkyBlockItem;
+import net.swofty.types.generic.item.impl.recipes.RecipeIndex;
 import net.swofty.types.generic.item.impl.recipes.ShapedRecipe;
 import net.swofty.types.generic.item.impl.recipes.ShapelessRecipe;
 import net.swofty.types.generic.user.SkyBlockPlayer;
@@ -55,20 +56,11 @@ public abstract class SkyBlockRecipe<T> {
     }
 
     public static @NotNull List<SkyBlockRecipe<?>>  getFromType(ItemTypeLinker type) {
-        ArrayList<SkyBlockRecipe<?>> recipes = new ArrayList<>();
-        ShapedRecipe.CACHED_RECIPES.forEach(recipe -> {
-            ItemTypeLinker itemTypeLinker = recipe.getResult().getAttributeHandler().getPotentialClassLinker();
-            if (itemTypeLinker != null && itemTypeLinker == type) {
-                recipes.add(recipe);
-            }
-        });
-        ShapelessRecipe.CACHED_RECIPES.forEach(recipe -> {
-            ItemTypeLinker itemTypeLinker = recipe.getResult().getAttributeHandler().getPotentialClassLinker();
-            if (itemTypeLinker != null && itemTypeLinker == type) {
-                recipes.add(recipe);
-            }
-        });
-        return recipes;
+        return RecipeIndex.getByResult(type);
+    }
+
+    public static @NotNull List<SkyBlockRecipe<?>> getFromIngredient(ItemType type) {
+        return RecipeIndex.getByIngredient(type);
     }
 
     public static SkyBlockRecipe<?> getStandardEnchantedRecipe(Class<?> clazz, SkyBlockRecipe.RecipeType type, ItemTypeLinker craftingMaterial) {
@@ -15,6 +15,10 @@ public enum ExchangeableType {
         this.exchangeableMaterials = Arrays.asList(materials);
     }
 
+    public boolean contains(ItemType material) {
+        return exchangeableMaterials.contains(material);
+    }
+
     public static boolean isExchangeable(ItemType material1, ItemType material2) {
         return Arrays.stream(values())
                 .anyMatch(exchangeableType -> exchangeableType.exchangeableMaterials.contains(material1)
@@ -0,0 +1,285 @@
+package net.swofty.types.generic.item.impl.recipes;
+
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import net.swofty.commons.item.ItemType;
+import net.swofty.types.generic.item.ItemQuantifiable;
+import net.swofty.types.generic.item.ItemTypeLinker;
+import net.swofty.types.generic.item.SkyBlockItem;
+import net.swofty.types.generic.item.impl.SkyBlockRecipe;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Indexes recipes as they are registered, so matching a crafting grid only runs the
+ * full matchers against recipes that could possibly fit it.
+ * <p>
+ * Shaped recipes are reduced to the signature of every position their pattern can
+ * be placed at in the grid: which cells must hold an item, which must be empty, and
+ * the material or exchangeable group each cell needs. They are bucketed by the
+ * first item of their pattern. Shapeless recipes are bucketed by their number of
+ * distinct ingredient types and by their first ingredient. Lookups return
+ * candidates in registration order, so the matchers pick the same recipe they
+ * would from a scan over every recipe.
+ * <p>
+ * Also keeps reverse indexes from result and from ingredient to recipes for the
+ * recipe book.
+ */
+public class RecipeIndex {
+    private static final int GRID_SIZE = 3;
+    private static final int FULL_GRID = (1 << (GRID_SIZE * GRID_SIZE)) - 1;
+
+    private static final Map<Object, List<ShapedEntry>> shapedByAnchor = new HashMap<>();
+    // Recipes whose pattern has no items at all, which every grid must be checked against
+    private static final List<ShapedEntry> shapedWithoutAnchor = new ArrayList<>();
+    private static final Map<Integer, Map<Object, List<ShapelessEntry>>> shapelessBySize = new HashMap<>();
+    // Recipes without ingredients, which match any grid offering no typed items
+    private static final List<ShapelessEntry> shapelessWithoutIngredients = new ArrayList<>();
+
+    private static final Map<ItemTypeLinker, List<SkyBlockRecipe<?>>> shapedByResult = new HashMap<>();
+    private static final Map<ItemTypeLinker, List<SkyBlockRecipe<?>>> shapelessByResult = new HashMap<>();
+    private static final Map<ItemType, Set<SkyBlockRecipe<?>>> byIngredient = new HashMap<>();
+
+    static void add(ShapedRecipe recipe, int position) {
+        indexResult(shapedByResult, recipe);
+
+        List<String> pattern = recipe.getPattern();
+        int rows = pattern.size();
+        int columns = pattern.getFirst().length();
+
+        Cell[][] cells = new Cell[rows][];
+        Cell anchor = null;
+        boolean complete = true;
+        for (int row = 0; row < rows; row++) {
+            cells[row] = new Cell[pattern.get(row).length()];
+            for (int column = 0; column < cells[row].length; column++) {
+                ItemQuantifiable ingredient = recipe.getIngredientMap().get(pattern.get(row).charAt(column));
+                if (ingredient == null) {
+                    complete = false;
+                    continue;
+                }
+
+                Cell cell = Cell.of(ingredient.getItem());
+                cells[row][column] = cell;
+                if (cell.isAir()) continue;
+                if (anchor == null) anchor = cell;
+                indexIngredient(cell.type(), recipe);
+            }
+        }
+        // A character with no ingredient makes the matcher throw, so the recipe can never match
+        if (!complete) return;
+
+        List<Placement> placements = new ArrayList<>();
+        for (int startRow = 0; startRow <= GRID_SIZE - rows; startRow++) {
+            for (int startColumn = 0; startColumn <= GRID_SIZE - columns; startColumn++) {
+                Placement placement = Placement.of(cells, startRow, startColumn);
+                if (placement != null) placements.add(placement);
+            }
+        }
+
+        ShapedEntry entry = new ShapedEntry(recipe, position, placements);
+        if (anchor == null) {
+            shapedWithoutAnchor.add(entry);
+            return;
+        }
+        anchor.keys().forEach(key -> shapedByAnchor.computeIfAbsent(key, k -> new ArrayList<>()).add(entry));
+    }
+
+    static void add(ShapelessRecipe recipe, int position) {
+        indexResult(shapelessByResult, recipe);
+
+        List<ItemType> types = recipe.getIngredientList().stream()
+                .map(ingredient -> ingredient.getItem().getAttributeHandler().getPotentialType())
+                .distinct()
+                .toList();
+        types.forEach(type -> {
+            if (type != null) indexIngredient(type, recipe);
+        });
+
+        // The grid never offers untyped or air ingredients, so a recipe asking for one can never match
+        if (types.contains(null) || types.contains(ItemType.AIR)) return;
+
+        ShapelessEntry entry = new ShapelessEntry(recipe, position);
+        if (types.isEmpty()) {
+            shapelessWithoutIngredients.add(entry);
+            return;
+        }
+        Map<Object, List<ShapelessEntry>> bySize = shapelessBySize.computeIfAbsent(types.size(), k -> new HashMap<>());
+        keysOf(types.getFirst(), null).forEach(key -> bySize.computeIfAbsent(key, k -> new ArrayList<>()).add(entry));
+    }
+
+    /**
+     * Returns every shaped recipe that could match the grid, in registration order
+     */
+    static List<ShapedRecipe> shapedCandidates(ItemStack[] stacks) {
+        Cell[] grid = new Cell[stacks.length];
+        int itemMask = 0;
+        int unknownMask = 0;
+        Set<Object> keys = new HashSet<>();
+        for (int i = 0; i < stacks.length; i++) {
+            grid[i] = Cell.ofGrid(stacks[i]);
+            if (grid[i].material() == null) unknownMask |= 1 << i;
+            else if (!grid[i].isAir()) itemMask |= 1 << i;
+            keys.addAll(grid[i].keys());
+        }
+
+        List<ShapedEntry> candidates = new ArrayList<>(shapedWithoutAnchor);
+        if (unknownMask != 0) {
+            // The grid holds an item whose material cannot be read, so every anchor is possible
+            shapedByAnchor.values().forEach(candidates::addAll);
+        } else {
+            keys.forEach(key -> candidates.addAll(shapedByAnchor.getOrDefault(key, List.of())));
+        }
+
+        int finalItemMask = itemMask;
+        int finalUnknownMask = unknownMask;
+        return candidates.stream()
+                .distinct()
+                .filter(entry -> entry.fits(grid, finalItemMask, finalUnknownMask))
+                .sorted(Comparator.comparingInt(ShapedEntry::position))
+                .map(ShapedEntry::recipe)
+                .toList();
+    }
+
+    /**
+     * Returns every shapeless recipe that could match the grid, in registration order
+     */
+    static List<ShapelessRecipe> shapelessCandidates(ItemStack[] stacks) {
+        Set<ItemType> types = new HashSet<>();
+        for (ItemStack stack : stacks) {
+            ItemType type = ItemQuantifiable.of(stack).getItem().getAttributeHandler().getPotentialType();
+            if (type != null && type != ItemType.AIR) types.add(type);
+        }
+
+        if (types.isEmpty()) return shapelessWithoutIngredients.stream().map(ShapelessEntry::recipe).toList();
+
+        Map<Object, List<ShapelessEntry>> bySize = shapelessBySize.get(types.size());
+        if (bySize == null) return List.of();
+
+        Set<ShapelessEntry> candidates = new HashSet<>();
+        types.forEach(type -> keysOf(type, null).forEach(key ->
+                candidates.addAll(bySize.getOrDefault(key, List.of()))));
+
+        return candidates.stream()
+                .sorted(Comparator.comparingInt(ShapelessEntry::position))
+                .map(ShapelessEntry::recipe)
+                .toList();
+    }
+
+    /**
+     * Returns the recipes crafting the given item, shaped recipes first
+     */
+    public static List<SkyBlockRecipe<?>> getByResult(ItemTypeLinker type) {
+        List<SkyBlockRecipe<?>> recipes = new ArrayList<>(shapedByResult.getOrDefault(type, List.of()));
+        recipes.addAll(shapelessByResult.getOrDefault(type, List.of()));
+        return recipes;
+    }
+
+    /**
+     * Returns the recipes using the given item as an ingredient, shaped recipes first
+     */
+    public static List<SkyBlockRecipe<?>> getByIngredient(ItemType type) {
+        List<SkyBlockRecipe<?>> recipes = new ArrayList<>(byIngredient.getOrDefault(type, Set.of()));
+        recipes.sort(Comparator.comparingInt(recipe -> recipe instanceof ShapedRecipe ? 0 : 1));
+        return recipes;
+    }
+
+    private static void indexResult(Map<ItemTypeLinker, List<SkyBlockRecipe<?>>> index, SkyBlockRecipe<?> recipe) {
+        ItemTypeLinker result = recipe.getResult().getAttributeHandler().getPotentialClassLinker();
+        if (result != null) index.computeIfAbsent(result, k -> new ArrayList<>()).add(recipe);
+    }
+
+    private static void indexIngredient(@Nullable ItemType type, SkyBlockRecipe<?> recipe) {
+        if (type == null || type == ItemType.AIR) return;
+        byIngredient.computeIfAbsent(type, k -> new LinkedHashSet<>()).add(recipe);
+    }
+
+    /**
+     * Everything an item can be matched by, itself and each group it is exchangeable within
+     */
+    private static List<Object> keysOf(@Nullable ItemType type, @Nullable Material material) {
+        List<Object> keys = new ArrayList<>(2);
+        if (material != null) keys.add(material);
+        else if (type != null) keys.add(type);
+        for (ExchangeableType group : ExchangeableType.values()) {
+            if (group.contains(type)) keys.add(group);
+        }
+        return keys;
+    }
+
+    /**
+     * A grid cell or pattern cell reduced to what the shaped matcher compares: the
+     * material, or null when it cannot be read, and the item type for exchanges
+     */
+    private record Cell(@Nullable Material material, @Nullable ItemType type) {
+        static Cell of(SkyBlockItem item) {
+            return new Cell(item.getMaterial(), item.getAttributeHandler().getPotentialType());
+        }
+
+        static Cell ofGrid(ItemStack stack) {
+            ItemQuantifiable quantifiable = ItemQuantifiable.of(stack);
+            SkyBlockItem item = quantifiable.getItem();
+            // The matcher compares the wrapped item's material, which getItem swaps for air on N/A items
+            Material material = quantifiable.matchesMaterial(item) ? item.getMaterial() : null;
+            return new Cell(material, item.getAttributeHandler().getPotentialType());
+        }
+
+        boolean isAir() {
+            return material == Material.AIR;
+        }
+
+        List<Object> keys() {
+            if (isAir()) return List.of();
+            return keysOf(type, material);
+        }
+
+        boolean couldMatch(Cell grid) {
+            if (grid.material == null || grid.material == material) return true;
+            return ExchangeableType.isExchangeable(grid.type, type);
+        }
+    }
+
+    private record Placement(Cell[] cells, int itemMask, int airMask) {
+        /**
+         * @return null if a row runs off the grid, which the matcher fails on
+         */
+        static @Nullable Placement of(Cell[][] pattern, int startRow, int startColumn) {
+            Cell[] placed = new Cell[GRID_SIZE * GRID_SIZE];
+            int itemMask = 0;
+            int airMask = 0;
+            for (int row = 0; row < pattern.length; row++) {
+                if (startColumn + pattern[row].length > GRID_SIZE) return null;
+
+                for (int column = 0; column < pattern[row].length; column++) {
+                    int index = (startRow + row) * GRID_SIZE + startColumn + column;
+                    placed[index] = pattern[row][column];
+                    if (placed[index].isAir()) airMask |= 1 << index;
+                    else itemMask |= 1 << index;
+                }
+            }
+            return new Placement(placed, itemMask, airMask);
+        }
+
+        boolean fits(Cell[] grid, int gridItemMask, int gridUnknownMask) {
+            if ((itemMask & ~(gridItemMask | gridUnknownMask) & FULL_GRID) != 0) return false;
+            if ((airMask & gridItemMask) != 0) return false;
+
+            for (int i = 0; i < cells.length; i++) {
+                if (cells[i] != null && !cells[i].couldMatch(grid[i])) return false;
+            }
+            return true;
+        }
+    }
+
+    private record ShapedEntry(ShapedRecipe recipe, int position, List<Placement> placements) {
+        boolean fits(Cell[] grid, int gridItemMask, int gridUnknownMask) {
+            for (Placement placement : placements) {
+                if (placement.fits(grid, gridItemMask, gridUnknownMask)) return true;
+            }
+            return false;
+        }
+    }
+
+    private record ShapelessEntry(ShapelessRecipe recipe, int position) {}
+}
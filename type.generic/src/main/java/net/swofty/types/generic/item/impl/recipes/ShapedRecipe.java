@@ -3,6 +3,7 @@ package net.swofty.types.generic.item.impl.recipes;
 import lombok.Getter;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
+import net.swofty.commons.Configuration;
 import net.swofty.commons.item.ItemType;
 import net.swofty.types.generic.item.ItemQuantifiable;
 import net.swofty.types.generic.item.SkyBlockItem;
@@ -16,6 +17,7 @@ import java.util.function.Function;
 @Getter
 public class ShapedRecipe extends SkyBlockRecipe<ShapedRecipe> {
     public static final List<ShapedRecipe> CACHED_RECIPES = new ArrayList<>();
+    private static final boolean VERIFY_INDEX = Configuration.getOrDefault("recipe-index-verification", false);
 
     private final Map<Character, ItemQuantifiable> ingredientMap;
     private final Map<Character, Function<SkyBlockItem, Boolean>> extraRequirements = new HashMap<>();
@@ -47,6 +49,7 @@ public class ShapedRecipe extends SkyBlockRecipe<ShapedRecipe> {
 
     @Override
     public void init() {
+        RecipeIndex.add(this, CACHED_RECIPES.size());
         CACHED_RECIPES.add(this);
     }
 
@@ -203,13 +206,25 @@ public class ShapedRecipe extends SkyBlockRecipe<ShapedRecipe> {
     }
 
     public static ShapedRecipe parseShapedRecipe(ItemStack[] stacks) {
+        ShapedRecipe recipe = parseShapedRecipe(stacks, RecipeIndex.shapedCandidates(stacks));
+        if (VERIFY_INDEX) {
+            ShapedRecipe expected = parseShapedRecipe(stacks, CACHED_RECIPES);
+            if (expected != recipe) {
+                Logger.warn("Recipe index matched " + describe(recipe) + " but a full scan matched " + describe(expected));
+                return expected;
+            }
+        }
+        return recipe;
+    }
+
+    static ShapedRecipe parseShapedRecipe(ItemStack[] stacks, List<ShapedRecipe> recipes) {
         ItemStack[][] grid = {
                 {stacks[0], stacks[1], stacks[2]},
                 {stacks[3], stacks[4], stacks[5]},
                 {stacks[6], stacks[7], stacks[8]}
         };
 
-        return CACHED_RECIPES.stream()
+        return recipes.stream()
                 .filter(recipe -> {
                     List<String> recipePattern = recipe.getPattern();
                     int patternRows = recipePattern.size();
@@ -256,6 +271,10 @@ public class ShapedRecipe extends SkyBlockRecipe<ShapedRecipe> {
                 .orElse(null);
     }
 
+    private static String describe(ShapedRecipe recipe) {
+        return recipe == null ? "nothing" : recipe.getResult().getDisplayName();
+    }
+
     private static boolean matchesPattern(ShapedRecipe recipe, ItemStack[][] grid, int startRow, int startCol) {
         List<String> pattern = recipe.getPattern();
 
@@ -4,12 +4,14 @@ import lombok.Getter;
 import lombok.Setter;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
+import net.swofty.commons.Configuration;
 import net.swofty.commons.item.ItemType;
 import net.swofty.types.generic.item.ItemTypeLinker;
 import net.swofty.types.generic.item.ItemQuantifiable;
 import net.swofty.types.generic.item.SkyBlockItem;
 import net.swofty.types.generic.item.impl.SkyBlockRecipe;
 import net.swofty.types.generic.user.SkyBlockPlayer;
+import org.tinylog.Logger;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 @Getter
 public class ShapelessRecipe extends SkyBlockRecipe<ShapelessRecipe> {
     public static final List<ShapelessRecipe> CACHED_RECIPES = new ArrayList<>();
+    private static final boolean VERIFY_INDEX = Configuration.getOrDefault("recipe-index-verification", false);
 
     private final List<ItemQuantifiable> ingredientList;
     @Setter
@@ -60,6 +63,7 @@ public class ShapelessRecipe extends SkyBlockRecipe<ShapelessRecipe> {
 
     @Override
     public void init() {
+        RecipeIndex.add(this, CACHED_RECIPES.size());
         CACHED_RECIPES.add(this);
     }
 
@@ -144,6 +148,22 @@ public class ShapelessRecipe extends SkyBlockRecipe<ShapelessRecipe> {
     }
 
     public static ShapelessRecipe parseShapelessRecipe(ItemStack[] stacks) {
+        ShapelessRecipe recipe = parseShapelessRecipe(stacks, RecipeIndex.shapelessCandidates(stacks));
+        if (VERIFY_INDEX) {
+            ShapelessRecipe expected = parseShapelessRecipe(stacks, CACHED_RECIPES);
+            if (expected != recipe) {
+                Logger.warn("Recipe index matched " + describe(recipe) + " but a full scan matched " + describe(expected));
+                return expected;
+            }
+        }
+        return recipe;
+    }
+
+    private static String describe(ShapelessRecipe recipe) {
+        return recipe == null ? "nothing" : recipe.getResult().getDisplayName();
+    }
+
+    static ShapelessRecipe parseShapelessRecipe(ItemStack[] stacks, List<ShapelessRecipe> recipes) {
         List<ItemQuantifiable> materialsPassedThrough = Arrays.stream(stacks)
                 .map(ItemQuantifiable::of)
                 .map(ItemQuantifiable::clone)
@@ -156,7 +176,7 @@ public class ShapelessRecipe extends SkyBlockRecipe<ShapelessRecipe> {
 
         uniqueMaterials.removeIf(material -> material == null || material == ItemType.AIR);
 
-        return CACHED_RECIPES.stream()
+        return recipes.stream()
                 .filter(recipe -> {
                     List<ItemType> recipeMaterials = recipe.getIngredientList().stream()
                             .map(iq -> iq.getItem().getAttributeHandler().getPotentialType())
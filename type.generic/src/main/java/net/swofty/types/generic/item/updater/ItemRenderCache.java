@@ -0,0 +1,83 @@
+package net.swofty.types.generic.item.updater;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.entity.PlayerSkin;
+import net.minestom.server.item.ItemComponent;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.component.HeadProfile;
+import net.swofty.commons.Configuration;
+import net.swofty.types.generic.item.ItemLore;
+import net.swofty.types.generic.user.SkyBlockPlayer;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONObject;
+
+import java.util.*;
+
+/**
+ * LRU caches for the expensive parts of rendering an item: its name and lore, and
+ * the encoded profile of a skull texture.
+ * <p>
+ * Lore is keyed by the stack it is rendered from, the viewing player and that
+ * player's dependency key, so the same item shown to the same player in the same
+ * state is only rendered once. Skull profiles depend on nothing but the texture.
+ */
+public class ItemRenderCache {
+    private static final int MAX_LORE_ENTRIES = Configuration.getOrDefault("item-lore-cache-size", 4096);
+    private static final int MAX_SKULL_ENTRIES = Configuration.getOrDefault("item-skull-cache-size", 1024);
+
+    private static final Map<LoreKey, RenderedLore> lore = lru(MAX_LORE_ENTRIES);
+    private static final Map<String, HeadProfile> skulls = lru(MAX_SKULL_ENTRIES);
+
+    /**
+     * Returns the stack with its name and lore rendered for the player
+     */
+    public static ItemStack renderLore(ItemStack stack, @Nullable SkyBlockPlayer player, long dependencies) {
+        LoreKey key = new LoreKey(stack, player == null ? null : player.getUuid(), dependencies);
+
+        RenderedLore rendered = lore.get(key);
+        if (rendered == null) {
+            ItemLore itemLore = new ItemLore(stack);
+            itemLore.updateLore(player);
+            ItemStack result = itemLore.getStack();
+
+            rendered = new RenderedLore(result.get(ItemComponent.CUSTOM_NAME), result.get(ItemComponent.LORE));
+            lore.put(key, rendered);
+        }
+
+        ItemStack result = rendered.lore() == null
+                ? stack.without(ItemComponent.LORE)
+                : stack.with(ItemComponent.LORE, rendered.lore());
+        return rendered.name() == null ? result : result.with(ItemComponent.CUSTOM_NAME, rendered.name());
+    }
+
+    public static HeadProfile getSkullProfile(String texture) {
+        HeadProfile profile = skulls.get(texture);
+        if (profile != null) return profile;
+
+        JSONObject json = new JSONObject();
+        json.put("isPublic", true);
+        json.put("signatureRequired", false);
+        json.put("textures", new JSONObject().put("SKIN", new JSONObject()
+                .put("url", "http://textures.minecraft.net/texture/" + texture)
+                .put("metadata", new JSONObject().put("model", "slim"))));
+
+        String texturesEncoded = Base64.getEncoder().encodeToString(json.toString().getBytes());
+
+        profile = new HeadProfile(new PlayerSkin(texturesEncoded, null));
+        skulls.put(texture, profile);
+        return profile;
+    }
+
+    private static <K, V> Map<K, V> lru(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private record LoreKey(ItemStack stack, @Nullable UUID player, long dependencies) {}
+
+    private record RenderedLore(@Nullable Component name, @Nullable List<Component> lore) {}
+}
\ No newline at end of file
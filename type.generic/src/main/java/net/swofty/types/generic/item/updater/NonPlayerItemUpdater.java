@@ -2,11 +2,9 @@ package net.swofty.types.generic.item.updater;
 
 import lombok.Getter;
 import net.minestom.server.color.Color;
-import net.minestom.server.entity.PlayerSkin;
 import net.minestom.server.item.ItemComponent;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.component.DyedItemColor;
-import net.minestom.server.item.component.HeadProfile;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.Unit;
 import net.swofty.commons.item.UnderstandableSkyBlockItem;
@@ -19,9 +17,7 @@ import net.swofty.types.generic.item.impl.Enchanted;
 import net.swofty.types.generic.item.impl.GemstoneItem;
 import net.swofty.types.generic.item.impl.SkullHead;
 import net.swofty.types.generic.item.impl.TrackedUniqueItem;
-import org.json.JSONObject;
 
-import java.util.Base64;
 import java.util.UUID;
 
 @Getter
@@ -64,16 +60,7 @@ public class NonPlayerItemUpdater {
                 stack.setTag(Tag.UUID("unique-tracked-id"), UUID.randomUUID());
 
             if (item.getGenericInstance() instanceof SkullHead skullHead) {
-                JSONObject json = new JSONObject();
-                json.put("isPublic", true);
-                json.put("signatureRequired", false);
-                json.put("textures", new JSONObject().put("SKIN", new JSONObject()
-                        .put("url", "http://textures.minecraft.net/texture/" + skullHead.getSkullTexture(null, item))
-                        .put("metadata", new JSONObject().put("model", "slim"))));
-
-                String texturesEncoded = Base64.getEncoder().encodeToString(json.toString().getBytes());
-
-                stack.set(ItemComponent.PROFILE, new HeadProfile(new PlayerSkin(texturesEncoded, null)));
+                stack.set(ItemComponent.PROFILE, ItemRenderCache.getSkullProfile(skullHead.getSkullTexture(null, item)));
             }
 
             if (item.getGenericInstance() instanceof GemstoneItem gemstoneItem) {
@@ -102,9 +89,8 @@ public class NonPlayerItemUpdater {
             stack.set(ItemComponent.HIDE_ADDITIONAL_TOOLTIP, Unit.INSTANCE);
         }
 
-        for(ItemAttribute attribute : ItemAttribute.getPossibleAttributes()) {
-            stack = stack.set(Tag.String(attribute.getKey()),
-                    item.getAttribute(attribute.getKey()).saveIntoString());
+        for (ItemAttribute attribute : item.getAttributes()) {
+            stack = stack.set(Tag.String(attribute.getKey()), attribute.saveIntoString());
         }
 
         ItemStackCreator.clearAttributes(stack);
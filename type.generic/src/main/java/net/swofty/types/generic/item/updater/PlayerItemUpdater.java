@@ -1,22 +1,20 @@
 package net.swofty.types.generic.item.updater;
 
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.color.Color;
-import net.minestom.server.entity.PlayerSkin;
 import net.minestom.server.item.ItemComponent;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.item.component.DyedItemColor;
-import net.minestom.server.item.component.HeadProfile;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.timer.TaskSchedule;
 import net.minestom.server.utils.Unit;
+import net.swofty.commons.Configuration;
 import net.swofty.commons.item.ItemType;
 import net.swofty.commons.item.attribute.ItemAttribute;
 import net.swofty.types.generic.SkyBlockGenericLoader;
 import net.swofty.types.generic.gui.inventory.ItemStackCreator;
-import net.swofty.types.generic.item.ItemLore;
-import net.swofty.types.generic.item.ItemTypeLinker;
 import net.swofty.commons.item.Rarity;
 import net.swofty.types.generic.item.SkyBlockItem;
 import net.swofty.types.generic.item.ItemAttributeHandler;
@@ -25,12 +23,24 @@ import net.swofty.types.generic.item.impl.GemstoneItem;
 import net.swofty.types.generic.item.impl.SkullHead;
 import net.swofty.types.generic.item.impl.TrackedUniqueItem;
 import net.swofty.types.generic.user.SkyBlockPlayer;
-import org.json.JSONObject;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders items for a player and keeps the items they hold and wear up to date.
+ * <p>
+ * The update loop remembers what it last rendered into each slot along with the
+ * player's dependency key, and only renders a slot again when its stack or the key
+ * has changed. Rendering runs off the tick thread, and only stacks that actually
+ * differ are handed back to be set on the next tick.
+ */
 public class PlayerItemUpdater {
+    private static final long REFRESH_MS = Configuration.getOrDefault("item-update-refresh-seconds", 10) * 1000L;
+
+    private static final Map<UUID, Map<PlayerItemOrigin, Rendered>> rendered = new ConcurrentHashMap<>();
+    private static final Set<UUID> updating = ConcurrentHashMap.newKeySet();
+
     public static ItemStack.Builder playerUpdate(SkyBlockPlayer player, ItemStack stack) {
         return playerUpdateFull(player, stack, false).getValue();
     }
@@ -41,6 +51,12 @@ public class PlayerItemUpdater {
 
     public static Map.Entry<SkyBlockItem,
             ItemStack.Builder> playerUpdateFull(SkyBlockPlayer player, ItemStack stack, boolean isOwnedByPlayer) {
+        return playerUpdateFull(player, stack, isOwnedByPlayer, dependencyKey(player));
+    }
+
+    public static Map.Entry<SkyBlockItem,
+            ItemStack.Builder> playerUpdateFull(SkyBlockPlayer player, ItemStack stack, boolean isOwnedByPlayer,
+                                                long dependencies) {
         if (stack.hasTag(Tag.Boolean("uneditable")) && stack.getTag(Tag.Boolean("uneditable")))
             return Map.entry(new SkyBlockItem(stack), ItemStackCreator.getFromStack(stack));
 
@@ -51,9 +67,7 @@ public class PlayerItemUpdater {
             SkyBlockItem item = new SkyBlockItem(stack.material());
             ItemStack.Builder itemAsBuilder = item.getItemStackBuilder();
 
-            ItemLore lore = new ItemLore(stack);
-            lore.updateLore(player);
-            stack = lore.getStack();
+            stack = ItemRenderCache.renderLore(stack, player, dependencies);
 
             return Map.entry(item, itemAsBuilder
                             .set(ItemComponent.LORE, stack.get(ItemComponent.LORE))
@@ -85,9 +99,7 @@ public class PlayerItemUpdater {
         /**
          * Update Lore
          */
-        ItemLore lore = new ItemLore(stack);
-        lore.updateLore(player);
-        stack = lore.getStack();
+        stack = ItemRenderCache.renderLore(stack, player, dependencies);
 
         if (handler.shouldBeEnchanted()) {
             toReturn.set(ItemComponent.ENCHANTMENT_GLINT_OVERRIDE, true);
@@ -117,16 +129,7 @@ public class PlayerItemUpdater {
 
         if (item.getGenericInstance() != null
                 && item.getGenericInstance() instanceof SkullHead skullHead) {
-            JSONObject json = new JSONObject();
-            json.put("isPublic", true);
-            json.put("signatureRequired", false);
-            json.put("textures", new JSONObject().put("SKIN", new JSONObject()
-                    .put("url", "http://textures.minecraft.net/texture/" + skullHead.getSkullTexture(player, item))
-                    .put("metadata", new JSONObject().put("model", "slim"))));
-
-            String texturesEncoded = Base64.getEncoder().encodeToString(json.toString().getBytes());
-
-            toReturn.set(ItemComponent.PROFILE, new HeadProfile(new PlayerSkin(texturesEncoded, null)));
+            toReturn.set(ItemComponent.PROFILE, ItemRenderCache.getSkullProfile(skullHead.getSkullTexture(player, item)));
         }
 
         if (item.getGenericInstance() != null &&
@@ -149,9 +152,8 @@ public class PlayerItemUpdater {
             item.getAttributeHandler().setGemData(gemData);
         }
 
-        for (ItemAttribute attribute : ItemAttribute.getPossibleAttributes()) {
-            toReturn.set(Tag.String(attribute.getKey()),
-                    item.getAttribute(attribute.getKey()).saveIntoString());
+        for (ItemAttribute attribute : item.getAttributes()) {
+            toReturn.set(Tag.String(attribute.getKey()), attribute.saveIntoString());
         }
 
         ItemStackCreator.clearAttributes(toReturn);
@@ -161,36 +163,92 @@ public class PlayerItemUpdater {
                         .set(ItemComponent.LORE, stack.get(ItemComponent.LORE)));
     }
 
+    /**
+     * Summarises the player state that rendered lore reads: their statistics and the
+     * armor they wear, for set bonuses. Lore that reads anything else is picked up
+     * when the key rolls over every item-update-refresh-seconds.
+     */
+    public static long dependencyKey(SkyBlockPlayer player) {
+        long key = player.getStatistics().allStatistics().hashCode();
+        key = 31 * key + player.getHelmet().hashCode();
+        key = 31 * key + player.getChestplate().hashCode();
+        key = 31 * key + player.getLeggings().hashCode();
+        key = 31 * key + player.getBoots().hashCode();
+        return 31 * key + System.currentTimeMillis() / REFRESH_MS;
+    }
+
+    public static void clearCache(UUID uuid) {
+        rendered.remove(uuid);
+    }
+
     public static void updateLoop(Scheduler scheduler) {
         scheduler.submitTask(() -> {
-            List<CompletableFuture<Void>> futures = new ArrayList<>();
-
             SkyBlockGenericLoader.getLoadedPlayers().forEach(player -> {
-                futures.add(CompletableFuture.runAsync(() -> {
-                    PlayerItemOrigin.OriginCache cache = PlayerItemOrigin.getFromCache(player.getUuid());
+                // A player whose last pass is still rendering is skipped rather than queued behind it
+                if (!updating.add(player.getUuid())) return;
+
+                Thread.startVirtualThread(() -> {
+                    try {
+                        update(player);
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    } finally {
+                        updating.remove(player.getUuid());
+                    }
+                });
+            });
 
-                    Arrays.stream(PlayerItemOrigin.values()).forEach(origin -> {
-                        if (!origin.shouldBeLooped()) return;
+            return TaskSchedule.tick(10);
+        });
+    }
 
-                        ItemStack item = origin.getStack(player);
-                        if (item == null || item.isAir()) {
-                            cache.put(origin, new SkyBlockItem(Material.AIR));
-                            return;
-                        }
+    private static void update(SkyBlockPlayer player) {
+        PlayerItemOrigin.OriginCache cache = PlayerItemOrigin.getFromCache(player.getUuid());
+        Map<PlayerItemOrigin, Rendered> last = rendered.computeIfAbsent(player.getUuid(),
+                uuid -> new EnumMap<>(PlayerItemOrigin.class));
+        Map<PlayerItemOrigin, Rendered> changed = new EnumMap<>(PlayerItemOrigin.class);
+        long dependencies = dependencyKey(player);
+
+        for (PlayerItemOrigin origin : PlayerItemOrigin.values()) {
+            if (!origin.shouldBeLooped()) continue;
+
+            ItemStack item = origin.getStack(player);
+            if (item == null || item.isAir()) {
+                cache.put(origin, new SkyBlockItem(Material.AIR));
+                player.getStatistics().updateEquipment(origin, ItemStack.AIR);
+                last.remove(origin);
+                continue;
+            }
+            player.getStatistics().updateEquipment(origin, item);
 
-                        Map.Entry<SkyBlockItem, ItemStack.Builder> builder = playerUpdateFull(player, item, true);
-                        cache.put(origin, builder.getKey());
-                        origin.setStack(player, builder.getValue().build());
-                    });
+            Rendered previous = last.get(origin);
+            if (previous != null && previous.matches(item, dependencies)) continue;
 
-                    PlayerItemOrigin.setCache(player.getUuid(), cache);
-                }));
-            });
+            Map.Entry<SkyBlockItem, ItemStack.Builder> builder = playerUpdateFull(player, item, true, dependencies);
+            ItemStack output = builder.getValue().build();
+            Rendered render = new Rendered(item, output, output.hashCode(), dependencies);
+            cache.put(origin, builder.getKey());
+            last.put(origin, render);
+            if (!render.output().equals(item)) changed.put(origin, render);
+        }
 
-            // Wait for all futures to complete, do it async so they're at the same time
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        PlayerItemOrigin.setCache(player.getUuid(), cache);
+        // The player may have left mid-pass, after their cache was cleared
+        if (!player.isOnline()) clearCache(player.getUuid());
+        if (changed.isEmpty()) return;
 
-            return TaskSchedule.tick(10);
-        });
+        MinecraftServer.getSchedulerManager().scheduleNextTick(() -> changed.forEach((origin, render) -> {
+            // The slot changed while rendering, the next pass will pick the new stack up
+            if (!render.input().equals(origin.getStack(player))) return;
+            origin.setStack(player, render.output());
+        }));
+    }
+
+    private record Rendered(ItemStack input, ItemStack output, int outputHash, long dependencies) {
+        boolean matches(ItemStack stack, long dependencies) {
+            return this.dependencies == dependencies
+                    && outputHash == stack.hashCode()
+                    && output.equals(stack);
+        }
     }
 }
\ No newline at end of file
@@ -50,7 +50,7 @@ public class MinionKillMobAction extends MinionAction {
 
         List<SkyBlockMob> mobs = new ArrayList<>();
         for (Pos pos : verticalCheckPositions) {
-            mobs.addAll(SkyBlockMob.getMobFromFuzzyPosition(pos));
+            mobs.addAll(SkyBlockMob.getMobFromFuzzyPosition(island, pos));
         }
 
         for (SkyBlockMob mob : mobs) {
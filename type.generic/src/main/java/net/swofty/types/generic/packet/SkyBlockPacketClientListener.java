@@ -1,22 +1,35 @@
 package net.swofty.types.generic.packet;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventNode;
 import net.minestom.server.event.GlobalEventHandler;
 import net.minestom.server.event.player.PlayerPacketEvent;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.swofty.types.generic.SkyBlockConst;
-import net.swofty.types.generic.SkyBlockGenericLoader;
+import net.swofty.types.generic.data.DataHandler;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * A listener for one type of packet sent by the client, anticheat checks included.
+ * <p>
+ * Listeners are sorted into a dispatch table by packet class when registered, so a
+ * packet only reaches the listeners of its own class. The player is resolved once
+ * per packet, and only if some listener wants it. The calls and time spent in each
+ * listener are kept for {@link #getMetrics()}.
+ */
 public abstract class SkyBlockPacketClientListener {
     private static final ArrayList<SkyBlockPacketClientListener> cachedEvents = new ArrayList<>();
+    // Listeners for each packet class, filled in on the first packet of a class no listener declares
+    private static final Map<Class<?>, SkyBlockPacketClientListener[]> dispatch = new ConcurrentHashMap<>();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
 
     public abstract Class<? extends ClientPacket> getPacket();
 
@@ -33,38 +46,76 @@ public abstract class SkyBlockPacketClientListener {
 
         Map<Class<? extends ClientPacket>, List<SkyBlockPacketClientListener>> toOverride = new HashMap<>();
         cachedEvents.forEach((packetEvent) -> {
-            if (!packetEvent.overrideMinestomProcessing()) return;
-
-            Class<? extends ClientPacket> packetType = packetEvent.getPacket();
-
-            if (!toOverride.containsKey(packetType)) {
-                toOverride.put(packetType, new ArrayList<>());
+            if (packetEvent.overrideMinestomProcessing()) {
+                toOverride.computeIfAbsent(packetEvent.getPacket(), k -> new ArrayList<>()).add(packetEvent);
+            } else {
+                dispatch.computeIfAbsent(packetEvent.getPacket(), SkyBlockPacketClientListener::resolve);
             }
-
-            toOverride.get(packetType).add(packetEvent);
         });
         toOverride.forEach((packetType, packetEvents) -> {
             MinecraftServer.getPacketListenerManager().setPlayListener(packetType, (packet, player) -> {
                 packetEvents.forEach((packetEvent) -> {
-                    packetEvent.run(null, packet, (SkyBlockPlayer) player);
+                    packetEvent.timedRun(null, packet, (SkyBlockPlayer) player);
                 });
             });
         });
 
         eventNode.addListener(PlayerPacketEvent.class, rawEvent -> {
-            cachedEvents.forEach((packetEvent) -> {
-                if (packetEvent.overrideMinestomProcessing()) return;
-                Class<?> packetType = packetEvent.getPacket();
+            ClientPacket packet = rawEvent.getPacket();
+            SkyBlockPacketClientListener[] listeners = dispatch.computeIfAbsent(packet.getClass(),
+                    SkyBlockPacketClientListener::resolve);
+            if (listeners.length == 0) return;
 
-                if (packetType.isInstance(rawEvent.getPacket())) {
-                    if (SkyBlockGenericLoader.getFromUUID(rawEvent.getPlayer().getUuid()) == null) return;
-                    if (SkyBlockConst.isIslandServer() &&
-                            !((SkyBlockPlayer) rawEvent.getPlayer()).getSkyBlockIsland().getCreated()) return;
+            SkyBlockPlayer player = getLoadedPlayer(rawEvent.getPlayer());
+            if (player == null) return;
+            if (SkyBlockConst.isIslandServer() && !player.getSkyBlockIsland().getCreated()) return;
 
-                    packetEvent.run(rawEvent, rawEvent.getPacket(), (SkyBlockPlayer) rawEvent.getPlayer());
-                }
-            });
+            for (SkyBlockPacketClientListener packetEvent : listeners) {
+                packetEvent.timedRun(rawEvent, packet, player);
+            }
         });
         eventHandler.addChild(eventNode);
     }
+
+    public static List<Metrics> getMetrics() {
+        return cachedEvents.stream()
+                .map(listener -> new Metrics(listener.getClass().getSimpleName(),
+                        listener.getPacket().getSimpleName(), listener.calls.sum(), listener.nanos.sum()))
+                .sorted(Comparator.comparingLong(Metrics::totalNanos).reversed())
+                .toList();
+    }
+
+    private void timedRun(PlayerPacketEvent event, ClientPacket packet, SkyBlockPlayer player) {
+        long start = System.nanoTime();
+        try {
+            run(event, packet, player);
+        } finally {
+            nanos.add(System.nanoTime() - start);
+            calls.increment();
+        }
+    }
+
+    /**
+     * Returns the listeners whose packet type the class is, in the order they were cached
+     */
+    private static SkyBlockPacketClientListener[] resolve(Class<?> packetClass) {
+        return cachedEvents.stream()
+                .filter(listener -> !listener.overrideMinestomProcessing())
+                .filter(listener -> listener.getPacket().isAssignableFrom(packetClass))
+                .toArray(SkyBlockPacketClientListener[]::new);
+    }
+
+    /**
+     * Returns the player as a SkyBlockPlayer if their data is loaded and they are in an instance
+     */
+    private static SkyBlockPlayer getLoadedPlayer(Player player) {
+        if (DataHandler.getUser(player) == null || player.getInstance() == null) return null;
+        return (SkyBlockPlayer) player;
+    }
+
+    public record Metrics(String listener, String packet, long calls, long totalNanos) {
+        public double averageMicros() {
+            return calls == 0 ? 0 : totalNanos / 1000.0 / calls;
+        }
+    }
 }
@@ -3,10 +3,11 @@ package net.swofty.types.generic.redis;
 import net.swofty.commons.proxy.FromProxyChannels;
 import net.swofty.proxyapi.redis.ProxyToClient;
 import net.swofty.types.generic.SkyBlockGenericLoader;
+import net.swofty.types.generic.data.CoopSync;
 import net.swofty.types.generic.data.DataHandler;
+import net.swofty.types.generic.data.ProfileWriteQueue;
 import net.swofty.types.generic.data.mongodb.ProfilesDatabase;
 import net.swofty.types.generic.user.SkyBlockPlayer;
-import org.bson.Document;
 import org.json.JSONObject;
 
 import java.util.UUID;
@@ -25,6 +26,15 @@ public class RedisRefreshCoopData implements ProxyToClient {
         SkyBlockPlayer player = SkyBlockGenericLoader.getFromUUID(uuid);
         if (player == null) return new JSONObject();
 
+        if (message.has("value")) {
+            CoopSync.apply(player, datapoint, message);
+            // Tells the sender this server holds the profile, so the sender leaves it to our save
+            return new JSONObject().put("profile", player.getProfiles().getCurrentlySelected().toString());
+        }
+
+        // Anything still waiting in the write-behind queue must reach the database first
+        ProfileWriteQueue.save(player);
+
         DataHandler dataHandler = DataHandler.fromDocument(
                 new ProfilesDatabase(player.getProfiles().getCurrentlySelected().toString()).getDocument()
         );
@@ -33,8 +43,7 @@ public class RedisRefreshCoopData implements ProxyToClient {
                 dataHandler.getDatapoint(datapoint).getValue()
         );
 
-        Document toReplace = player.getDataHandler().toDocument(player.getProfiles().getCurrentlySelected());
-        ProfilesDatabase.replaceDocument(player.getProfiles().getCurrentlySelected().toString(), toReplace);
+        ProfileWriteQueue.save(player);
 
         return new JSONObject();
     }
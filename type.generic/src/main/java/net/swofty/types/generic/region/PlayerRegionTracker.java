@@ -0,0 +1,128 @@
+package net.swofty.types.generic.region;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.timer.TaskSchedule;
+import net.swofty.types.generic.SkyBlockGenericLoader;
+import net.swofty.types.generic.event.SkyBlockEventHandler;
+import net.swofty.types.generic.event.custom.PlayerRegionChangeEvent;
+import net.swofty.types.generic.user.SkyBlockPlayer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Caches the block cell each player stands in, with the region and block resolved
+ * for it. Movement only resolves again once the player enters a new cell, or once
+ * the {@link RegionIndex} has changed since the cell was resolved.
+ * <p>
+ * A {@link PlayerRegionChangeEvent} is fired when the region type of the new cell
+ * differs from the old one. The first cell tracked for a player is taken silently,
+ * as joining fires its own event. Teleports within an instance do not fire a move,
+ * so every loaded player is also refreshed once a second.
+ */
+public class PlayerRegionTracker {
+    private static final Map<UUID, Cell> cells = new ConcurrentHashMap<>();
+
+    public static void start() {
+        MinecraftServer.getSchedulerManager().submitTask(() -> {
+            for (SkyBlockPlayer player : SkyBlockGenericLoader.getLoadedPlayers()) {
+                if (player.getInstance() != null) update(player, player.getPosition());
+            }
+            return TaskSchedule.seconds(1);
+        });
+    }
+
+    /**
+     * Moves the player's tracked cell to the position, resolving it again if it changed
+     */
+    public static Cell update(SkyBlockPlayer player, Point position) {
+        return update(player.getUuid(), player.getInstance(), position,
+                () -> Cell.resolve(player, position),
+                (from, to) -> SkyBlockEventHandler.callSkyBlockEvent(new PlayerRegionChangeEvent(player, from, to)));
+    }
+
+    /**
+     * Moves the tracked cell of the uuid, taking a new cell from the resolver and passing
+     * any change of region type to the listener
+     */
+    static Cell update(UUID uuid, Instance instance, Point position,
+                       Supplier<Cell> resolver, BiConsumer<RegionType, RegionType> listener) {
+        Cell current = cells.get(uuid);
+        if (current != null && current.matches(instance, position)) return current;
+
+        Cell next = resolver.get();
+        Cell previous = cells.put(uuid, next);
+        if (previous == null) return next;
+
+        RegionType from = previous.regionType();
+        RegionType to = next.regionType();
+        if (!Objects.equals(from, to)) listener.accept(from, to);
+        return next;
+    }
+
+    /**
+     * Returns the region of the player's tracked cell. This is already the new region
+     * while a move into it is being handled, and only resolves from the player's
+     * position when nothing current is tracked.
+     */
+    public static @Nullable SkyBlockRegion getRegion(SkyBlockPlayer player) {
+        Cell current = cells.get(player.getUuid());
+        if (current != null && current.isCurrent(player.getInstance())) return current.region();
+        return resolveRegion(player.isOnIsland(), player.getPosition());
+    }
+
+    /**
+     * Returns the block at the position, read once each time the player enters a new cell
+     */
+    public static Block getBlock(SkyBlockPlayer player, Point position) {
+        return update(player, position).block();
+    }
+
+    public static void remove(UUID uuid) {
+        cells.remove(uuid);
+    }
+
+    /**
+     * Resolves at the corner of the block, so a cell has the same region wherever in it
+     * the player entered
+     */
+    private static @Nullable SkyBlockRegion resolveRegion(boolean onIsland, Point position) {
+        if (onIsland) return SkyBlockRegion.getIslandRegion();
+        return RegionIndex.getRegionAt(position.blockX(), position.blockY(), position.blockZ());
+    }
+
+    public record Cell(Instance instance, int x, int y, int z, long version,
+                       @Nullable SkyBlockRegion region, Block block) {
+        static Cell resolve(SkyBlockPlayer player, Point position) {
+            Instance instance = player.getInstance();
+            return resolve(instance, position, player.isOnIsland(), instance.getBlock(position));
+        }
+
+        static Cell resolve(Instance instance, Point position, boolean onIsland, Block block) {
+            return new Cell(instance, position.blockX(), position.blockY(), position.blockZ(),
+                    RegionIndex.getVersion(),
+                    resolveRegion(onIsland, position),
+                    block);
+        }
+
+        boolean matches(Instance instance, Point position) {
+            return isCurrent(instance) && x == position.blockX() && y == position.blockY() && z == position.blockZ();
+        }
+
+        boolean isCurrent(Instance instance) {
+            return this.instance == instance && version == RegionIndex.getVersion();
+        }
+
+        public @Nullable RegionType regionType() {
+            return region == null ? null : region.getType();
+        }
+    }
+}
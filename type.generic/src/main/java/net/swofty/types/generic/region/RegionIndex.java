@@ -0,0 +1,193 @@
+package net.swofty.types.generic.region;
+
+import net.minestom.server.coordinate.Point;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Spatial index over the regions of this server.
+ * <p>
+ * Every region is bucketed into the chunk columns its bounds cover. Each bucket is
+ * sorted by priority when built: the highest RegionType ordinal first, then by
+ * name. This means a position lookup returns the first region in its bucket that
+ * contains it. Regions covering more than {@link #MAX_BUCKETED_CHUNKS} chunks are
+ * kept in one list checked on every lookup instead, so a huge region does not
+ * flood the buckets.
+ * <p>
+ * Buckets are replaced, never mutated, so lookups read them without locking while
+ * {@link #update} and {@link #remove} reindex a single region.
+ */
+public class RegionIndex {
+    private static final int MAX_BUCKETED_CHUNKS = 4096;
+    private static final Comparator<Entry> PRIORITY = Comparator
+            .comparingInt((Entry entry) -> -entry.priority())
+            .thenComparing(entry -> entry.region().getName());
+
+    private static final Map<Long, Entry[]> buckets = new ConcurrentHashMap<>();
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private static volatile Entry[] large = new Entry[0];
+    // Bumped on every change, so cached lookups know to resolve again
+    private static final AtomicLong version = new AtomicLong();
+
+    public static synchronized void rebuild(Collection<SkyBlockRegion> regions) {
+        buckets.clear();
+        entries.clear();
+        large = new Entry[0];
+        regions.forEach(RegionIndex::update);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Reindexes the region under its current bounds and type, replacing any previous entry
+     */
+    public static synchronized void update(SkyBlockRegion region) {
+        remove(region.getName());
+
+        Entry entry = Entry.of(region);
+        if (entry != null) {
+            entries.put(region.getName(), entry);
+            if (entry.chunkCount() > MAX_BUCKETED_CHUNKS) {
+                large = withEntry(large, entry);
+            } else {
+                entry.forEachChunk(key -> buckets.compute(key, (k, bucket) ->
+                        withEntry(bucket == null ? new Entry[0] : bucket, entry)));
+            }
+        }
+        version.incrementAndGet();
+    }
+
+    public static synchronized void remove(SkyBlockRegion region) {
+        remove(region.getName());
+        version.incrementAndGet();
+    }
+
+    public static long getVersion() {
+        return version.get();
+    }
+
+    private static void remove(String name) {
+        Entry entry = entries.remove(name);
+        if (entry == null) return;
+
+        if (entry.chunkCount() > MAX_BUCKETED_CHUNKS) {
+            large = withoutEntry(large, entry);
+            return;
+        }
+        entry.forEachChunk(key -> buckets.computeIfPresent(key, (k, bucket) -> {
+            Entry[] remaining = withoutEntry(bucket, entry);
+            return remaining.length == 0 ? null : remaining;
+        }));
+    }
+
+    /**
+     * Returns the highest priority region containing the position, if any
+     */
+    public static @Nullable SkyBlockRegion getRegionAt(double x, double y, double z) {
+        Entry best = null;
+
+        Entry[] bucket = buckets.get(chunkKey((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4));
+        if (bucket != null) {
+            for (Entry entry : bucket) {
+                if (entry.contains(x, y, z)) {
+                    best = entry;
+                    break;
+                }
+            }
+        }
+
+        for (Entry entry : large) {
+            if (entry.contains(x, y, z) && (best == null || PRIORITY.compare(entry, best) < 0)) best = entry;
+        }
+        return best == null ? null : best.region();
+    }
+
+    /**
+     * Returns every region whose bounds overlap the box between the two corners,
+     * highest priority first
+     */
+    public static List<SkyBlockRegion> getRegionsOverlapping(Point first, Point second) {
+        double minX = Math.min(first.x(), second.x()), maxX = Math.max(first.x(), second.x());
+        double minY = Math.min(first.y(), second.y()), maxY = Math.max(first.y(), second.y());
+        double minZ = Math.min(first.z(), second.z()), maxZ = Math.max(first.z(), second.z());
+
+        Set<Entry> found = new HashSet<>();
+        int minChunkX = (int) Math.floor(minX) >> 4, maxChunkX = (int) Math.floor(maxX) >> 4;
+        int minChunkZ = (int) Math.floor(minZ) >> 4, maxChunkZ = (int) Math.floor(maxZ) >> 4;
+
+        if ((long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > entries.size()) {
+            // A box wider than there are regions is cheaper to answer from every entry
+            for (Entry entry : entries.values()) {
+                if (entry.overlaps(minX, maxX, minY, maxY, minZ, maxZ)) found.add(entry);
+            }
+        } else {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    Entry[] bucket = buckets.get(chunkKey(chunkX, chunkZ));
+                    if (bucket == null) continue;
+                    for (Entry entry : bucket) {
+                        if (entry.overlaps(minX, maxX, minY, maxY, minZ, maxZ)) found.add(entry);
+                    }
+                }
+            }
+            for (Entry entry : large) {
+                if (entry.overlaps(minX, maxX, minY, maxY, minZ, maxZ)) found.add(entry);
+            }
+        }
+
+        return found.stream().sorted(PRIORITY).map(Entry::region).toList();
+    }
+
+    private static Entry[] withEntry(Entry[] bucket, Entry entry) {
+        Entry[] updated = Arrays.copyOf(bucket, bucket.length + 1);
+        updated[bucket.length] = entry;
+        Arrays.sort(updated, PRIORITY);
+        return updated;
+    }
+
+    private static Entry[] withoutEntry(Entry[] bucket, Entry entry) {
+        return Arrays.stream(bucket).filter(existing -> existing != entry).toArray(Entry[]::new);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A region's bounds and type frozen at indexing time, so the region can be
+     * edited while lookups keep reading a consistent snapshot
+     */
+    private record Entry(SkyBlockRegion region, int priority,
+                         int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        static @Nullable Entry of(SkyBlockRegion region) {
+            if (region.getFirstLocation() == null || region.getSecondLocation() == null || region.getType() == null)
+                return null;
+
+            int[] bounds = region.getBoundsArray();
+            return new Entry(region, region.getType().ordinal(), bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
+        }
+
+        boolean contains(double x, double y, double z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+
+        boolean overlaps(double fromX, double toX, double fromY, double toY, double fromZ, double toZ) {
+            return fromX <= maxX && toX >= minX && fromY <= maxY && toY >= minY && fromZ <= maxZ && toZ >= minZ;
+        }
+
+        long chunkCount() {
+            return (long) ((maxX >> 4) - (minX >> 4) + 1) * ((maxZ >> 4) - (minZ >> 4) + 1);
+        }
+
+        void forEachChunk(LongConsumer action) {
+            for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+                for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                    action.accept(chunkKey(chunkX, chunkZ));
+                }
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import net.swofty.commons.ServerType;
 import net.swofty.types.generic.SkyBlockConst;
 import net.swofty.types.generic.data.mongodb.RegionDatabase;
 import net.swofty.types.generic.entity.mob.SkyBlockMob;
+import net.swofty.types.generic.entity.mob.MobIndex;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
@@ -37,18 +38,38 @@ public class SkyBlockRegion {
     }
 
     public void save() {
-        regionDatabase.insertOrUpdate("x1", firstLocation.blockX());
-        regionDatabase.insertOrUpdate("y1", firstLocation.blockY());
-        regionDatabase.insertOrUpdate("z1", firstLocation.blockZ());
+        regionDatabase.insertOrUpdate(Map.of(
+                "x1", firstLocation.blockX(),
+                "y1", firstLocation.blockY(),
+                "z1", firstLocation.blockZ(),
+                "x2", secondLocation.blockX(),
+                "y2", secondLocation.blockY(),
+                "z2", secondLocation.blockZ(),
+                "type", type.name(),
+                "serverType", serverType.name()
+        ));
 
-        regionDatabase.insertOrUpdate("x2", secondLocation.blockX());
-        regionDatabase.insertOrUpdate("y2", secondLocation.blockY());
-        regionDatabase.insertOrUpdate("z2", secondLocation.blockZ());
+        REGION_CACHE.put(name, this);
+        RegionIndex.update(this);
+    }
 
-        regionDatabase.insertOrUpdate("type", type.name());
-        regionDatabase.insertOrUpdate("serverType", serverType.name());
+    public void setFirstLocation(Pos firstLocation) {
+        this.firstLocation = firstLocation;
+        reindex();
+    }
 
-        REGION_CACHE.put(name, this);
+    public void setSecondLocation(Pos secondLocation) {
+        this.secondLocation = secondLocation;
+        reindex();
+    }
+
+    public void setType(RegionType type) {
+        this.type = type;
+        reindex();
+    }
+
+    private void reindex() {
+        if (REGION_CACHE.get(name) == this) RegionIndex.update(this);
     }
 
     public Pos getRandomPosition() {
@@ -90,6 +111,7 @@ public class SkyBlockRegion {
 
     public void delete() {
         REGION_CACHE.remove(name);
+        RegionIndex.remove(this);
         regionDatabase.remove(name);
     }
 
@@ -108,18 +130,18 @@ public class SkyBlockRegion {
     }
 
     public static List<SkyBlockMob> getMobsInRegion(RegionType region) {
-        List<SkyBlockMob> mobs = new ArrayList<>();
-        for (SkyBlockMob mob : SkyBlockMob.getMobs()) {
-            SkyBlockRegion regionOfEntity = getRegionOfEntity(mob);
-
-            if (regionOfEntity != null && regionOfEntity.getType() == region)
-                mobs.add(mob);
-        }
-        return mobs;
+        return MobIndex.getMobsInRegion(region);
     }
 
     public static SkyBlockRegion getRegionOfPosition(Point point) {
-        return getRegionOfPosition(Pos.fromPoint(point));
+        return RegionIndex.getRegionAt(point.x(), point.y(), point.z());
+    }
+
+    /**
+     * Returns every region overlapping the box between the two corners, highest priority first
+     */
+    public static List<SkyBlockRegion> getRegionsOverlapping(Point first, Point second) {
+        return RegionIndex.getRegionsOverlapping(first, second);
     }
 
     public static SkyBlockRegion getRandomRegionOfType(RegionType type) {
@@ -135,14 +157,7 @@ public class SkyBlockRegion {
     }
 
     public static SkyBlockRegion getRegionOfPosition(Pos position) {
-        List<SkyBlockRegion> possible = new ArrayList<>();
-        for (SkyBlockRegion region : getRegions()) {
-            if (region.insideRegion(position))
-                possible.add(region);
-        }
-        possible.sort(Comparator.comparingInt(r -> r.getType().ordinal()));
-        Collections.reverse(possible);
-        return !possible.isEmpty() ? possible.getFirst() : null;
+        return RegionIndex.getRegionAt(position.x(), position.y(), position.z());
     }
 
     public boolean insideRegion(Entity entity) {
@@ -150,25 +165,32 @@ public class SkyBlockRegion {
     }
 
     public boolean insideRegion(Pos location) {
-        List<Integer> bounds = getBounds();
+        if (firstLocation == null)
+            return false;
+        int[] bounds = getBoundsArray();
         double x = location.x();
         double y = location.y();
         double z = location.z();
-        if (firstLocation == null)
-            return false;
-        return x >= (double) bounds.get(0) && x <= (double) bounds.get(1) &&
-                y >= (double) bounds.get(2) && y <= (double) bounds.get(3) &&
-                z >= (double) bounds.get(4) && z <= (double) bounds.get(5);
+        return x >= bounds[0] && x <= bounds[1] &&
+                y >= bounds[2] && y <= bounds[3] &&
+                z >= bounds[4] && z <= bounds[5];
     }
 
     public List<Integer> getBounds() {
+        return Arrays.stream(getBoundsArray()).boxed().toList();
+    }
+
+    /**
+     * Returns the bounds as min x, max x, min y, max y, min z, max z
+     */
+    public int[] getBoundsArray() {
         int sx = Math.min(firstLocation.blockX(), secondLocation.blockX()),
                 ex = Math.max(firstLocation.blockX(), secondLocation.blockX()),
                 sy = Math.min(firstLocation.blockY(), secondLocation.blockY()),
                 ey = Math.max(firstLocation.blockY(), secondLocation.blockY()),
                 sz = Math.min(firstLocation.blockZ(), secondLocation.blockZ()),
                 ez = Math.max(firstLocation.blockZ(), secondLocation.blockZ());
-        return Arrays.asList(sx, ex, sy, ey, sz, ez);
+        return new int[]{sx, ex, sy, ey, sz, ez};
     }
 
     public static void cacheRegions() {
@@ -188,6 +210,7 @@ public class SkyBlockRegion {
                 new Pos(0, 0, 0),
                 RegionType.PRIVATE_ISLAND,
                 ServerType.ISLAND));
+        RegionIndex.rebuild(REGION_CACHE.values());
     }
 
     public static SkyBlockRegion getIslandRegion() {
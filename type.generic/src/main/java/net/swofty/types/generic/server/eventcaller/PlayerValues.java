@@ -1,11 +1,8 @@
 package net.swofty.types.generic.server.eventcaller;
 
 import lombok.Getter;
-import net.swofty.types.generic.event.SkyBlockEventHandler;
-import net.swofty.types.generic.event.custom.PlayerRegionChangeEvent;
 import net.swofty.types.generic.item.set.ArmorSetRegistry;
 import net.swofty.types.generic.item.set.impl.SetEvents;
-import net.swofty.types.generic.region.RegionType;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 
 import java.util.HashMap;
@@ -41,15 +38,6 @@ public class PlayerValues {
 
     @Getter
     public enum Value {
-        REGION_TYPE(RegionType.class, (player) -> {
-            if (player.getRegion() == null) return null;
-            return player.getRegion().getType();
-        }, (player, regionTypes) -> {
-            SkyBlockEventHandler.callSkyBlockEvent(new PlayerRegionChangeEvent(
-                    player,
-                    (RegionType) regionTypes.getKey(),
-                    (RegionType) regionTypes.getValue()));
-        }),
         ARMOR_SET(ArmorSetRegistry.class, SkyBlockPlayer::getArmorSet, (player, armorSet) -> {
             ArmorSetRegistry oldSet = (ArmorSetRegistry) armorSet.getKey();
             ArmorSetRegistry newSet = (ArmorSetRegistry) armorSet.getValue();
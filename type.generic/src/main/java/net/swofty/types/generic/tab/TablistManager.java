@@ -3,6 +3,7 @@ package net.swofty.types.generic.tab;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.entity.GameMode;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.PlayerInfoRemovePacket;
 import net.minestom.server.network.packet.server.play.PlayerInfoUpdatePacket;
 import net.minestom.server.network.packet.server.play.TeamsPacket;
@@ -12,101 +13,162 @@ import net.minestom.server.timer.TaskSchedule;
 import net.swofty.types.generic.SkyBlockGenericLoader;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Fills each player's tab list with fake players, one column of slots per module.
+ * <p>
+ * Every slot keeps the same fake player, and the team that sorts it into place, for
+ * as long as the player is shown the tab list. Each update only sends the slots
+ * whose cell changed: a new display name where only the text changed, and a removal
+ * and re-add where the skin changed, as skins are only read when a player is added.
+ * Modules do not supply a latency, so every slot is added with a latency of 0 and
+ * latency updates are never sent.
+ */
 public abstract class TablistManager {
-    private static Map<SkyBlockPlayer, List<UUID>> tablistEntries = new HashMap<>();
+    // The client lays the tab list out in columns of 20, and every module fills one
+    private static final int SLOTS_PER_MODULE = 20;
+
+    private static final Map<SkyBlockPlayer, PlayerTablist> tablists = new ConcurrentHashMap<>();
 
     public abstract List<TablistModule> getModules();
 
     public void deleteTablistEntries(SkyBlockPlayer player) {
-        tablistEntries.remove(player);
+        tablists.remove(player);
     }
 
     public void nullifyCache(SkyBlockPlayer player) {
-        if (tablistEntries.containsKey(player) && tablistEntries.get(player) != null) {
-            player.sendPacket(new PlayerInfoRemovePacket(tablistEntries.get(player)));
-            tablistEntries.put(player, null);
-        }
+        PlayerTablist tablist = tablists.get(player);
+        if (tablist != null) tablist.clear(player);
     }
 
     public void runScheduler(Scheduler scheduler) {
         scheduler.scheduleTask(() -> {
-            SkyBlockGenericLoader.getLoadedPlayers().forEach(player -> {
-                if (!tablistEntries.containsKey(player)) {
-                    tablistEntries.put(player, new ArrayList<>());
-                } else {
-                    if (tablistEntries.get(player) == null) return;
-                    player.sendPacket(new PlayerInfoRemovePacket(tablistEntries.get(player)));
+            List<TablistModule> modules = getModules();
+            SkyBlockGenericLoader.getLoadedPlayers().forEach(player ->
+                    tablists.computeIfAbsent(player, k -> new PlayerTablist()).update(player, modules, player::sendPacket));
+        }, TaskSchedule.seconds(5), TaskSchedule.seconds(3), ExecutionType.TICK_END);
+    }
+
+    private static UUID getSlotUuid(int slot) {
+        return UUID.nameUUIDFromBytes(("tablist-" + slot).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The name of both the slot's fake player and its team, which the client sorts the tab list by
+     */
+    private static String getSlotName(int slot) {
+        return String.format("!tab%03d", slot);
+    }
+
+    /**
+     * The cells a player was last sent, by slot
+     */
+    static class PlayerTablist {
+        private final Map<Integer, TablistModule.TablistEntry> cells = new HashMap<>();
+        private final Set<Integer> teams = new HashSet<>();
+        // Set once the player is leaving for another server, after which nothing more is sent
+        private boolean cleared = false;
+
+        synchronized void update(SkyBlockPlayer player, List<TablistModule> modules, Consumer<ServerPacket> sender) {
+            if (cleared) return;
+
+            List<UUID> removed = new ArrayList<>();
+            List<TeamsPacket> created = new ArrayList<>();
+            List<PlayerInfoUpdatePacket.Entry> added = new ArrayList<>();
+            List<PlayerInfoUpdatePacket.Entry> renamed = new ArrayList<>();
+
+            for (int module = 0; module < modules.size(); module++) {
+                List<TablistModule.TablistEntry> entries;
+                try {
+                    entries = modules.get(module).getEntries(player);
+                } catch (Exception e) {
+                    // Leave the module's column as it was last shown
+                    continue;
+                }
+
+                for (int index = 0; index < SLOTS_PER_MODULE; index++) {
+                    int slot = module * SLOTS_PER_MODULE + index;
+                    TablistModule.TablistEntry entry = index < entries.size() ? entries.get(index) : null;
+
+                    if (entry == null) {
+                        if (cells.remove(slot) != null) removed.add(getSlotUuid(slot));
+                        continue;
+                    }
+
+                    TablistModule.TablistEntry previous = cells.put(slot, entry);
+                    if (previous == null || previous.registry() != entry.registry()) {
+                        if (previous != null) removed.add(getSlotUuid(slot));
+                        if (teams.add(slot)) created.add(getTeamPacket(slot));
+                        added.add(getInfoEntry(slot, entry));
+                    } else if (!previous.content().equals(entry.content())) {
+                        renamed.add(getInfoEntry(slot, entry));
+                    }
                 }
-                tablistEntries.get(player).clear();
-
-                AtomicReference<Map.Entry<String, Integer>> charPrefix = new AtomicReference<>(Map.entry("§", 0));
-
-                getModules().forEach(module -> {
-                    try {
-                        List<TablistModule.TablistEntry> entries = module.getEntries(player);
-
-                        entries.forEach(entry -> {
-                            List<PlayerInfoUpdatePacket.Property> properties = new ArrayList<>();
-                            properties.add(new PlayerInfoUpdatePacket.Property(
-                                    "textures",
-                                    entry.registry().getTexture(),
-                                    entry.registry().getSignature()));
-
-                            if (!charPrefix.get().getKey().equals(entry.content())) {
-                                charPrefix.set(Map.entry(entry.content(), charPrefix.get().getValue() + 1));
-                            }
-
-                            // 0 is AA, 1 is AB, 2 is AC, etc.
-                            // 26 is BA, 27 is BB, 28 is BC, etc.
-                            StringBuilder prefix = new StringBuilder();
-                            int value = charPrefix.get().getValue();
-                            do {
-                                // 'A' has an ASCII value of 65, so adding value % 26 gives us the letter we want.
-                                // We subtract by 1 before the modulus operation because we want 'A' to represent 0, 'B' to represent 1, and so on.
-                                char charToAdd = (char) ('A' + (value - 1) % 26);
-                                prefix.insert(0, charToAdd); // Prepend the character
-                                value = (value - 1) / 26; // Move to the next 'digit'
-                            } while (value > 0);
-
-                            UUID uuid = UUID.randomUUID();
-                            tablistEntries.get(player).add(uuid);
-
-                            String randomName = UUID.randomUUID().toString().substring(0, 8);
-
-                            TeamsPacket teamPacket = new TeamsPacket(prefix.toString(), new TeamsPacket.CreateTeamAction(
-                                    Component.text(prefix.toString()),
-                                    (byte) 0x01,
-                                    TeamsPacket.NameTagVisibility.ALWAYS,
-                                    TeamsPacket.CollisionRule.ALWAYS,
-                                    NamedTextColor.RED,
-                                    Component.text(prefix.toString()),
-                                    Component.empty(),
-                                    new ArrayList<>(Collections.singletonList(randomName))
-                            ));
-
-                            player.sendPackets(
-                                    teamPacket,
-                                    new PlayerInfoUpdatePacket(EnumSet.of(
-                                            PlayerInfoUpdatePacket.Action.ADD_PLAYER,
-                                            PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME,
-                                            PlayerInfoUpdatePacket.Action.UPDATE_LISTED
-                                    ), Collections.singletonList(new PlayerInfoUpdatePacket.Entry(
-                                            uuid,
-                                            randomName,
-                                            properties,
-                                            true,
-                                            0,
-                                            GameMode.CREATIVE,
-                                            Component.text(entry.content()),
-                                            null)))
-                            );
-                        });
-                    } catch (Exception e) {}
-                });
+            }
+
+            int slots = modules.size() * SLOTS_PER_MODULE;
+            cells.keySet().removeIf(slot -> {
+                if (slot < slots) return false;
+                removed.add(getSlotUuid(slot));
+                return true;
             });
-        }, TaskSchedule.seconds(5), TaskSchedule.seconds(3), ExecutionType.TICK_END);
+
+            if (!removed.isEmpty()) sender.accept(new PlayerInfoRemovePacket(removed));
+            created.forEach(sender);
+            if (!added.isEmpty()) sender.accept(new PlayerInfoUpdatePacket(EnumSet.of(
+                    PlayerInfoUpdatePacket.Action.ADD_PLAYER,
+                    PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME,
+                    PlayerInfoUpdatePacket.Action.UPDATE_LISTED
+            ), added));
+            if (!renamed.isEmpty()) sender.accept(new PlayerInfoUpdatePacket(EnumSet.of(
+                    PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME
+            ), renamed));
+        }
+
+        private synchronized void clear(SkyBlockPlayer player) {
+            if (!cells.isEmpty()) {
+                player.sendPacket(new PlayerInfoRemovePacket(cells.keySet().stream()
+                        .map(TablistManager::getSlotUuid)
+                        .toList()));
+            }
+            cells.clear();
+            cleared = true;
+        }
+
+        private static TeamsPacket getTeamPacket(int slot) {
+            String name = getSlotName(slot);
+            return new TeamsPacket(name, new TeamsPacket.CreateTeamAction(
+                    Component.text(name),
+                    (byte) 0x01,
+                    TeamsPacket.NameTagVisibility.ALWAYS,
+                    TeamsPacket.CollisionRule.ALWAYS,
+                    NamedTextColor.RED,
+                    Component.empty(),
+                    Component.empty(),
+                    new ArrayList<>(Collections.singletonList(name))
+            ));
+        }
+
+        private static PlayerInfoUpdatePacket.Entry getInfoEntry(int slot, TablistModule.TablistEntry entry) {
+            List<PlayerInfoUpdatePacket.Property> properties = new ArrayList<>();
+            properties.add(new PlayerInfoUpdatePacket.Property(
+                    "textures",
+                    entry.registry().getTexture(),
+                    entry.registry().getSignature()));
+
+            return new PlayerInfoUpdatePacket.Entry(
+                    getSlotUuid(slot),
+                    getSlotName(slot),
+                    properties,
+                    true,
+                    0,
+                    GameMode.CREATIVE,
+                    Component.text(entry.content()),
+                    null);
+        }
     }
 }
@@ -171,9 +171,11 @@ public class SkyBlockIsland {
 
     private void save() {
         new PolarLoader(world).saveInstance(islandInstance);
-        database.insertOrUpdate("data", new Binary(PolarWriter.write(world)));
-        database.insertOrUpdate("lastSaved", System.currentTimeMillis());
-        database.insertOrUpdate("version", islandVersion);
+        database.insertOrUpdate(Map.of(
+                "data", new Binary(PolarWriter.write(world)),
+                "lastSaved", System.currentTimeMillis(),
+                "version", islandVersion
+        ));
     }
 
     public static boolean hasIsland(UUID islandID) {
@@ -49,6 +49,7 @@ import net.swofty.types.generic.levels.SkyBlockEmblems;
 import net.swofty.types.generic.levels.abstr.SkyBlockLevelCauseAbstr;
 import net.swofty.types.generic.mission.MissionData;
 import net.swofty.types.generic.noteblock.SkyBlockSongsHandler;
+import net.swofty.types.generic.region.PlayerRegionTracker;
 import net.swofty.types.generic.region.SkyBlockRegion;
 import net.swofty.types.generic.region.mining.MineableBlock;
 import net.swofty.types.generic.skill.skills.RunecraftingSkill;
@@ -258,6 +259,17 @@ public class SkyBlockPlayer extends Player {
         return getDataHandler().get(DataHandler.Data.SHOPPING_DATA, DatapointShopData.class).getValue();
     }
 
+    /**
+     * Applies a change to the player's shopping data and publishes it to the datapoint.
+     *
+     * @param update The modification to make to the player's {@link PlayerShopData}.
+     */
+    public void updateShoppingData(Consumer<PlayerShopData> update) {
+        DatapointShopData datapoint = getDataHandler().get(DataHandler.Data.SHOPPING_DATA, DatapointShopData.class);
+        update.accept(datapoint.getValue());
+        datapoint.setValue(datapoint.getValue());
+    }
+
     /**
      * Retrieves the collection data for the player.
      *
@@ -647,13 +659,14 @@ public class SkyBlockPlayer extends Player {
      * Retrieves the {@link SkyBlockRegion} associated with the player.
      *
      * <p>If the player is on their island, the island region is returned.
-     * Otherwise, the region corresponding to the player's current position is returned.</p>
+     * Otherwise, the region corresponding to the player's current position is returned.
+     * This is read from the {@link PlayerRegionTracker}, which only resolves it again
+     * once the player enters a new block.</p>
      *
      * @return The {@link SkyBlockRegion} the player is in, or null if no region is found.
      */
     public @Nullable SkyBlockRegion getRegion() {
-        if (isOnIsland()) return SkyBlockRegion.getIslandRegion();
-        return SkyBlockRegion.getRegionOfPosition(this.getPosition());
+        return PlayerRegionTracker.getRegion(this);
     }
 
     /**
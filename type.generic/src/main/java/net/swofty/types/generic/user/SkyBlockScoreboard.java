@@ -5,10 +5,10 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.timer.TaskSchedule;
+import net.swofty.commons.Configuration;
 import net.swofty.types.generic.SkyBlockConst;
 import net.swofty.types.generic.SkyBlockGenericLoader;
 import net.swofty.types.generic.calendar.SkyBlockCalendar;
-import net.swofty.types.generic.command.commands.MinionGenerationCommand;
 import net.swofty.types.generic.data.DataHandler;
 import net.swofty.types.generic.data.datapoints.DatapointDouble;
 import net.swofty.types.generic.data.datapoints.DatapointInteger;
@@ -18,75 +18,55 @@ import net.swofty.types.generic.region.SkyBlockRegion;
 import net.swofty.types.generic.scoreboard.SwoftySidebar;
 import net.swofty.commons.StringUtility;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps one sidebar per player for as long as they are loaded, rather than building
+ * a new one on every update.
+ * <p>
+ * Each update the lines are laid out from their {@link Section}s, each of which is
+ * only computed again once its refresh rate has passed, or for sections without one,
+ * once what they show has changed. The result is compared slot by slot against what
+ * the player was last sent, and only the lines whose text or score changed are sent
+ * again.
+ */
 public class SkyBlockScoreboard {
-    private static final Map<UUID, SwoftySidebar> sidebarCache = new HashMap<>();
+    private static final int UPDATE_TICKS = 2;
+    // DateTimeFormatter is immutable, so one instance is shared between threads
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yy");
+
+    private static final Map<UUID, PlayerSidebar> sidebarCache = new ConcurrentHashMap<>();
     private static Integer skyblockName = 0;
+    private static long tick = 0;
 
     public static void start() {
         Scheduler scheduler = MinecraftServer.getSchedulerManager();
 
+        DataHandler.subscribe(DataHandler.Data.COINS, (player, datapoint) -> markChanged(player, Section.PURSE));
+        DataHandler.subscribe(DataHandler.Data.BITS, (player, datapoint) -> markChanged(player, Section.PURSE));
+
         // Scoreboard Updater
         scheduler.submitTask(() -> {
             skyblockName++;
             if (skyblockName > 50) {
                 skyblockName = 0;
             }
+            tick += UPDATE_TICKS;
 
             for (SkyBlockPlayer player : SkyBlockGenericLoader.getLoadedPlayers()) {
-                DataHandler dataHandler = player.getDataHandler();
-                SkyBlockRegion region = player.getRegion();
-                MissionData missionData = player.getMissionData();
-
-                if (dataHandler == null) {
+                if (player.getDataHandler() == null) {
                     continue;
                 }
 
-                if (sidebarCache.containsKey(player.getUuid())) {
-                    sidebarCache.get(player.getUuid()).removeViewer(player);
-                }
-
-                SwoftySidebar sidebar = new SwoftySidebar(Component.text("  " + getSidebarName(skyblockName, false)
-                        + (player.isCoop() ? " §b§lCO-OP  " : "  ")));
-
-                addLine("§7" + new SimpleDateFormat("MM/dd/yy").format(new Date()) + " §8m" + SkyBlockConst.getServerName(), sidebar);
-                addLine("§7 ", sidebar);
-                addLine("§f " + SkyBlockCalendar.getMonthName() + " " + StringUtility.ntify(SkyBlockCalendar.getDay()), sidebar);
-                addLine("§7 " + SkyBlockCalendar.getDisplay(SkyBlockCalendar.getElapsed()), sidebar);
-                try {
-                    addLine("§7 ⏣ " + region.getType().getColor() + region.getType().getName(), sidebar);
-                } catch (NullPointerException ignored) {
-                    addLine(" §7Unknown", sidebar);
-                }
-                addLine("§7 ", sidebar);
-                addLine("§fPurse: §6" + StringUtility.commaify(dataHandler.get(DataHandler.Data.COINS, DatapointDouble.class).getValue()), sidebar);
-                addLine("§fBits: §b" + StringUtility.commaify(dataHandler.get(DataHandler.Data.BITS, DatapointInteger.class).getValue()), sidebar);
-                addLine("§7 ", sidebar);
-                if (region != null &&
-                        !missionData.getActiveMissions(region.getType()).isEmpty()) {
-                    MissionData.ActiveMission mission = missionData.getActiveMissions(region.getType()).getFirst();
-
-                    addLine("§fObjective", sidebar);
-                    addLine("§e" + mission, sidebar);
-
-                    SkyBlockProgressMission progressMission = missionData.getAsProgressMission(mission.getMissionID());
-                    if (progressMission != null)
-                        addLine("§7 (" + mission.getMissionProgress() + "§7/" + progressMission.getMaxProgress() + "§7)", sidebar);
-                    addLine("§7 ", sidebar);
-                }
-
-                addLine("§ewww.hypixel.net", sidebar);
-
-                sidebar.addViewer(player);
-
-                sidebarCache.put(player.getUuid(), sidebar);
+                String title = "  " + getSidebarName(skyblockName, false) + (player.isCoop() ? " §b§lCO-OP  " : "  ");
+                sidebarCache.computeIfAbsent(player.getUuid(), uuid -> new PlayerSidebar(player, title))
+                        .update(player, title, tick);
             }
-            return TaskSchedule.tick(2);
+            return TaskSchedule.tick(UPDATE_TICKS);
         });
     }
 
@@ -94,12 +74,16 @@ public class SkyBlockScoreboard {
         sidebarCache.remove(player.getUuid());
     }
 
-    private static void addLine(String text, SwoftySidebar sidebar) {
-        for (SwoftySidebar.ScoreboardLine existingLine : sidebar.getLines()) {
-            sidebar.updateLineScore(existingLine.getId(), existingLine.getLine() + 1);
-        }
+    /**
+     * Called when the player's region type changes, so the region line is computed again
+     */
+    public static void refreshRegion(Player player) {
+        markChanged(player, Section.REGION);
+    }
 
-        sidebar.createLine(new SwoftySidebar.ScoreboardLine(UUID.randomUUID().toString(), Component.text(text), 0));
+    private static void markChanged(Player player, Section section) {
+        PlayerSidebar sidebar = sidebarCache.get(player.getUuid());
+        if (sidebar != null) sidebar.markChanged(section);
     }
 
     private static String getSidebarName(int counter, boolean isGuest) {
@@ -120,4 +104,143 @@ public class SkyBlockScoreboard {
             return colors[2] + baseText + endColor + endText;
         }
     }
+
+    /**
+     * The groups of lines making up the sidebar, top to bottom. The refresh rate of
+     * each is configurable as {@code scoreboard-<name>-refresh-ticks}. The region and
+     * purse are not polled, and are only computed again once marked changed.
+     */
+    enum Section {
+        HEADER("header", 20, player -> List.of(
+                "§7" + LocalDate.now().format(DATE_FORMAT) + " §8m" + SkyBlockConst.getServerName(),
+                "§7 ")),
+        CALENDAR("calendar", 20, player -> List.of(
+                "§f " + SkyBlockCalendar.getMonthName() + " " + StringUtility.ntify(SkyBlockCalendar.getDay()),
+                "§7 " + SkyBlockCalendar.getDisplay(SkyBlockCalendar.getElapsed()))),
+        REGION(player -> {
+            SkyBlockRegion region = player.getRegion();
+            if (region == null || region.getType() == null) return List.of(" §7Unknown", "§7 ");
+            return List.of("§7 ⏣ " + region.getType().getColor() + region.getType().getName(), "§7 ");
+        }),
+        PURSE(player -> {
+            DataHandler dataHandler = player.getDataHandler();
+            return List.of(
+                    "§fPurse: §6" + StringUtility.commaify(dataHandler.get(DataHandler.Data.COINS, DatapointDouble.class).getValue()),
+                    "§fBits: §b" + StringUtility.commaify(dataHandler.get(DataHandler.Data.BITS, DatapointInteger.class).getValue()),
+                    "§7 ");
+        }),
+        OBJECTIVE("objective", 4, player -> {
+            SkyBlockRegion region = player.getRegion();
+            MissionData missionData = player.getMissionData();
+            if (region == null || missionData.getActiveMissions(region.getType()).isEmpty()) return List.of();
+
+            MissionData.ActiveMission mission = missionData.getActiveMissions(region.getType()).getFirst();
+            List<String> lines = new ArrayList<>();
+            lines.add("§fObjective");
+            lines.add("§e" + mission);
+
+            SkyBlockProgressMission progressMission = missionData.getAsProgressMission(mission.getMissionID());
+            if (progressMission != null)
+                lines.add("§7 (" + mission.getMissionProgress() + "§7/" + progressMission.getMaxProgress() + "§7)");
+            lines.add("§7 ");
+            return lines;
+        }),
+        FOOTER("footer", 100, player -> List.of("§ewww.hypixel.net"));
+
+        private static final int ON_CHANGE = -1;
+
+        private final int refreshTicks;
+        private final Function<SkyBlockPlayer, List<String>> lines;
+
+        Section(Function<SkyBlockPlayer, List<String>> lines) {
+            this.refreshTicks = ON_CHANGE;
+            this.lines = lines;
+        }
+
+        Section(String name, int defaultRefreshTicks, Function<SkyBlockPlayer, List<String>> lines) {
+            this.refreshTicks = Configuration.getOrDefault("scoreboard-" + name + "-refresh-ticks", defaultRefreshTicks);
+            this.lines = lines;
+        }
+
+        private boolean isDue(long computedAt, long tick) {
+            return refreshTicks != ON_CHANGE && tick - computedAt >= refreshTicks;
+        }
+    }
+
+    /**
+     * What one player's sidebar shows, and the lines last computed for each section
+     */
+    static class PlayerSidebar {
+        private final SwoftySidebar sidebar;
+        private final Map<Section, List<String>> sections = new EnumMap<>(Section.class);
+        private final Map<Section, Long> computedAt = new EnumMap<>(Section.class);
+        private final Set<Section> changed = EnumSet.noneOf(Section.class);
+        private final List<String> shown = new ArrayList<>();
+        private String title;
+
+        PlayerSidebar(String title) {
+            this.title = title;
+            this.sidebar = new SwoftySidebar(Component.text(title));
+        }
+
+        private PlayerSidebar(SkyBlockPlayer player, String title) {
+            this(title);
+            sidebar.addViewer(player);
+        }
+
+        synchronized void markChanged(Section section) {
+            changed.add(section);
+        }
+
+        private synchronized void update(SkyBlockPlayer player, String title, long tick) {
+            if (!title.equals(this.title)) {
+                this.title = title;
+                sidebar.setTitle(Component.text(title));
+            }
+            render(layOut(tick, section -> section.lines.apply(player)));
+        }
+
+        /**
+         * Returns the lines of every section, computing only the sections that are due or were marked changed
+         */
+        synchronized List<String> layOut(long tick, Function<Section, List<String>> compute) {
+            List<String> lines = new ArrayList<>();
+            for (Section section : Section.values()) {
+                Long at = computedAt.get(section);
+                boolean marked = changed.remove(section);
+                if (at == null || marked || section.isDue(at, tick)) {
+                    sections.put(section, compute.apply(section));
+                    computedAt.put(section, tick);
+                }
+                lines.addAll(sections.get(section));
+            }
+            return lines;
+        }
+
+        /**
+         * Sends the lines, each identified by its slot from the top and scored so the top one is highest
+         */
+        private void render(List<String> lines) {
+            boolean resized = lines.size() != shown.size();
+
+            for (int slot = 0; slot < lines.size(); slot++) {
+                String id = "line-" + slot;
+                String text = lines.get(slot);
+                int score = lines.size() - 1 - slot;
+
+                if (slot >= shown.size()) {
+                    sidebar.createLine(new SwoftySidebar.ScoreboardLine(id, Component.text(text), score));
+                    continue;
+                }
+                if (!shown.get(slot).equals(text)) sidebar.updateLineContent(id, Component.text(text));
+                if (resized) sidebar.updateLineScore(id, score);
+            }
+            for (int slot = lines.size(); slot < shown.size(); slot++) {
+                sidebar.removeLine("line-" + slot);
+            }
+
+            shown.clear();
+            shown.addAll(lines);
+        }
+    }
 }
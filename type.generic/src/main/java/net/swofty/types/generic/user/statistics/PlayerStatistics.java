@@ -13,11 +13,14 @@ import net.minestom.server.item.ItemStack;
 import net.minestom.server.timer.ExecutionType;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.timer.TaskSchedule;
+import net.swofty.commons.Configuration;
 import net.swofty.commons.item.ItemType;
 import net.swofty.commons.item.PotatoType;
 import net.swofty.commons.statistics.ItemStatistic;
 import net.swofty.commons.statistics.ItemStatistics;
+import net.swofty.commons.statistics.MutableItemStatistics;
 import net.swofty.types.generic.SkyBlockGenericLoader;
+import net.swofty.types.generic.data.DataHandler;
 import net.swofty.types.generic.data.datapoints.DatapointSkills;
 import net.swofty.types.generic.data.datapoints.DatapointSkyBlockExperience;
 import net.swofty.types.generic.enchantment.EnchantmentType;
@@ -43,12 +46,15 @@ import net.swofty.types.generic.region.RegionType;
 import net.swofty.types.generic.user.SkyBlockActionBar;
 import net.swofty.types.generic.user.SkyBlockPlayer;
 import org.jetbrains.annotations.Nullable;
+import org.tinylog.Logger;
 
-import java.lang.reflect.Constructor;
 import java.util.*;
 
 public class PlayerStatistics {
     private static final Map<Player, BossBar> barCache = new HashMap<>();
+    private static final ItemStatistics BASE_VALUES = ItemStatistic.getOfAllBaseValues();
+    private static final boolean VERIFY_CACHE = Configuration.getOrDefault("statistics-verification", false);
+    private static final Map<ArmorSetRegistry, ArmorSet> ARMOR_SETS = createArmorSets();
 
     private final SkyBlockPlayer player;
     @Setter
@@ -57,10 +63,15 @@ public class PlayerStatistics {
     @Setter
     @Getter
     private double manaRegenerationPercentBonus;
-    private ItemStatistics accessoryStatistics = ItemStatistics.builder().build();
+    private ItemStatistics accessoryStatistics = ItemStatistics.empty();
     private final List<TemporaryStatistic> temporaryStatistics = Collections.synchronizedList(new ArrayList<>());
     private final List<TemporaryConditionalStatistic> temporaryConditionalStatistics = Collections.synchronizedList(new ArrayList<>());
 
+    // Indexed by StatisticSource ordinal, null once invalidated. Guards every cache field below
+    private final ItemStatistics[] sources = new ItemStatistics[StatisticSource.values().length];
+    private final Map<PlayerItemOrigin, ItemStack> equipped = new EnumMap<>(PlayerItemOrigin.class);
+    private ItemStatistics cachedTotal;
+
     public PlayerStatistics(SkyBlockPlayer player) {
         this.player = player;
     }
@@ -94,6 +105,10 @@ public class PlayerStatistics {
     }
 
     public ItemStatistics allArmorStatistics(SkyBlockPlayer causer, LivingEntity enemy) {
+        return addArmorStatistics(new MutableItemStatistics(), causer, enemy).toStatistics();
+    }
+
+    private MutableItemStatistics addArmorStatistics(MutableItemStatistics total, SkyBlockPlayer causer, LivingEntity enemy) {
         PlayerItemOrigin.OriginCache cache = PlayerItemOrigin.getFromCache(player.getUuid());
         ArrayList<SkyBlockItem> armorPieces = new ArrayList<>();
 
@@ -102,28 +117,34 @@ public class PlayerStatistics {
         armorPieces.add(cache.get(PlayerItemOrigin.LEGGINGS));
         armorPieces.add(cache.get(PlayerItemOrigin.BOOTS));
 
-        ItemStatistics total = ItemStatistics.builder().build();
         for (SkyBlockItem item : armorPieces) {
             if (item.getGenericInstance() != null)
                 if (item.getGenericInstance() instanceof ConstantStatistics)
                     continue;
 
-            total = ItemStatistics.add(total, ItemStatistics.add(item.getAttributeHandler().getStatistics(), calculateExtraItemStatisticsToAdd(
-                    item,
-                    causer,
-                    enemy
-            )));
+            total.add(item.getAttributeHandler().getStatistics());
+            addExtraItemStatistics(total, item, causer, enemy);
         }
         if (player.getArmorSet() != null) {
-            ArmorSetRegistry armorSetRegistry = player.getArmorSet();
+            ArmorSet armorSet = ARMOR_SETS.get(player.getArmorSet());
+            if (armorSet != null) total.add(armorSet.getStatistics());
+        }
+        return total;
+    }
+
+    /**
+     * Armor sets hold no state, so one instance of each serves every player
+     */
+    private static Map<ArmorSetRegistry, ArmorSet> createArmorSets() {
+        Map<ArmorSetRegistry, ArmorSet> armorSets = new EnumMap<>(ArmorSetRegistry.class);
+        for (ArmorSetRegistry armorSetRegistry : ArmorSetRegistry.values()) {
             try {
-                Constructor<? extends ArmorSet> constructor = armorSetRegistry.getClazz().getConstructor();
-                ArmorSet armorSet = constructor.newInstance();
-                total = ItemStatistics.add(total, armorSet.getStatistics());
-            } catch (Exception _) {
+                armorSets.put(armorSetRegistry, armorSetRegistry.getClazz().getConstructor().newInstance());
+            } catch (Exception e) {
+                Logger.error("Could not create armor set " + armorSetRegistry.name());
             }
         }
-        return total;
+        return armorSets;
     }
 
     // Returns a map of Level : Amount of that level
@@ -159,53 +180,59 @@ public class PlayerStatistics {
     }
 
     public ItemStatistics mainHandStatistics(SkyBlockPlayer causer, LivingEntity enemy) {
+        return addMainHandStatistics(new MutableItemStatistics(), causer, enemy).toStatistics();
+    }
+
+    private MutableItemStatistics addMainHandStatistics(MutableItemStatistics total, SkyBlockPlayer causer, LivingEntity enemy) {
         SkyBlockItem item = PlayerItemOrigin.getFromCache(player.getUuid()).get(PlayerItemOrigin.MAIN_HAND);
 
         if (item.getGenericInstance() != null) {
             if (item.getGenericInstance() instanceof ConstantStatistics)
-                return ItemStatistics.empty();
+                return total;
             if (item.getGenericInstance() instanceof StandardItem standardItem)
                 if (standardItem.getStandardItemType().isArmor())
-                    return ItemStatistics.empty();
+                    return total;
         }
 
-        return ItemStatistics.add(item.getAttributeHandler().getStatistics(),
-                calculateExtraItemStatisticsToAdd(
-                        item,
-                        causer,
-                        enemy
-                ));
+        total.add(item.getAttributeHandler().getStatistics());
+        return addExtraItemStatistics(total, item, causer, enemy);
     }
 
     public ItemStatistics petStatistics() {
+        return addPetStatistics(new MutableItemStatistics()).toStatistics();
+    }
+
+    private MutableItemStatistics addPetStatistics(MutableItemStatistics total) {
         SkyBlockItem pet = player.getPetData().getEnabledPet();
-        if (pet == null) return ItemStatistics.empty();
+        if (pet == null) return total;
         ItemStatistics baseStatistics = ((Pet) pet.getGenericInstance()).getBaseStatistics();
         ItemStatistics perLevelStatistics = ((Pet) pet.getGenericInstance()).getPerLevelStatistics(
                 pet.getAttributeHandler().getRarity()
         );
         int level = pet.getAttributeHandler().getPetData().getAsLevel(pet.getAttributeHandler().getRarity());
-        return ItemStatistics.add(baseStatistics, ItemStatistics.multiply(perLevelStatistics, level));
+        return total.add(baseStatistics).addScaled(perLevelStatistics, level);
     }
 
     public ItemStatistics spareStatistics() {
-        ItemStatistics spare = ItemStatistics.builder().build();
+        return addSpareStatistics(new MutableItemStatistics()).toStatistics();
+    }
 
+    private MutableItemStatistics addSpareStatistics(MutableItemStatistics total) {
         int fairySouls = player.getFairySouls().getExchangedFairySouls().size();
-        spare = ItemStatistics.add(spare, ItemStatistics.builder().withBase(ItemStatistic.HEALTH, (double) (fairySouls * 2)).build());
+        total.addBase(ItemStatistic.HEALTH, fairySouls * 2);
 
         DatapointSkills.PlayerSkills skills = player.getSkills();
-        spare = ItemStatistics.add(spare, skills.getSkillStatistics());
+        total.add(skills.getSkillStatistics());
 
         DatapointSkyBlockExperience.PlayerSkyBlockExperience experience = player.getSkyBlockExperience();
         for (int i = 0; i < experience.getLevel().asInt(); i++) {
             List<SkyBlockLevelStatisticUnlock> unlocks = experience.getLevel().getStatisticUnlocks();
             for (SkyBlockLevelStatisticUnlock unlock : unlocks) {
-                spare = ItemStatistics.add(spare, unlock.getStatistics());
+                total.add(unlock.getStatistics());
             }
         }
 
-        return spare;
+        return total;
     }
 
     public long getInvulnerabilityTime() {
@@ -218,22 +245,46 @@ public class PlayerStatistics {
         return allStatistics(null, null);
     }
 
+    /**
+     * Totals are served from the per source cache, with temporary statistics added on
+     * top as they depend on the current time and on their own conditions. Passing both
+     * a causer and an enemy includes event based enchants, which are never cached.
+     */
     public ItemStatistics allStatistics(SkyBlockPlayer causer, LivingEntity enemy) {
-        ItemStatistics total = ItemStatistics.builder().build();
-        total = ItemStatistics.add(total, allArmorStatistics(causer, enemy));
-        total = ItemStatistics.add(total, mainHandStatistics(causer, enemy));
-        total = ItemStatistics.add(total, spareStatistics());
-        total = ItemStatistics.add(total, getTemporaryStatistics());
-        total = ItemStatistics.add(total, petStatistics());
-        total = ItemStatistics.add(total, accessoryStatistics);
-        total = ItemStatistics.add(total, ItemStatistic.getOfAllBaseValues());
+        if (causer != null && enemy != null) return computeAllStatistics(causer, enemy);
 
-        return total;
+        ItemStatistics cached = getCachedStatistics();
+        if (temporaryStatistics.isEmpty() && temporaryConditionalStatistics.isEmpty()) return cached;
+
+        MutableItemStatistics total = new MutableItemStatistics().add(cached);
+        addTemporaryStatistics(total);
+        return total.toStatistics();
+    }
+
+    private ItemStatistics computeAllStatistics(SkyBlockPlayer causer, LivingEntity enemy) {
+        MutableItemStatistics total = new MutableItemStatistics();
+        addArmorStatistics(total, causer, enemy);
+        addMainHandStatistics(total, causer, enemy);
+        addSpareStatistics(total);
+        addTemporaryStatistics(total);
+        addPetStatistics(total);
+        total.add(accessoryStatistics);
+        total.add(BASE_VALUES);
+
+        return total.toStatistics();
     }
 
     public void updateAccessoryStatistics() {
+        ItemStatistics updated = computeAccessoryStatistics();
+        if (!updated.equals(accessoryStatistics)) {
+            accessoryStatistics = updated;
+            invalidate(StatisticSource.ACCESSORIES);
+        }
+    }
+
+    private ItemStatistics computeAccessoryStatistics() {
         List<ItemTypeLinker> usedAccessories = new ArrayList<>();
-        ItemStatistics total = ItemStatistics.builder().build();
+        MutableItemStatistics total = new MutableItemStatistics();
         for (ItemStack itemStack : player.getInventory().getItemStacks()) {
             if (SkyBlockItem.isSkyBlockItem(itemStack)) {
                 SkyBlockItem item = new SkyBlockItem(itemStack);
@@ -242,12 +293,8 @@ public class PlayerStatistics {
                 if (usedAccessories.contains(item.getAttributeHandler().getPotentialClassLinker())) continue;
 
                 usedAccessories.add(item.getAttributeHandler().getPotentialClassLinker());
-                total = ItemStatistics.add(total, ItemStatistics.add(item.getAttributeHandler().getStatistics(),
-                        calculateExtraItemStatisticsToAdd(
-                            item,
-                            null,
-                            null
-                        )));
+                total.add(item.getAttributeHandler().getStatistics());
+                addExtraItemStatistics(total, item, null, null);
             }
         }
         for (SkyBlockItem item : player.getAccessoryBag().getAllAccessories()) {
@@ -257,55 +304,118 @@ public class PlayerStatistics {
             if (usedAccessories.contains(item.getAttributeHandler().getPotentialClassLinker())) continue;
 
             usedAccessories.add(item.getAttributeHandler().getPotentialClassLinker());
-            total = ItemStatistics.add(total, ItemStatistics.add(item.getAttributeHandler().getStatistics(),
-                    calculateExtraItemStatisticsToAdd(
-                        item,
-                        null,
-                        null
-            )));
+            total.add(item.getAttributeHandler().getStatistics());
+            addExtraItemStatistics(total, item, null, null);
         }
-        accessoryStatistics = total;
+        return total.toStatistics();
     }
 
-    private ItemStatistics calculateExtraItemStatisticsToAdd(SkyBlockItem item, SkyBlockPlayer causer, LivingEntity enemy) {
-        ItemStatistics statistics = ItemStatistics.builder().build();
-        statistics = getReforgeStatistics(item, statistics);
-        statistics = getGemstoneStatistics(item, statistics);
-        statistics = getEnchantStatistics(item, statistics, causer, enemy);
-        statistics = getHotPotatoBookStatistics(item, statistics);
+    public void invalidate(StatisticSource source) {
+        synchronized (sources) {
+            sources[source.ordinal()] = null;
+            cachedTotal = null;
+        }
+    }
+
+    /**
+     * Called by the item updater with the stack currently in an equipment slot, which
+     * invalidates the matching source only when the stack differs from the last one seen
+     */
+    public void updateEquipment(PlayerItemOrigin origin, ItemStack stack) {
+        StatisticSource source = switch (origin) {
+            case MAIN_HAND -> StatisticSource.MAIN_HAND;
+            case HELMET, CHESTPLATE, LEGGINGS, BOOTS -> StatisticSource.ARMOR;
+            default -> null;
+        };
+        if (source == null) return;
+
+        synchronized (sources) {
+            if (!stack.equals(equipped.put(origin, stack))) invalidate(source);
+        }
+    }
 
-        return statistics;
+    /**
+     * Recomputes every cached source from scratch, logging and replacing any that no
+     * longer match. Run periodically when statistics-verification is enabled, to catch
+     * changes that reach a source without invalidating it.
+     */
+    public void verifyCache() {
+        synchronized (sources) {
+            for (StatisticSource source : StatisticSource.values()) {
+                // Accessories are only summed when the inventory updater runs, so they are
+                // checked against a fresh sum rather than against the field they came from
+                boolean accessories = source == StatisticSource.ACCESSORIES;
+                ItemStatistics cached = accessories ? accessoryStatistics : sources[source.ordinal()];
+                if (cached == null) continue;
+
+                ItemStatistics fresh = accessories ? computeAccessoryStatistics() : computeSource(source);
+                if (cached.equals(fresh)) continue;
+
+                Logger.warn("Cached " + source.name() + " statistics for " + player.getUsername() + " were stale");
+                if (accessories) accessoryStatistics = fresh;
+                sources[source.ordinal()] = fresh;
+                cachedTotal = null;
+            }
+        }
+    }
+
+    private ItemStatistics getCachedStatistics() {
+        synchronized (sources) {
+            if (cachedTotal != null) return cachedTotal;
+
+            MutableItemStatistics total = new MutableItemStatistics();
+            for (StatisticSource source : StatisticSource.values()) {
+                if (sources[source.ordinal()] == null) sources[source.ordinal()] = computeSource(source);
+                total.add(sources[source.ordinal()]);
+            }
+            cachedTotal = total.add(BASE_VALUES).toStatistics();
+            return cachedTotal;
+        }
     }
 
-    private ItemStatistics getReforgeStatistics(SkyBlockItem item, ItemStatistics statistics) {
+    private ItemStatistics computeSource(StatisticSource source) {
+        return switch (source) {
+            case ARMOR -> allArmorStatistics(null, null);
+            case MAIN_HAND -> mainHandStatistics(null, null);
+            case ACCESSORIES -> accessoryStatistics;
+            case PET -> petStatistics();
+            case LEVELS -> spareStatistics();
+        };
+    }
+
+    private MutableItemStatistics addExtraItemStatistics(MutableItemStatistics total, SkyBlockItem item,
+                                                         SkyBlockPlayer causer, LivingEntity enemy) {
+        addReforgeStatistics(total, item);
+        addGemstoneStatistics(total, item);
+        addEnchantStatistics(total, item, causer, enemy);
+        addHotPotatoBookStatistics(total, item);
+
+        return total;
+    }
+
+    private void addReforgeStatistics(MutableItemStatistics total, SkyBlockItem item) {
         if (item.getAttributeHandler().getReforge() != null) {
-            statistics = item.getAttributeHandler().getReforge().getAfterCalculation(statistics,
-                    item.getAttributeHandler().getRarity().ordinal() + 1);
+            total.add(item.getAttributeHandler().getReforge().getAfterCalculation(ItemStatistics.empty(),
+                    item.getAttributeHandler().getRarity().ordinal() + 1));
         }
-        return statistics;
     }
 
-    private ItemStatistics getHotPotatoBookStatistics(SkyBlockItem item, ItemStatistics statistics) {
+    private void addHotPotatoBookStatistics(MutableItemStatistics total, SkyBlockItem item) {
         ItemAttributeHotPotatoBookData.HotPotatoBookData hotPotatoBookData = item.getAttributeHandler().getHotPotatoBookData();
         if (hotPotatoBookData.hasPotatoBook()) {
-            ItemStatistics.Builder toAdd = ItemStatistics.builder();
             PotatoType potatoType = hotPotatoBookData.getPotatoType();
-
-            potatoType.stats.forEach(toAdd::withBase);
-            statistics = ItemStatistics.add(statistics, toAdd.build());
+            potatoType.stats.forEach(total::addBase);
         }
-        return statistics;
     }
 
-    private ItemStatistics getEnchantStatistics(SkyBlockItem item, ItemStatistics statistics,
-                                                SkyBlockPlayer causer, LivingEntity enemy) {
+    private void addEnchantStatistics(MutableItemStatistics total, SkyBlockItem item,
+                                      SkyBlockPlayer causer, LivingEntity enemy) {
         for (SkyBlockEnchantment enchantment : item.getAttributeHandler().getEnchantments().toList()) {
-            ItemStatistics enchantmentStatistics = enchantment.type().getEnch().getStatistics(enchantment.level()).clone();
-            statistics = ItemStatistics.add(statistics, enchantmentStatistics);
+            total.add(enchantment.type().getEnch().getStatistics(enchantment.level()));
 
             if (causer != null && enemy != null) {
                 if (enchantment.type().getEnch() instanceof EventBasedEnchant eventBasedStatistic) {
-                    statistics = ItemStatistics.add(statistics, eventBasedStatistic.getStatisticsOnDamage(
+                    total.add(eventBasedStatistic.getStatisticsOnDamage(
                             causer,
                             enemy,
                             enchantment.level()
@@ -313,35 +423,29 @@ public class PlayerStatistics {
                 }
             }
         }
-        return statistics;
     }
 
-    private ItemStatistics getTemporaryStatistics() {
-        ItemStatistics statistics = ItemStatistics.builder().build();
-
+    private void addTemporaryStatistics(MutableItemStatistics total) {
         synchronized (temporaryStatistics) {
             temporaryStatistics.removeIf(temporaryStatistic -> temporaryStatistic.getExpiration() < System.currentTimeMillis());
             for (TemporaryStatistic temporaryStatistic : temporaryStatistics) {
-                statistics = ItemStatistics.add(statistics, temporaryStatistic.getStatistics());
+                total.add(temporaryStatistic.getStatistics());
             }
 
             temporaryConditionalStatistics.removeIf(temporaryStatistic -> !temporaryStatistic.getExpiry().apply(player));
             for (TemporaryConditionalStatistic temporaryStatistic : temporaryConditionalStatistics) {
-                statistics = ItemStatistics.add(statistics, temporaryStatistic.getStatistics().apply(player));
+                total.add(temporaryStatistic.getStatistics().apply(player));
             }
-
-            return statistics;
         }
     }
 
-    private ItemStatistics getGemstoneStatistics(SkyBlockItem item, ItemStatistics statistics) {
+    private void addGemstoneStatistics(MutableItemStatistics total, SkyBlockItem item) {
         for (ItemStatistic statistic : ItemStatistic.values()) {
             int extra = Gemstone.getExtraStatisticFromGemstone(statistic, item);
             if (extra != 0) {
-                statistics = statistics.addBase(statistic, (double) extra);
+                total.addBase(statistic, extra);
             }
         }
-        return statistics;
     }
 
     public Map.Entry<Double, Boolean> runPrimaryDamageFormula(ItemStatistics enemyStatistics,
@@ -394,6 +498,15 @@ public class PlayerStatistics {
     }
 
     public static void run() {
+        Map.of(
+                DataHandler.Data.SKILLS, StatisticSource.LEVELS,
+                DataHandler.Data.SKYBLOCK_EXPERIENCE, StatisticSource.LEVELS,
+                DataHandler.Data.FAIRY_SOULS, StatisticSource.LEVELS,
+                DataHandler.Data.PET_DATA, StatisticSource.PET
+        ).forEach((data, source) -> DataHandler.subscribe(data, (player, datapoint) -> {
+            if (player instanceof SkyBlockPlayer skyBlockPlayer) skyBlockPlayer.getStatistics().invalidate(source);
+        }));
+
         barLoop();
         healthLoop();
         manaLoop();
@@ -432,6 +545,7 @@ public class PlayerStatistics {
             SkyBlockGenericLoader.getLoadedPlayers().forEach(player -> {
                 Thread.startVirtualThread(() -> {
                     player.getStatistics().updateAccessoryStatistics();
+                    if (VERIFY_CACHE) player.getStatistics().verifyCache();
                 });
             });
             return TaskSchedule.seconds(2);
@@ -0,0 +1,14 @@
+package net.swofty.types.generic.user.statistics;
+
+/**
+ * The parts of a player's statistics that are cached separately by
+ * {@link PlayerStatistics}, each recomputed only after it is invalidated
+ */
+public enum StatisticSource {
+    ARMOR,
+    MAIN_HAND,
+    ACCESSORIES,
+    PET,
+    LEVELS,
+    ;
+}
\ No newline at end of file
@@ -84,18 +84,17 @@ public enum LaunchPads {
     public static void register(Scheduler scheduler) {
         launchPads.addAll(Arrays.asList(LaunchPads.values()));
         launchPads.removeIf(launchPad -> launchPad.serverType != SkyBlockConst.getTypeLoader().getType());
-        Map<UUID, PlayerHolograms.ExternalPlayerHologram> hologramMap = new HashMap<>();
+        Map<LaunchPads, Map<UUID, PlayerHolograms.ExternalPlayerHologram>> hologramMaps = new HashMap<>();
 
         scheduler.scheduleTask(() -> {
             for (LaunchPads launchPad : launchPads) {
+                Map<UUID, PlayerHolograms.ExternalPlayerHologram> hologramMap =
+                        hologramMaps.computeIfAbsent(launchPad, k -> new HashMap<>());
                 List<UUID> updated = new ArrayList<>();
                 SkyBlockGenericLoader.getLoadedPlayers().forEach(player -> {
-                    if (hologramMap.containsKey(player.getUuid()))
-                        PlayerHolograms.removeExternalPlayerHologram(hologramMap.get(player.getUuid()));
-
+                    // Replaced rather than removed and added, so lines whose text is unchanged send nothing
                     PlayerHolograms.ExternalPlayerHologram hologram = launchPad.hologramDisplay.apply(player);
-                    hologramMap.put(player.getUuid(), hologram);
-                    PlayerHolograms.addExternalPlayerHologram(hologram);
+                    PlayerHolograms.replaceExternalPlayerHologram(hologramMap.put(player.getUuid(), hologram), hologram);
                     updated.add(player.getUuid());
                 });
 
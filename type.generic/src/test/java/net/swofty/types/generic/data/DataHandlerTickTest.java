@@ -0,0 +1,121 @@
+package net.swofty.types.generic.data;
+
+import net.minestom.server.MinecraftServer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Times one profile save interval of ticks at 100 and 500 players, against the loop
+ * that re-set every repeatSetValue datapoint of every loaded player on each tick.
+ * That loop kept the shopping data dirty, so each periodic save serialized it again
+ * even though nothing had changed.
+ */
+class DataHandlerTickTest {
+    private static final int TICKS_PER_SAVE = 30 * 20;
+    private static final int WARMUP_INTERVALS = 5;
+
+    @BeforeAll
+    static void startServer() {
+        MinecraftServer.init();
+    }
+
+    @Test
+    void settingAnEqualValueIsNotAChange() {
+        DataHandler handler = settledHandler();
+        Datapoint coins = handler.getDatapoint(DataHandler.Data.COINS.getKey());
+
+        coins.setValue(coins.getValue());
+        coins.setValue(0.0D);
+
+        assertFalse(coins.isDirty());
+        assertTrue(handler.pollChanges(false).isEmpty());
+    }
+
+    @Test
+    void steadyPlayersLeaveNothingToSave() {
+        List<DataHandler> handlers = handlers(100);
+
+        for (int tick = 0; tick < TICKS_PER_SAVE; tick++) repeatSetValueTick(handlers);
+        assertTrue(handlers.stream().allMatch(handler -> shoppingData(handler).isDirty()),
+                "The old loop should leave the shopping data dirty");
+
+        handlers.forEach(handler -> handler.pollChanges(false));
+        assertTrue(handlers.stream().noneMatch(handler -> shoppingData(handler).isDirty()));
+        assertTrue(handlers.stream().allMatch(handler -> handler.pollChanges(false).isEmpty()));
+    }
+
+    @Test
+    void saveIntervalAt100And500Players() {
+        for (int players : new int[]{100, 500}) {
+            List<DataHandler> handlers = handlers(players);
+
+            long legacy = 0;
+            long current = 0;
+            for (int interval = 0; interval <= WARMUP_INTERVALS; interval++) {
+                legacy = timeInterval(handlers, true);
+                current = timeInterval(handlers, false);
+            }
+
+            System.out.printf("%d players: %.2f us a tick and %.2f ms a save interval with the loop, %.2f ms without%n",
+                    players, legacy / 1e3 / TICKS_PER_SAVE, legacy / 1e6, current / 1e6);
+            assertTrue(current < legacy, players + " players took " + current + "ns against " + legacy + "ns");
+        }
+    }
+
+    /**
+     * Runs a save interval of ticks followed by the periodic change poll, and checks
+     * that the poll found nothing to write either way
+     */
+    private static long timeInterval(List<DataHandler> handlers, boolean repeatSetValue) {
+        int changed = 0;
+        long started = System.nanoTime();
+        if (repeatSetValue) {
+            for (int tick = 0; tick < TICKS_PER_SAVE; tick++) repeatSetValueTick(handlers);
+        }
+        for (DataHandler handler : handlers) {
+            Map<String, Object> changes = handler.pollChanges(false);
+            changed += changes.size();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        assertEquals(0, changed);
+        return elapsed;
+    }
+
+    /**
+     * The body of the removed startRepeatSetValueLoop, SHOPPING_DATA being the only
+     * datapoint that had repeatSetValue set
+     */
+    private static void repeatSetValueTick(List<DataHandler> handlers) {
+        for (DataHandler handler : handlers) {
+            Datapoint datapoint = shoppingData(handler);
+            datapoint.setValue(datapoint.getValue());
+        }
+    }
+
+    private static Datapoint shoppingData(DataHandler handler) {
+        return handler.getDatapoint(DataHandler.Data.SHOPPING_DATA.getKey());
+    }
+
+    private static List<DataHandler> handlers(int players) {
+        List<DataHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < players; i++) handlers.add(settledHandler());
+        return handlers;
+    }
+
+    /**
+     * A handler whose defaults have been polled once, as if just written to the database
+     */
+    private static DataHandler settledHandler() {
+        DataHandler handler = DataHandler.initUserWithDefaultData(UUID.randomUUID());
+        handler.pollChanges(true);
+        return handler;
+    }
+}
@@ -0,0 +1,147 @@
+package net.swofty.types.generic.item;
+
+import net.minestom.server.MinecraftServer;
+import net.swofty.commons.item.ItemType;
+import net.swofty.commons.item.attribute.ItemAttribute;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the item type and linker lookup tables against the scans and valueOf calls
+ * they replaced, then times both over every constant. Each lookup feeds a checksum,
+ * which has to match between the two so neither side can be optimised away.
+ */
+class ItemLookupBenchmarkTest {
+    // Rounds over every constant, each round being over a thousand lookups
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 50;
+
+    private static ItemType[] types;
+    private static ItemTypeLinker[] linkers;
+    // Every item type name, plus as many that are not one, as typed into commands
+    private static List<String> typedNames;
+
+    @BeforeAll
+    static void loadItems() {
+        MinecraftServer.init();
+        ItemAttribute.registerItemAttributes();
+
+        types = ItemType.values();
+        linkers = ItemTypeLinker.values();
+        typedNames = new ArrayList<>();
+        for (ItemType type : types) {
+            typedNames.add(type.name().toLowerCase());
+            typedNames.add(type.name().toLowerCase() + "_x");
+        }
+    }
+
+    @Test
+    void tablesMatchWhatTheyReplaced() {
+        for (ItemType type : types) {
+            assertSame(scanFromType(type), ItemTypeLinker.fromType(type), type.name());
+            assertSame(scanFromDisplayName(type.getDisplayName()), ItemType.fromDisplayName(type.getDisplayName()), type.name());
+        }
+        for (ItemTypeLinker linker : linkers) {
+            assertSame(linker, ItemTypeLinker.get(linker.name()));
+        }
+        for (String name : typedNames) {
+            assertSame(valueOfType(name), ItemType.get(name), name);
+        }
+        assertNull(ItemTypeLinker.get("NOT_AN_ITEM"));
+    }
+
+    @Test
+    void fromMaterialMatchesTheLoadedItem() {
+        for (ItemType type : types) {
+            assertSame(new SkyBlockItem(type.material).getAttributeHandler().getPotentialClassLinker(),
+                    ItemTypeLinker.fromMaterial(type.material), type.name());
+        }
+    }
+
+    @Test
+    void tablesOutpaceScans() {
+        List<ItemType> typeList = List.of(types);
+        List<String> displayNames = typeList.stream().map(ItemType::getDisplayName).toList();
+        List<String> linkerNames = List.of(linkers).stream().map(ItemTypeLinker::name).toList();
+
+        compare("fromType", typeList, ItemTypeLinker::fromType, ItemLookupBenchmarkTest::scanFromType, true);
+        compare("ItemType.get", typedNames, ItemType::get, ItemLookupBenchmarkTest::valueOfType, true);
+        compare("fromDisplayName", displayNames, ItemType::fromDisplayName,
+                ItemLookupBenchmarkTest::scanFromDisplayName, true);
+        // valueOf is a map lookup as well when every name exists, so this is reported only
+        compare("ItemTypeLinker.get", linkerNames, ItemTypeLinker::get,
+                ItemLookupBenchmarkTest::valueOfLinker, false);
+    }
+
+    private static <T> void compare(String name, List<T> inputs, Function<T, Enum<?>> table,
+                                    Function<T, Enum<?>> baseline, boolean assertFaster) {
+        Measurement replaced = measure(inputs, baseline);
+        Measurement current = measure(inputs, table);
+
+        System.out.printf("%s: %d ns/op before, %d ns/op now%n", name, replaced.nanosPerOp(), current.nanosPerOp());
+        assertEquals(replaced.checksum(), current.checksum(), name);
+        if (assertFaster) {
+            assertTrue(current.nanosPerOp() < replaced.nanosPerOp(),
+                    name + " took " + current.nanosPerOp() + "ns/op against " + replaced.nanosPerOp());
+        }
+    }
+
+    private static <T> Measurement measure(List<T> inputs, Function<T, Enum<?>> lookup) {
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) checksum += run(inputs, lookup);
+
+        checksum = 0;
+        long started = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) checksum += run(inputs, lookup);
+        long elapsed = System.nanoTime() - started;
+
+        return new Measurement(elapsed / ((long) ROUNDS * inputs.size()), checksum);
+    }
+
+    private static <T> long run(List<T> inputs, Function<T, Enum<?>> lookup) {
+        long checksum = 0;
+        for (T input : inputs) {
+            Enum<?> result = lookup.apply(input);
+            checksum += result == null ? -1 : result.ordinal();
+        }
+        return checksum;
+    }
+
+    private static ItemTypeLinker scanFromType(ItemType type) {
+        for (ItemTypeLinker linker : ItemTypeLinker.values()) {
+            if (linker.type == type) return linker;
+        }
+        return null;
+    }
+
+    private static ItemType scanFromDisplayName(String displayName) {
+        for (ItemType type : ItemType.values()) {
+            if (type.getDisplayName().equalsIgnoreCase(displayName)) return type;
+        }
+        return null;
+    }
+
+    private static ItemType valueOfType(String name) {
+        try {
+            return ItemType.valueOf(name.replace("minecraft:", "").toUpperCase());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static ItemTypeLinker valueOfLinker(String name) {
+        try {
+            return ItemTypeLinker.valueOf(name);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private record Measurement(long nanosPerOp, long checksum) {}
+}
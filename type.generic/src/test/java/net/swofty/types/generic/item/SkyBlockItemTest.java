@@ -0,0 +1,97 @@
+package net.swofty.types.generic.item;
+
+import net.minestom.server.MinecraftServer;
+import net.swofty.commons.item.ItemType;
+import net.swofty.commons.item.Rarity;
+import net.swofty.commons.item.attribute.ItemAttribute;
+import net.swofty.commons.item.attribute.attributes.ItemAttributeBreakingPower;
+import net.swofty.commons.item.attribute.attributes.ItemAttributeRarity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that clones share attribute slots until one side writes to them, and that
+ * neither reading nor cloning changes the item being read or cloned.
+ */
+class SkyBlockItemTest {
+
+    @BeforeAll
+    static void registerAttributes() {
+        MinecraftServer.init();
+        ItemAttribute.registerItemAttributes();
+    }
+
+    @Test
+    void readingDoesNotCopy() {
+        SkyBlockItem item = new SkyBlockItem(ItemType.DIAMOND);
+
+        assertSame(item.getAttribute(ItemAttributeBreakingPower.class), item.getAttribute(ItemAttributeBreakingPower.class));
+    }
+
+    @Test
+    void cloneLeavesSourceUntouched() {
+        SkyBlockItem item = new SkyBlockItem(ItemType.DIAMOND);
+        item.setAttributeValue(ItemAttributeBreakingPower.class, 4);
+        ItemAttributeRarity rarity = item.getAttribute(ItemAttributeRarity.class);
+        ItemAttributeBreakingPower breakingPower = item.getAttribute(ItemAttributeBreakingPower.class);
+
+        SkyBlockItem clone = item.clone();
+
+        assertSame(rarity, item.getAttribute(ItemAttributeRarity.class));
+        assertSame(breakingPower, item.getAttribute(ItemAttributeBreakingPower.class));
+        // Untouched slots are shared, while a slot the source already wrote to is copied
+        assertSame(rarity, clone.getAttribute(ItemAttributeRarity.class));
+        assertNotSame(breakingPower, clone.getAttribute(ItemAttributeBreakingPower.class));
+        assertEquals(4, clone.getAttribute(ItemAttributeBreakingPower.class).getValue());
+    }
+
+    @Test
+    void writingCloneLeavesSourceUnchanged() {
+        SkyBlockItem item = new SkyBlockItem(ItemType.DIAMOND);
+        Rarity before = item.getAttribute(ItemAttributeRarity.class).getValue();
+
+        SkyBlockItem clone = item.clone();
+        clone.setAttributeValue(ItemAttributeRarity.class, Rarity.MYTHIC);
+
+        assertEquals(before, item.getAttribute(ItemAttributeRarity.class).getValue());
+        assertEquals(Rarity.MYTHIC, clone.getAttribute(ItemAttributeRarity.class).getValue());
+    }
+
+    @Test
+    void writingSourceLeavesCloneUnchanged() {
+        SkyBlockItem item = new SkyBlockItem(ItemType.DIAMOND);
+        item.setAttributeValue(ItemAttributeBreakingPower.class, 4);
+
+        SkyBlockItem clone = item.clone();
+        item.setAttributeValue(ItemAttributeBreakingPower.class, 7);
+        item.setAttributeValue(ItemAttributeRarity.class, Rarity.MYTHIC);
+
+        assertEquals(4, clone.getAttribute(ItemAttributeBreakingPower.class).getValue());
+        assertNotEquals(Rarity.MYTHIC, clone.getAttribute(ItemAttributeRarity.class).getValue());
+    }
+
+    @Test
+    void cloneOfCloneKeepsEachWriteApart() {
+        SkyBlockItem item = new SkyBlockItem(ItemType.DIAMOND);
+        SkyBlockItem first = item.clone();
+        first.setAttributeValue(ItemAttributeBreakingPower.class, 2);
+        SkyBlockItem second = first.clone();
+        second.setAttributeValue(ItemAttributeBreakingPower.class, 3);
+        first.setAttributeValue(ItemAttributeBreakingPower.class, 5);
+
+        assertNotEquals(2, item.getAttribute(ItemAttributeBreakingPower.class).getValue());
+        assertEquals(5, first.getAttribute(ItemAttributeBreakingPower.class).getValue());
+        assertEquals(3, second.getAttribute(ItemAttributeBreakingPower.class).getValue());
+    }
+
+    @Test
+    void unknownKeyIsNotSet() {
+        SkyBlockItem item = new SkyBlockItem(ItemType.DIAMOND);
+
+        assertFalse(item.setAttributeFromString("no_such_attribute", "1"));
+        assertTrue(item.setAttributeFromString("breaking-power", "6"));
+        assertEquals(6, item.getAttribute(ItemAttributeBreakingPower.class).getValue());
+    }
+}
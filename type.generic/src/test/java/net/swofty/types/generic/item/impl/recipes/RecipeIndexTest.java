@@ -0,0 +1,238 @@
+package net.swofty.types.generic.item.impl.recipes;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.item.ItemStack;
+import net.swofty.commons.item.ItemType;
+import net.swofty.commons.item.attribute.ItemAttribute;
+import net.swofty.types.generic.item.ItemQuantifiable;
+import net.swofty.types.generic.item.ItemTypeLinker;
+import net.swofty.types.generic.item.SkyBlockItem;
+import net.swofty.types.generic.item.impl.SkyBlockRecipe;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the recipe index against a brute-force scan over every registered recipe,
+ * using randomly generated recipes and crafting grids. Each property runs from a
+ * fixed seed, so a failure names the grid that reproduces it.
+ */
+class RecipeIndexTest {
+    private static final long SEED = 0x5EED_16L;
+    private static final int RECIPES = 120;
+    private static final int GRIDS = 2_000;
+
+    private static final ItemType[] POOL = {
+            // Same material but different types, as shaped recipes match by material and shapeless by type
+            ItemType.COBBLESTONE, ItemType.ENCHANTED_COBBLESTONE,
+            // Exchangeable with each other
+            ItemType.OAK_LOG, ItemType.OAK_WOOD,
+            ItemType.IRON_INGOT, ItemType.STICK, ItemType.DIAMOND, ItemType.REDSTONE
+    };
+    private static final char[] KEYS = {'A', 'B', 'C', ' '};
+
+    @BeforeAll
+    static void registerRecipes() {
+        MinecraftServer.init();
+        ItemAttribute.registerItemAttributes();
+
+        Random random = new Random(SEED);
+        for (int i = 0; i < RECIPES; i++) {
+            if (random.nextBoolean()) randomShaped(random).init();
+            else randomShapeless(random).init();
+        }
+    }
+
+    @Test
+    void shapedLookupMatchesFullScan() {
+        Random random = new Random(SEED + 1);
+        for (int i = 0; i < GRIDS; i++) {
+            ItemStack[] grid = randomGrid(random);
+
+            assertSame(ShapedRecipe.parseShapedRecipe(grid, ShapedRecipe.CACHED_RECIPES),
+                    ShapedRecipe.parseShapedRecipe(grid), "Shaped lookup differs on grid " + i);
+        }
+    }
+
+    @Test
+    void shapelessLookupMatchesFullScan() {
+        Random random = new Random(SEED + 2);
+        for (int i = 0; i < GRIDS; i++) {
+            ItemStack[] grid = randomGrid(random);
+
+            assertSame(ShapelessRecipe.parseShapelessRecipe(grid, ShapelessRecipe.CACHED_RECIPES),
+                    ShapelessRecipe.parseShapelessRecipe(grid), "Shapeless lookup differs on grid " + i);
+        }
+    }
+
+    @Test
+    void shapedCandidatesIncludeEveryMatchingRecipe() {
+        Random random = new Random(SEED + 3);
+        for (int i = 0; i < GRIDS / 4; i++) {
+            ItemStack[] grid = randomGrid(random);
+            List<ShapedRecipe> candidates = RecipeIndex.shapedCandidates(grid);
+
+            for (ShapedRecipe recipe : ShapedRecipe.CACHED_RECIPES) {
+                if (ShapedRecipe.parseShapedRecipe(grid, List.of(recipe)) == null) continue;
+                assertTrue(candidates.contains(recipe), "Matching shaped recipe filtered out on grid " + i);
+            }
+            assertInRegistrationOrder(candidates, ShapedRecipe.CACHED_RECIPES);
+        }
+    }
+
+    @Test
+    void shapelessCandidatesIncludeEveryMatchingRecipe() {
+        Random random = new Random(SEED + 4);
+        for (int i = 0; i < GRIDS / 4; i++) {
+            ItemStack[] grid = randomGrid(random);
+            List<ShapelessRecipe> candidates = RecipeIndex.shapelessCandidates(grid);
+
+            for (ShapelessRecipe recipe : ShapelessRecipe.CACHED_RECIPES) {
+                if (ShapelessRecipe.parseShapelessRecipe(grid, List.of(recipe)) == null) continue;
+                assertTrue(candidates.contains(recipe), "Matching shapeless recipe filtered out on grid " + i);
+            }
+            assertInRegistrationOrder(candidates, ShapelessRecipe.CACHED_RECIPES);
+        }
+    }
+
+    @Test
+    void ingredientIndexMatchesFullScan() {
+        for (ItemType type : POOL) {
+            Set<SkyBlockRecipe<?>> expected = new HashSet<>();
+            ShapedRecipe.CACHED_RECIPES.stream()
+                    .filter(recipe -> recipe.getIngredientMap().values().stream().anyMatch(ingredient -> typeOf(ingredient) == type))
+                    .forEach(expected::add);
+            ShapelessRecipe.CACHED_RECIPES.stream()
+                    .filter(recipe -> recipe.getIngredientList().stream().anyMatch(ingredient -> typeOf(ingredient) == type))
+                    .forEach(expected::add);
+
+            assertEquals(expected, new HashSet<>(SkyBlockRecipe.getFromIngredient(type)), "Ingredient index differs for " + type);
+        }
+    }
+
+    @Test
+    void resultIndexMatchesFullScan() {
+        for (ItemType type : POOL) {
+            ItemTypeLinker linker = ItemTypeLinker.fromType(type);
+            if (linker == null) continue;
+
+            List<SkyBlockRecipe<?>> expected = new ArrayList<>();
+            ShapedRecipe.CACHED_RECIPES.stream()
+                    .filter(recipe -> recipe.getResult().getAttributeHandler().getPotentialClassLinker() == linker)
+                    .forEach(expected::add);
+            ShapelessRecipe.CACHED_RECIPES.stream()
+                    .filter(recipe -> recipe.getResult().getAttributeHandler().getPotentialClassLinker() == linker)
+                    .forEach(expected::add);
+
+            assertEquals(expected, SkyBlockRecipe.getFromType(linker), "Result index differs for " + type);
+        }
+    }
+
+    private static <T> void assertInRegistrationOrder(List<T> candidates, List<T> registered) {
+        int previous = -1;
+        for (T candidate : candidates) {
+            int position = registered.indexOf(candidate);
+            assertTrue(position > previous, "Candidates are not in registration order");
+            previous = position;
+        }
+    }
+
+    private static ShapedRecipe randomShaped(Random random) {
+        int rows = 1 + random.nextInt(3);
+        int columns = 1 + random.nextInt(3);
+
+        Map<Character, ItemQuantifiable> ingredients = new HashMap<>();
+        ingredients.put(' ', new ItemQuantifiable(ItemType.AIR, 1));
+        List<String> pattern = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            StringBuilder line = new StringBuilder();
+            for (int column = 0; column < columns; column++) {
+                char key = KEYS[random.nextInt(KEYS.length)];
+                line.append(key);
+                ingredients.computeIfAbsent(key, k -> new ItemQuantifiable(randomType(random), 1 + random.nextInt(3)));
+            }
+            pattern.add(line.toString());
+        }
+
+        return new ShapedRecipe(SkyBlockRecipe.RecipeType.NONE, new SkyBlockItem(randomType(random)), ingredients, pattern);
+    }
+
+    private static ShapelessRecipe randomShapeless(Random random) {
+        ShapelessRecipe recipe = new ShapelessRecipe(SkyBlockRecipe.RecipeType.NONE, new SkyBlockItem(randomType(random)));
+        int ingredients = 1 + random.nextInt(4);
+        for (int i = 0; i < ingredients; i++) {
+            recipe.add(randomType(random), 1 + random.nextInt(3));
+        }
+        return recipe;
+    }
+
+    /**
+     * Half of the grids are laid out from a registered recipe so that matches are
+     * common, and any grid may then have one cell changed so near misses are too
+     */
+    private static ItemStack[] randomGrid(Random random) {
+        ItemStack[] grid = new ItemStack[9];
+        Arrays.fill(grid, ItemStack.AIR);
+
+        if (random.nextBoolean()) {
+            layOut(random, grid);
+        } else {
+            for (int i = 0; i < grid.length; i++) {
+                if (random.nextInt(3) == 0) grid[i] = stack(randomType(random), 1 + random.nextInt(4));
+            }
+        }
+
+        if (random.nextInt(4) == 0) {
+            grid[random.nextInt(grid.length)] = random.nextBoolean()
+                    ? ItemStack.AIR
+                    : stack(randomType(random), 1 + random.nextInt(4));
+        }
+        return grid;
+    }
+
+    private static void layOut(Random random, ItemStack[] grid) {
+        int total = ShapedRecipe.CACHED_RECIPES.size() + ShapelessRecipe.CACHED_RECIPES.size();
+        int picked = random.nextInt(total);
+
+        if (picked < ShapedRecipe.CACHED_RECIPES.size()) {
+            ShapedRecipe recipe = ShapedRecipe.CACHED_RECIPES.get(picked);
+            List<String> pattern = recipe.getPattern();
+            int startRow = random.nextInt(4 - pattern.size());
+            int startColumn = random.nextInt(4 - pattern.getFirst().length());
+
+            for (int row = 0; row < pattern.size(); row++) {
+                for (int column = 0; column < pattern.get(row).length(); column++) {
+                    ItemQuantifiable ingredient = recipe.getIngredientMap().get(pattern.get(row).charAt(column));
+                    ItemType type = typeOf(ingredient);
+                    if (type == null || type == ItemType.AIR) continue;
+
+                    grid[(startRow + row) * 3 + startColumn + column] = stack(type, ingredient.getAmount() + random.nextInt(2));
+                }
+            }
+            return;
+        }
+
+        ShapelessRecipe recipe = ShapelessRecipe.CACHED_RECIPES.get(picked - ShapedRecipe.CACHED_RECIPES.size());
+        List<Integer> free = new ArrayList<>(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8));
+        Collections.shuffle(free, random);
+        for (int i = 0; i < recipe.getIngredientList().size(); i++) {
+            ItemQuantifiable ingredient = recipe.getIngredientList().get(i);
+            grid[free.get(i)] = stack(typeOf(ingredient), ingredient.getAmount() + random.nextInt(2));
+        }
+    }
+
+    private static ItemType randomType(Random random) {
+        return POOL[random.nextInt(POOL.length)];
+    }
+
+    private static ItemType typeOf(ItemQuantifiable ingredient) {
+        return ingredient.getItem().getAttributeHandler().getPotentialType();
+    }
+
+    private static ItemStack stack(ItemType type, int amount) {
+        return new SkyBlockItem(type, amount).getItemStack();
+    }
+}
@@ -0,0 +1,155 @@
+package net.swofty.types.generic.region;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.swofty.commons.ServerType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Walks a tracked player through a small set of regions and checks which cells are
+ * resolved again and which region changes are reported along the way.
+ */
+class PlayerRegionTrackerTest {
+    private final UUID uuid = UUID.randomUUID();
+    private final List<RegionType[]> changes = new ArrayList<>();
+    private int resolved;
+
+    private SkyBlockRegion village;
+    private SkyBlockRegion bank;
+
+    @BeforeEach
+    void buildRegions() {
+        // The bank sits inside the village, and outranks it by ordinal
+        village = region("village", new Pos(0, 0, 0), new Pos(31, 100, 31), RegionType.VILLAGE);
+        bank = region("bank", new Pos(10, 0, 10), new Pos(20, 100, 20), RegionType.BANK);
+        RegionIndex.rebuild(List.of(village, bank));
+    }
+
+    @AfterEach
+    void forgetPlayer() {
+        PlayerRegionTracker.remove(uuid);
+    }
+
+    @Test
+    void firstCellIsSilent() {
+        PlayerRegionTracker.Cell cell = move(new Vec(15, 64, 15));
+
+        assertEquals(RegionType.BANK, cell.regionType());
+        assertTrue(changes.isEmpty(), "The first cell fired a region change");
+    }
+
+    @Test
+    void sameCellIsNotResolvedAgain() {
+        PlayerRegionTracker.Cell first = move(new Vec(5.1, 64, 5.1));
+        PlayerRegionTracker.Cell second = move(new Vec(5.9, 64.5, 5.4));
+
+        assertSame(first, second);
+        assertEquals(1, resolved);
+    }
+
+    @Test
+    void crossingBoundaryFiresOnce() {
+        move(new Vec(9.5, 64, 15));
+        // The bank's bounds are inclusive, so the change happens entering block 10
+        move(new Vec(9.9, 64, 15));
+        assertTrue(changes.isEmpty());
+
+        move(new Vec(10.1, 64, 15));
+        assertChanges(new RegionType[]{RegionType.VILLAGE, RegionType.BANK});
+
+        move(new Vec(20.9, 64, 15));
+        assertChanges(new RegionType[]{RegionType.VILLAGE, RegionType.BANK});
+
+        move(new Vec(21.0, 64, 15));
+        assertChanges(new RegionType[]{RegionType.VILLAGE, RegionType.BANK},
+                new RegionType[]{RegionType.BANK, RegionType.VILLAGE});
+    }
+
+    @Test
+    void leavingEveryRegionReportsNull() {
+        move(new Vec(31.5, 64, 5));
+        move(new Vec(32.5, 64, 5));
+
+        assertChanges(new RegionType[]{RegionType.VILLAGE, null});
+    }
+
+    @Test
+    void cellResolvesTheSameWhereverItIsEntered() {
+        // Block 20 is the bank's last column, even when entered from its far side
+        assertEquals(RegionType.BANK, move(new Vec(20.99, 64, 15)).regionType());
+        PlayerRegionTracker.remove(uuid);
+        assertEquals(RegionType.BANK, move(new Vec(20.0, 64, 15)).regionType());
+    }
+
+    @Test
+    void overlappingRegionsResolveByPriority() {
+        // Large regions are kept outside the chunk buckets, so check they rank against bucketed ones
+        SkyBlockRegion hub = region("hub", new Pos(-600, 0, -600), new Pos(600, 100, 600), RegionType.values()[RegionType.values().length - 1]);
+        RegionIndex.rebuild(List.of(village, bank, hub));
+        assertEquals(hub.getType(), move(new Vec(15, 64, 15)).regionType());
+
+        SkyBlockRegion wilderness = region("hub", new Pos(-600, 0, -600), new Pos(600, 100, 600), RegionType.values()[0]);
+        RegionIndex.rebuild(List.of(village, bank, wilderness));
+        assertEquals(RegionType.BANK, move(new Vec(15, 64, 15)).regionType());
+        assertEquals(RegionType.VILLAGE, move(new Vec(5, 64, 5)).regionType());
+        assertEquals(wilderness.getType(), move(new Vec(100, 64, 100)).regionType());
+    }
+
+    @Test
+    void indexChangeMidWalkResolvesCurrentCellAgain() {
+        move(new Vec(5, 64, 5));
+        assertEquals(1, resolved);
+
+        // Grow the bank over the cell the player is standing in
+        bank.setFirstLocation(new Pos(0, 0, 0));
+        RegionIndex.update(bank);
+
+        PlayerRegionTracker.Cell cell = move(new Vec(5.5, 64, 5.5));
+        assertEquals(2, resolved);
+        assertEquals(RegionType.BANK, cell.regionType());
+        assertChanges(new RegionType[]{RegionType.VILLAGE, RegionType.BANK});
+
+        // Nothing changed since, so the walk goes back to the cached cell
+        assertSame(cell, move(new Vec(5.2, 64, 5.8)));
+        assertEquals(2, resolved);
+    }
+
+    @Test
+    void removedRegionIsLeftOnNextMove() {
+        move(new Vec(15, 64, 15));
+        RegionIndex.remove(bank);
+
+        move(new Vec(15, 64, 15));
+        assertChanges(new RegionType[]{RegionType.BANK, RegionType.VILLAGE});
+    }
+
+    private PlayerRegionTracker.Cell move(Point position) {
+        return PlayerRegionTracker.update(uuid, null, position,
+                () -> {
+                    resolved++;
+                    return PlayerRegionTracker.Cell.resolve(null, position, false, Block.AIR);
+                },
+                (from, to) -> changes.add(new RegionType[]{from, to}));
+    }
+
+    private void assertChanges(RegionType[]... expected) {
+        assertEquals(expected.length, changes.size(), "Unexpected number of region changes");
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], changes.get(i), "Region change " + i + " differs");
+        }
+    }
+
+    private static SkyBlockRegion region(String name, Pos first, Pos second, RegionType type) {
+        return new SkyBlockRegion(name, first, second, type, ServerType.HUB);
+    }
+}
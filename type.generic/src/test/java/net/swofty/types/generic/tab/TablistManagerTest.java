@@ -0,0 +1,223 @@
+package net.swofty.types.generic.tab;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.PlayerInfoRemovePacket;
+import net.minestom.server.network.packet.server.play.PlayerInfoUpdatePacket;
+import net.minestom.server.network.packet.server.play.TeamsPacket;
+import net.swofty.types.generic.user.SkyBlockPlayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Captures the packets a tab list sends across updates, as the update is decided
+ * by the modules alone and only the slots that changed should be sent again.
+ */
+class TablistManagerTest {
+    private final List<ServerPacket> packets = new ArrayList<>();
+    private final TablistManager.PlayerTablist tablist = new TablistManager.PlayerTablist();
+
+    private FixedModule first;
+    private FixedModule second;
+    private List<TablistModule> modules;
+
+    @BeforeEach
+    void showTablist() {
+        first = new FixedModule(20);
+        second = new FixedModule(12);
+        modules = List.of(first, second);
+
+        update();
+        // A team for every filled slot, then all of them added at once
+        assertEquals(32, count(TeamsPacket.class));
+        assertEquals(1, count(PlayerInfoUpdatePacket.class));
+        assertEquals(33, packets.size());
+        packets.clear();
+    }
+
+    @Test
+    void steadyTablistSendsNothing() {
+        for (int i = 0; i < 10; i++) update();
+
+        assertTrue(packets.isEmpty(), "A steady tab list sent " + packets.size() + " packets");
+    }
+
+    @Test
+    void equalButNewEntriesSendNothing() {
+        first.entries = new ArrayList<>(first.entries.stream()
+                .map(entry -> new TablistModule.TablistEntry(new String(entry.content()), entry.registry()))
+                .toList());
+        update();
+
+        assertTrue(packets.isEmpty());
+    }
+
+    @Test
+    void textChangeSendsOneRename() {
+        second.set(3, "§bCoins: 1,000", TablistSkinRegistry.GRAY);
+        update();
+
+        assertEquals(1, packets.size());
+        PlayerInfoUpdatePacket packet = assertInstanceOf(PlayerInfoUpdatePacket.class, packets.getFirst());
+        assertEquals(EnumSet.of(PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME), packet.actions());
+        assertEquals(1, packet.entries().size());
+        assertEquals(Component.text("§bCoins: 1,000"), packet.entries().getFirst().displayName());
+        assertEquals("!tab023", packet.entries().getFirst().username());
+
+        packets.clear();
+        update();
+        assertTrue(packets.isEmpty(), "The rename was sent again");
+    }
+
+    @Test
+    void textChangesAcrossModulesShareOnePacket() {
+        first.set(0, "§aOne", TablistSkinRegistry.GRAY);
+        second.set(11, "§aTwo", TablistSkinRegistry.GRAY);
+        update();
+
+        assertEquals(1, packets.size());
+        assertEquals(2, ((PlayerInfoUpdatePacket) packets.getFirst()).entries().size());
+    }
+
+    @Test
+    void skinChangeRemovesAndReaddsSlot() {
+        first.set(5, first.entries.get(5).content(), TablistSkinRegistry.GREEN);
+        update();
+
+        // The slot already has its team, so only the removal and the re-add are sent
+        assertEquals(2, packets.size());
+        PlayerInfoRemovePacket removal = assertInstanceOf(PlayerInfoRemovePacket.class, packets.get(0));
+        PlayerInfoUpdatePacket addition = assertInstanceOf(PlayerInfoUpdatePacket.class, packets.get(1));
+        assertEquals(1, removal.uuids().size());
+        assertEquals(removal.uuids().getFirst(), addition.entries().getFirst().uuid());
+        assertTrue(addition.actions().contains(PlayerInfoUpdatePacket.Action.ADD_PLAYER));
+    }
+
+    @Test
+    void shrinkingModuleRemovesItsSlots() {
+        second.entries = new ArrayList<>(second.entries.subList(0, 10));
+        update();
+
+        assertEquals(1, packets.size());
+        assertEquals(2, assertInstanceOf(PlayerInfoRemovePacket.class, packets.getFirst()).uuids().size());
+    }
+
+    @Test
+    void failingModuleKeepsItsColumn() {
+        second.failing = true;
+        update();
+        assertTrue(packets.isEmpty());
+
+        second.failing = false;
+        update();
+        assertTrue(packets.isEmpty(), "The column was resent after the module recovered");
+    }
+
+    @Test
+    void sendsFarFewerPacketsThanAFullResend() {
+        List<ServerPacket> resent = new ArrayList<>();
+        List<UUID> shown = new ArrayList<>();
+        fullResend(shown, resent::add);
+        resent.clear();
+
+        int updates = 100;
+        for (int i = 0; i < updates; i++) {
+            // A ticking line, such as the time, changes on every update
+            first.set(0, "§7Time: " + i, TablistSkinRegistry.GRAY);
+            update();
+            fullResend(shown, resent::add);
+        }
+
+        System.out.printf("%d updates of %d entries: %d packets resending everything, %d now%n",
+                updates, shown.size(), resent.size(), packets.size());
+        // A removal, then a team and an addition for every entry, on every update
+        assertEquals(updates * (1 + 2 * 32), resent.size());
+        assertEquals(updates, packets.size());
+    }
+
+    /**
+     * Latency is not part of a module's entries, so every slot is added with a latency of
+     * 0 and latency updates are never sent, as was the case before slots were kept
+     */
+    @Test
+    void latencyIsNeverUpdated() {
+        TablistManager.PlayerTablist shown = new TablistManager.PlayerTablist();
+        shown.update(null, modules, packets::add);
+        second.set(3, "§bCoins: 1,000", TablistSkinRegistry.GRAY);
+        first.set(5, first.entries.get(5).content(), TablistSkinRegistry.GREEN);
+        shown.update(null, modules, packets::add);
+
+        for (ServerPacket packet : packets) {
+            if (!(packet instanceof PlayerInfoUpdatePacket update)) continue;
+            assertFalse(update.actions().contains(PlayerInfoUpdatePacket.Action.UPDATE_LATENCY));
+            update.entries().forEach(entry -> assertEquals(0, entry.latency()));
+        }
+    }
+
+    private void update() {
+        tablist.update(null, modules, packets::add);
+    }
+
+    /**
+     * The update slots replaced: every entry removed, then each one added again under
+     * a new fake player, with a team of its own
+     */
+    private void fullResend(List<UUID> shown, Consumer<ServerPacket> sender) {
+        if (!shown.isEmpty()) sender.accept(new PlayerInfoRemovePacket(new ArrayList<>(shown)));
+        shown.clear();
+
+        for (TablistModule module : modules) {
+            for (TablistModule.TablistEntry entry : module.getEntries(null)) {
+                UUID uuid = UUID.randomUUID();
+                String name = uuid.toString().substring(0, 8);
+                shown.add(uuid);
+
+                sender.accept(new TeamsPacket(name, new TeamsPacket.CreateTeamAction(
+                        Component.text(name), (byte) 0x01,
+                        TeamsPacket.NameTagVisibility.ALWAYS, TeamsPacket.CollisionRule.ALWAYS,
+                        NamedTextColor.RED, Component.empty(), Component.empty(), List.of(name))));
+                sender.accept(new PlayerInfoUpdatePacket(EnumSet.of(
+                        PlayerInfoUpdatePacket.Action.ADD_PLAYER,
+                        PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME,
+                        PlayerInfoUpdatePacket.Action.UPDATE_LISTED
+                ), List.of(new PlayerInfoUpdatePacket.Entry(uuid, name, List.of(), true, 0,
+                        GameMode.CREATIVE, Component.text(entry.content()), null))));
+            }
+        }
+    }
+
+    private long count(Class<? extends ServerPacket> type) {
+        return packets.stream().filter(type::isInstance).count();
+    }
+
+    private static class FixedModule extends TablistModule {
+        private List<TablistEntry> entries = new ArrayList<>();
+        private boolean failing = false;
+
+        private FixedModule(int size) {
+            for (int i = 0; i < size; i++) {
+                entries.add(new TablistEntry("§7Line " + i, TablistSkinRegistry.GRAY));
+            }
+        }
+
+        private void set(int index, String content, TablistSkinRegistry registry) {
+            entries.set(index, new TablistEntry(content, registry));
+        }
+
+        @Override
+        public List<TablistEntry> getEntries(SkyBlockPlayer player) {
+            if (failing) throw new IllegalStateException("Module failed");
+            return entries;
+        }
+    }
+}
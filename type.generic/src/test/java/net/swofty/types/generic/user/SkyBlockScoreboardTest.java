@@ -0,0 +1,87 @@
+package net.swofty.types.generic.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts how often each sidebar section is computed while many players stand still,
+ * in place of timing the update loop. Before the purse and region were marked on
+ * change, both were computed every 2 ticks for every player.
+ */
+class SkyBlockScoreboardTest {
+    private static final int PLAYERS = 500;
+    private static final int TICKS = 1_200;
+    private static final int UPDATE_TICKS = 2;
+
+    private final Map<SkyBlockScoreboard.Section, Integer> computed = new EnumMap<>(SkyBlockScoreboard.Section.class);
+
+    @Test
+    void steadySidebarsOnlyPollTimedSections() {
+        List<SkyBlockScoreboard.PlayerSidebar> sidebars = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) sidebars.add(new SkyBlockScoreboard.PlayerSidebar("title"));
+
+        for (long tick = 0; tick < TICKS; tick += UPDATE_TICKS) {
+            for (SkyBlockScoreboard.PlayerSidebar sidebar : sidebars) sidebar.layOut(tick, this::compute);
+        }
+
+        assertEquals(PLAYERS, computed(SkyBlockScoreboard.Section.PURSE));
+        assertEquals(PLAYERS, computed(SkyBlockScoreboard.Section.REGION));
+        // Every 20 ticks, from the first update onwards
+        assertEquals(PLAYERS * TICKS / 20, computed(SkyBlockScoreboard.Section.HEADER));
+        assertEquals(PLAYERS * TICKS / 4, computed(SkyBlockScoreboard.Section.OBJECTIVE));
+    }
+
+    @Test
+    void markedSectionIsComputedOnceOnNextUpdate() {
+        SkyBlockScoreboard.PlayerSidebar sidebar = new SkyBlockScoreboard.PlayerSidebar("title");
+        sidebar.layOut(0, this::compute);
+        computed.clear();
+
+        sidebar.markChanged(SkyBlockScoreboard.Section.PURSE);
+        sidebar.markChanged(SkyBlockScoreboard.Section.PURSE);
+        sidebar.layOut(2, this::compute);
+        sidebar.layOut(4, this::compute);
+
+        assertEquals(1, computed(SkyBlockScoreboard.Section.PURSE));
+        assertEquals(0, computed(SkyBlockScoreboard.Section.REGION));
+    }
+
+    @Test
+    void markedSectionShowsNewLines() {
+        SkyBlockScoreboard.PlayerSidebar sidebar = new SkyBlockScoreboard.PlayerSidebar("title");
+        List<String> before = sidebar.layOut(0, this::compute);
+
+        sidebar.markChanged(SkyBlockScoreboard.Section.REGION);
+        List<String> after = sidebar.layOut(2, this::compute);
+
+        assertEquals(before.size(), after.size());
+        assertNotEquals(before, after);
+        assertTrue(after.contains("REGION 2"));
+    }
+
+    @Test
+    void markBeforeFirstUpdateIsNotCountedTwice() {
+        SkyBlockScoreboard.PlayerSidebar sidebar = new SkyBlockScoreboard.PlayerSidebar("title");
+        sidebar.markChanged(SkyBlockScoreboard.Section.PURSE);
+
+        sidebar.layOut(0, this::compute);
+        sidebar.layOut(2, this::compute);
+
+        assertEquals(1, computed(SkyBlockScoreboard.Section.PURSE));
+    }
+
+    private List<String> compute(SkyBlockScoreboard.Section section) {
+        int count = computed.merge(section, 1, Integer::sum);
+        return List.of(section.name() + " " + count);
+    }
+
+    private int computed(SkyBlockScoreboard.Section section) {
+        return computed.getOrDefault(section, 0);
+    }
+}
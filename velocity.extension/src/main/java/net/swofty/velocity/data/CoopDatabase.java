@@ -7,6 +7,7 @@ import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import org.bson.Document;
+import net.swofty.commons.mongodb.MongoUpserts;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,7 +23,7 @@ public record CoopDatabase(UUID id) {
         client = MongoClients.create(settings);
 
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("coop");
+        collection = MongoUpserts.configure(database.getCollection("coop"));
     }
 
     public Document getDocument() {
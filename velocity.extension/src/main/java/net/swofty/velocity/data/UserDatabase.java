@@ -7,6 +7,7 @@ import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import org.bson.Document;
+import net.swofty.commons.mongodb.MongoUpserts;
 
 import java.util.UUID;
 
@@ -31,7 +32,7 @@ public class UserDatabase {
         client = MongoClients.create(settings);
 
         database = client.getDatabase("Minestom");
-        collection = database.getCollection("profiles");
+        collection = MongoUpserts.configure(database.getCollection("profiles"));
     }
 
     public Document getDocument() {
@@ -89,7 +89,7 @@ public class ListenerPlayerHandler extends RedisListener {
                     return new JSONObject();
                 }
                 UUID server = UUID.fromString(potentialServer.get().getServer().getServerInfo().getName());
-                RedisMessage.sendMessageToServer(server,
+                return RedisMessage.sendMessageToServer(server,
                         FromProxyChannels.REFRESH_COOP_DATA_ON_SERVER,
                         message
                 ).join();